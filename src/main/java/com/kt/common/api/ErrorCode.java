@@ -11,6 +11,9 @@ public enum ErrorCode {
 	COMMON_VALIDATION_FAILED(HttpStatus.BAD_REQUEST, "요청 값이 유효하지 않습니다."),
 	COMMON_INVALID_ARGUMENT(HttpStatus.BAD_REQUEST, "요청 값이 올바르지 않습니다."),
 	INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류가 발생했습니다."),
+	IDEMPOTENCY_KEY_INVALID(HttpStatus.BAD_REQUEST, "Idempotency-Key 는 1 ~ 255자여야 합니다."),
+	IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다."),
+	IDEMPOTENCY_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "같은 Idempotency-Key 요청이 아직 처리 중입니다."),
 
 	// ---------------- AUTH -------------------
 	UNAUTHORIZED_CLIENT(HttpStatus.UNAUTHORIZED, "인증 토큰이 존재하지 않습니다."),
@@ -87,6 +90,10 @@ public enum ErrorCode {
 	INVENTORY_NEGATIVE_AVAILABLE(HttpStatus.CONFLICT, "가용 재고가 0 미만이 될 수 없습니다."),
 	INVENTORY_RESERVATION_NOT_FOUND(HttpStatus.CONFLICT, "예약된 재고가 부족합니다."),
 	INVENTORY_OUTBOUND_NOT_RESERVED(HttpStatus.CONFLICT, "출고 처리할 예약 재고가 없습니다."),
+	INVENTORY_HOT_MODE_ALREADY_ENABLED(HttpStatus.CONFLICT, "이미 핫 상품 모드인 재고입니다."),
+	INVENTORY_HOT_MODE_NOT_ENABLED(HttpStatus.CONFLICT, "핫 상품 모드가 아닌 재고입니다."),
+	INVENTORY_BUCKET_COUNT_INVALID(HttpStatus.BAD_REQUEST, "버킷 수는 2 이상 64 이하여야 합니다."),
+	INVENTORY_HOT_MODE_UNSUPPORTED(HttpStatus.CONFLICT, "현재 재고 예약 엔진에서는 핫 상품 모드를 사용할 수 없습니다."),
 
 	// ---------------- WMS INBOUND -------------------
 	WMS_INBOUND_EVENT_QUANTITY_INVALID(HttpStatus.BAD_REQUEST, "입고 수량은 0보다 커야 합니다."),
@@ -94,6 +101,16 @@ public enum ErrorCode {
 	WMS_INBOUND_EVENT_ALREADY_PROCESSED(HttpStatus.CONFLICT, "이미 처리된 입고 이벤트입니다."),
 	WMS_INBOUND_INVENTORY_NOT_FOUND(HttpStatus.NOT_FOUND, "입고 대상 재고 정보가 존재하지 않습니다."),
 	WMS_INBOUND_LOCK_ACQUIRE_FAILED(HttpStatus.CONFLICT, "재고 잠금 획득에 실패했습니다."),
+	WMS_INBOUND_BATCH_READ_FAILED(HttpStatus.BAD_REQUEST, "입고 배치 본문을 읽을 수 없습니다."),
+	WMS_INBOUND_BATCH_CONFLICT(HttpStatus.CONFLICT, "동시에 처리된 입고 이벤트가 있어 배치를 다시 시도해야 합니다."),
+
+	// ---------------- WMS OUTBOUND -------------------
+	WMS_OUTBOUND_EVENT_QUANTITY_INVALID(HttpStatus.BAD_REQUEST, "출고 수량은 0보다 커야 합니다."),
+	WMS_OUTBOUND_REJECTED(HttpStatus.CONFLICT, "출고 대상 재고가 없거나 출고 처리 중 수량이 부족해 반영할 수 없습니다."),
+	WMS_OUTBOUND_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "출고 이벤트 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요."),
+	WMS_OUTBOUND_PROCESS_FAILED(HttpStatus.SERVICE_UNAVAILABLE, "출고 이벤트를 처리하지 못했습니다. 잠시 후 다시 시도해 주세요."),
+	WMS_OUTBOUND_BATCH_READ_FAILED(HttpStatus.BAD_REQUEST, "출고 배치 본문을 읽을 수 없습니다."),
+	WMS_OUTBOUND_BATCH_CONFLICT(HttpStatus.CONFLICT, "동시에 처리된 출고 이벤트가 있어 배치를 다시 시도해야 합니다."),
 
 	// ---------------- CART -------------------
 	CART_PRODUCT_NOT_FOUND(HttpStatus.NOT_FOUND, "상품이 이미 삭제되어 있습니다"),
@@ -101,17 +118,19 @@ public enum ErrorCode {
 	CART_EMPTY(HttpStatus.BAD_REQUEST, "장바구니가 비어 있습니다."),
 
 	// ---------------- ORDER -------------------
-	DUPLICATE_ORDER_NUMBER(HttpStatus.CONFLICT, "이미 존재하는 주문입니다."),
 	ORDER_NOT_FOUND(HttpStatus.NOT_FOUND, "주문을 찾을 수 없습니다."),
 	ORDER_NOT_MODIFIABLE(HttpStatus.CONFLICT, "현재 상태에서는 주문을 수정할 수 없습니다."),
 	ORDER_CANCEL_NOT_ALLOWED(HttpStatus.CONFLICT, "현재 상태에서는 주문을 취소할 수 없습니다."),
+	ORDER_PAYMENT_IN_PROGRESS(HttpStatus.CONFLICT, "결제가 진행 중인 주문은 취소할 수 없습니다. 결제 결과를 확인한 뒤 다시 시도해 주세요."),
 	ORDER_ALREADY_CANCELLED(HttpStatus.CONFLICT, "이미 취소된 주문입니다."),
 	ORDER_NOT_PENDING(HttpStatus.CONFLICT, "결제 대기 상태의 주문만 결제 할 수 있습니다."),
 	ORDER_AMOUNT_MISMATCH(HttpStatus.BAD_REQUEST, "결제 금액과 주문 금액이 일치하지 않습니다."),
 	ORDER_ALREADY_COMPLETED(HttpStatus.CONFLICT, "이미 완료된 주문입니다."),
+	ORDER_CURSOR_INVALID(HttpStatus.BAD_REQUEST, "주문 목록 커서가 올바르지 않습니다."),
 	PAYMENT_NOT_COMPLETED(HttpStatus.CONFLICT, "결제가 완료되지 않았습니다."),
 	// ---------------- ORDER_PRODUCT -------------------
 	ORDER_PRODUCT_QUANTITY_MINIMUM(HttpStatus.BAD_REQUEST, "주문 상품 수량은 1 이상이어야 합니다."),
+	ORDER_PRODUCT_NOT_ORDERABLE(HttpStatus.CONFLICT, "판매 중인 상품이 아니어서 주문할 수 없습니다."),
 
 	// ---------------- PAYMENT -------------------
 	PAYMENT_CANNOT_CANCEL(HttpStatus.BAD_REQUEST, "취소할 수 없는 결제 상태입니다"),
@@ -123,6 +142,18 @@ public enum ErrorCode {
 	PAYMENT_APPROVE_NOT_ALLOWED(HttpStatus.CONFLICT, "결제 승인이 불가능한 상태입니다."),
 	PAYMENT_ALREADY_CANCELLED(HttpStatus.CONFLICT, "이미 취소된 결제입니다."),
 	PAYMENT_CANCEL_NOT_ALLOWED(HttpStatus.CONFLICT, "결제 취소가 불가능한 상태입니다."),
+	PAYMENT_GATEWAY_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "결제 대행사 장애로 잠시 결제를 받을 수 없습니다. 잠시 후 다시 시도해 주세요."),
+	PAYMENT_GATEWAY_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "결제 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요."),
+	PAYMENT_GATEWAY_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "결제 대행사 응답이 지연되고 있습니다. 결제 결과를 확인한 뒤 다시 시도해 주세요."),
+	SETTLEMENT_FILE_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 정산일의 정산 파일이 없습니다."),
+	SETTLEMENT_FILE_READ_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "정산 파일을 읽지 못했습니다."),
+	SETTLEMENT_RUN_IN_PROGRESS(HttpStatus.CONFLICT, "이미 대사 중인 정산일입니다."),
+	SETTLEMENT_RUN_NOT_FOUND(HttpStatus.NOT_FOUND, "정산 대사 실행을 찾을 수 없습니다."),
+	SETTLEMENT_RUN_LEASE_LOST(HttpStatus.CONFLICT, "다른 노드가 이어받은 정산 대사입니다."),
+
+	// ---------------- SALES -------------------
+	SALES_PERIOD_INVALID(HttpStatus.BAD_REQUEST, "매출 조회 기간이 올바르지 않습니다."),
+	SALES_LIMIT_INVALID(HttpStatus.BAD_REQUEST, "매출 순위 조회 건수가 올바르지 않습니다."),
 
 	// ---------------- MAIL -------------------
 	MAIL_SEND_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, "인증 메일 전송 중 오류가 발생했습니다."),
@@ -31,6 +31,18 @@ public class GlobalExceptionHandler {
 		);
 	}
 
+	// 벌크 재고 변경 실패 (실패한 상품 ID 포함)
+	@ExceptionHandler(InsufficientStockException.class)
+	public ProblemDetail handleInsufficientStock(InsufficientStockException ex) {
+		log.warn("[BUSINESS] code={} rejectedProductIds={}", ex.getErrorCode(), ex.getRejectedProductIds());
+
+		return ProblemResponse.of(
+			ex.getErrorCode(),
+			ex.getErrorCode().getMessage(),
+			Map.of("rejectedProductIds", ex.getRejectedProductIds())
+		);
+	}
+
 	// @Valid DTO 검증 실패
 	@ExceptionHandler(MethodArgumentNotValidException.class)
 	public ProblemDetail handleValidation(MethodArgumentNotValidException ex) {
@@ -0,0 +1,19 @@
+package com.kt.common.api;
+
+import java.util.List;
+
+import lombok.Getter;
+
+/**
+ * 여러 상품의 재고를 한 번에 변경하다 일부 상품이 조건을 만족하지 못한 경우
+ * - 실패한 상품 ID 목록을 함께 전달해 어떤 주문 상품이 문제인지 알 수 있게 한다
+ */
+@Getter
+public class InsufficientStockException extends CustomException {
+	private final List<Long> rejectedProductIds;
+
+	public InsufficientStockException(ErrorCode errorCode, List<Long> rejectedProductIds) {
+		super(errorCode);
+		this.rejectedProductIds = List.copyOf(rejectedProductIds);
+	}
+}
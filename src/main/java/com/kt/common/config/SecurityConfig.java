@@ -1,5 +1,9 @@
 package com.kt.common.config;
 
+import com.kt.common.idempotency.IdempotencyFilter;
+import com.kt.common.idempotency.IdempotencyLeaseRenewer;
+import com.kt.common.idempotency.IdempotencyStore;
+import com.kt.config.IdempotencyProperties;
 import com.kt.security.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -28,6 +32,9 @@ public class SecurityConfig {
     private final RedisTemplate<String, String> redisTemplate;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
+    private final IdempotencyStore idempotencyStore;
+    private final IdempotencyLeaseRenewer idempotencyLeaseRenewer;
+    private final IdempotencyProperties idempotencyProperties;
 
     @Bean
     public PasswordEncoder passwordEncoder() {
@@ -38,6 +45,8 @@ public class SecurityConfig {
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
 
         JwtFilter filter = new JwtFilter(tokenProvider, jwtExceptionHandler, redisTemplate);
+        IdempotencyFilter idempotencyFilter = new IdempotencyFilter(idempotencyStore, idempotencyLeaseRenewer,
+                idempotencyProperties, jwtExceptionHandler);
 
         http
                 .csrf(AbstractHttpConfigurer::disable)
@@ -56,8 +65,11 @@ public class SecurityConfig {
                                 "/swagger-ui.html", "/swagger-ui/**","/api-docs/**", "/v3/api-docs/**").permitAll()
                         .requestMatchers("/super-admin/**").hasRole("SUPER_ADMIN")
                         .requestMatchers("/admin/**").hasRole("ADMIN")
+                        // 운영 지표(상품별 재고 쓰기 충돌 등)는 관리자만 조회
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .anyRequest().authenticated())
-                .addFilterBefore(filter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(filter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(idempotencyFilter, JwtFilter.class);
 
         return http.build();
     }
@@ -0,0 +1,22 @@
+package com.kt.common.export;
+
+import org.springframework.http.MediaType;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 내보내기 파일 형식
+ * - NDJSON : 한 줄에 JSON 객체 하나
+ * - CSV : 첫 줄은 헤더(레코드 필드명), RFC 4180 따옴표 규칙
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+
+	NDJSON(MediaType.APPLICATION_NDJSON_VALUE, "ndjson"),
+	CSV("text/csv;charset=UTF-8", "csv");
+
+	private final String contentType;
+	private final String extension;
+}
@@ -0,0 +1,112 @@
+package com.kt.common.export;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 레코드를 한 건씩 출력 스트림에 바로 쓰는 내보내기 작성기
+ * - 한 건을 쓰면 버퍼 외에는 아무것도 들고 있지 않으므로 건수와 상관없이 메모리가 일정하다
+ * - CSV 열 순서/헤더는 레코드 필드 선언 순서를 따른다
+ * - 닫아도 출력 스트림은 닫지 않는다 (서블릿 컨테이너가 닫음)
+ */
+public final class RecordExportWriter<T extends Record> implements Closeable {
+
+	private final RecordComponent[] components;
+	private final JsonGenerator json;
+	private final Writer csv;
+
+	private RecordExportWriter(RecordComponent[] components, JsonGenerator json, Writer csv) {
+		this.components = components;
+		this.json = json;
+		this.csv = csv;
+	}
+
+	public static <T extends Record> RecordExportWriter<T> open(
+		ExportFormat format,
+		Class<T> type,
+		OutputStream out,
+		ObjectMapper objectMapper
+	) throws IOException {
+		RecordComponent[] components = type.getRecordComponents();
+		if (format == ExportFormat.NDJSON) {
+			JsonGenerator json = objectMapper.getFactory().createGenerator(out);
+			json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			json.setRootValueSeparator(null);
+			return new RecordExportWriter<>(components, json, null);
+		}
+
+		Writer csv = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+		RecordExportWriter<T> writer = new RecordExportWriter<>(components, null, csv);
+		writer.writeCsvHeader();
+		return writer;
+	}
+
+	public void write(T row) {
+		try {
+			if (json != null) {
+				json.writeObject(row);
+				json.writeRaw('\n');
+				return;
+			}
+			for (int i = 0; i < components.length; i++) {
+				if (i > 0) {
+					csv.write(',');
+				}
+				csv.write(escapeCsv(valueOf(row, components[i])));
+			}
+			csv.write("\r\n");
+		} catch (IOException e) {
+			// 클라이언트가 다운로드를 끊은 경우 등 - 조회 커서를 닫도록 밖으로 던진다
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (json != null) {
+			json.close();
+		} else {
+			csv.flush();
+		}
+	}
+
+	private void writeCsvHeader() throws IOException {
+		for (int i = 0; i < components.length; i++) {
+			if (i > 0) {
+				csv.write(',');
+			}
+			csv.write(components[i].getName());
+		}
+		csv.write("\r\n");
+	}
+
+	private static Object valueOf(Record row, RecordComponent component) {
+		try {
+			return component.getAccessor().invoke(row);
+		} catch (IllegalAccessException | InvocationTargetException e) {
+			throw new IllegalStateException("cannot read record component " + component.getName(), e);
+		}
+	}
+
+	private static String escapeCsv(Object value) {
+		if (value == null) {
+			return "";
+		}
+		String text = value.toString();
+		if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+			return text;
+		}
+		return '"' + text.replace("\"", "\"\"") + '"';
+	}
+}
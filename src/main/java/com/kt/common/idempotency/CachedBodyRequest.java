@@ -0,0 +1,78 @@
+package com.kt.common.idempotency;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+/**
+ * 본문을 미리 읽어 둔 요청 - 지문 계산 후 컨트롤러가 같은 본문을 다시 읽을 수 있게 한다
+ */
+class CachedBodyRequest extends HttpServletRequestWrapper {
+
+	private final byte[] body;
+
+	CachedBodyRequest(HttpServletRequest request) throws IOException {
+		super(request);
+		this.body = request.getInputStream().readAllBytes();
+	}
+
+	byte[] body() {
+		return body;
+	}
+
+	@Override
+	public ServletInputStream getInputStream() {
+		ByteArrayInputStream in = new ByteArrayInputStream(body);
+		return new ServletInputStream() {
+			@Override
+			public boolean isFinished() {
+				return in.available() == 0;
+			}
+
+			@Override
+			public boolean isReady() {
+				return true;
+			}
+
+			// 본문이 이미 메모리에 있으므로 비동기 읽기도 기다릴 것 없이 바로 알린다
+			@Override
+			public void setReadListener(ReadListener readListener) {
+				try {
+					if (!isFinished()) {
+						readListener.onDataAvailable();
+					}
+					if (isFinished()) {
+						readListener.onAllDataRead();
+					}
+				} catch (IOException e) {
+					readListener.onError(e);
+				}
+			}
+
+			@Override
+			public int read() {
+				return in.read();
+			}
+
+			@Override
+			public int read(byte[] b, int off, int len) {
+				return in.read(b, off, len);
+			}
+		};
+	}
+
+	@Override
+	public BufferedReader getReader() {
+		String encoding = getCharacterEncoding();
+		Charset charset = encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+		return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+	}
+}
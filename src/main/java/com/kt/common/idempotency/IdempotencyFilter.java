@@ -0,0 +1,180 @@
+package com.kt.common.idempotency;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.kt.common.api.ErrorCode;
+import com.kt.config.IdempotencyProperties;
+import com.kt.security.AuthUser;
+import com.kt.security.JwtExceptionHandler;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Idempotency-Key 헤더가 붙은 주문 생성/결제 승인 요청을 한 번만 실행한다
+ * - 키는 사용자별로 구분하고 (메서드, 경로, 본문) 지문과 함께 저장한다
+ * - 처음 요청만 실제로 실행하고 2xx 응답을 ttl 동안 보관, 같은 키의 재전송에는 보관한 응답을 그대로 돌려준다
+ * - 같은 키가 아직 처리 중이면 다시 실행하지 않고 waitTimeout 까지 결과를 기다린다
+ * - 실패 응답은 보관하지 않고 키를 풀어 준다 (같은 키로 다시 시도 가능)
+ * - 처리하는 동안 {@link IdempotencyLeaseRenewer} 가 처리 중 표시를 연장하고, 완료/해제는 선점한 요청(owner)일 때만 반영된다
+ * 인증 사용자가 필요하므로 보안 필터 체인에서 JwtFilter 뒤에 둔다
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+	public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+	public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+	private static final int MAX_KEY_LENGTH = 255;
+
+	private final IdempotencyStore idempotencyStore;
+	private final IdempotencyLeaseRenewer leaseRenewer;
+	private final IdempotencyProperties properties;
+	private final JwtExceptionHandler exceptionHandler;
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return !HttpMethod.POST.matches(request.getMethod())
+			|| request.getHeader(IDEMPOTENCY_KEY_HEADER) == null
+			|| !properties.paths().contains(path(request));
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+		FilterChain filterChain) throws ServletException, IOException {
+
+		Long userId = currentUserId();
+		if (userId == null) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+
+		String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+		if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+			exceptionHandler.handle(response, ErrorCode.IDEMPOTENCY_KEY_INVALID);
+			return;
+		}
+
+		CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+		String key = "idempotency:" + userId + ":" + idempotencyKey;
+		String fingerprint = fingerprint(request.getMethod(), path(request), cachedRequest.body());
+		String owner = UUID.randomUUID().toString();
+
+		long deadline = System.nanoTime() + properties.waitTimeout().toNanos();
+		while (true) {
+			if (idempotencyStore.tryBegin(key, IdempotencyRecord.inFlight(fingerprint, owner),
+				properties.inFlightTtl())) {
+				execute(key, fingerprint, owner, cachedRequest, response, filterChain);
+				return;
+			}
+
+			Optional<IdempotencyRecord> found = idempotencyStore.find(key);
+			if (found.isPresent() && !found.get().fingerprint().equals(fingerprint)) {
+				exceptionHandler.handle(response, ErrorCode.IDEMPOTENCY_KEY_REUSED);
+				return;
+			}
+			if (found.isPresent() && found.get().completed()) {
+				replay(found.get(), response);
+				return;
+			}
+			// 처리 중 (또는 방금 풀림 → 다음 반복에서 선점 시도)
+			if (found.isPresent() && (System.nanoTime() >= deadline || !pause())) {
+				exceptionHandler.handle(response, ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+				return;
+			}
+		}
+	}
+
+	private void execute(String key, String fingerprint, String owner, HttpServletRequest request,
+		HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+
+		ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+		boolean completed = false;
+		leaseRenewer.track(key, owner);
+		try {
+			filterChain.doFilter(request, cachingResponse);
+			int status = cachingResponse.getStatus();
+			if (status >= 200 && status < 300) {
+				boolean stored = idempotencyStore.complete(key, owner, IdempotencyRecord.completed(
+					fingerprint,
+					owner,
+					status,
+					cachingResponse.getContentType(),
+					new String(cachingResponse.getContentAsByteArray(), StandardCharsets.UTF_8)
+				), properties.ttl());
+				completed = true;
+				// 선점을 잃었으면 다른 요청이 이미 다시 처리 중이거나 완료 - 그쪽 결과를 덮어쓰지 않는다
+				if (!stored) {
+					log.warn("[IDEMPOTENCY_LEASE_LOST] key={} status={}", key, status);
+				}
+			}
+		} finally {
+			leaseRenewer.untrack(key, owner);
+			if (!completed) {
+				idempotencyStore.release(key, owner);
+			}
+			cachingResponse.copyBodyToResponse();
+		}
+	}
+
+	private void replay(IdempotencyRecord record, HttpServletResponse response) throws IOException {
+		response.setStatus(record.status());
+		if (record.contentType() != null) {
+			response.setContentType(record.contentType());
+		}
+		response.setHeader(REPLAYED_HEADER, "true");
+		byte[] body = record.body() == null ? new byte[0] : record.body().getBytes(StandardCharsets.UTF_8);
+		response.setContentLength(body.length);
+		response.getOutputStream().write(body);
+	}
+
+	private boolean pause() {
+		try {
+			Thread.sleep(properties.pollInterval().toMillis());
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private Long currentUserId() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication != null && authentication.getPrincipal() instanceof AuthUser authUser) {
+			return authUser.id();
+		}
+		return null;
+	}
+
+	private static String path(HttpServletRequest request) {
+		return request.getRequestURI().substring(request.getContextPath().length());
+	}
+
+	private static String fingerprint(String method, String path, byte[] body) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			digest.update((method + " " + path + "\n").getBytes(StandardCharsets.UTF_8));
+			digest.update(body);
+			return HexFormat.of().formatHex(digest.digest());
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,53 @@
+package com.kt.common.idempotency;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.kt.config.IdempotencyProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이 노드에서 처리 중인 Idempotency-Key 의 처리 중 표시를 주기적으로 inFlightTtl 만큼 연장한다
+ * - 처리가 inFlightTtl 보다 오래 걸려도 표시가 만료되지 않으므로 같은 키의 재전송이 다시 실행되지 않는다
+ * - 노드가 죽으면 갱신이 멈추므로 inFlightTtl 뒤에는 다른 요청이 다시 선점할 수 있다
+ * - 갱신 주기(app.idempotency.renew-interval-ms)는 inFlightTtl 보다 충분히 짧게 둔다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyLeaseRenewer {
+
+	private final IdempotencyStore idempotencyStore;
+	private final IdempotencyProperties properties;
+
+	// key → owner
+	private final Map<String, String> inFlight = new ConcurrentHashMap<>();
+
+	void track(String key, String owner) {
+		inFlight.put(key, owner);
+	}
+
+	void untrack(String key, String owner) {
+		inFlight.remove(key, owner);
+	}
+
+	@Scheduled(fixedDelayString = "${app.idempotency.renew-interval-ms:10000}")
+	public void renew() {
+		inFlight.forEach((key, owner) -> {
+			try {
+				if (!idempotencyStore.renew(key, owner, properties.inFlightTtl())) {
+					log.warn("[IDEMPOTENCY_LEASE_LOST] key={}", key);
+					inFlight.remove(key, owner);
+				}
+			} catch (RuntimeException e) {
+				// 저장소 장애 - 다음 주기에 다시 시도 (그 사이 만료되면 다음 갱신에서 잃은 것으로 확인됨)
+				log.warn("[IDEMPOTENCY_RENEW_FAILED] key={}", key, e);
+			}
+		});
+	}
+}
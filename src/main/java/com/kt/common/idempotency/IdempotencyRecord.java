@@ -0,0 +1,31 @@
+package com.kt.common.idempotency;
+
+/**
+ * Idempotency-Key 하나의 상태
+ * - 처리 중이면 completed=false 이고 응답 필드는 비어 있다
+ * - fingerprint 는 (메서드, 경로, 본문) 해시 - 같은 키로 다른 요청을 보냈는지 확인한다
+ * - owner 는 키를 선점한 요청의 토큰 - 완료/해제/갱신은 선점한 요청만 할 수 있다
+ *   (처리 중 표시가 만료되어 다른 요청이 다시 선점했다면 늦게 끝난 요청은 아무것도 바꾸지 않는다)
+ */
+public record IdempotencyRecord(
+	String fingerprint,
+	String owner,
+	boolean completed,
+	int status,
+	String contentType,
+	String body
+) {
+
+	public static IdempotencyRecord inFlight(String fingerprint, String owner) {
+		return new IdempotencyRecord(fingerprint, owner, false, 0, null, null);
+	}
+
+	public static IdempotencyRecord completed(String fingerprint, String owner, int status, String contentType,
+		String body) {
+		return new IdempotencyRecord(fingerprint, owner, true, status, contentType, body);
+	}
+
+	boolean inFlightOf(String owner) {
+		return !completed && owner.equals(this.owner);
+	}
+}
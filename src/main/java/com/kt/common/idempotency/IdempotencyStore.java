@@ -0,0 +1,22 @@
+package com.kt.common.idempotency;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Idempotency-Key 저장소
+ * - tryBegin 은 키가 없을 때만 처리 중 표시를 남긴다 (먼저 성공한 요청 하나만 실제로 처리)
+ * - complete / release / renew 는 처리 중 표시의 owner 가 같을 때만 바꾼다 (false = 선점을 잃음)
+ */
+public interface IdempotencyStore {
+
+	boolean tryBegin(String key, IdempotencyRecord inFlight, Duration ttl);
+
+	Optional<IdempotencyRecord> find(String key);
+
+	boolean complete(String key, String owner, IdempotencyRecord completed, Duration ttl);
+
+	boolean release(String key, String owner);
+
+	boolean renew(String key, String owner, Duration ttl);
+}
@@ -0,0 +1,88 @@
+package com.kt.common.idempotency;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 를 쓰지 않는 단일 노드 환경(로컬/테스트)용 메모리 저장소
+ */
+@Component
+@ConditionalOnProperty(value = "app.redis.enabled", havingValue = "false")
+public class LocalIdempotencyStore implements IdempotencyStore {
+
+	private record Entry(IdempotencyRecord record, long expiresAt) {
+
+		boolean expired(long now) {
+			return expiresAt <= now;
+		}
+	}
+
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+	@Override
+	public boolean tryBegin(String key, IdempotencyRecord inFlight, Duration ttl) {
+		long now = System.currentTimeMillis();
+		Entry created = new Entry(inFlight, now + ttl.toMillis());
+		Entry current = entries.compute(key, (k, existing) ->
+			existing == null || existing.expired(now) ? created : existing);
+		return current == created;
+	}
+
+	@Override
+	public Optional<IdempotencyRecord> find(String key) {
+		Entry entry = entries.get(key);
+		if (entry == null || entry.expired(System.currentTimeMillis())) {
+			return Optional.empty();
+		}
+		return Optional.of(entry.record());
+	}
+
+	@Override
+	public boolean complete(String key, String owner, IdempotencyRecord completed, Duration ttl) {
+		long now = System.currentTimeMillis();
+		Entry replaced = new Entry(completed, now + ttl.toMillis());
+		return entries.computeIfPresent(key, (k, existing) ->
+			owns(existing, owner, now) ? replaced : existing) == replaced;
+	}
+
+	@Override
+	public boolean release(String key, String owner) {
+		long now = System.currentTimeMillis();
+		boolean[] released = {false};
+		entries.computeIfPresent(key, (k, existing) -> {
+			released[0] = owns(existing, owner, now);
+			return released[0] ? null : existing;
+		});
+		return released[0];
+	}
+
+	@Override
+	public boolean renew(String key, String owner, Duration ttl) {
+		long now = System.currentTimeMillis();
+		Entry[] renewed = {null};
+		entries.computeIfPresent(key, (k, existing) -> {
+			if (!owns(existing, owner, now)) {
+				return existing;
+			}
+			renewed[0] = new Entry(existing.record(), now + ttl.toMillis());
+			return renewed[0];
+		});
+		return renewed[0] != null;
+	}
+
+	@Scheduled(fixedDelay = 60_000)
+	public void purgeExpired() {
+		long now = System.currentTimeMillis();
+		entries.values().removeIf(entry -> entry.expired(now));
+	}
+
+	private static boolean owns(Entry entry, String owner, long now) {
+		return !entry.expired(now) && entry.record().inFlightOf(owner);
+	}
+}
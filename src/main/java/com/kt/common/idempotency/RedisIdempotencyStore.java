@@ -0,0 +1,92 @@
+package com.kt.common.idempotency;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 노드 간 공유 저장소 - 키 하나에 JSON 한 덩어리 (SET NX PX 로 처리 중 선점, 완료 시 응답으로 덮어씀)
+ * - 완료/해제/갱신은 Lua 스크립트 안에서 owner 를 비교한 뒤 바꾼다 (GET 과 SET/DEL 사이에 다른 요청이 끼어들지 못함)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "app.redis.enabled", havingValue = "true", matchIfMissing = true)
+public class RedisIdempotencyStore implements IdempotencyStore {
+
+	private static final RedisScript<Long> COMPLETE_SCRIPT = loadScript("complete");
+	private static final RedisScript<Long> RELEASE_SCRIPT = loadScript("release");
+	private static final RedisScript<Long> RENEW_SCRIPT = loadScript("renew");
+
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+
+	@Override
+	public boolean tryBegin(String key, IdempotencyRecord inFlight, Duration ttl) {
+		return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, write(inFlight), ttl));
+	}
+
+	@Override
+	public Optional<IdempotencyRecord> find(String key) {
+		String value = redisTemplate.opsForValue().get(key);
+		if (value == null) {
+			return Optional.empty();
+		}
+		try {
+			return Optional.of(objectMapper.readValue(value, IdempotencyRecord.class));
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("invalid idempotency record: " + key, e);
+		}
+	}
+
+	@Override
+	public boolean complete(String key, String owner, IdempotencyRecord completed, Duration ttl) {
+		Long result = redisTemplate.execute(
+			COMPLETE_SCRIPT,
+			List.of(key),
+			owner,
+			write(completed),
+			String.valueOf(ttl.toMillis())
+		);
+		return result != null && result == 1L;
+	}
+
+	@Override
+	public boolean release(String key, String owner) {
+		Long result = redisTemplate.execute(RELEASE_SCRIPT, List.of(key), owner);
+		return result != null && result == 1L;
+	}
+
+	@Override
+	public boolean renew(String key, String owner, Duration ttl) {
+		Long result = redisTemplate.execute(RENEW_SCRIPT, List.of(key), owner, String.valueOf(ttl.toMillis()));
+		return result != null && result == 1L;
+	}
+
+	private String write(IdempotencyRecord record) {
+		try {
+			return objectMapper.writeValueAsString(record);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("cannot write idempotency record", e);
+		}
+	}
+
+	private static RedisScript<Long> loadScript(String name) {
+		DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+		script.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/idempotency/" + name + ".lua")));
+		script.setResultType(Long.class);
+		return script;
+	}
+}
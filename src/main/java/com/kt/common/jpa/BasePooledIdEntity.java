@@ -0,0 +1,22 @@
+package com.kt.common.jpa;
+
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+import lombok.Getter;
+
+/**
+ * 대량으로 쌓이는 엔티티용 ID
+ * - 엔티티마다 {엔티티명}_seq 에서 50개씩 구간을 받아 메모리에서 나눠 준다 (pooled, hi/lo 방식)
+ *   구간은 시퀀스(MySQL 은 행 잠금 테이블)에서 원자적으로 받으므로 여러 노드가 동시에 써도 겹치지 않는다
+ * - IDENTITY 와 달리 persist 시점에 INSERT 하지 않아도 ID 가 정해지므로 flush 때 JDBC 배치로 묶인다
+ * - 구간 크기는 시퀀스 증가폭과 같아야 하므로 바꾸지 않는다 (PooledIdSequenceAligner 참고)
+ */
+@Getter
+@MappedSuperclass
+public abstract class BasePooledIdEntity {
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE)
+	protected Long id;
+}
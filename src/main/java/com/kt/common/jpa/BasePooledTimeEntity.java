@@ -0,0 +1,20 @@
+package com.kt.common.jpa;
+
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.MappedSuperclass;
+import lombok.Getter;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+@Getter
+@MappedSuperclass
+@EntityListeners(AuditingEntityListener.class)
+public abstract class BasePooledTimeEntity extends BasePooledIdEntity {
+	@CreatedDate
+	protected LocalDateTime createdAt;
+	@LastModifiedDate
+	protected LocalDateTime updatedAt;
+}
@@ -0,0 +1,56 @@
+package com.kt.common.jpa;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.DatabaseStructure;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시퀀스 테이블을 기존 ID 뒤로 맞춘다
+ * - MySQL 은 시퀀스가 없어 Hibernate 가 {엔티티명}_seq 테이블(next_val 한 행)로 대신하는데,
+ *   IDENTITY 로 쌓인 행이 있는 DB 에 ddl-auto 로 새로 만들어지면 1부터 시작해 기존 ID 와 겹친다
+ * - 구간은 (next_val - 증가폭, next_val] 이므로 next_val 을 MAX(id) + 증가폭 이상으로 올린다
+ * - GREATEST 로 올리기만 하므로 여러 노드가 동시에 떠도 안전하고, 이미 맞춰진 뒤에는 아무것도 바꾸지 않는다
+ * - 웹 서버가 요청을 받기 전(빈 초기화 중)에 실행된다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PooledIdSequenceAligner implements InitializingBean {
+
+	private final EntityManagerFactory entityManagerFactory;
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public void afterPropertiesSet() {
+		SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+		sessionFactory.getMappingMetamodel().forEachEntityDescriptor(persister -> {
+			if (!(persister.getGenerator() instanceof SequenceStyleGenerator generator)
+				|| !(persister instanceof AbstractEntityPersister entityPersister)) {
+				return;
+			}
+
+			DatabaseStructure structure = generator.getDatabaseStructure();
+			if (structure.isPhysicalSequence()) {
+				return;
+			}
+
+			String sequenceTable = structure.getPhysicalName().render();
+			int updated = jdbcTemplate.update(
+				"UPDATE " + sequenceTable
+					+ " SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX("
+					+ entityPersister.getIdentifierColumnNames()[0] + "), 0) + ? FROM "
+					+ entityPersister.getTableName() + "))",
+				structure.getIncrementSize()
+			);
+			log.info("[POOLED_ID_SEQUENCE_ALIGNED] sequence={}, updated={}", sequenceTable, updated);
+		});
+	}
+}
@@ -0,0 +1,20 @@
+package com.kt.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 장바구니 저장소 설정
+ * - store : jpa(기본, cart/cart_product 테이블) | redis(사용자별 Redis 해시 + write-behind)
+ * - ttl : Redis 장바구니 해시를 마지막 변경 뒤 남겨 두는 시간 (만료 후에는 DB 에서 다시 적재)
+ * - flushBatchSize : write-behind 시 한 번에 DB 에 반영할 장바구니 수
+ */
+@ConfigurationProperties(prefix = "app.cart")
+public record CartProperties(
+	@DefaultValue("jpa") String store,
+	@DefaultValue("30d") Duration ttl,
+	@DefaultValue("200") int flushBatchSize
+) {
+}
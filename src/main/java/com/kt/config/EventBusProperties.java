@@ -0,0 +1,34 @@
+package com.kt.config;
+
+import java.time.Duration;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import com.kt.domain.outbox.OutboxEventType;
+
+/**
+ * 노드 간 이벤트 버스 (Redis Streams) 설정
+ * - streamTypes : Redis Stream 으로 보낼 이벤트 종류 (나머지는 릴레이한 노드에서 바로 처리)
+ * - partitions : 종류별 스트림 수 - 파티션 키(주문번호, 배송 ID 등) 해시로 고른다
+ * - group / consumerEnabled : 소비자 그룹 이름, 이 노드가 스트림을 소비할지 (API 전용 노드는 false 로 두고 발행만)
+ * - readCount / pollInterval : 한 번에 읽는 메시지 수와 비었을 때 쉬는 시간
+ * - reclaimInterval / reclaimIdle : 다른 소비자가 가져가고 처리하지 못한 메시지를 되찾는 주기와 기준 대기 시간
+ * - maxDeliveries : 이 횟수만큼 전달해도 처리하지 못한 메시지는 dead letter 스트림으로 옮긴다
+ * - maxLength : 스트림별 보관 길이 (근사 trim)
+ */
+@ConfigurationProperties(prefix = "app.event-bus")
+public record EventBusProperties(
+	@DefaultValue({"PAYMENT_CONFIRMED", "DELIVERY_STATUS_CHANGED", "ORDER_CHANGED"}) Set<OutboxEventType> streamTypes,
+	@DefaultValue("8") int partitions,
+	@DefaultValue("kt-workers") String group,
+	@DefaultValue("true") boolean consumerEnabled,
+	@DefaultValue("100") int readCount,
+	@DefaultValue("100ms") Duration pollInterval,
+	@DefaultValue("30s") Duration reclaimInterval,
+	@DefaultValue("1m") Duration reclaimIdle,
+	@DefaultValue("10") int maxDeliveries,
+	@DefaultValue("1000000") long maxLength
+) {
+}
@@ -0,0 +1,23 @@
+package com.kt.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 외부 이벤트(WMS 입고, 배송 웹훅 등) 중복 제거 설정
+ * - filter : 확률적 필터 저장소 (local: 노드 메모리 / redis: 노드 간 공유 블룸 필터)
+ * - retentionDays : 처리 기록을 보관하는 일 수 (일 단위 파티션째 삭제)
+ * - expectedEventsPerDay / falsePositiveRate : 일 파티션별 블룸 필터 크기 산정 기준
+ * - recentCapacity : 커밋이 확인된 이벤트 ID 를 그대로 기억하는 최근 캐시 크기
+ * - purgeBatchSize : 보관 기간이 지난 기록을 한 번에 지우는 행 수
+ */
+@ConfigurationProperties(prefix = "app.dedupe")
+public record EventDedupeProperties(
+	@DefaultValue("local") String filter,
+	@DefaultValue("14") int retentionDays,
+	@DefaultValue("200000") long expectedEventsPerDay,
+	@DefaultValue("0.01") double falsePositiveRate,
+	@DefaultValue("100000") int recentCapacity,
+	@DefaultValue("5000") int purgeBatchSize
+) {
+}
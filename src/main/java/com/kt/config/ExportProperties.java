@@ -0,0 +1,14 @@
+package com.kt.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 관리자 내보내기(주문/결제) 설정
+ * - fetchSize : 내보내기 조회의 JDBC fetch size (MySQL 은 Integer.MIN_VALUE 면 한 행씩 스트리밍, 그 밖의 DB 는 양수를 쓴다)
+ */
+@ConfigurationProperties(prefix = "app.export")
+public record ExportProperties(
+	@DefaultValue("-2147483648") int fetchSize
+) {
+}
@@ -0,0 +1,25 @@
+package com.kt.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Idempotency-Key 설정
+ * - paths : 키를 적용할 POST 경로 (헤더가 없으면 그대로 통과)
+ * - ttl : 완료된 응답을 보관하는 시간 (이 안의 재전송은 저장된 응답으로 돌려준다)
+ * - inFlightTtl : 처리 중 표시의 만료 시간 (처리하던 노드가 죽어도 이 시간이 지나면 다시 처리할 수 있다)
+ *   처리 중에는 app.idempotency.renew-interval-ms 마다 다시 inFlightTtl 로 연장하므로 가장 느린 처리 시간과는 무관하다
+ * - waitTimeout / pollInterval : 같은 키가 처리 중일 때 결과를 기다리는 최대 시간과 확인 간격
+ */
+@ConfigurationProperties(prefix = "app.idempotency")
+public record IdempotencyProperties(
+	@DefaultValue({"/orders/cart", "/orders/direct", "/payment/confirm"}) List<String> paths,
+	@DefaultValue("24h") Duration ttl,
+	@DefaultValue("30s") Duration inFlightTtl,
+	@DefaultValue("10s") Duration waitTimeout,
+	@DefaultValue("50ms") Duration pollInterval
+) {
+}
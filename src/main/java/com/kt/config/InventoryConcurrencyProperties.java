@@ -0,0 +1,28 @@
+package com.kt.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 재고 단건 쓰기 동시성 설정
+ * - maxAttempts : 낙관적 쓰기 최대 시도 횟수 (모두 충돌하면 행 잠금으로 한 번 더 처리)
+ * - baseBackoff / maxBackoff : 재시도 대기 상한 (시도마다 두 배, 실제 대기는 0 ~ 상한 사이 임의 값)
+ * - conflictThreshold / minSamples : 최근 시도 중 충돌 비율이 이 값 이상이면 행 잠금으로 전환 (표본이 minSamples 이상일 때만)
+ * - window : 충돌 비율 집계 구간 (구간이 지날 때마다 이전 값은 절반으로 줄인다)
+ * - pessimisticHold : 행 잠금으로 전환한 상품을 다시 낙관적 쓰기로 시험해 보기까지의 시간
+ * - maxTaggedProducts : productId 태그를 붙여 기록할 최대 상품 수 (초과분은 메트릭에서 제외)
+ */
+@ConfigurationProperties(prefix = "app.inventory.concurrency")
+public record InventoryConcurrencyProperties(
+	@DefaultValue("3") int maxAttempts,
+	@DefaultValue("10ms") Duration baseBackoff,
+	@DefaultValue("200ms") Duration maxBackoff,
+	@DefaultValue("0.2") double conflictThreshold,
+	@DefaultValue("20") int minSamples,
+	@DefaultValue("1m") Duration window,
+	@DefaultValue("5m") Duration pessimisticHold,
+	@DefaultValue("500") int maxTaggedProducts
+) {
+}
@@ -0,0 +1,20 @@
+package com.kt.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 재고 이동 원장 설정
+ * - foldLag : 이보다 최근에 쓰인 이동은 스냅샷에 합치지 않는다 (늦게 커밋되는 트랜잭션 대비)
+ * - foldChunkSize : 스냅샷 갱신 한 트랜잭션에서 합치는 최대 이동 수(ID 구간)
+ * - pageSize : 기초 잔액 생성/대사 한 번에 다루는 상품 수
+ */
+@ConfigurationProperties(prefix = "app.inventory.ledger")
+public record InventoryLedgerProperties(
+	@DefaultValue("1m") Duration foldLag,
+	@DefaultValue("100000") long foldChunkSize,
+	@DefaultValue("500") int pageSize
+) {
+}
@@ -0,0 +1,23 @@
+package com.kt.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.config.MeterFilter;
+
+/**
+ * 재고 쓰기 메트릭의 productId 태그 수 제한 (상품 수만큼 시계열이 늘어나지 않게 한다)
+ */
+@Configuration
+public class InventoryMetricsConfig {
+
+	@Bean
+	public MeterFilter inventoryWriteTagLimit(InventoryConcurrencyProperties properties) {
+		return MeterFilter.maximumAllowableTags(
+			"inventory.write",
+			"productId",
+			properties.maxTaggedProducts(),
+			MeterFilter.deny()
+		);
+	}
+}
@@ -0,0 +1,23 @@
+package com.kt.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * OMS 재고 예약 엔진 설정
+ * - engine : jpa(기본, DB 비관적 락) | redis(Redis Lua 스크립트 + write-behind)
+ * - flushBatchSize : write-behind 시 한 번에 DB 에 반영할 상품 수 (jpa 엔진은 버킷 출고분을 한 주기에 옮기는 상품 수)
+ * - reconcileBatchSize : 정합성 검증 시 한 번에 비교할 상품 수
+ * - 핫 상품 재고 버킷은 jpa 엔진에서만 사용한다 (redis 엔진은 원자 스크립트라 행 경합이 없음)
+ */
+@ConfigurationProperties(prefix = "app.inventory.reservation")
+public record InventoryReservationProperties(
+	@DefaultValue("jpa") String engine,
+	@DefaultValue("500") int flushBatchSize,
+	@DefaultValue("500") int reconcileBatchSize
+) {
+
+	public boolean supportsHotBuckets() {
+		return "jpa".equals(engine);
+	}
+}
@@ -0,0 +1,20 @@
+package com.kt.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 재고 스냅샷 근접 캐시 설정
+ * - localTtl : 노드 메모리(L1) 보관 시간 - 무효화 메시지를 놓쳤을 때의 최대 지연
+ * - remoteTtl : Redis(L2) 보관 시간
+ * - localCapacity : L1 최대 상품 수 (넘으면 비우고 다시 채운다)
+ */
+@ConfigurationProperties(prefix = "app.inventory.snapshot-cache")
+public record InventorySnapshotCacheProperties(
+	@DefaultValue("3s") Duration localTtl,
+	@DefaultValue("30s") Duration remoteTtl,
+	@DefaultValue("50000") int localCapacity
+) {
+}
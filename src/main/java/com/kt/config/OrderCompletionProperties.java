@@ -0,0 +1,28 @@
+package com.kt.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 결제 완료 후 주문 완료 처리 설정
+ * - lanes : 주문번호로 나눈 처리 레인(가상 스레드) 수 - 같은 주문은 항상 같은 레인에서 순서대로 처리
+ * - queueCapacity : 레인별 대기열 크기 (가득 차면 받지 않고 복구 스윕에 맡긴다)
+ * - maxAttempts / baseBackoff / maxBackoff : 일시적 실패 재시도 횟수와 대기 (다 쓰면 dead letter 로 남김)
+ * - recoveryDelay : 결제 완료 후 이 시간이 지나도 결제 대기인 주문은 복구 스윕이 다시 넣는다 (노드 종료 등으로 잃은 작업)
+ * - recoveryBatchSize : 복구 스윕 한 번에 다시 넣는 주문 수
+ * - shutdownTimeout : 종료 시 이미 받은 작업을 마칠 때까지 기다리는 최대 시간
+ */
+@ConfigurationProperties(prefix = "app.order.completion")
+public record OrderCompletionProperties(
+	@DefaultValue("8") int lanes,
+	@DefaultValue("10000") int queueCapacity,
+	@DefaultValue("5") int maxAttempts,
+	@DefaultValue("100ms") Duration baseBackoff,
+	@DefaultValue("5s") Duration maxBackoff,
+	@DefaultValue("2m") Duration recoveryDelay,
+	@DefaultValue("500") int recoveryBatchSize,
+	@DefaultValue("30s") Duration shutdownTimeout
+) {
+}
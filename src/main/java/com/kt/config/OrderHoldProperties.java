@@ -0,0 +1,21 @@
+package com.kt.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 결제 대기 주문 재고 보류 설정
+ * - ttl : 주문 생성 후 결제하지 않으면 예약을 풀기까지의 시간
+ * - tickMs / wheelSize : 타이밍 휠 한 칸의 시간과 단계별 칸 수
+ * - expireBatchSize : 한 트랜잭션에서 만료 처리할 주문 수
+ */
+@ConfigurationProperties(prefix = "app.order.hold")
+public record OrderHoldProperties(
+	@DefaultValue("15m") Duration ttl,
+	@DefaultValue("1000") long tickMs,
+	@DefaultValue("60") int wheelSize,
+	@DefaultValue("500") int expireBatchSize
+) {
+}
@@ -0,0 +1,18 @@
+package com.kt.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 주문번호 생성 설정
+ * - nodeId : 인스턴스별 고유 번호(0 ~ 1023), 비워 두면 Redis 에서 빈 번호를 임대한다
+ * - leaseTtl : 임대한 노드 번호의 만료 시간 (갱신이 이만큼 끊기면 다른 인스턴스가 가져갈 수 있다)
+ */
+@ConfigurationProperties(prefix = "app.order.number")
+public record OrderNumberProperties(
+	Integer nodeId,
+	@DefaultValue("10m") Duration leaseTtl
+) {
+}
@@ -0,0 +1,16 @@
+package com.kt.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 관리자 주문 요약(order_summary) 읽기 모델 설정
+ * - backfillBatchSize : 요약 행이 없는 주문을 찾아 한 트랜잭션에서 채우는 주문 수 (낡은 요약 행을 한 번에 훑는 행 수도 같다)
+ * - backfillMaxBatches : 보정 작업 한 번에 처리하는 최대 묶음 수 (첫 적재가 길어져도 스케줄러를 오래 붙잡지 않음)
+ */
+@ConfigurationProperties(prefix = "app.order.summary")
+public record OrderSummaryProperties(
+	@DefaultValue("500") int backfillBatchSize,
+	@DefaultValue("20") int backfillMaxBatches
+) {
+}
@@ -0,0 +1,26 @@
+package com.kt.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 트랜잭션 아웃박스 릴레이 설정
+ * - batchSize : 한 번에 가져와 전달하는 행 수
+ * - pollInterval : 가져올 행이 batchSize 보다 적었을 때 다음 조회까지 쉬는 시간
+ * - lease : 가져간 행을 다른 릴레이가 고르지 않는 시간 (이 안에 전달 결과를 기록하지 못하면 다시 전달된다)
+ * - baseBackoff / maxBackoff : 전달 실패 시 재시도 간격 (시도마다 두 배, maxBackoff 까지)
+ * - retention / pruneBatchSize : 전달을 마친 행의 보관 기간과 한 문장으로 지우는 행 수
+ */
+@ConfigurationProperties(prefix = "app.outbox")
+public record OutboxProperties(
+	@DefaultValue("200") int batchSize,
+	@DefaultValue("200ms") Duration pollInterval,
+	@DefaultValue("1m") Duration lease,
+	@DefaultValue("1s") Duration baseBackoff,
+	@DefaultValue("5m") Duration maxBackoff,
+	@DefaultValue("1d") Duration retention,
+	@DefaultValue("5000") int pruneBatchSize
+) {
+}
@@ -0,0 +1,37 @@
+package com.kt.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 결제 대행사(PG) 호출 설정
+ * - mode : toss = 실제 HTTP 연동 / stub = 부하 테스트용 가짜 PG (지연/실패율 설정)
+ * - connectTimeout / readTimeout : 연결 수립, 응답 대기 상한 (커넥션은 keep-alive 로 재사용)
+ * - maxConcurrentCalls / maxWait : 동시에 PG 를 기다리는 요청 수 상한과 자리가 날 때까지 기다리는 시간
+ *   (넘치면 바로 거절하므로 PG 가 느려져도 요청 스레드가 모두 PG 대기에 묶이지 않는다)
+ * - slidingWindowSize / minimumCalls / failureRateThreshold : 최근 호출 중 실패 비율이 기준 이상이면 회로를 연다
+ * - openDuration / halfOpenCalls : 회로를 열어 두는 시간과 그 뒤 시험 삼아 보내는 호출 수
+ * - stub* : 가짜 PG 의 응답 지연(고정 + 0 ~ jitter), 거절 비율, 응답 없음(타임아웃) 비율
+ */
+@ConfigurationProperties(prefix = "app.payment.gateway")
+public record PaymentGatewayProperties(
+	@DefaultValue("stub") String mode,
+	@DefaultValue("https://api.tosspayments.com") String baseUrl,
+	@DefaultValue("") String secretKey,
+	@DefaultValue("1s") Duration connectTimeout,
+	@DefaultValue("10s") Duration readTimeout,
+	@DefaultValue("50") int maxConcurrentCalls,
+	@DefaultValue("100ms") Duration maxWait,
+	@DefaultValue("50") int slidingWindowSize,
+	@DefaultValue("20") int minimumCalls,
+	@DefaultValue("50") int failureRateThreshold,
+	@DefaultValue("30s") Duration openDuration,
+	@DefaultValue("5") int halfOpenCalls,
+	@DefaultValue("100ms") Duration stubLatency,
+	@DefaultValue("50ms") Duration stubJitter,
+	@DefaultValue("0") double stubDeclineRate,
+	@DefaultValue("0") double stubTimeoutRate
+) {
+}
@@ -0,0 +1,18 @@
+package com.kt.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 결과를 모르는 결제 승인 확정 설정
+ * - after : IN_PROGRESS 로 이만큼 머문 결제만 PG 에 조회한다 (진행 중인 승인 요청과 겹치지 않도록 readTimeout 보다 길게)
+ * - batchSize : 한 주기에 조회할 결제 수
+ */
+@ConfigurationProperties(prefix = "app.payment.resolution")
+public record PaymentResolutionProperties(
+	@DefaultValue("1m") Duration after,
+	@DefaultValue("100") int batchSize
+) {
+}
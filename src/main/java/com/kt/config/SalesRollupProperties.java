@@ -0,0 +1,24 @@
+package com.kt.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 매출 집계 설정
+ * - repairWindow : 보정 작업이 원장과 주문 상태를 맞춰 보는 주문 기간 (처음 배포할 때는 전체 기간으로 늘려 한 번 채운다)
+ * - repairBatchSize / repairMaxBatches : 보정 작업 한 묶음의 주문 수와 한 번에 처리하는 최대 묶음 수
+ * - maxDays : 조회 API 가 한 번에 읽는 최대 일 수 (시간 단위 추이는 maxHourlyDays)
+ * - maxLimit : 순위 조회 최대 건수
+ */
+@ConfigurationProperties(prefix = "app.sales.rollup")
+public record SalesRollupProperties(
+	@DefaultValue("3d") Duration repairWindow,
+	@DefaultValue("500") int repairBatchSize,
+	@DefaultValue("20") int repairMaxBatches,
+	@DefaultValue("366") int maxDays,
+	@DefaultValue("7") int maxHourlyDays,
+	@DefaultValue("100") int maxLimit
+) {
+}
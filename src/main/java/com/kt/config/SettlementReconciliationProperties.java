@@ -0,0 +1,27 @@
+package com.kt.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * PG 정산 대사 설정
+ * - directory / filePrefix : 정산 파일 위치와 이름 (filePrefix + yyyyMMdd + .csv), directory 가 비어 있으면 자동 대사를 하지 않는다
+ * - lookbackDays : 자동 대사가 파일을 찾는 지난 일 수 (어제부터)
+ * - chunkSize : 결제와 한 번에 맞춰 보는 정산 줄 수 (힙 사용량과 DB 왕복 수를 함께 정한다)
+ * - mapWindow : 정산 파일을 한 번에 메모리 매핑하는 크기
+ * - leaseTimeout : 실행 중인 대사가 이만큼 진행 기록이 없으면 노드가 죽은 것으로 보고 다른 쪽이 이어받는다
+ *   (묶음 하나 처리 시간보다 충분히 길게)
+ */
+@ConfigurationProperties(prefix = "app.payment.settlement")
+public record SettlementReconciliationProperties(
+	@DefaultValue("") String directory,
+	@DefaultValue("settlement-") String filePrefix,
+	@DefaultValue("3") int lookbackDays,
+	@DefaultValue("5000") int chunkSize,
+	@DefaultValue("64MB") DataSize mapWindow,
+	@DefaultValue("5m") Duration leaseTimeout
+) {
+}
@@ -0,0 +1,24 @@
+package com.kt.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * WMS 출고 이벤트 대기열 설정
+ * - partitions : 상품 ID 로 나눈 파티션(작업 스레드) 수, 0 이면 대기열 없이 요청 스레드에서 바로 처리
+ * - queueCapacity : 파티션별 대기열 크기 (가득 차면 FAILED 로 응답해 WMS 가 다시 보내게 한다)
+ * - batchSize : 한 트랜잭션에서 반영할 최대 이벤트 수
+ * - linger : 첫 이벤트를 꺼낸 뒤 묶음을 채우려고 기다리는 최대 시간
+ * - responseTimeout : 요청 스레드가 반영 결과를 기다리는 최대 시간
+ */
+@ConfigurationProperties(prefix = "app.wms.outbound")
+public record WmsOutboundProperties(
+	@DefaultValue("4") int partitions,
+	@DefaultValue("10000") int queueCapacity,
+	@DefaultValue("500") int batchSize,
+	@DefaultValue("20ms") Duration linger,
+	@DefaultValue("10s") Duration responseTimeout
+) {
+}
@@ -21,7 +21,8 @@ public class DeliveryWebhookController {
 	public ApiResponseEntity<Void> receiveDeliveryStatus(@RequestBody DeliveryStatusWebhookRequest request) {
 		deliveryService.updateStatusByWebhook(
 			request.trackingNumber(),
-			request.status()
+			request.status(),
+			request.eventTime()
 		);
 		return ApiResponseEntity.success();
 	}
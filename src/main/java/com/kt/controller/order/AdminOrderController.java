@@ -1,23 +1,34 @@
 package com.kt.controller.order;
 
+import java.io.IOException;
 import java.util.List;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.kt.common.api.ApiResponseEntity;
+import com.kt.common.export.ExportFormat;
 import com.kt.domain.order.Order;
+import com.kt.dto.order.AdminOrderSearchCondition;
 import com.kt.dto.order.OrderRequest;
 import com.kt.dto.order.OrderResponse;
 import com.kt.security.AuthUser;
 import com.kt.service.order.AdminOrderService;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -28,16 +39,30 @@ public class AdminOrderController {
 
 	private final AdminOrderService adminOrderService;
 
-	// 주문 목록 조회
+	// 주문 목록 조회 (주문/결제/배송 상태, 주문일 조건 + 페이지)
 	@GetMapping
-	public ApiResponseEntity<List<OrderResponse.AdminList>> allOrders(
-		@AuthenticationPrincipal AuthUser authUser
+	public ApiResponseEntity<List<OrderResponse.AdminSummary>> allOrders(
+		@AuthenticationPrincipal AuthUser authUser,
+		@ModelAttribute AdminOrderSearchCondition condition,
+		@PageableDefault(size = 50) Pageable pageable
 	) {
-		List<Order> orders = adminOrderService.allOrders();
-		List<OrderResponse.AdminList> response = orders.stream()
-			.map(order -> OrderResponse.AdminList.from(order))
-			.toList();
-		return ApiResponseEntity.success(response);
+		Page<OrderResponse.AdminSummary> response = adminOrderService.searchOrders(condition, pageable)
+			.map(OrderResponse.AdminSummary::from);
+		return ApiResponseEntity.pageOf(response);
+	}
+
+	// 주문 내보내기 (NDJSON/CSV 를 응답 스트림에 바로 쓴다)
+	@GetMapping("/export")
+	public void exportOrders(
+		@AuthenticationPrincipal AuthUser authUser,
+		@ModelAttribute AdminOrderSearchCondition condition,
+		@RequestParam(defaultValue = "NDJSON") ExportFormat format,
+		HttpServletResponse response
+	) throws IOException {
+		response.setContentType(format.getContentType());
+		response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+			ContentDisposition.attachment().filename("orders." + format.getExtension()).build().toString());
+		adminOrderService.exportOrders(condition, format, response.getOutputStream());
 	}
 
 	// 상세 조회
@@ -9,6 +9,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.kt.common.api.ApiResponseEntity;
@@ -60,6 +61,16 @@ public class OrderController {
 		return ApiResponseEntity.success(response);
 	}
 
+	// 내 주문 이력 (최신순 키셋 페이지, 응답의 nextCursor 를 cursor 로 넘기면 다음 페이지)
+	@GetMapping("/history")
+	public ApiResponseEntity<OrderResponse.HistoryPage> myOrderHistory(
+		@AuthenticationPrincipal AuthUser authUser,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "20") int size
+	) {
+		return ApiResponseEntity.success(orderService.myOrderHistory(authUser.id(), cursor, size));
+	}
+
 	// 주문에 대한 자세한 정보(상세조회)
 	@GetMapping("/{orderNumber}")
 	public ApiResponseEntity<OrderResponse.MyOrder> myOrderInfo(
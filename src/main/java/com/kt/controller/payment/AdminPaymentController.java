@@ -1,22 +1,33 @@
 package com.kt.controller.payment;
 
+import java.io.IOException;
 import java.util.List;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.kt.common.api.ApiResponseEntity;
+import com.kt.common.export.ExportFormat;
 import com.kt.domain.payment.Payment;
+import com.kt.dto.payment.AdminPaymentSearchCondition;
 import com.kt.dto.payment.PaymentRequest;
 import com.kt.dto.payment.PaymentResponse;
 import com.kt.security.AuthUser;
 import com.kt.service.payment.AdminPaymentService;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -27,16 +38,30 @@ public class AdminPaymentController {
 
 	private final AdminPaymentService adminPaymentService;
 
-	// 결제 내역 전체 조회
+	// 결제 내역 조회 (상태/결제 생성일 조건 + 페이지)
 	@GetMapping
 	public ApiResponseEntity<List<PaymentResponse.AdminList>> allPayments(
-		@AuthenticationPrincipal AuthUser authUser
+		@AuthenticationPrincipal AuthUser authUser,
+		@ModelAttribute AdminPaymentSearchCondition condition,
+		@PageableDefault(size = 50) Pageable pageable
 	) {
-		List<Payment> payments = adminPaymentService.allPayments();
-		List<PaymentResponse.AdminList> response = payments.stream()
-			.map(PaymentResponse.AdminList::from)
-			.toList();
-		return ApiResponseEntity.success(response);
+		Page<PaymentResponse.AdminList> response = adminPaymentService.searchPayments(condition, pageable)
+			.map(PaymentResponse.AdminList::from);
+		return ApiResponseEntity.pageOf(response);
+	}
+
+	// 결제 내역 내보내기 (NDJSON/CSV 를 응답 스트림에 바로 쓴다)
+	@GetMapping("/export")
+	public void exportPayments(
+		@AuthenticationPrincipal AuthUser authUser,
+		@ModelAttribute AdminPaymentSearchCondition condition,
+		@RequestParam(defaultValue = "NDJSON") ExportFormat format,
+		HttpServletResponse response
+	) throws IOException {
+		response.setContentType(format.getContentType());
+		response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+			ContentDisposition.attachment().filename("payments." + format.getExtension()).build().toString());
+		adminPaymentService.exportPayments(condition, format, response.getOutputStream());
 	}
 
 	// 결제 상태 변경
@@ -0,0 +1,68 @@
+package com.kt.controller.payment;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.kt.common.api.ApiResponseEntity;
+import com.kt.domain.payment.settlement.SettlementMismatchType;
+import com.kt.dto.payment.SettlementResponse;
+import com.kt.security.AuthUser;
+import com.kt.service.payment.settlement.SettlementReconciliationService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/admin/payments/settlements")
+@RequiredArgsConstructor
+public class AdminSettlementController {
+
+	private final SettlementReconciliationService settlementReconciliationService;
+
+	// 정산 대사 실행 목록 (최근 정산일부터)
+	@GetMapping
+	public ApiResponseEntity<List<SettlementResponse.Run>> runs(
+		@AuthenticationPrincipal AuthUser authUser,
+		@PageableDefault(size = 30, sort = "settlementDate", direction = Sort.Direction.DESC) Pageable pageable
+	) {
+		Page<SettlementResponse.Run> response = settlementReconciliationService.getRuns(pageable)
+			.map(SettlementResponse.Run::from);
+		return ApiResponseEntity.pageOf(response);
+	}
+
+	// 정산일 대사 수동 실행 (다시 실행하면 이전 결과를 지우고 처음부터, 파일 크기에 따라 수 분 걸릴 수 있다)
+	@PostMapping("/{settlementDate}/reconcile")
+	public ApiResponseEntity<SettlementResponse.Run> reconcile(
+		@AuthenticationPrincipal AuthUser authUser,
+		@PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate settlementDate
+	) {
+		return ApiResponseEntity.success(
+			SettlementResponse.Run.from(settlementReconciliationService.reconcile(settlementDate))
+		);
+	}
+
+	// 대사 불일치 목록 (type 으로 금액/상태/누락 등을 골라 본다)
+	@GetMapping("/{runId}/mismatches")
+	public ApiResponseEntity<List<SettlementResponse.Mismatch>> mismatches(
+		@AuthenticationPrincipal AuthUser authUser,
+		@PathVariable Long runId,
+		@RequestParam(required = false) SettlementMismatchType type,
+		@PageableDefault(size = 100) Pageable pageable
+	) {
+		Page<SettlementResponse.Mismatch> response = settlementReconciliationService.getMismatches(runId, type, pageable)
+			.map(SettlementResponse.Mismatch::from);
+		return ApiResponseEntity.pageOf(response);
+	}
+}
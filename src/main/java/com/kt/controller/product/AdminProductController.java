@@ -93,4 +93,19 @@ public class AdminProductController {
 		var response = adminProductService.toggleSoldOut(id);
 		return ApiResponseEntity.success(response);
 	}
+
+	@PostMapping("/{id}/inventory/hot-mode")
+	public ApiResponseEntity<Void> enableInventoryHotMode(
+		@PathVariable Long id,
+		@RequestBody @Valid ProductRequest.HotMode request
+	) {
+		adminProductService.enableInventoryHotMode(id, request);
+		return ApiResponseEntity.success();
+	}
+
+	@DeleteMapping("/{id}/inventory/hot-mode")
+	public ApiResponseEntity<Void> disableInventoryHotMode(@PathVariable Long id) {
+		adminProductService.disableInventoryHotMode(id);
+		return ApiResponseEntity.success();
+	}
 }
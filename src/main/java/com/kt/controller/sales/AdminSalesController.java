@@ -0,0 +1,54 @@
+package com.kt.controller.sales;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.kt.common.api.ApiResponseEntity;
+import com.kt.domain.sales.SalesDimension;
+import com.kt.domain.sales.SalesGranularity;
+import com.kt.domain.sales.SalesMetric;
+import com.kt.dto.sales.SalesResponse;
+import com.kt.security.AuthUser;
+import com.kt.service.sales.SalesReportService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/admin/sales")
+@RequiredArgsConstructor
+public class AdminSalesController {
+
+	private final SalesReportService salesReportService;
+
+	// 매출 순위 (최근 days 일, 상품/카테고리/반려동물 종류별)
+	@GetMapping("/top-sellers")
+	public ApiResponseEntity<List<SalesResponse.TopSeller>> topSellers(
+		@AuthenticationPrincipal AuthUser authUser,
+		@RequestParam(defaultValue = "PRODUCT") SalesDimension dimension,
+		@RequestParam(defaultValue = "REVENUE") SalesMetric metric,
+		@RequestParam(defaultValue = "30") int days,
+		@RequestParam(defaultValue = "10") int limit
+	) {
+		return ApiResponseEntity.success(salesReportService.topSellers(dimension, metric, days, limit));
+	}
+
+	// 매출 추이 (키 하나의 시간/일 구간별 집계, from ~ to 둘 다 포함)
+	@GetMapping("/trend")
+	public ApiResponseEntity<List<SalesResponse.TrendPoint>> trend(
+		@AuthenticationPrincipal AuthUser authUser,
+		@RequestParam(defaultValue = "DAY") SalesGranularity granularity,
+		@RequestParam SalesDimension dimension,
+		@RequestParam String key,
+		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+	) {
+		return ApiResponseEntity.success(salesReportService.trend(granularity, dimension, key, from, to));
+	}
+}
@@ -1,11 +1,15 @@
 package com.kt.controller.wms;
 
+import java.io.InputStream;
+
 import com.kt.common.api.ApiResponseEntity;
+import com.kt.dto.wms.InboundBatchConfirmedResponse;
 import com.kt.dto.wms.InboundConfirmedRequest;
 import com.kt.dto.wms.InboundConfirmedResponse;
 import com.kt.service.inventory.WmsInboundIngressService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -25,4 +29,13 @@ public class WmsInboundController {
 		var response = wmsInboundIngressService.confirmInbound(request);
 		return ApiResponseEntity.success(response);
 	}
-}
\ No newline at end of file
+
+	/**
+	 * NDJSON(한 줄에 입고 이벤트 하나) 배치 입고
+	 */
+	@PostMapping(value = "/confirmed/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+	public ApiResponseEntity<InboundBatchConfirmedResponse> confirmInboundBatch(InputStream body) {
+		var response = wmsInboundIngressService.confirmInboundBatch(body);
+		return ApiResponseEntity.success(response);
+	}
+}
@@ -0,0 +1,55 @@
+package com.kt.controller.wms;
+
+import java.io.InputStream;
+
+import com.kt.common.api.ApiResponseEntity;
+import com.kt.domain.inventory.event.OutboundEventType;
+import com.kt.dto.wms.OutboundBatchResponse;
+import com.kt.dto.wms.OutboundRequest;
+import com.kt.dto.wms.OutboundResponse;
+import com.kt.service.inventory.WmsOutboundIngressService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/wms/outbounds")
+@RequiredArgsConstructor
+public class WmsOutboundController {
+
+	private final WmsOutboundIngressService wmsOutboundIngressService;
+
+	@PostMapping("/confirmed")
+	public ApiResponseEntity<OutboundResponse> confirmOutbound(@RequestBody @Valid OutboundRequest request) {
+		var response = wmsOutboundIngressService.settle(request, OutboundEventType.CONFIRMED);
+		return ApiResponseEntity.success(response);
+	}
+
+	@PostMapping("/canceled")
+	public ApiResponseEntity<OutboundResponse> cancelOutbound(@RequestBody @Valid OutboundRequest request) {
+		var response = wmsOutboundIngressService.settle(request, OutboundEventType.CANCELED);
+		return ApiResponseEntity.success(response);
+	}
+
+	/**
+	 * NDJSON(한 줄에 출고 이벤트 하나) 배치 출고 확정
+	 */
+	@PostMapping(value = "/confirmed/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+	public ApiResponseEntity<OutboundBatchResponse> confirmOutboundBatch(InputStream body) {
+		var response = wmsOutboundIngressService.settleBatch(body, OutboundEventType.CONFIRMED);
+		return ApiResponseEntity.success(response);
+	}
+
+	/**
+	 * NDJSON(한 줄에 출고 이벤트 하나) 배치 출고 취소
+	 */
+	@PostMapping(value = "/canceled/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+	public ApiResponseEntity<OutboundBatchResponse> cancelOutboundBatch(InputStream body) {
+		var response = wmsOutboundIngressService.settleBatch(body, OutboundEventType.CANCELED);
+		return ApiResponseEntity.success(response);
+	}
+}
@@ -11,7 +11,10 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-@Table(name = "cart")
+@Table(name = "cart", uniqueConstraints = {
+	// 회원당 장바구니 하나 (write-behind 가 동시에 만들어도 한 행만 남는다)
+	@UniqueConstraint(name = "uk_cart_user_id", columnNames = {"user_id"})
+})
 @Entity
 @Getter
 @NoArgsConstructor
@@ -20,6 +23,10 @@ public class Cart extends BaseTimeEntity {
 	@Column(name = "user_id", nullable = false)
 	private Long userId;
 
+	// Redis 장바구니에서 마지막으로 반영한 버전 (redis 저장소의 write-behind 가 오래된 내용으로 덮어쓰지 않게 한다)
+	@Column(name = "synced_version", nullable = false)
+	private long syncedVersion;
+
 	@OneToMany(mappedBy = "cart", cascade = CascadeType.ALL, orphanRemoval = true)
 	private List<CartProduct> products = new ArrayList<>();
 
@@ -0,0 +1,14 @@
+package com.kt.domain.cart;
+
+import java.time.LocalDateTime;
+
+/**
+ * 장바구니에 담긴 상품 한 줄 (Redis 장바구니 해시의 한 필드, cart_product 한 행과 같은 값)
+ */
+public record CartItem(
+	Long productId,
+	int count,
+	LocalDateTime createdAt,
+	LocalDateTime updatedAt
+) {
+}
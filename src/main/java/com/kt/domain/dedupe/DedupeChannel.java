@@ -0,0 +1,18 @@
+package com.kt.domain.dedupe;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 중복 제거 대상 이벤트 채널과 처리 기록 테이블
+ * - 새 웹훅(예: PG 결제 웹훅)은 ProcessedEvent 를 상속한 테이블을 만들고 여기에 추가한다
+ */
+@Getter
+@RequiredArgsConstructor
+public enum DedupeChannel {
+	WMS_INBOUND("processed_inbound_events"),
+	WMS_OUTBOUND("processed_outbound_events"),
+	DELIVERY_WEBHOOK("processed_delivery_events");
+
+	private final String table;
+}
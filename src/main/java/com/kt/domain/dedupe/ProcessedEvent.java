@@ -0,0 +1,35 @@
+package com.kt.domain.dedupe;
+
+import java.time.LocalDate;
+
+import com.kt.common.jpa.BaseTimeEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.MappedSuperclass;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 처리 완료한 외부 이벤트 기록 (채널별 테이블)
+ * - event_id 유니크 키가 중복 판정의 원천
+ * - partition_date 는 처리한 날짜로, 보관 기간이 지나면 날짜 단위로 통째로 삭제한다
+ * - 기존 행이 있는 테이블에 ddl-auto 가 컬럼을 더할 수 있게 매핑은 nullable 로 두고,
+ *   ProcessedEventPartitionBackfill 이 created_at 으로 채운 뒤 NOT NULL 로 바꾼다
+ */
+@Getter
+@MappedSuperclass
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public abstract class ProcessedEvent extends BaseTimeEntity {
+
+	@Column(nullable = false, unique = true)
+	private String eventId;
+
+	@Column
+	private LocalDate partitionDate;
+
+	protected ProcessedEvent(String eventId, LocalDate partitionDate) {
+		this.eventId = eventId;
+		this.partitionDate = partitionDate;
+	}
+}
@@ -4,7 +4,7 @@ import java.time.LocalDateTime;
 
 import com.kt.common.Preconditions;
 import com.kt.common.api.ErrorCode;
-import com.kt.common.jpa.BaseTimeEntity;
+import com.kt.common.jpa.BasePooledTimeEntity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -18,7 +18,7 @@ import lombok.NoArgsConstructor;
 @Entity
 @NoArgsConstructor
 @AllArgsConstructor
-public class Delivery extends BaseTimeEntity {
+public class Delivery extends BasePooledTimeEntity {
 
 	@Column(nullable = false, unique = true)
 	private Long orderId;
@@ -1,6 +1,6 @@
 package com.kt.domain.delivery;
 
-import com.kt.common.jpa.BaseTimeEntity;
+import com.kt.common.jpa.BasePooledTimeEntity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -12,7 +12,7 @@ import lombok.NoArgsConstructor;
 @Getter
 @Entity
 @NoArgsConstructor
-public class DeliveryStatusHistory extends BaseTimeEntity {
+public class DeliveryStatusHistory extends BasePooledTimeEntity {
 	@Column(nullable = false)
 	private Long deliveryId;
 
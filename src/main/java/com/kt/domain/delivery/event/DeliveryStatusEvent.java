@@ -1,6 +1,8 @@
 package com.kt.domain.delivery.event;
 
 import com.kt.domain.delivery.DeliveryStatus;
+import com.kt.domain.outbox.OutboxEventType;
+import com.kt.domain.outbox.OutboxPayload;
 
 public record DeliveryStatusEvent(
 	Long deliveryId,
@@ -8,7 +10,7 @@ public record DeliveryStatusEvent(
 	DeliveryStatus status,
 	String trackingNumber,
 	String courierCode
-) {
+) implements OutboxPayload {
 	public static DeliveryStatusEvent of(
 		Long deliveryId,
 		Long orderId,
@@ -18,4 +20,14 @@ public record DeliveryStatusEvent(
 	) {
 		return new DeliveryStatusEvent(deliveryId, orderId, status, trackingNumber, courierCode);
 	}
-}
\ No newline at end of file
+
+	@Override
+	public OutboxEventType outboxType() {
+		return OutboxEventType.DELIVERY_STATUS_CHANGED;
+	}
+
+	@Override
+	public String outboxKey() {
+		return String.valueOf(deliveryId);
+	}
+}
@@ -0,0 +1,12 @@
+package com.kt.domain.inventory;
+
+/**
+ * 상품별 핫 재고 버킷 합계
+ */
+public record BucketTotals(
+	Long productId,
+	Long available,
+	Long reserved,
+	Long outbound
+) {
+}
@@ -43,18 +43,40 @@ public class Inventory extends BaseAuditEntity {
 	private long outboundProcessing;
 
 	/**
-	 * 실제 판매 가능 재고 = physicalStockTotal - reserved - outboundProcessing
+	 * 핫 상품 모드에서 버킷(inventory_buckets)으로 분산된 재고 (버킷 available + reserved + outbound 합)
+	 * 일반 상품은 항상 0
+	 */
+	@Column(nullable = false)
+	private long sharded;
+
+	/**
+	 * 핫 상품 모드 버킷 수 (0 이면 일반 상품)
+	 */
+	@Column(nullable = false)
+	private int bucketCount;
+
+	/**
+	 * 실제 판매 가능 재고 = physicalStockTotal - reserved - outboundProcessing - sharded
 	 * 주문 생성 시 이 값을 기준으로 결제/예약이 가능 여부를 판단함
 	 */
 	@Column(nullable = false)
 	private long available;
 
+	/**
+	 * 낙관적 잠금 버전 - 엔티티 변경과 JDBC 조건부 UPDATE 모두 1씩 올린다
+	 */
+	@Version
+	@Column(nullable = false)
+	private long version;
+
 	// 생성자는 항상 상품과 초기 재고 상태(0)로 시작
 	private Inventory(Product product) {
 		this.product = product;
 		this.physicalStockTotal = 0L;
 		this.reserved = 0L;
 		this.outboundProcessing = 0L;
+		this.sharded = 0L;
+		this.bucketCount = 0;
 		recalculateAvailability();
 	}
 
@@ -158,6 +180,79 @@ public class Inventory extends BaseAuditEntity {
 		recalculateAvailability();
 	}
 
+	/**
+	 * 핫 상품 모드 전환
+	 * - 현재 판매 가능 재고를 모두 버킷으로 넘기고(sharded), 넘긴 수량을 반환
+	 * - 기존 예약(reserved)은 행에 그대로 남아 해제/확정 시 행에서 처리된다
+	 */
+	public long enableHotMode(int bucketCount) {
+		Preconditions.validate(this.bucketCount == 0, ErrorCode.INVENTORY_HOT_MODE_ALREADY_ENABLED);
+		Preconditions.validate(bucketCount > 1, ErrorCode.INVENTORY_BUCKET_COUNT_INVALID);
+
+		this.bucketCount = bucketCount;
+		return absorbIntoBuckets();
+	}
+
+	/**
+	 * 일반 상품으로 복귀
+	 * - 버킷의 예약분은 행의 reserved 로, 나머지는 다시 행의 판매 가능 재고로 돌아온다
+	 */
+	public void disableHotMode(long bucketAvailable, long bucketReserved) {
+		Preconditions.validate(isHot(), ErrorCode.INVENTORY_HOT_MODE_NOT_ENABLED);
+		Preconditions.validate(sharded == bucketAvailable + bucketReserved, ErrorCode.INVENTORY_NEGATIVE_AVAILABLE);
+
+		this.bucketCount = 0;
+		this.sharded = 0L;
+		this.reserved += bucketReserved;
+
+		recalculateAvailability();
+	}
+
+	/**
+	 * 버킷 재분배 시 행에 남은 판매 가능 재고(입고분 등)를 버킷 몫으로 넘긴다
+	 */
+	public long absorbIntoBuckets() {
+		long moved = this.available;
+		this.sharded += moved;
+
+		recalculateAvailability();
+		return moved;
+	}
+
+	/**
+	 * 버킷에서 차감한 수량을 출고 처리 중으로 이동 (버킷 → outboundProcessing)
+	 */
+	public void shipFromBuckets(long quantity) {
+		ensurePositive(quantity, ErrorCode.INVENTORY_EVENT_QUANTITY_INVALID);
+		Preconditions.validate(sharded >= quantity, ErrorCode.INVENTORY_RESERVATION_NOT_FOUND);
+
+		this.sharded -= quantity;
+		this.outboundProcessing += quantity;
+
+		recalculateAvailability();
+	}
+
+	public boolean isHot() {
+		return bucketCount > 0;
+	}
+
+	/**
+	 * 핫 상품의 버킷 합계를 합친 조회 전용 사본 (아직 행으로 옮기지 않은 버킷 출고분도 출고 처리 중으로 보인다)
+	 * - 영속 상태가 아니므로 저장하지 않는다
+	 */
+	public Inventory withBucketTotals(long bucketAvailable, long bucketReserved, long bucketOutbound) {
+		Inventory view = new Inventory(product);
+		view.id = this.id;
+		view.createdAt = this.createdAt;
+		view.updatedAt = this.updatedAt;
+		view.physicalStockTotal = this.physicalStockTotal;
+		view.outboundProcessing = this.outboundProcessing + bucketOutbound;
+		view.reserved = this.reserved + bucketReserved;
+		view.bucketCount = this.bucketCount;
+		view.recalculateAvailability();
+		return view;
+	}
+
 	/**
 	 * 판매 가능 재고 확인
 	 */
@@ -175,12 +270,12 @@ public class Inventory extends BaseAuditEntity {
 
 	/**
 	 * 재고 가용량 재계산
-	 * available = physical - reserved - outbound
+	 * available = physical - reserved - outbound - sharded
 	 *
 	 * 음수가 발생하면 도메인 규칙 위반 → 즉시 예외 발생
 	 */
 	private void recalculateAvailability() {
-		this.available = physicalStockTotal - reserved - outboundProcessing;
+		this.available = physicalStockTotal - reserved - outboundProcessing - sharded;
 
 		if (this.available < 0) {
 			throw new CustomException(ErrorCode.INVENTORY_NEGATIVE_AVAILABLE);
@@ -0,0 +1,79 @@
+package com.kt.domain.inventory;
+
+import com.kt.common.jpa.BaseIdEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 핫 상품 재고 버킷
+ * - 상품의 판매 가능 재고를 N 개 행으로 나눠, 동시 예약이 한 행의 잠금에 몰리지 않게 한다
+ * - 확정/차감한 수량은 버킷의 outbound 에 쌓아 두고 상품 행에는 나중에 한꺼번에 옮긴다 (InventoryBucketService.foldOutbound)
+ * - 버킷 available + reserved + outbound 의 합은 inventories.sharded 와 항상 같다
+ */
+@Getter
+@Entity
+@Table(
+	name = "inventory_buckets",
+	uniqueConstraints = @UniqueConstraint(name = "uk_inventory_buckets_product_bucket", columnNames = {"product_id", "bucket_no"})
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class InventoryBucket extends BaseIdEntity {
+
+	@Column(name = "product_id", nullable = false)
+	private Long productId;
+
+	@Column(name = "bucket_no", nullable = false)
+	private int bucketNo;
+
+	@Column(nullable = false)
+	private long available;
+
+	@Column(nullable = false)
+	private long reserved;
+
+	/**
+	 * 확정/차감했지만 아직 상품 행의 outboundProcessing 으로 옮기지 않은 수량
+	 */
+	@Column(nullable = false)
+	private long outbound;
+
+	private InventoryBucket(Long productId, int bucketNo, long available) {
+		this.productId = productId;
+		this.bucketNo = bucketNo;
+		this.available = available;
+		this.reserved = 0L;
+		this.outbound = 0L;
+	}
+
+	public static InventoryBucket create(Long productId, int bucketNo, long available) {
+		return new InventoryBucket(productId, bucketNo, available);
+	}
+
+	/**
+	 * 재분배 시 판매 가능 몫 재할당 (예약분은 유지)
+	 */
+	public void assignAvailable(long available) {
+		this.available = available;
+	}
+
+	/**
+	 * 재분배 잠금 안에서 재고를 바로 예약 (이미 available 몫에서 빠진 수량)
+	 */
+	public void holdReserved(long quantity) {
+		this.reserved += quantity;
+	}
+
+	/**
+	 * 쌓인 출고 수량을 꺼내 비운다 (상품 행과 버킷을 잠근 상태에서만 호출)
+	 */
+	public long takeOutbound() {
+		long taken = this.outbound;
+		this.outbound = 0L;
+		return taken;
+	}
+}
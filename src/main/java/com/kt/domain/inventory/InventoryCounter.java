@@ -0,0 +1,31 @@
+package com.kt.domain.inventory;
+
+/**
+ * 재고 카운터 스냅샷 (엔티티를 로딩하지 않는 벌크 경로에서 사용)
+ */
+public record InventoryCounter(
+	Long productId,
+	long physicalStockTotal,
+	long reserved,
+	long outboundProcessing,
+	long available
+) {
+	public static InventoryCounter of(
+		Long productId,
+		long physicalStockTotal,
+		long reserved,
+		long outboundProcessing
+	) {
+		return new InventoryCounter(
+			productId,
+			physicalStockTotal,
+			reserved,
+			outboundProcessing,
+			physicalStockTotal - reserved - outboundProcessing
+		);
+	}
+
+	public boolean sameOmsCounters(InventoryCounter other) {
+		return reserved == other.reserved && outboundProcessing == other.outboundProcessing;
+	}
+}
@@ -0,0 +1,24 @@
+package com.kt.domain.inventory;
+
+/**
+ * 조회용 재고 스냅샷 (핫 상품은 버킷 합계를 합친 값)
+ * - 캐시에 담아 노드/Redis 사이로 옮기는 값이라 엔티티 대신 불변 레코드로 둔다
+ */
+public record InventorySnapshot(
+	Long productId,
+	long physicalStockTotal,
+	long reserved,
+	long outboundProcessing,
+	long available
+) {
+
+	public static InventorySnapshot from(Inventory inventory) {
+		return new InventorySnapshot(
+			inventory.getProduct().getId(),
+			inventory.getPhysicalStockTotal(),
+			inventory.getReserved(),
+			inventory.getOutboundProcessing(),
+			inventory.getAvailable()
+		);
+	}
+}
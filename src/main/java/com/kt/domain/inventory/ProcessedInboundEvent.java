@@ -1,8 +1,11 @@
 package com.kt.domain.inventory;
 
-import com.kt.common.jpa.BaseTimeEntity;
-import jakarta.persistence.Column;
+import java.time.LocalDate;
+
+import com.kt.domain.dedupe.ProcessedEvent;
+
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -10,18 +13,18 @@ import lombok.NoArgsConstructor;
 
 @Getter
 @Entity
-@Table(name = "processed_inbound_events")
+@Table(
+	name = "processed_inbound_events",
+	indexes = @Index(name = "idx_processed_inbound_events_partition_date", columnList = "partition_date")
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class ProcessedInboundEvent extends BaseTimeEntity {
-
-	@Column(nullable = false, unique = true)
-	private String eventId;
+public class ProcessedInboundEvent extends ProcessedEvent {
 
-	private ProcessedInboundEvent(String eventId) {
-		this.eventId = eventId;
+	private ProcessedInboundEvent(String eventId, LocalDate partitionDate) {
+		super(eventId, partitionDate);
 	}
 
-	public static ProcessedInboundEvent create(String eventId) {
-		return new ProcessedInboundEvent(eventId);
+	public static ProcessedInboundEvent create(String eventId, LocalDate partitionDate) {
+		return new ProcessedInboundEvent(eventId, partitionDate);
 	}
 }
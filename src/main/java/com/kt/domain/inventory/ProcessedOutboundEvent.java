@@ -0,0 +1,30 @@
+package com.kt.domain.inventory;
+
+import java.time.LocalDate;
+
+import com.kt.domain.dedupe.ProcessedEvent;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Entity
+@Table(
+	name = "processed_outbound_events",
+	indexes = @Index(name = "idx_processed_outbound_events_partition_date", columnList = "partition_date")
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProcessedOutboundEvent extends ProcessedEvent {
+
+	private ProcessedOutboundEvent(String eventId, LocalDate partitionDate) {
+		super(eventId, partitionDate);
+	}
+
+	public static ProcessedOutboundEvent create(String eventId, LocalDate partitionDate) {
+		return new ProcessedOutboundEvent(eventId, partitionDate);
+	}
+}
@@ -0,0 +1,13 @@
+package com.kt.domain.inventory;
+
+/**
+ * 재고를 변경할 상품과 수량 한 줄 (벌크 재고 변경 단위)
+ */
+public record StockLine(
+	Long productId,
+	long quantity
+) {
+	public static StockLine of(Long productId, long quantity) {
+		return new StockLine(productId, quantity);
+	}
+}
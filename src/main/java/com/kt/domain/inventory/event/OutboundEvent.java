@@ -0,0 +1,12 @@
+package com.kt.domain.inventory.event;
+
+public record OutboundEvent(
+	String eventId,
+	Long productId,
+	long quantity,
+	OutboundEventType type
+) {
+	public static OutboundEvent of(String eventId, Long productId, long quantity, OutboundEventType type) {
+		return new OutboundEvent(eventId, productId, quantity, type);
+	}
+}
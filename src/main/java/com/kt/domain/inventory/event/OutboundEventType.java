@@ -0,0 +1,20 @@
+package com.kt.domain.inventory.event;
+
+import com.kt.domain.inventory.ledger.MovementType;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * WMS 출고 이벤트 종류
+ * - CONFIRMED : 출고 확정 (출고 처리 중, 물리 재고 감소)
+ * - CANCELED  : 출고 취소 (출고 처리 중 감소, 판매 가능 재고로 복귀)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum OutboundEventType {
+	CONFIRMED(MovementType.OUTBOUND_CONFIRMED),
+	CANCELED(MovementType.OUTBOUND_CANCELED);
+
+	private final MovementType movementType;
+}
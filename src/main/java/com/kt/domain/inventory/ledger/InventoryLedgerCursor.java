@@ -0,0 +1,27 @@
+package com.kt.domain.inventory.ledger;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 원장 작업 진행 위치 (예: 스냅샷에 합친 마지막 이동 ID)
+ * - 여러 노드가 같은 구간을 두 번 합치지 않도록 행 잠금으로 작업을 직렬화하는 용도도 겸한다
+ */
+@Getter
+@Entity
+@Table(name = "inventory_ledger_cursors")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class InventoryLedgerCursor {
+
+	@Id
+	@Column(length = 32)
+	private String name;
+
+	@Column(nullable = false)
+	private long ledgerId;
+}
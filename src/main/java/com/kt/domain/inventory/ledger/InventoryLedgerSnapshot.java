@@ -0,0 +1,41 @@
+package com.kt.domain.inventory.ledger;
+
+import java.time.LocalDateTime;
+
+import com.kt.common.jpa.BaseIdEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품별 원장 스냅샷 - ledgerId 까지의 이동을 합친 카운터
+ * - 현재 상태 = 스냅샷 + (ledgerId 이후 이동의 합)
+ */
+@Getter
+@Entity
+@Table(name = "inventory_ledger_snapshots")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class InventoryLedgerSnapshot extends BaseIdEntity {
+
+	@Column(nullable = false, unique = true)
+	private Long productId;
+
+	@Column(nullable = false)
+	private long ledgerId;
+
+	@Column(nullable = false)
+	private long physicalStockTotal;
+
+	@Column(nullable = false)
+	private long reserved;
+
+	@Column(nullable = false)
+	private long outboundProcessing;
+
+	@Column(nullable = false)
+	private LocalDateTime updatedAt;
+}
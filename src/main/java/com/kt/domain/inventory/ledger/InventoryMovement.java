@@ -0,0 +1,57 @@
+package com.kt.domain.inventory.ledger;
+
+import java.time.LocalDateTime;
+
+import com.kt.common.jpa.BaseIdEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 재고 이동 원장 (추가만 하고 수정/삭제하지 않는다)
+ * - 쓰기는 InventoryLedger 가 트랜잭션 단위로 모아 JDBC 배치로 넣는다
+ * - (product_id, id) 인덱스로 상품별 스냅샷 이후 구간을 읽는다
+ * - (product_id, movement_type) 인덱스로 기초 잔액(OPENING)이 없는 상품을 찾는다
+ */
+@Getter
+@Entity
+@Table(
+	name = "inventory_movements",
+	indexes = {
+		@Index(name = "idx_inventory_movements_product_id_id", columnList = "product_id, id"),
+		@Index(name = "idx_inventory_movements_product_id_movement_type", columnList = "product_id, movement_type"),
+		@Index(name = "idx_inventory_movements_created_at", columnList = "created_at")
+	}
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class InventoryMovement extends BaseIdEntity {
+
+	@Column(nullable = false)
+	private Long productId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 32)
+	private MovementType movementType;
+
+	@Column(nullable = false)
+	private long quantity;
+
+	@Column(nullable = false)
+	private long physicalDelta;
+
+	@Column(nullable = false)
+	private long reservedDelta;
+
+	@Column(nullable = false)
+	private long outboundDelta;
+
+	@Column(nullable = false)
+	private LocalDateTime createdAt;
+}
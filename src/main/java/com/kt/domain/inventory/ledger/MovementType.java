@@ -0,0 +1,27 @@
+package com.kt.domain.inventory.ledger;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 재고 이동 종류와 수량 1 당 카운터 변화량 (물리 재고, 예약, 출고 처리 중)
+ * - available 은 나머지 카운터에서 계산되므로 기록하지 않는다
+ * - OPENING 은 원장 도입 이전 재고의 기초 잔액으로, 변화량을 직접 기록한다
+ */
+@Getter
+@RequiredArgsConstructor
+public enum MovementType {
+	INBOUND(1, 0, 0),
+	RESERVE(0, 1, 0),
+	RELEASE(0, -1, 0),
+	COMMIT(0, -1, 1),
+	DEDUCT(0, 0, 1),
+	RESTORE(0, 0, -1),
+	OUTBOUND_CONFIRMED(-1, 0, -1),
+	OUTBOUND_CANCELED(0, 0, -1),
+	OPENING(0, 0, 0);
+
+	private final int physicalSign;
+	private final int reservedSign;
+	private final int outboundSign;
+}
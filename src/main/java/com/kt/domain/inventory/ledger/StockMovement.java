@@ -0,0 +1,38 @@
+package com.kt.domain.inventory.ledger;
+
+import com.kt.domain.inventory.InventoryCounter;
+
+/**
+ * 원장에 쓸 재고 이동 한 건 (카운터 변화량을 함께 담아 합계만으로 상태를 재구성할 수 있게 한다)
+ */
+public record StockMovement(
+	Long productId,
+	MovementType type,
+	long quantity,
+	long physicalDelta,
+	long reservedDelta,
+	long outboundDelta
+) {
+
+	public static StockMovement of(Long productId, MovementType type, long quantity) {
+		return new StockMovement(
+			productId,
+			type,
+			quantity,
+			type.getPhysicalSign() * quantity,
+			type.getReservedSign() * quantity,
+			type.getOutboundSign() * quantity
+		);
+	}
+
+	public static StockMovement opening(InventoryCounter counter) {
+		return new StockMovement(
+			counter.productId(),
+			MovementType.OPENING,
+			0,
+			counter.physicalStockTotal(),
+			counter.reserved(),
+			counter.outboundProcessing()
+		);
+	}
+}
@@ -7,7 +7,7 @@ import jakarta.persistence.Table;
 
 import com.kt.common.api.CustomException;
 import com.kt.common.api.ErrorCode;
-import com.kt.common.jpa.BaseTimeEntity;
+import com.kt.common.jpa.BasePooledTimeEntity;
 import com.kt.domain.orderproduct.OrderProduct;
 import com.kt.domain.payment.Payment;
 
@@ -19,9 +19,12 @@ import lombok.NoArgsConstructor;
 @Getter
 @Table(name = "orders", uniqueConstraints = {
 	@UniqueConstraint(name = "uk_order_number", columnNames = {"order_number"})
+}, indexes = {
+	// 내 주문 이력 키셋 페이지 (InnoDB 보조 인덱스 끝에 PK 가 붙으므로 (createdAt, id) 정렬까지 인덱스로 처리)
+	@Index(name = "idx_orders_user_id_created_at", columnList = "user_id, created_at")
 })
 @NoArgsConstructor
-public class Order extends BaseTimeEntity {
+public class Order extends BasePooledTimeEntity {
 
 	@Column(nullable = false)
 	private Long userId;
@@ -0,0 +1,51 @@
+package com.kt.domain.order;
+
+import com.kt.common.jpa.BaseTimeEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 결제는 완료됐지만 주문 완료 처리에 실패한 주문 (재시도를 다 썼거나 다시 시도해도 안 되는 실패)
+ * - 주문번호당 한 행, 같은 주문이 다시 실패하면 시도 횟수와 마지막 오류를 갱신한다
+ * - 행이 남아 있는 동안 복구 스윕은 이 주문을 다시 넣지 않는다 (원인 확인 후 행을 지우면 다음 스윕에서 재처리)
+ */
+@Getter
+@Entity
+@Table(name = "order_completion_dead_letters", uniqueConstraints = {
+	@UniqueConstraint(name = "uk_order_completion_dead_letters_order_number", columnNames = {"order_number"})
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderCompletionDeadLetter extends BaseTimeEntity {
+
+	@Column(nullable = false)
+	private String orderNumber;
+
+	@Column(nullable = false)
+	private Long userId;
+
+	@Column(nullable = false)
+	private int attempts;
+
+	@Column(length = 1000)
+	private String lastError;
+
+	private OrderCompletionDeadLetter(String orderNumber, Long userId) {
+		this.orderNumber = orderNumber;
+		this.userId = userId;
+	}
+
+	public static OrderCompletionDeadLetter create(String orderNumber, Long userId) {
+		return new OrderCompletionDeadLetter(orderNumber, userId);
+	}
+
+	public void recordFailure(int attempts, String error) {
+		this.attempts += attempts;
+		this.lastError = error == null || error.length() <= 1000 ? error : error.substring(0, 1000);
+	}
+}
@@ -0,0 +1,47 @@
+package com.kt.domain.order;
+
+import java.time.LocalDateTime;
+
+import com.kt.common.jpa.BasePooledTimeEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 결제 대기(PENDING) 주문의 재고 예약 보류
+ * - 주문 생성 시 저장되고, 결제 완료/사용자 취소/만료 시 삭제된다
+ * - 서버가 재시작되면 이 테이블로 타이밍 휠을 복구한다
+ */
+@Getter
+@Entity
+@Table(
+	name = "order_holds",
+	indexes = @Index(name = "idx_order_holds_expires_at", columnList = "expires_at")
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderHold extends BasePooledTimeEntity {
+
+	@Column(nullable = false, unique = true)
+	private Long orderId;
+
+	@Column(nullable = false)
+	private String orderNumber;
+
+	@Column(nullable = false)
+	private LocalDateTime expiresAt;
+
+	private OrderHold(Long orderId, String orderNumber, LocalDateTime expiresAt) {
+		this.orderId = orderId;
+		this.orderNumber = orderNumber;
+		this.expiresAt = expiresAt;
+	}
+
+	public static OrderHold create(Long orderId, String orderNumber, LocalDateTime expiresAt) {
+		return new OrderHold(orderId, orderNumber, expiresAt);
+	}
+}
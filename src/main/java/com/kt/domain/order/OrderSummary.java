@@ -0,0 +1,79 @@
+package com.kt.domain.order;
+
+import java.time.LocalDateTime;
+
+import com.kt.domain.delivery.DeliveryStatus;
+import com.kt.domain.payment.PaymentStatus;
+import com.kt.domain.payment.PaymentType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 관리자 화면용 주문 요약 읽기 모델 - 주문 하나당 한 행 (주문 + 주문 상품 수량 + 최신 결제 + 배송)
+ * - 쓰기는 OrderSummaryProjectionRepository(JDBC) 가 원본 테이블에서 다시 계산해 통째로 바꾼다
+ * - 원본이 바뀐 뒤 아웃박스로 갱신되므로 잠깐 늦을 수 있다 (관리자 목록/검색 전용, 업무 판단에는 원본을 쓴다)
+ * - 인덱스는 관리자 목록 조건(주문/결제/배송 상태 + 주문일)별로 (조건, ordered_at, order_id) 순서라 정렬까지 인덱스로 처리한다
+ */
+@Getter
+@Entity
+@Table(name = "order_summary", indexes = {
+	@Index(name = "idx_order_summary_ordered_at", columnList = "ordered_at, order_id"),
+	@Index(name = "idx_order_summary_order_status", columnList = "order_status, ordered_at, order_id"),
+	@Index(name = "idx_order_summary_payment_status", columnList = "payment_status, ordered_at, order_id"),
+	@Index(name = "idx_order_summary_delivery_status", columnList = "delivery_status, ordered_at, order_id")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderSummary {
+
+	@Id
+	private Long orderId;
+
+	@Column(nullable = false)
+	private Long userId;
+
+	@Column(nullable = false)
+	private String orderNumber;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	private OrderStatus orderStatus;
+
+	@Column(nullable = false)
+	private Long orderAmount;
+
+	@Column(nullable = false)
+	private int itemCount;
+
+	@Column(nullable = false)
+	private int totalQuantity;
+
+	@Enumerated(EnumType.STRING)
+	private PaymentStatus paymentStatus;
+
+	private Long paymentAmount;
+
+	@Enumerated(EnumType.STRING)
+	private PaymentType paymentType;
+
+	@Enumerated(EnumType.STRING)
+	private DeliveryStatus deliveryStatus;
+
+	private String courierCode;
+
+	private String trackingNumber;
+
+	@Column(nullable = false)
+	private LocalDateTime orderedAt;
+
+	@Column(nullable = false)
+	private LocalDateTime projectedAt;
+}
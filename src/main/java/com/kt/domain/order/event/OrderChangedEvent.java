@@ -0,0 +1,26 @@
+package com.kt.domain.order.event;
+
+import com.kt.domain.outbox.OutboxEventType;
+import com.kt.domain.outbox.OutboxPayload;
+
+/**
+ * 주문 또는 주문에 딸린 결제/배송이 바뀌었다는 알림 (주문 요약 읽기 모델 갱신용)
+ * - 바뀐 값은 싣지 않고, 받는 쪽이 원본 테이블에서 다시 읽으므로 순서가 바뀌거나 두 번 받아도 결과가 같다
+ */
+public record OrderChangedEvent(
+	Long orderId
+) implements OutboxPayload {
+	public static OrderChangedEvent of(Long orderId) {
+		return new OrderChangedEvent(orderId);
+	}
+
+	@Override
+	public OutboxEventType outboxType() {
+		return OutboxEventType.ORDER_CHANGED;
+	}
+
+	@Override
+	public String outboxKey() {
+		return String.valueOf(orderId);
+	}
+}
@@ -6,7 +6,7 @@ import static com.kt.common.Preconditions.*;
 import jakarta.persistence.Table;
 
 import com.kt.common.api.ErrorCode;
-import com.kt.common.jpa.BaseTimeEntity;
+import com.kt.common.jpa.BasePooledTimeEntity;
 import com.kt.domain.order.Order;
 import com.kt.domain.product.Product;
 
@@ -21,7 +21,7 @@ import lombok.NoArgsConstructor;
 @Entity
 @NoArgsConstructor
 @Table(name = "order_product")
-public class OrderProduct extends BaseTimeEntity {
+public class OrderProduct extends BasePooledTimeEntity {
 
 	@ManyToOne
 	@JoinColumn(name = "order_id")
@@ -40,13 +40,14 @@ public class OrderProduct extends BaseTimeEntity {
 	private int orderPrice;
 
 	private OrderProduct(
-		Product product,
+		Long productId,
+		int productPrice,
 		int quantity,
 		Order order
 	) {
 		validate(quantity>0, ErrorCode.ORDER_PRODUCT_QUANTITY_MINIMUM);
-		this.productId = product.getId();
-		this.productPrice = product.getPrice();
+		this.productId = productId;
+		this.productPrice = productPrice;
 		this.quantity = quantity;
 		this.order = order;
 		this.orderPrice = this.productPrice * quantity;
@@ -57,7 +58,17 @@ public class OrderProduct extends BaseTimeEntity {
 		int quantity,
 		Order order
 	) {
-		return new OrderProduct(product, quantity, order);
+		return new OrderProduct(product.getId(), product.getPrice(), quantity, order);
+	}
+
+	// 상품 엔티티 없이 조회해 둔 가격으로 생성 (장바구니 주문)
+	public static OrderProduct create(
+		Long productId,
+		int productPrice,
+		int quantity,
+		Order order
+	) {
+		return new OrderProduct(productId, productPrice, quantity, order);
 	}
 
 }
\ No newline at end of file
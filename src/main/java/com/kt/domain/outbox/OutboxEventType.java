@@ -0,0 +1,22 @@
+package com.kt.domain.outbox;
+
+import com.kt.domain.delivery.event.DeliveryStatusEvent;
+import com.kt.domain.order.event.OrderChangedEvent;
+import com.kt.domain.payment.event.PaymentConfirmedEvent;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 아웃박스로 전달하는 도메인 이벤트 종류 (outbox_events.event_type 에 이름이 저장되므로 상수 이름을 바꾸지 않는다)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum OutboxEventType {
+
+	PAYMENT_CONFIRMED(PaymentConfirmedEvent.class),
+	DELIVERY_STATUS_CHANGED(DeliveryStatusEvent.class),
+	ORDER_CHANGED(OrderChangedEvent.class);
+
+	private final Class<? extends OutboxPayload> payloadType;
+}
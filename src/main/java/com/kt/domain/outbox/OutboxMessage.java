@@ -0,0 +1,55 @@
+package com.kt.domain.outbox;
+
+import java.time.LocalDateTime;
+
+import com.kt.common.jpa.BaseIdEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 트랜잭션 아웃박스 - 상태 변경과 같은 트랜잭션에서 기록하고 릴레이가 커밋된 행을 읽어 핸들러에 전달한다
+ * - 읽기/쓰기는 OutboxRepository(JDBC) 로만 하고, 엔티티는 테이블 정의용이다
+ * - next_attempt_at : 이 시각 이후에 전달 대상 (전달 중에는 임대 만료 시각, 실패하면 재시도 시각)
+ * - delivered_at : 전달 완료 시각 (보관 기간이 지나면 일괄 삭제)
+ */
+@Getter
+@Entity
+@Table(name = "outbox_events", indexes = {
+	// 릴레이 조회 - 미전달 행을 id 순서로 읽는다
+	@Index(name = "idx_outbox_events_delivered_at_id", columnList = "delivered_at, id")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxMessage extends BaseIdEntity {
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 50)
+	private OutboxEventType eventType;
+
+	@Column(nullable = false)
+	private String aggregateKey;
+
+	@Column(nullable = false, columnDefinition = "TEXT")
+	private String payload;
+
+	@Column(nullable = false)
+	private int attempts;
+
+	@Column(length = 1000)
+	private String lastError;
+
+	@Column(nullable = false)
+	private LocalDateTime createdAt;
+
+	@Column(nullable = false)
+	private LocalDateTime nextAttemptAt;
+
+	private LocalDateTime deliveredAt;
+}
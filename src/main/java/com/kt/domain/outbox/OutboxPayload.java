@@ -0,0 +1,13 @@
+package com.kt.domain.outbox;
+
+/**
+ * 아웃박스로 전달할 도메인 이벤트
+ * - ApplicationEventPublisher 로 발행하면 발행한 트랜잭션 안에서 outbox_events 에 한 행으로 기록된다
+ */
+public interface OutboxPayload {
+
+	OutboxEventType outboxType();
+
+	// 이벤트가 속한 집합체 키 (주문번호, 배송 ID 등) - 추적/조회용
+	String outboxKey();
+}
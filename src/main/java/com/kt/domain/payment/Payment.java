@@ -2,7 +2,7 @@ package com.kt.domain.payment;
 
 import com.kt.common.api.CustomException;
 import com.kt.common.api.ErrorCode;
-import com.kt.common.jpa.BaseTimeEntity;
+import com.kt.common.jpa.BasePooledTimeEntity;
 import com.kt.domain.order.Order;
 
 import jakarta.persistence.*;
@@ -15,9 +15,14 @@ import lombok.NoArgsConstructor;
 @Table(name = "payments", uniqueConstraints = {
 	// 토스에서 받은 결제 키는 유일해야 함 (중복 승인 방지 멱등키)
 	@UniqueConstraint(name = "uk_payment_key", columnNames = {"payment_key"})
+}, indexes = {
+	// 결제 승인은 주문번호로 결제를 찾는다
+	@Index(name = "idx_payments_order_number", columnList = "order_number"),
+	// 정산 대사와 완료 처리 복구는 상태 + 변경 시각 범위로 결제를 찾는다
+	@Index(name = "idx_payments_status_updated_at", columnList = "status, updated_at")
 })
 // 주문:결제 = 1:N (결제 실패 후 재시도 가능)
-public class Payment extends BaseTimeEntity {
+public class Payment extends BasePooledTimeEntity {
 
 	//결제키 (결제 승인 후 설정됨)
 	@Column
@@ -86,14 +91,19 @@ public class Payment extends BaseTimeEntity {
 
 	//결제 취소
 	public void cancel(String cancelReason) {
+		validateCancelable();
+		this.status = PaymentStatus.CANCELED;
+		this.cancelReason = cancelReason;
+	}
+
+	//취소 가능 상태인지 검증 (PG 에 취소를 요청하기 전에 확인)
+	public void validateCancelable() {
 		if (this.status == PaymentStatus.CANCELED) {
 			throw new CustomException(ErrorCode.PAYMENT_ALREADY_CANCELLED);
 		}
 		if (!isCancelable()) {
 			throw new CustomException(ErrorCode.PAYMENT_CANNOT_CANCEL);
 		}
-		this.status = PaymentStatus.CANCELED;
-		this.cancelReason = cancelReason;
 	}
 
 	//취소 가능 여부 체크 (DONE 상태만 취소 가능)
@@ -1,11 +1,23 @@
 package com.kt.domain.payment.event;
 
+import com.kt.domain.outbox.OutboxEventType;
+import com.kt.domain.outbox.OutboxPayload;
+
 public record PaymentConfirmedEvent(
 	Long userId,
 	String orderNumber
-) {
+) implements OutboxPayload {
 	public static PaymentConfirmedEvent of(Long userId, String orderNumber) {
 		return new PaymentConfirmedEvent(userId, orderNumber);
 	}
-}
 
+	@Override
+	public OutboxEventType outboxType() {
+		return OutboxEventType.PAYMENT_CONFIRMED;
+	}
+
+	@Override
+	public String outboxKey() {
+		return orderNumber;
+	}
+}
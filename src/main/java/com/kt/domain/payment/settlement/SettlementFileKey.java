@@ -0,0 +1,31 @@
+package com.kt.domain.payment.settlement;
+
+import com.kt.common.jpa.BaseIdEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대사 중인 정산 파일에 나온 paymentKey (실행 중에만 쓰는 작업 테이블)
+ * - 파일을 끝까지 읽은 뒤 "결제는 있는데 파일에 없는" 건을 DB 안에서 anti-join 으로 찾기 위해 남긴다
+ *   (수백만 개의 키를 힙에 모아 두지 않기 위함) - 실행이 끝나면 지운다
+ */
+@Getter
+@Entity
+@Table(name = "settlement_file_keys", uniqueConstraints = {
+	@UniqueConstraint(name = "uk_settlement_file_keys", columnNames = {"run_id", "payment_key"})
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SettlementFileKey extends BaseIdEntity {
+
+	@Column(nullable = false)
+	private Long runId;
+
+	@Column(nullable = false)
+	private String paymentKey;
+}
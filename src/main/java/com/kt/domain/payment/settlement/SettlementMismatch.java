@@ -0,0 +1,55 @@
+package com.kt.domain.payment.settlement;
+
+import com.kt.common.jpa.BaseIdEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대사 결과 불일치 한 건 (settled* 는 정산 파일 값, payment* 는 우리 결제 값 - 없는 쪽은 null)
+ * - 행은 SettlementReconciliationRepository 가 묶음 INSERT 로만 쓴다
+ */
+@Getter
+@Entity
+@Table(name = "settlement_mismatches", indexes = {
+	@Index(name = "idx_settlement_mismatches_run", columnList = "run_id, type, id")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SettlementMismatch extends BaseIdEntity {
+
+	@Column(nullable = false)
+	private Long runId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 30)
+	private SettlementMismatchType type;
+
+	@Column
+	private String paymentKey;
+
+	// 정산 파일의 줄 번호 (결제에만 있는 건은 null)
+	@Column
+	private Long lineNumber;
+
+	@Column
+	private Long paymentId;
+
+	@Column
+	private Long settledAmount;
+
+	@Column
+	private Long paymentAmount;
+
+	@Column(length = 20)
+	private String settledStatus;
+
+	@Column(length = 20)
+	private String paymentStatus;
+}
@@ -0,0 +1,17 @@
+package com.kt.domain.payment.settlement;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum SettlementMismatchType {
+
+	AMOUNT("정산 금액과 결제 금액이 다름"),
+	STATUS("정산 상태와 결제 상태가 다름"),
+	MISSING_PAYMENT("정산 파일에는 있는데 결제가 없음"),
+	MISSING_SETTLEMENT("결제는 있는데 정산 파일에 없음"),
+	MALFORMED_LINE("정산 파일 줄을 해석할 수 없음");
+
+	private final String description;
+}
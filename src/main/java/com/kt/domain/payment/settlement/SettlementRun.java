@@ -0,0 +1,83 @@
+package com.kt.domain.payment.settlement;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.kt.common.jpa.BaseIdEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * PG 정산 파일 하나(정산일 하루)의 대사 실행 기록
+ * - 정산일당 한 행이라 여러 노드가 같은 파일을 동시에 대사하려 하면 하나만 행을 만든다
+ * - 다시 대사할 때는 같은 행을 RUNNING 으로 바꾸고 이전 불일치를 지운 뒤 처음부터 다시 읽는다
+ * - 실행 중인 노드는 묶음마다 heartbeatAt 을 갱신한다 (leaseToken 이 자기 것일 때만)
+ *   → 노드가 죽어 leaseTimeout 동안 갱신이 없으면 다른 노드/관리자가 새 leaseToken 으로 이어받는다
+ */
+@Getter
+@Entity
+@Table(name = "settlement_runs", uniqueConstraints = {
+	@UniqueConstraint(name = "uk_settlement_runs_date", columnNames = {"settlement_date"})
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SettlementRun extends BaseIdEntity {
+
+	@Column(nullable = false)
+	private LocalDate settlementDate;
+
+	@Column(nullable = false)
+	private String fileName;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 20)
+	private SettlementRunStatus status;
+
+	@Column(nullable = false)
+	private long totalLines;
+
+	@Column(nullable = false)
+	private long matchedCount;
+
+	@Column(nullable = false)
+	private long mismatchCount;
+
+	@Column(nullable = false)
+	private LocalDateTime startedAt;
+
+	@Column
+	private LocalDateTime finishedAt;
+
+	// 지금 실행을 가진 쪽의 토큰과 마지막 진행 시각
+	@Column(length = 36)
+	private String leaseToken;
+
+	@Column
+	private LocalDateTime heartbeatAt;
+
+	private SettlementRun(LocalDate settlementDate, String fileName, String leaseToken, LocalDateTime startedAt) {
+		this.settlementDate = settlementDate;
+		this.fileName = fileName;
+		this.status = SettlementRunStatus.RUNNING;
+		this.startedAt = startedAt;
+		this.leaseToken = leaseToken;
+		this.heartbeatAt = startedAt;
+	}
+
+	public static SettlementRun start(LocalDate settlementDate, String fileName, String leaseToken, LocalDateTime now) {
+		return new SettlementRun(settlementDate, fileName, leaseToken, now);
+	}
+
+	// 실행 중인데 staleBefore 이후로 진행이 없다 = 실행하던 노드가 죽었다
+	public boolean isAbandoned(LocalDateTime staleBefore) {
+		LocalDateTime lastSeen = heartbeatAt != null ? heartbeatAt : startedAt;
+		return status == SettlementRunStatus.RUNNING && lastSeen.isBefore(staleBefore);
+	}
+}
@@ -0,0 +1,15 @@
+package com.kt.domain.payment.settlement;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum SettlementRunStatus {
+
+	RUNNING("대사 중"),
+	COMPLETED("대사 완료"),
+	FAILED("대사 실패");
+
+	private final String description;
+}
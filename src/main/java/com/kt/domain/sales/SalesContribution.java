@@ -0,0 +1,12 @@
+package com.kt.domain.sales;
+
+/**
+ * 주문 하나가 집계 키 하나에 더하는 값
+ */
+public record SalesContribution(
+	SalesDimension dimension,
+	String dimensionKey,
+	long units,
+	long revenue
+) {
+}
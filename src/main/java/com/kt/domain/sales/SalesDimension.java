@@ -0,0 +1,18 @@
+package com.kt.domain.sales;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 매출 집계 기준 - 집계 행의 dimension_key 는 기준별로 상품 ID, 카테고리 ID, PetType 이름
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SalesDimension {
+	PRODUCT("상품"),
+	// 상품이 여러 카테고리에 속하면 각 카테고리에 모두 집계된다
+	CATEGORY("카테고리"),
+	PET_TYPE("반려동물 종류");
+
+	private final String description;
+}
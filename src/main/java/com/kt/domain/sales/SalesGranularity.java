@@ -0,0 +1,23 @@
+package com.kt.domain.sales;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 매출 집계 단위 (서버 시간대 기준 정시/자정에 시작하는 구간)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SalesGranularity {
+	HOUR(ChronoUnit.HOURS),
+	DAY(ChronoUnit.DAYS);
+
+	private final ChronoUnit unit;
+
+	public LocalDateTime bucketOf(LocalDateTime time) {
+		return time.truncatedTo(unit);
+	}
+}
@@ -0,0 +1,49 @@
+package com.kt.domain.sales;
+
+import java.time.LocalDateTime;
+
+import com.kt.common.jpa.BaseIdEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 하나가 매출 집계에 더한 몫 (주문 x 집계 기준 x 키 한 행)
+ * - 행이 있으면 그 주문은 집계에 들어가 있다는 뜻이고, 취소되면 이 행의 값 그대로 같은 구간에서 빼고 지운다
+ *   (집계 뒤에 상품의 카테고리가 바뀌어도 더했던 곳에서 정확히 빠진다)
+ * - 구간은 주문 시각 기준이라 늦게 도착한 완료/취소도 원래 시간/일 구간을 고친다
+ */
+@Getter
+@Entity
+@Table(name = "sales_ledger", indexes = {
+	@Index(name = "idx_sales_ledger_order", columnList = "order_id")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SalesLedgerEntry extends BaseIdEntity {
+
+	@Column(nullable = false)
+	private Long orderId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 20)
+	private SalesDimension dimension;
+
+	@Column(nullable = false, length = 50)
+	private String dimensionKey;
+
+	@Column(nullable = false)
+	private long units;
+
+	@Column(nullable = false)
+	private long revenue;
+
+	@Column(nullable = false)
+	private LocalDateTime orderedAt;
+}
@@ -0,0 +1,17 @@
+package com.kt.domain.sales;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 매출 순위 정렬 기준
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SalesMetric {
+	UNITS("판매 수량"),
+	REVENUE("매출액"),
+	ORDERS("주문 수");
+
+	private final String description;
+}
@@ -0,0 +1,58 @@
+package com.kt.domain.sales;
+
+import java.time.LocalDateTime;
+
+import com.kt.common.jpa.BaseIdEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 시간/일 구간별 매출 집계 (판매 수량, 매출액, 주문 수)
+ * - 값은 SalesRollupRepository 가 ON DUPLICATE KEY UPDATE 로 더하고 빼기만 한다
+ * - 유니크 키 (단위, 기준, 구간 시작, 키) 순서라 "기준 + 기간" 조회가 인덱스 범위 하나로 끝난다
+ */
+@Getter
+@Entity
+@Table(name = "sales_rollups", uniqueConstraints = {
+	@UniqueConstraint(
+		name = "uk_sales_rollups_bucket",
+		columnNames = {"granularity", "dimension", "bucket_start", "dimension_key"}
+	)
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SalesRollup extends BaseIdEntity {
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 10)
+	private SalesGranularity granularity;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 20)
+	private SalesDimension dimension;
+
+	@Column(nullable = false)
+	private LocalDateTime bucketStart;
+
+	@Column(nullable = false, length = 50)
+	private String dimensionKey;
+
+	@Column(nullable = false)
+	private long units;
+
+	@Column(nullable = false)
+	private long revenue;
+
+	@Column(nullable = false)
+	private long orderCount;
+
+	@Column(nullable = false)
+	private LocalDateTime updatedAt;
+}
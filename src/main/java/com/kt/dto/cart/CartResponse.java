@@ -3,6 +3,7 @@ package com.kt.dto.cart;
 import java.time.LocalDateTime;
 
 import com.kt.domain.cartproduct.CartProduct;
+import com.kt.domain.product.Product;
 
 public class CartResponse {
 
@@ -24,6 +25,11 @@ public class CartResponse {
 			);
 		}
 
+		public static Create of(Product product, int count){
+
+			return new Create(product.getName(), product.getPrice(), count);
+		}
+
 	}
 
 	public record Detail(
@@ -53,21 +59,24 @@ public class CartResponse {
 		LocalDateTime updatedAt
 	){
 		public static CountUpdate of(CartProduct cartProduct, int previousCount) {
-			int newCount = cartProduct.getCount();
-			int unitPrice = cartProduct.getProduct().getPrice();
+			return of(cartProduct.getProduct(), previousCount, cartProduct.getCount(), cartProduct.getUpdatedAt());
+		}
+
+		public static CountUpdate of(Product product, int previousCount, int newCount, LocalDateTime updatedAt) {
+			int unitPrice = product.getPrice();
 			String message = previousCount < newCount 
 				? String.format("수량이 %d개에서 %d개로 증가했습니다.", previousCount, newCount)
 				: String.format("수량이 %d개에서 %d개로 감소했습니다.", previousCount, newCount);
 			
 			return new CountUpdate(
-				cartProduct.getProduct().getId(),
-				cartProduct.getProduct().getName(),
+				product.getId(),
+				product.getName(),
 				previousCount,
 				newCount,
 				unitPrice,
 				unitPrice * newCount,
 				message,
-				cartProduct.getUpdatedAt()
+				updatedAt
 			);
 		}
 	}
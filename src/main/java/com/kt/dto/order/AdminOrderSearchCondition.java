@@ -0,0 +1,19 @@
+package com.kt.dto.order;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import com.kt.domain.delivery.DeliveryStatus;
+import com.kt.domain.order.OrderStatus;
+import com.kt.domain.payment.PaymentStatus;
+
+// 관리자 주문 목록/내보내기 조건 (주문일 from ~ to, 둘 다 포함) - 비어 있는 조건은 적용하지 않는다
+// - 결제/배송 상태 조건은 목록(order_summary)에만 적용된다
+public record AdminOrderSearchCondition(
+	OrderStatus status,
+	PaymentStatus paymentStatus,
+	DeliveryStatus deliveryStatus,
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+) {}
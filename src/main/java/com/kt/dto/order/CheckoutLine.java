@@ -0,0 +1,22 @@
+package com.kt.dto.order;
+
+import com.kt.domain.product.ProductStatus;
+
+/**
+ * 장바구니 주문용 한 줄 (장바구니 상품 + 상품 가격/상태 + 재고를 한 번에 조회한 값)
+ * - physicalStockTotal 은 재고 행이 없으면 null
+ */
+public record CheckoutLine(
+	Long cartProductId,
+	Long productId,
+	int price,
+	ProductStatus status,
+	boolean deleted,
+	int quantity,
+	Long physicalStockTotal
+) {
+
+	public boolean isOrderable() {
+		return !deleted && status == ProductStatus.ACTIVE;
+	}
+}
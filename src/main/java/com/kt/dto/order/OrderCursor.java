@@ -0,0 +1,41 @@
+package com.kt.dto.order;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.kt.common.api.CustomException;
+import com.kt.common.api.ErrorCode;
+import com.kt.domain.order.Order;
+
+/**
+ * 주문 이력 키셋 커서 - 마지막으로 본 주문의 (createdAt, id)
+ * - 클라이언트에는 "createdAt|id" 를 URL-safe Base64 로 감싼 불투명 문자열로 준다
+ */
+public record OrderCursor(LocalDateTime createdAt, Long id) {
+
+	private static final String SEPARATOR = "|";
+
+	public static OrderCursor from(Order order) {
+		return new OrderCursor(order.getCreatedAt(), order.getId());
+	}
+
+	public String encode() {
+		String raw = createdAt + SEPARATOR + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static OrderCursor decode(String cursor) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int separator = raw.lastIndexOf(SEPARATOR);
+			return new OrderCursor(
+				LocalDateTime.parse(raw.substring(0, separator)),
+				Long.parseLong(raw.substring(separator + 1))
+			);
+		} catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+			throw new CustomException(ErrorCode.ORDER_CURSOR_INVALID);
+		}
+	}
+}
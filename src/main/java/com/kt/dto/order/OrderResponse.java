@@ -3,13 +3,16 @@ package com.kt.dto.order;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import com.kt.domain.delivery.DeliveryStatus;
 import com.kt.domain.order.Order;
 import com.kt.domain.order.OrderStatus;
+import com.kt.domain.order.OrderSummary;
 import com.kt.domain.order.OrderType;
 import com.kt.domain.order.Receiver;
 import com.kt.domain.orderproduct.OrderProduct;
 import com.kt.domain.payment.Payment;
 import com.kt.domain.payment.PaymentStatus;
+import com.kt.domain.payment.PaymentType;
 
 public interface OrderResponse {
 
@@ -108,6 +111,45 @@ public interface OrderResponse {
 		}
 	}
 
+	// 내 주문 이력 (키셋 페이지 한 건)
+	record History(
+		String orderNumber,
+		OrderStatus orderStatus,
+		Long orderAmount,
+		List<OrderedProduct> orderProducts,
+		LatestPayment payment,
+		LocalDateTime createdAt
+	){
+		public static History of(Order order, List<OrderProduct> orderProducts, Payment payment){
+			return new History(
+				order.getOrderNumber(),
+				order.getOrderStatus(),
+				order.getOrderAmount(),
+				orderProducts.stream().map(OrderedProduct::from).toList(),
+				payment == null ? null : LatestPayment.from(payment),
+				order.getCreatedAt()
+			);
+		}
+	}
+
+	record LatestPayment(
+		PaymentType type,
+		PaymentStatus status,
+		Long paymentAmount
+	){
+		public static LatestPayment from(Payment payment){
+			return new LatestPayment(payment.getType(), payment.getStatus(), payment.getPaymentAmount());
+		}
+	}
+
+	// 내 주문 이력 페이지 (nextCursor 로 다음 페이지 요청, 마지막 페이지면 null)
+	record HistoryPage(
+		List<History> orders,
+		String nextCursor,
+		boolean hasNext
+	){
+	}
+
 	// 관리자 주문 목록 조회
 	record AdminList(
 		Long id,
@@ -129,6 +171,43 @@ public interface OrderResponse {
 		}
 	}
 
+	// 관리자 주문 목록 조회 (order_summary - 결제/배송은 주문의 최신 결제와 배송 기준)
+	record AdminSummary(
+		Long id,
+		Long userId,
+		String orderNumber,
+		OrderStatus orderStatus,
+		Long orderAmount,
+		int itemCount,
+		int totalQuantity,
+		PaymentStatus paymentStatus,
+		Long paymentAmount,
+		PaymentType paymentType,
+		DeliveryStatus deliveryStatus,
+		String courierCode,
+		String trackingNumber,
+		LocalDateTime createdAt
+	){
+		public static AdminSummary from(OrderSummary summary){
+			return new AdminSummary(
+				summary.getOrderId(),
+				summary.getUserId(),
+				summary.getOrderNumber(),
+				summary.getOrderStatus(),
+				summary.getOrderAmount(),
+				summary.getItemCount(),
+				summary.getTotalQuantity(),
+				summary.getPaymentStatus(),
+				summary.getPaymentAmount(),
+				summary.getPaymentType(),
+				summary.getDeliveryStatus(),
+				summary.getCourierCode(),
+				summary.getTrackingNumber(),
+				summary.getOrderedAt()
+			);
+		}
+	}
+
 	// 관리자 주문 상세 조회
 	record AdminDetail(
 		Long id,
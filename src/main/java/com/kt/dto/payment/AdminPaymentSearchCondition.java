@@ -0,0 +1,14 @@
+package com.kt.dto.payment;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import com.kt.domain.payment.PaymentStatus;
+
+// 관리자 결제 목록/내보내기 조건 (결제 생성일 from ~ to, 둘 다 포함) - 비어 있는 조건은 적용하지 않는다
+public record AdminPaymentSearchCondition(
+	PaymentStatus status,
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+) {}
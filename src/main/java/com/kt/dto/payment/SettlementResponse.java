@@ -0,0 +1,66 @@
+package com.kt.dto.payment;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.kt.domain.payment.settlement.SettlementMismatch;
+import com.kt.domain.payment.settlement.SettlementMismatchType;
+import com.kt.domain.payment.settlement.SettlementRun;
+import com.kt.domain.payment.settlement.SettlementRunStatus;
+
+public class SettlementResponse {
+
+	//정산 대사 실행
+	public record Run(
+		Long runId,
+		LocalDate settlementDate,
+		String fileName,
+		SettlementRunStatus status,
+		long totalLines,
+		long matchedCount,
+		long mismatchCount,
+		LocalDateTime startedAt,
+		LocalDateTime finishedAt
+	) {
+		public static Run from(SettlementRun run) {
+			return new Run(
+				run.getId(),
+				run.getSettlementDate(),
+				run.getFileName(),
+				run.getStatus(),
+				run.getTotalLines(),
+				run.getMatchedCount(),
+				run.getMismatchCount(),
+				run.getStartedAt(),
+				run.getFinishedAt()
+			);
+		}
+	}
+
+	//정산 대사 불일치 (settled* = 정산 파일, payment* = 결제)
+	public record Mismatch(
+		Long id,
+		SettlementMismatchType type,
+		String paymentKey,
+		Long lineNumber,
+		Long paymentId,
+		Long settledAmount,
+		Long paymentAmount,
+		String settledStatus,
+		String paymentStatus
+	) {
+		public static Mismatch from(SettlementMismatch mismatch) {
+			return new Mismatch(
+				mismatch.getId(),
+				mismatch.getType(),
+				mismatch.getPaymentKey(),
+				mismatch.getLineNumber(),
+				mismatch.getPaymentId(),
+				mismatch.getSettledAmount(),
+				mismatch.getPaymentAmount(),
+				mismatch.getSettledStatus(),
+				mismatch.getPaymentStatus()
+			);
+		}
+	}
+}
@@ -5,6 +5,7 @@ import java.util.List;
 import com.kt.domain.pet.PetType;
 import com.kt.domain.product.ProductStatus;
 
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
@@ -51,6 +52,11 @@ public class ProductRequest {
 		@NotEmpty(message = "품절 처리할 상품을 한 개 이상 선택해주세요.")
 		List<Long> productIds
 	) {}
+	public record HotMode(
+		@Min(value = 2, message = "버킷 수는 2 이상이어야 합니다.")
+		@Max(value = 64, message = "버킷 수는 64 이하여야 합니다.")
+		int bucketCount
+	) {}
 	public record SearchCond(
 		String name,
 		PetType petType,
@@ -1,6 +1,7 @@
 package com.kt.dto.product;
 
 import com.kt.domain.inventory.Inventory;
+import com.kt.domain.inventory.InventorySnapshot;
 import com.kt.domain.pet.PetType;
 import com.kt.domain.category.Category;
 import com.kt.domain.product.Product;
@@ -32,14 +33,18 @@ public class ProductResponse {
 		}
 
 		public static Detail from(Product product, Inventory inventory, List<CategorySummary> categories) {
+			return from(product, InventorySnapshot.from(inventory), categories);
+		}
+
+		public static Detail from(Product product, InventorySnapshot inventory, List<CategorySummary> categories) {
 			return new Detail(
 				product.getId(),
 				product.getName(),
 				product.getDescription(),
 				product.getPrice(),
-				inventory.getAvailable(),
-				inventory.getReserved(),
-				inventory.getOutboundProcessing(),
+				inventory.available(),
+				inventory.reserved(),
+				inventory.outboundProcessing(),
 				product.getStatus(),
 				product.getPetType(),
 				product.isDeleted(),
@@ -78,11 +83,15 @@ public class ProductResponse {
 		}
 
 		public static Summary from(Product product, Inventory inventory, List<CategorySummary> categories) {
+			return from(product, InventorySnapshot.from(inventory), categories);
+		}
+
+		public static Summary from(Product product, InventorySnapshot inventory, List<CategorySummary> categories) {
 			return new Summary(
 				product.getId(),
 				product.getName(),
 				product.getPrice(),
-				inventory.getAvailable(),
+				inventory.available(),
 				product.getStatus(),
 				product.getPetType(),
 				categories
@@ -0,0 +1,29 @@
+package com.kt.dto.sales;
+
+import java.time.LocalDateTime;
+
+import com.kt.domain.sales.SalesDimension;
+
+public interface SalesResponse {
+
+	// 매출 순위 한 줄 (name 은 상품명/카테고리명/반려동물 종류, 지워진 대상이면 null)
+	record TopSeller(
+		int rank,
+		SalesDimension dimension,
+		String key,
+		String name,
+		long units,
+		long revenue,
+		long orderCount
+	) {
+	}
+
+	// 구간별 매출 추이 한 점
+	record TrendPoint(
+		LocalDateTime bucketStart,
+		long units,
+		long revenue,
+		long orderCount
+	) {
+	}
+}
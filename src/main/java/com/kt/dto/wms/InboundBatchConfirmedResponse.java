@@ -0,0 +1,41 @@
+package com.kt.dto.wms;
+
+import java.util.List;
+
+public record InboundBatchConfirmedResponse(
+	int accepted,
+	int duplicated,
+	int rejected,
+	List<Result> results
+) {
+	public enum Status {
+		ACCEPTED, DUPLICATE, REJECTED
+	}
+
+	/**
+	 * NDJSON 한 줄의 처리 결과 (line 은 1부터 시작)
+	 */
+	public record Result(
+		long line,
+		String eventId,
+		Long productId,
+		Status status
+	) {
+		public static Result of(long line, String eventId, Long productId, Status status) {
+			return new Result(line, eventId, productId, status);
+		}
+	}
+
+	public static InboundBatchConfirmedResponse of(List<Result> results) {
+		return new InboundBatchConfirmedResponse(
+			count(results, Status.ACCEPTED),
+			count(results, Status.DUPLICATE),
+			count(results, Status.REJECTED),
+			results
+		);
+	}
+
+	private static int count(List<Result> results, Status status) {
+		return (int)results.stream().filter(result -> result.status() == status).count();
+	}
+}
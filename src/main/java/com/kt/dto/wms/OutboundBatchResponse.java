@@ -0,0 +1,51 @@
+package com.kt.dto.wms;
+
+import java.util.List;
+
+import com.kt.domain.inventory.event.OutboundEventType;
+
+public record OutboundBatchResponse(
+	OutboundEventType type,
+	int accepted,
+	int duplicated,
+	int rejected,
+	int failed,
+	List<Result> results
+) {
+	/**
+	 * REJECTED 는 다시 보내도 같은 결과(검증 실패, 출고 처리 중 수량 부족),
+	 * FAILED 는 대기열 포화/처리 지연 등 일시적인 실패라 같은 이벤트 ID 로 다시 보내면 된다
+	 */
+	public enum Status {
+		ACCEPTED, DUPLICATE, REJECTED, FAILED
+	}
+
+	/**
+	 * NDJSON 한 줄의 처리 결과 (line 은 1부터 시작)
+	 */
+	public record Result(
+		long line,
+		String eventId,
+		Long productId,
+		Status status
+	) {
+		public static Result of(long line, String eventId, Long productId, Status status) {
+			return new Result(line, eventId, productId, status);
+		}
+	}
+
+	public static OutboundBatchResponse of(OutboundEventType type, List<Result> results) {
+		return new OutboundBatchResponse(
+			type,
+			count(results, Status.ACCEPTED),
+			count(results, Status.DUPLICATE),
+			count(results, Status.REJECTED),
+			count(results, Status.FAILED),
+			results
+		);
+	}
+
+	private static int count(List<Result> results, Status status) {
+		return (int)results.stream().filter(result -> result.status() == status).count();
+	}
+}
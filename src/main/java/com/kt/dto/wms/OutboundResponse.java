@@ -0,0 +1,22 @@
+package com.kt.dto.wms;
+
+import com.kt.domain.inventory.event.OutboundEventType;
+import com.kt.dto.wms.OutboundBatchResponse.Status;
+
+public record OutboundResponse(
+	String eventId,
+	Long productId,
+	long quantity,
+	OutboundEventType type,
+	Status status
+) {
+	public static OutboundResponse of(
+		String eventId,
+		Long productId,
+		long quantity,
+		OutboundEventType type,
+		Status status
+	) {
+		return new OutboundResponse(eventId, productId, quantity, type, status);
+	}
+}
@@ -0,0 +1,134 @@
+package com.kt.integration.pg;
+
+import java.util.function.LongSupplier;
+
+import com.kt.config.PaymentGatewayProperties;
+
+/**
+ * 최근 slidingWindowSize 번 호출의 실패 비율로 여닫는 회로 차단기
+ * - CLOSED : 호출 허용, 결과를 창에 기록하고 minimumCalls 이상 쌓였을 때 실패 비율이 기준 이상이면 OPEN
+ * - OPEN : openDuration 동안 호출하지 않고 바로 거절 (느린 PG 를 계속 기다리지 않음)
+ * - HALF_OPEN : halfOpenCalls 번만 시험 호출, 모두 성공하면 CLOSED / 하나라도 실패하면 다시 OPEN
+ * - PG 호출 수는 요청 수보다 훨씬 적고 임계 구역이 짧아 synchronized 로 충분하다
+ */
+class PaymentGatewayCircuitBreaker {
+
+	enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	private final int windowSize;
+	private final int minimumCalls;
+	private final int failureRateThreshold;
+	private final int halfOpenCalls;
+	private final long openNanos;
+	private final LongSupplier nanoClock;
+
+	// 최근 호출 결과 (true = 실패) 원형 버퍼
+	private final boolean[] outcomes;
+	private int next;
+	private int recorded;
+	private int failures;
+
+	private State state = State.CLOSED;
+	private long openedAt;
+	private int halfOpenPermits;
+	private int halfOpenSuccesses;
+
+	PaymentGatewayCircuitBreaker(PaymentGatewayProperties properties) {
+		this(properties, System::nanoTime);
+	}
+
+	PaymentGatewayCircuitBreaker(PaymentGatewayProperties properties, LongSupplier nanoClock) {
+		this.windowSize = properties.slidingWindowSize();
+		this.minimumCalls = Math.min(properties.minimumCalls(), properties.slidingWindowSize());
+		this.failureRateThreshold = properties.failureRateThreshold();
+		this.halfOpenCalls = properties.halfOpenCalls();
+		this.openNanos = properties.openDuration().toNanos();
+		this.nanoClock = nanoClock;
+		this.outcomes = new boolean[windowSize];
+	}
+
+	/**
+	 * 호출해도 되는지 - true 면 호출 결과를 onSuccess/onFailure 로, 호출하지 않았으면 release 로 알려야 한다
+	 */
+	synchronized boolean tryAcquire() {
+		if (state == State.OPEN) {
+			if (nanoClock.getAsLong() - openedAt < openNanos) {
+				return false;
+			}
+			state = State.HALF_OPEN;
+			halfOpenPermits = halfOpenCalls;
+			halfOpenSuccesses = 0;
+		}
+		if (state == State.HALF_OPEN) {
+			if (halfOpenPermits == 0) {
+				return false;
+			}
+			halfOpenPermits--;
+		}
+		return true;
+	}
+
+	synchronized void release() {
+		if (state == State.HALF_OPEN) {
+			halfOpenPermits++;
+		}
+	}
+
+	synchronized void onSuccess() {
+		if (state == State.HALF_OPEN) {
+			if (++halfOpenSuccesses >= halfOpenCalls) {
+				close();
+			}
+			return;
+		}
+		if (state == State.CLOSED) {
+			record(false);
+		}
+	}
+
+	synchronized void onFailure() {
+		if (state == State.HALF_OPEN) {
+			open();
+			return;
+		}
+		if (state == State.CLOSED) {
+			record(true);
+			if (recorded >= minimumCalls && failures * 100 >= failureRateThreshold * recorded) {
+				open();
+			}
+		}
+	}
+
+	synchronized State state() {
+		return state;
+	}
+
+	private void record(boolean failure) {
+		if (recorded == windowSize) {
+			if (outcomes[next]) {
+				failures--;
+			}
+		} else {
+			recorded++;
+		}
+		outcomes[next] = failure;
+		if (failure) {
+			failures++;
+		}
+		next = (next + 1) % windowSize;
+	}
+
+	private void open() {
+		state = State.OPEN;
+		openedAt = nanoClock.getAsLong();
+	}
+
+	private void close() {
+		state = State.CLOSED;
+		next = 0;
+		recorded = 0;
+		failures = 0;
+	}
+}
@@ -0,0 +1,20 @@
+package com.kt.integration.pg;
+
+/**
+ * 결제 대행사(PG) 호출
+ * - PG 가 거절한 결제는 결과(approved=false)로 돌려주고,
+ *   연결 실패/응답 지연/호출 차단은 CustomException(PAYMENT_GATEWAY_*)으로 던진다 (이때 결제 결과는 알 수 없다)
+ * - 구현은 모두 {@link PaymentGatewayGuard} 를 거쳐 동시 호출 수 제한과 회로 차단을 받는다
+ */
+public interface PaymentGatewayClient {
+
+	PaymentGatewayResult confirm(String paymentKey, String orderNumber, long amount);
+
+	PaymentGatewayResult cancel(String paymentKey, String cancelReason);
+
+	/**
+	 * 주문의 결제가 PG 에서 승인됐는지 조회한다 (승인 요청의 결과를 모를 때 확정용)
+	 * - 승인 완료면 approved=true, PG 에 결제가 없거나 승인되지 않은 상태면 approved=false
+	 */
+	PaymentGatewayResult lookup(String orderNumber);
+}
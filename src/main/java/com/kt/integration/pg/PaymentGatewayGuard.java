@@ -0,0 +1,100 @@
+package com.kt.integration.pg;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.kt.common.api.CustomException;
+import com.kt.common.api.ErrorCode;
+import com.kt.config.PaymentGatewayProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PG 호출 보호 - 회로 차단기 + 동시 호출 수 제한(bulkhead)
+ * - 회로가 열려 있으면 PAYMENT_GATEWAY_UNAVAILABLE, 동시 호출이 maxConcurrentCalls 로 차 있고 maxWait 안에 자리가 나지 않으면
+ *   PAYMENT_GATEWAY_BUSY 로 바로 거절한다 → PG 가 느려져도 PG 를 기다리는 요청 스레드는 maxConcurrentCalls 개를 넘지 않는다
+ * - PG 거절(4xx)은 PG 가 정상 응답한 것이므로 성공으로, 연결 실패/5xx/타임아웃만 회로 차단기에 실패로 기록한다
+ *
+ * 메트릭 (operation 태그)
+ * - payment.gateway.calls : 호출 시간 (outcome = approved / declined / failed)
+ * - payment.gateway.rejected : 호출하지 않고 거절한 수 (reason = circuit_open / bulkhead_full)
+ * - payment.gateway.circuit.open / payment.gateway.inflight : 회로 열림 여부(1/0), 진행 중인 호출 수
+ */
+@Slf4j
+@Component
+public class PaymentGatewayGuard {
+
+	private final PaymentGatewayCircuitBreaker circuitBreaker;
+	private final Semaphore bulkhead;
+	private final PaymentGatewayProperties properties;
+	private final MeterRegistry meterRegistry;
+
+	public PaymentGatewayGuard(PaymentGatewayProperties properties, MeterRegistry meterRegistry) {
+		this(new PaymentGatewayCircuitBreaker(properties), properties, meterRegistry);
+	}
+
+	PaymentGatewayGuard(PaymentGatewayCircuitBreaker circuitBreaker, PaymentGatewayProperties properties,
+		MeterRegistry meterRegistry) {
+		this.circuitBreaker = circuitBreaker;
+		this.bulkhead = new Semaphore(properties.maxConcurrentCalls());
+		this.properties = properties;
+		this.meterRegistry = meterRegistry;
+		meterRegistry.gauge("payment.gateway.circuit.open", circuitBreaker,
+			breaker -> breaker.state() == PaymentGatewayCircuitBreaker.State.OPEN ? 1 : 0);
+		meterRegistry.gauge("payment.gateway.inflight", bulkhead,
+			semaphore -> properties.maxConcurrentCalls() - semaphore.availablePermits());
+	}
+
+	public PaymentGatewayResult execute(String operation, Supplier<PaymentGatewayResult> call) {
+		if (!circuitBreaker.tryAcquire()) {
+			reject(operation, "circuit_open");
+			throw new CustomException(ErrorCode.PAYMENT_GATEWAY_UNAVAILABLE);
+		}
+		if (!acquireBulkhead()) {
+			circuitBreaker.release();
+			reject(operation, "bulkhead_full");
+			throw new CustomException(ErrorCode.PAYMENT_GATEWAY_BUSY);
+		}
+
+		long started = System.nanoTime();
+		String outcome = "failed";
+		try {
+			PaymentGatewayResult result = call.get();
+			circuitBreaker.onSuccess();
+			outcome = result.approved() ? "approved" : "declined";
+			return result;
+		} catch (CustomException e) {
+			circuitBreaker.onFailure();
+			throw e;
+		} catch (RuntimeException e) {
+			circuitBreaker.onFailure();
+			log.warn("[PAYMENT_GATEWAY_FAILED] operation={}", operation, e);
+			throw new CustomException(ErrorCode.PAYMENT_GATEWAY_UNAVAILABLE);
+		} finally {
+			bulkhead.release();
+			Timer.builder("payment.gateway.calls")
+				.tag("operation", operation)
+				.tag("outcome", outcome)
+				.register(meterRegistry)
+				.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private boolean acquireBulkhead() {
+		try {
+			return bulkhead.tryAcquire(properties.maxWait().toNanos(), TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private void reject(String operation, String reason) {
+		meterRegistry.counter("payment.gateway.rejected", "operation", operation, "reason", reason).increment();
+	}
+}
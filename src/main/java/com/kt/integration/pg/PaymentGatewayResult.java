@@ -0,0 +1,18 @@
+package com.kt.integration.pg;
+
+/**
+ * PG 응답 - 거절이면 PG 가 준 사유 코드와 메시지를 담는다
+ */
+public record PaymentGatewayResult(
+	boolean approved,
+	String code,
+	String message
+) {
+	public static PaymentGatewayResult approve() {
+		return new PaymentGatewayResult(true, null, null);
+	}
+
+	public static PaymentGatewayResult decline(String code, String message) {
+		return new PaymentGatewayResult(false, code, message);
+	}
+}
@@ -0,0 +1,71 @@
+package com.kt.integration.pg;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.kt.common.api.CustomException;
+import com.kt.common.api.ErrorCode;
+import com.kt.config.PaymentGatewayProperties;
+
+/**
+ * 부하 테스트/로컬용 가짜 PG
+ * - 실제 PG 처럼 stubLatency + (0 ~ stubJitter) 만큼 요청 스레드를 붙잡고 응답한다
+ * - stubDeclineRate 비율로 거절, stubTimeoutRate 비율로 readTimeout 만큼 기다린 뒤 타임아웃을 낸다
+ * - 같은 {@link PaymentGatewayGuard} 를 거치므로 PG 지연/장애 시 동시 호출 제한과 회로 차단을 그대로 시험할 수 있다
+ */
+@Component
+@ConditionalOnProperty(name = "app.payment.gateway.mode", havingValue = "stub", matchIfMissing = true)
+public class StubPaymentGatewayClient implements PaymentGatewayClient {
+
+	private final PaymentGatewayGuard guard;
+	private final PaymentGatewayProperties properties;
+
+	public StubPaymentGatewayClient(PaymentGatewayGuard guard, PaymentGatewayProperties properties) {
+		this.guard = guard;
+		this.properties = properties;
+	}
+
+	@Override
+	public PaymentGatewayResult confirm(String paymentKey, String orderNumber, long amount) {
+		return guard.execute("confirm", this::respond);
+	}
+
+	@Override
+	public PaymentGatewayResult cancel(String paymentKey, String cancelReason) {
+		return guard.execute("cancel", this::respond);
+	}
+
+	@Override
+	public PaymentGatewayResult lookup(String orderNumber) {
+		return guard.execute("lookup", this::respond);
+	}
+
+	private PaymentGatewayResult respond() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		if (random.nextDouble() < properties.stubTimeoutRate()) {
+			sleep(properties.readTimeout().toMillis());
+			throw new CustomException(ErrorCode.PAYMENT_GATEWAY_TIMEOUT);
+		}
+
+		long jitter = properties.stubJitter().toMillis();
+		sleep(properties.stubLatency().toMillis() + (jitter > 0 ? random.nextLong(jitter + 1) : 0));
+		if (random.nextDouble() < properties.stubDeclineRate()) {
+			return PaymentGatewayResult.decline("STUB_DECLINED", "가짜 PG 가 결제를 거절했습니다.");
+		}
+		return PaymentGatewayResult.approve();
+	}
+
+	private void sleep(long millis) {
+		if (millis <= 0) {
+			return;
+		}
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CustomException(ErrorCode.PAYMENT_GATEWAY_UNAVAILABLE);
+		}
+	}
+}
@@ -0,0 +1,139 @@
+package com.kt.integration.pg;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClient.RequestHeadersSpec.ConvertibleClientHttpResponse;
+
+import com.kt.common.api.CustomException;
+import com.kt.common.api.ErrorCode;
+import com.kt.config.PaymentGatewayProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 토스페이먼츠 결제 승인/취소/조회 연동
+ * - JDK HttpClient 하나를 계속 쓰므로 PG 와의 커넥션이 keep-alive 로 재사용된다 (요청마다 TCP/TLS 연결을 새로 맺지 않음)
+ * - 연결은 connectTimeout, 응답은 readTimeout 안에 끝나지 않으면 PAYMENT_GATEWAY_TIMEOUT
+ * - 같은 결제 키로 다시 보내도 PG 가 한 번만 처리하도록 Idempotency-Key 를 붙인다
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.payment.gateway.mode", havingValue = "toss")
+public class TossPaymentGatewayClient implements PaymentGatewayClient {
+
+	private record TossError(String code, String message) {
+	}
+
+	private record TossPayment(String status) {
+	}
+
+	private static final String STATUS_DONE = "DONE";
+
+	private final RestClient restClient;
+	private final PaymentGatewayGuard guard;
+
+	public TossPaymentGatewayClient(RestClient.Builder builder, PaymentGatewayProperties properties,
+		PaymentGatewayGuard guard) {
+		HttpClient httpClient = HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_1_1)
+			.connectTimeout(properties.connectTimeout())
+			.build();
+		JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+		requestFactory.setReadTimeout(properties.readTimeout());
+
+		String credentials = Base64.getEncoder()
+			.encodeToString((properties.secretKey() + ":").getBytes(StandardCharsets.UTF_8));
+		this.restClient = builder
+			.baseUrl(properties.baseUrl())
+			.requestFactory(requestFactory)
+			.defaultHeader(HttpHeaders.AUTHORIZATION, "Basic " + credentials)
+			.build();
+		this.guard = guard;
+	}
+
+	@Override
+	public PaymentGatewayResult confirm(String paymentKey, String orderNumber, long amount) {
+		return guard.execute("confirm", () -> post(
+			"/v1/payments/confirm",
+			"confirm-" + paymentKey,
+			Map.of("paymentKey", paymentKey, "orderId", orderNumber, "amount", amount)
+		));
+	}
+
+	@Override
+	public PaymentGatewayResult cancel(String paymentKey, String cancelReason) {
+		return guard.execute("cancel", () -> post(
+			"/v1/payments/" + paymentKey + "/cancel",
+			"cancel-" + paymentKey,
+			Map.of("cancelReason", cancelReason)
+		));
+	}
+
+	// 200 + status=DONE = 승인, 다른 상태/4xx(결제 없음) = 승인되지 않음, 5xx/연결 실패 = 예외 (아직 결과를 모름)
+	@Override
+	public PaymentGatewayResult lookup(String orderNumber) {
+		String path = "/v1/payments/orders/" + orderNumber;
+		return guard.execute("lookup", () -> send(path, () -> restClient.get()
+			.uri(path)
+			.exchange((request, response) -> {
+				if (response.getStatusCode().is2xxSuccessful()) {
+					TossPayment payment = response.bodyTo(TossPayment.class);
+					return payment != null && STATUS_DONE.equals(payment.status())
+						? PaymentGatewayResult.approve()
+						: PaymentGatewayResult.decline(payment == null ? null : payment.status(), null);
+				}
+				return declineOrThrow(path, response);
+			})));
+	}
+
+	// 2xx = 승인, 4xx = 거절(결과), 5xx/연결 실패 = 예외
+	private PaymentGatewayResult post(String path, String idempotencyKey, Map<String, Object> body) {
+		return send(path, () -> restClient.post()
+			.uri(path)
+			.contentType(MediaType.APPLICATION_JSON)
+			.header("Idempotency-Key", idempotencyKey)
+			.body(body)
+			.exchange((request, response) -> {
+				if (response.getStatusCode().is2xxSuccessful()) {
+					return PaymentGatewayResult.approve();
+				}
+				return declineOrThrow(path, response);
+			}));
+	}
+
+	private PaymentGatewayResult declineOrThrow(String path, ConvertibleClientHttpResponse response) throws IOException {
+		if (response.getStatusCode().is4xxClientError()) {
+			TossError error = response.bodyTo(TossError.class);
+			return error == null
+				? PaymentGatewayResult.decline(String.valueOf(response.getStatusCode().value()), null)
+				: PaymentGatewayResult.decline(error.code(), error.message());
+		}
+		log.warn("[PAYMENT_GATEWAY_ERROR] path={}, status={}", path, response.getStatusCode());
+		throw new CustomException(ErrorCode.PAYMENT_GATEWAY_UNAVAILABLE);
+	}
+
+	private PaymentGatewayResult send(String path, Supplier<PaymentGatewayResult> exchange) {
+		try {
+			return exchange.get();
+		} catch (ResourceAccessException e) {
+			if (e.getCause() instanceof HttpTimeoutException) {
+				throw new CustomException(ErrorCode.PAYMENT_GATEWAY_TIMEOUT);
+			}
+			log.warn("[PAYMENT_GATEWAY_IO_FAILED] path={}", path, e);
+			throw new CustomException(ErrorCode.PAYMENT_GATEWAY_UNAVAILABLE);
+		}
+	}
+}
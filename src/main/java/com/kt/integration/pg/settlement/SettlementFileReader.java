@@ -0,0 +1,184 @@
+package com.kt.integration.pg.settlement;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import com.kt.domain.payment.PaymentStatus;
+
+/**
+ * PG 정산 파일 읽기 - 한 줄에 거래 하나인 CSV: paymentKey,orderNumber,status,amount[,그 밖의 열...]
+ * - 첫 줄이 paymentKey 로 시작하면 헤더로 보고 건너뛴다, 빈 줄은 건너뛴다, 줄 끝은 \n 또는 \r\n
+ * - 파일을 windowBytes 씩 메모리 매핑해 바이트를 직접 훑는다: 줄/열마다 String 이나 split 배열을 만들지 않고
+ *   금액은 숫자 바이트를 바로 long 으로, 상태는 PaymentStatus 이름과 바이트로 비교하고, 문자열은 paymentKey 하나만 만든다
+ * - 창 끝에 걸친 줄은 그 줄 시작부터 다음 창을 다시 매핑하므로 힙 사용량은 파일 크기와 무관하다
+ */
+public class SettlementFileReader implements Closeable {
+
+	private static final byte[] HEADER_PREFIX = "paymentKey".getBytes(StandardCharsets.US_ASCII);
+	private static final PaymentStatus[] STATUSES = PaymentStatus.values();
+	private static final byte[][] STATUS_NAMES = new byte[STATUSES.length][];
+	// paymentKey 최대 길이 (토스 결제 키는 200자 이하)
+	private static final int MAX_KEY_LENGTH = 200;
+	// long 으로 넘치지 않는 금액 자릿수
+	private static final int MAX_AMOUNT_DIGITS = 18;
+
+	static {
+		for (int i = 0; i < STATUSES.length; i++) {
+			STATUS_NAMES[i] = STATUSES[i].name().getBytes(StandardCharsets.US_ASCII);
+		}
+	}
+
+	private final FileChannel channel;
+	private final long size;
+	private final int windowBytes;
+	private final byte[] keyBuffer = new byte[MAX_KEY_LENGTH];
+
+	private MappedByteBuffer window;
+	private long windowStart;
+	private int position;
+	private long lineNumber;
+
+	private SettlementFileReader(FileChannel channel, int windowBytes) throws IOException {
+		this.channel = channel;
+		this.size = channel.size();
+		this.windowBytes = windowBytes;
+	}
+
+	public static SettlementFileReader open(Path path, int windowBytes) throws IOException {
+		return new SettlementFileReader(FileChannel.open(path, StandardOpenOption.READ), windowBytes);
+	}
+
+	/**
+	 * 다음 줄을 line 에 채운다 - 파일 끝이면 false
+	 */
+	public boolean next(SettlementLine line) throws IOException {
+		while (true) {
+			if (window == null && !map(0)) {
+				return false;
+			}
+
+			int end = indexOfNewline(position);
+			boolean lastWindow = windowStart + window.limit() == size;
+			if (end < 0 && !lastWindow) {
+				if (position == 0) {
+					throw new IOException("settlement line longer than map window at line " + (lineNumber + 1));
+				}
+				map(windowStart + position);
+				continue;
+			}
+			if (end < 0 && position == window.limit()) {
+				return false;
+			}
+
+			int lineEnd = end < 0 ? window.limit() : end;
+			int start = position;
+			position = end < 0 ? window.limit() : end + 1;
+			lineNumber++;
+
+			if (lineEnd > start && window.get(lineEnd - 1) == '\r') {
+				lineEnd--;
+			}
+			if (lineEnd == start || (lineNumber == 1 && startsWith(start, lineEnd, HEADER_PREFIX))) {
+				continue;
+			}
+			parse(start, lineEnd, line);
+			return true;
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		window = null;
+		channel.close();
+	}
+
+	private boolean map(long from) throws IOException {
+		if (from >= size) {
+			return false;
+		}
+		windowStart = from;
+		window = channel.map(FileChannel.MapMode.READ_ONLY, from, Math.min(windowBytes, size - from));
+		position = 0;
+		return true;
+	}
+
+	private int indexOfNewline(int from) {
+		int limit = window.limit();
+		for (int i = from; i < limit; i++) {
+			if (window.get(i) == '\n') {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private void parse(int start, int end, SettlementLine line) {
+		int keyEnd = indexOfComma(start, end);
+		int orderNumberEnd = indexOfComma(keyEnd + 1, end);
+		int statusEnd = indexOfComma(orderNumberEnd + 1, end);
+		int amountEnd = Math.min(indexOfComma(statusEnd + 1, end), end);
+		int keyLength = keyEnd - start;
+
+		PaymentStatus status = statusEnd < end ? parseStatus(orderNumberEnd + 1, statusEnd) : null;
+		long amount = statusEnd < end ? parseAmount(statusEnd + 1, amountEnd) : -1;
+		if (keyLength <= 0 || keyLength > MAX_KEY_LENGTH || status == null || amount < 0) {
+			line.malformed(lineNumber);
+			return;
+		}
+
+		window.get(start, keyBuffer, 0, keyLength);
+		line.fill(lineNumber, new String(keyBuffer, 0, keyLength, StandardCharsets.US_ASCII), status, amount);
+	}
+
+	// from 부터 end 전까지 첫 쉼표 위치 (없으면 end)
+	private int indexOfComma(int from, int end) {
+		for (int i = from; i < end; i++) {
+			if (window.get(i) == ',') {
+				return i;
+			}
+		}
+		return end;
+	}
+
+	private PaymentStatus parseStatus(int start, int end) {
+		for (int i = 0; i < STATUSES.length; i++) {
+			if (end - start == STATUS_NAMES[i].length && startsWith(start, end, STATUS_NAMES[i])) {
+				return STATUSES[i];
+			}
+		}
+		return null;
+	}
+
+	// 0 이상의 정수만 허용 (형식이 틀리면 -1)
+	private long parseAmount(int start, int end) {
+		if (end <= start || end - start > MAX_AMOUNT_DIGITS) {
+			return -1;
+		}
+		long value = 0;
+		for (int i = start; i < end; i++) {
+			byte b = window.get(i);
+			if (b < '0' || b > '9') {
+				return -1;
+			}
+			value = value * 10 + (b - '0');
+		}
+		return value;
+	}
+
+	private boolean startsWith(int start, int end, byte[] prefix) {
+		if (end - start < prefix.length) {
+			return false;
+		}
+		for (int i = 0; i < prefix.length; i++) {
+			if (window.get(start + i) != prefix[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
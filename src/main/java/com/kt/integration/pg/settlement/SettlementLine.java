@@ -0,0 +1,36 @@
+package com.kt.integration.pg.settlement;
+
+import com.kt.domain.payment.PaymentStatus;
+
+import lombok.Getter;
+
+/**
+ * 정산 파일 한 줄 - {@link SettlementFileReader#next(SettlementLine)} 가 값을 채우는 재사용 객체
+ * - 줄마다 새 객체를 만들지 않도록 호출하는 쪽이 묶음 크기만큼 만들어 두고 돌려 쓴다
+ * - valid 가 false 면 형식이 잘못된 줄 (lineNumber 만 믿을 수 있다)
+ */
+@Getter
+public class SettlementLine {
+
+	private long lineNumber;
+	private boolean valid;
+	private String paymentKey;
+	private PaymentStatus status;
+	private long amount;
+
+	void fill(long lineNumber, String paymentKey, PaymentStatus status, long amount) {
+		this.lineNumber = lineNumber;
+		this.valid = true;
+		this.paymentKey = paymentKey;
+		this.status = status;
+		this.amount = amount;
+	}
+
+	void malformed(long lineNumber) {
+		this.lineNumber = lineNumber;
+		this.valid = false;
+		this.paymentKey = null;
+		this.status = null;
+		this.amount = 0;
+	}
+}
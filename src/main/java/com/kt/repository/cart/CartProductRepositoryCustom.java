@@ -4,9 +4,13 @@ import java.util.List;
 
 import com.kt.domain.cartproduct.CartProduct;
 import com.kt.dto.cart.CartResponse;
+import com.kt.dto.order.CheckoutLine;
 
 public interface CartProductRepositoryCustom {
 
 	//장바구니 상세 조회를 위한 메서드
 	List<CartResponse.Detail> findCartDetailList(Long cartId);
+
+	//장바구니 주문을 위한 메서드 (상품/재고까지 한 번에 조회)
+	List<CheckoutLine> findCheckoutLines(Long cartId);
 }
@@ -5,8 +5,10 @@ import java.util.List;
 import org.springframework.stereotype.Repository;
 
 import com.kt.domain.cartproduct.QCartProduct;
+import com.kt.domain.inventory.QInventory;
 import com.kt.domain.product.QProduct;
 import com.kt.dto.cart.CartResponse;
+import com.kt.dto.order.CheckoutLine;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
@@ -53,4 +55,33 @@ public class CartProductRepositoryImpl implements CartProductRepositoryCustom {
 
 		return results;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 장바구니 주문에 필요한 값을 쿼리 한 번으로 조회
+	 * - 장바구니 상품마다 상품(지연 로딩)과 재고를 따로 읽지 않도록 상품 가격/상태와 실재고를 함께 가져온다
+	 * - 재고 행이 없는 상품도 빠지지 않도록 재고는 left join (검증에서 INVENTORY_NOT_FOUND 로 처리)
+	 */
+	@Override
+	public List<CheckoutLine> findCheckoutLines(Long cartId) {
+		QCartProduct cartProduct = QCartProduct.cartProduct;
+		QProduct product = QProduct.product;
+		QInventory inventory = QInventory.inventory;
+
+		return queryFactory
+			.select(Projections.constructor(CheckoutLine.class,
+				cartProduct.id,
+				product.id,
+				product.price,
+				product.status,
+				product.deleted,
+				cartProduct.count,
+				inventory.physicalStockTotal
+			))
+			.from(cartProduct)
+			.join(cartProduct.product, product)
+			.leftJoin(inventory).on(inventory.product.id.eq(product.id))
+			.where(cartProduct.cart.id.eq(cartId))
+			.orderBy(cartProduct.id.asc())
+			.fetch();
+	}
+}
@@ -0,0 +1,160 @@
+package com.kt.repository.cart;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import com.kt.domain.cart.CartItem;
+import com.kt.domain.product.ProductStatus;
+import com.kt.dto.order.CheckoutLine;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Redis 장바구니 저장소의 JDBC 경로 - 적재(cold load), 상품 조회, write-behind 반영
+ */
+@Repository
+@RequiredArgsConstructor
+public class CartSyncRepository {
+
+	// DB 장바구니 (synced_version 은 마지막으로 반영된 Redis 버전, 장바구니 행이 없으면 0)
+	public record StoredCart(long version, List<CartItem> items) {
+	}
+
+	public record ProductSummary(Long productId, String name, int price) {
+	}
+
+	private record CheckoutProduct(Long productId, int price, ProductStatus status, boolean deleted,
+		Long physicalStockTotal) {
+	}
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	public StoredCart findCart(Long userId) {
+		List<Long> versions = jdbcTemplate.queryForList(
+			"SELECT synced_version FROM cart WHERE user_id = :userId",
+			Map.of("userId", userId),
+			Long.class
+		);
+		if (versions.isEmpty()) {
+			return new StoredCart(0, List.of());
+		}
+
+		List<CartItem> items = jdbcTemplate.query(
+			"SELECT cp.product_id, cp.count, cp.created_at, cp.updated_at FROM cart_product cp "
+				+ "JOIN cart c ON c.id = cp.cart_id WHERE c.user_id = :userId",
+			Map.of("userId", userId),
+			(rs, rowNum) -> new CartItem(
+				rs.getLong("product_id"),
+				rs.getInt("count"),
+				rs.getObject("created_at", LocalDateTime.class),
+				rs.getObject("updated_at", LocalDateTime.class)
+			)
+		);
+		return new StoredCart(versions.getFirst(), items);
+	}
+
+	public List<ProductSummary> findProducts(Collection<Long> productIds) {
+		if (productIds.isEmpty()) {
+			return List.of();
+		}
+		return jdbcTemplate.query(
+			"SELECT id, name, price FROM products WHERE id IN (:productIds)",
+			Map.of("productIds", productIds),
+			(rs, rowNum) -> new ProductSummary(rs.getLong("id"), rs.getString("name"), rs.getInt("price"))
+		);
+	}
+
+	/**
+	 * 장바구니 스냅샷을 주문용 줄로 만든다 (상품 가격/상태와 실재고를 쿼리 한 번으로 조회, productId 순)
+	 * - 장바구니 상품 ID 자리에는 productId 를 넣는다 (Redis 장바구니는 상품 ID 로 줄을 구분)
+	 * - 상품 행이 없으면 주문할 수 없는 줄로 남겨 검증에서 걸러지게 한다
+	 */
+	public List<CheckoutLine> findCheckoutLines(List<CartItem> items) {
+		if (items.isEmpty()) {
+			return List.of();
+		}
+		Map<Long, CheckoutProduct> products = jdbcTemplate.query(
+				"SELECT p.id, p.price, p.status, p.deleted, i.physical_stock_total FROM products p "
+					+ "LEFT JOIN inventories i ON i.product_id = p.id WHERE p.id IN (:productIds)",
+				Map.of("productIds", items.stream().map(CartItem::productId).toList()),
+				(rs, rowNum) -> new CheckoutProduct(
+					rs.getLong("id"),
+					rs.getInt("price"),
+					ProductStatus.valueOf(rs.getString("status")),
+					rs.getBoolean("deleted"),
+					rs.getObject("physical_stock_total", Long.class)
+				)
+			).stream()
+			.collect(Collectors.toMap(CheckoutProduct::productId, Function.identity()));
+
+		return items.stream()
+			.sorted(Comparator.comparing(CartItem::productId))
+			.map(item -> {
+				CheckoutProduct product = products.get(item.productId());
+				if (product == null) {
+					return new CheckoutLine(item.productId(), item.productId(), 0, null, true, item.count(), null);
+				}
+				return new CheckoutLine(item.productId(), item.productId(), product.price(), product.status(),
+					product.deleted(), item.count(), product.physicalStockTotal());
+			})
+			.toList();
+	}
+
+	/**
+	 * Redis 장바구니 한 벌을 cart / cart_product 에 덮어쓴다 (호출한 트랜잭션 안에서)
+	 * - 장바구니 행의 synced_version 을 version 으로 올리는 조건부 UPDATE 가 먼저 성공해야 상품 행을 바꾼다
+	 *   → 늦게 도착한 오래된 스냅샷은 0 행으로 끝나고 아무것도 쓰지 않는다 (false)
+	 */
+	public boolean overwrite(Long userId, long version, List<CartItem> items, LocalDateTime now) {
+		jdbcTemplate.update(
+			"INSERT INTO cart (user_id, synced_version, created_at, updated_at) VALUES (:userId, 0, :now, :now) "
+				+ "ON DUPLICATE KEY UPDATE user_id = user_id",
+			new MapSqlParameterSource()
+				.addValue("userId", userId)
+				.addValue("now", now)
+		);
+		Long cartId = jdbcTemplate.queryForObject(
+			"SELECT id FROM cart WHERE user_id = :userId",
+			Map.of("userId", userId),
+			Long.class
+		);
+
+		int advanced = jdbcTemplate.update(
+			"UPDATE cart SET synced_version = :version, updated_at = :now "
+				+ "WHERE id = :cartId AND synced_version < :version",
+			new MapSqlParameterSource()
+				.addValue("cartId", cartId)
+				.addValue("version", version)
+				.addValue("now", now)
+		);
+		if (advanced == 0) {
+			return false;
+		}
+
+		jdbcTemplate.update("DELETE FROM cart_product WHERE cart_id = :cartId", Map.of("cartId", cartId));
+		SqlParameterSource[] params = items.stream()
+			.map(item -> new MapSqlParameterSource()
+				.addValue("cartId", cartId)
+				.addValue("productId", item.productId())
+				.addValue("count", item.count())
+				.addValue("createdAt", item.createdAt())
+				.addValue("updatedAt", item.updatedAt()))
+			.toArray(SqlParameterSource[]::new);
+		jdbcTemplate.batchUpdate(
+			"INSERT INTO cart_product (cart_id, product_id, count, created_at, updated_at) "
+				+ "VALUES (:cartId, :productId, :count, :createdAt, :updatedAt)",
+			params
+		);
+		return true;
+	}
+}
@@ -0,0 +1,108 @@
+package com.kt.repository.dedupe;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.kt.domain.dedupe.DedupeChannel;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 채널별 처리 기록 테이블(processed_*_events) JDBC 경로
+ * - 테이블 이름은 DedupeChannel 상수에서만 오므로 문자열로 조립해도 안전하다
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProcessedEventRepository {
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	public Set<String> findExistingEventIds(DedupeChannel channel, Collection<String> eventIds) {
+		if (eventIds.isEmpty()) {
+			return Set.of();
+		}
+
+		return new HashSet<>(jdbcTemplate.queryForList(
+			"SELECT event_id FROM " + channel.getTable() + " WHERE event_id IN (:eventIds)",
+			Map.of("eventIds", eventIds),
+			String.class
+		));
+	}
+
+	/**
+	 * 다중 행 INSERT IGNORE 한 번으로 기록하고 실제로 들어간 행 수를 반환
+	 * - 반환값이 요청 수보다 작으면 다른 요청이 같은 이벤트를 먼저 기록한 것
+	 */
+	public int insertIgnore(DedupeChannel channel, List<String> eventIds, LocalDate partitionDate) {
+		if (eventIds.isEmpty()) {
+			return 0;
+		}
+
+		StringBuilder sql = new StringBuilder("INSERT IGNORE INTO ")
+			.append(channel.getTable())
+			.append(" (event_id, partition_date, created_at, updated_at) VALUES ");
+		MapSqlParameterSource params = new MapSqlParameterSource("partitionDate", partitionDate);
+		for (int i = 0; i < eventIds.size(); i++) {
+			if (i > 0) {
+				sql.append(", ");
+			}
+			sql.append("(:eventId").append(i).append(", :partitionDate, NOW(), NOW())");
+			params.addValue("eventId" + i, eventIds.get(i));
+		}
+		return jdbcTemplate.update(sql.toString(), params);
+	}
+
+	/**
+	 * 보관 기간이 지난 일 파티션을 최대 limit 행만큼 삭제 (partition_date 인덱스 범위 삭제)
+	 * - 한 문장이 잡는 잠금과 언두 로그를 제한하려고 호출 측이 0 이 나올 때까지 반복한다
+	 */
+	public int deletePartitionsBefore(DedupeChannel channel, LocalDate cutoff, int limit) {
+		return jdbcTemplate.update(
+			"DELETE FROM " + channel.getTable() + " WHERE partition_date < :cutoff LIMIT :limit",
+			new MapSqlParameterSource()
+				.addValue("cutoff", cutoff)
+				.addValue("limit", limit)
+		);
+	}
+
+	/**
+	 * partition_date 가 비어 있는 기존 행을 최대 limit 행만큼 created_at 날짜로 채운다
+	 * - 호출 측이 0 이 나올 때까지 반복한다
+	 */
+	public int backfillPartitionDates(DedupeChannel channel, int limit) {
+		return jdbcTemplate.update(
+			"UPDATE " + channel.getTable()
+				+ " SET partition_date = CAST(created_at AS DATE)"
+				+ " WHERE partition_date IS NULL LIMIT :limit",
+			new MapSqlParameterSource("limit", limit)
+		);
+	}
+
+	/**
+	 * 현재 스키마에서 partition_date 가 NULL 을 허용하는지 (MySQL information_schema 기준)
+	 * - 컬럼 정보를 찾지 못하면 바꿀 대상이 없는 것으로 본다
+	 */
+	public boolean isPartitionDateNullable(DedupeChannel channel) {
+		List<String> nullable = jdbcTemplate.queryForList(
+			"SELECT is_nullable FROM information_schema.columns"
+				+ " WHERE table_schema = DATABASE() AND table_name = :table AND column_name = 'partition_date'",
+			Map.of("table", channel.getTable()),
+			String.class
+		);
+		return !nullable.isEmpty() && "YES".equalsIgnoreCase(nullable.getFirst());
+	}
+
+	public void requirePartitionDate(DedupeChannel channel) {
+		jdbcTemplate.getJdbcTemplate().execute(
+			"ALTER TABLE " + channel.getTable() + " MODIFY partition_date DATE NOT NULL"
+		);
+	}
+}
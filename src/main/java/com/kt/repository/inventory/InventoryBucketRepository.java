@@ -0,0 +1,65 @@
+package com.kt.repository.inventory;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.kt.domain.inventory.BucketTotals;
+import com.kt.domain.inventory.InventoryBucket;
+
+import jakarta.persistence.LockModeType;
+
+/**
+ * 핫 상품 재고 버킷 저장소
+ * - 예약/해제/차감은 버킷 한 행에 대한 조건부 UPDATE 로 처리하고, 변경 행 수(0/1)로 성공 여부를 판단한다
+ * - 확정/차감은 상품 행을 건드리지 않고 버킷의 outbound 에만 쌓는다
+ * - 영속성 컨텍스트를 비우면 호출 측 엔티티가 분리되므로 clearAutomatically 를 쓰지 않는다
+ */
+public interface InventoryBucketRepository extends JpaRepository<InventoryBucket, Long> {
+
+	int countByProductId(Long productId);
+
+	@Modifying
+	@Query("delete from InventoryBucket b where b.productId = :productId")
+	int deleteByProductId(@Param("productId") Long productId);
+
+	@Query("select distinct b.productId from InventoryBucket b where b.productId in :productIds")
+	List<Long> findHotProductIds(@Param("productIds") Collection<Long> productIds);
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select b from InventoryBucket b where b.productId = :productId order by b.bucketNo")
+	List<InventoryBucket> findAllForUpdate(@Param("productId") Long productId);
+
+	@Query("select distinct b.productId from InventoryBucket b where b.outbound > 0 order by b.productId")
+	List<Long> findProductIdsWithOutbound(Pageable pageable);
+
+	@Query("select new com.kt.domain.inventory.BucketTotals(b.productId, sum(b.available), sum(b.reserved), sum(b.outbound)) " +
+		"from InventoryBucket b where b.productId in :productIds group by b.productId")
+	List<BucketTotals> sumByProductIds(@Param("productIds") Collection<Long> productIds);
+
+	@Modifying
+	@Query("update InventoryBucket b set b.available = b.available - :quantity, b.reserved = b.reserved + :quantity " +
+		"where b.productId = :productId and b.bucketNo = :bucketNo and b.available >= :quantity")
+	int reserve(@Param("productId") Long productId, @Param("bucketNo") int bucketNo, @Param("quantity") long quantity);
+
+	@Modifying
+	@Query("update InventoryBucket b set b.reserved = b.reserved - :quantity, b.available = b.available + :quantity " +
+		"where b.productId = :productId and b.bucketNo = :bucketNo and b.reserved >= :quantity")
+	int release(@Param("productId") Long productId, @Param("bucketNo") int bucketNo, @Param("quantity") long quantity);
+
+	@Modifying
+	@Query("update InventoryBucket b set b.reserved = b.reserved - :quantity, b.outbound = b.outbound + :quantity " +
+		"where b.productId = :productId and b.bucketNo = :bucketNo and b.reserved >= :quantity")
+	int consumeReserved(@Param("productId") Long productId, @Param("bucketNo") int bucketNo, @Param("quantity") long quantity);
+
+	@Modifying
+	@Query("update InventoryBucket b set b.available = b.available - :quantity, b.outbound = b.outbound + :quantity " +
+		"where b.productId = :productId and b.bucketNo = :bucketNo and b.available >= :quantity")
+	int consumeAvailable(@Param("productId") Long productId, @Param("bucketNo") int bucketNo, @Param("quantity") long quantity);
+}
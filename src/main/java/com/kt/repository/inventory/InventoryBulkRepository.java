@@ -0,0 +1,154 @@
+package com.kt.repository.inventory;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import com.kt.domain.inventory.InventoryCounter;
+import com.kt.domain.inventory.StockLine;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 엔티티를 로딩하지 않고 inventories 테이블을 JDBC 로 직접 다루는 벌크 경로
+ * - 한 번의 라운드트립으로 여러 상품의 카운터를 읽고/쓴다
+ * - 쓰기는 항상 version 을 올려 같은 행을 읽어 둔 낙관적 쓰기(@Version)가 덮어쓰지 못하게 한다
+ */
+@Repository
+@RequiredArgsConstructor
+public class InventoryBulkRepository {
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	public List<InventoryCounter> findCountersByProductIds(Collection<Long> productIds) {
+		if (productIds.isEmpty()) {
+			return List.of();
+		}
+
+		return jdbcTemplate.query(
+			"SELECT product_id, physical_stock_total, reserved, outbound_processing " +
+				"FROM inventories WHERE product_id IN (:productIds)",
+			Map.of("productIds", productIds),
+			(rs, rowNum) -> InventoryCounter.of(
+				rs.getLong("product_id"),
+				rs.getLong("physical_stock_total"),
+				rs.getLong("reserved"),
+				rs.getLong("outbound_processing")
+			)
+		);
+	}
+
+	/**
+	 * OMS 카운터(reserved, outbound_processing)를 절대값으로 덮어쓴다
+	 * - 물리 재고(physical_stock_total)는 WMS 가 원천이므로 건드리지 않고 available 만 재계산
+	 * - 절대값 쓰기라 같은 스냅샷을 여러 번 반영해도 결과가 같다 (멱등)
+	 */
+	public int[] overwriteOmsCounters(List<InventoryCounter> counters) {
+		if (counters.isEmpty()) {
+			return new int[0];
+		}
+
+		SqlParameterSource[] params = counters.stream()
+			.map(counter -> new MapSqlParameterSource()
+				.addValue("productId", counter.productId())
+				.addValue("reserved", counter.reserved())
+				.addValue("outboundProcessing", counter.outboundProcessing()))
+			.toArray(SqlParameterSource[]::new);
+
+		return jdbcTemplate.batchUpdate(
+			"UPDATE inventories " +
+				"SET reserved = :reserved, " +
+				"outbound_processing = :outboundProcessing, " +
+				"available = physical_stock_total - :reserved - :outboundProcessing - sharded, " +
+				"updated_at = NOW(), version = version + 1 " +
+				"WHERE product_id = :productId",
+			params
+		);
+	}
+
+	/**
+	 * 주문 생성 일괄 예약: available → reserved (available >= 수량 조건)
+	 */
+	public int[] reserveAvailable(List<StockLine> lines) {
+		return jdbcTemplate.batchUpdate(
+			"UPDATE inventories " +
+				"SET available = available - :quantity, " +
+				"reserved = reserved + :quantity, " +
+				"updated_at = NOW(), version = version + 1 " +
+				"WHERE product_id = :productId AND available >= :quantity",
+			toParams(lines)
+		);
+	}
+
+	/**
+	 * 일괄 예약 해제: reserved → available (reserved >= 수량 조건)
+	 */
+	public int[] releaseReserved(List<StockLine> lines) {
+		return jdbcTemplate.batchUpdate(
+			"UPDATE inventories " +
+				"SET reserved = reserved - :quantity, " +
+				"available = available + :quantity, " +
+				"updated_at = NOW(), version = version + 1 " +
+				"WHERE product_id = :productId AND reserved >= :quantity",
+			toParams(lines)
+		);
+	}
+
+	/**
+	 * 결제 완료 일괄 확정: reserved → outbound_processing (reserved >= 수량 조건)
+	 */
+	public int[] commitReserved(List<StockLine> lines) {
+		return jdbcTemplate.batchUpdate(
+			"UPDATE inventories " +
+				"SET reserved = reserved - :quantity, " +
+				"outbound_processing = outbound_processing + :quantity, " +
+				"updated_at = NOW(), version = version + 1 " +
+				"WHERE product_id = :productId AND reserved >= :quantity",
+			toParams(lines)
+		);
+	}
+
+	/**
+	 * 결제 완료 일괄 차감: available → outbound_processing
+	 * - 상품별 조건부 UPDATE(available >= 수량)를 JDBC 배치 한 번으로 전송
+	 * - 반환값은 줄별 변경 행 수 (0 이면 재고 부족으로 거절된 줄)
+	 */
+	public int[] deductAvailable(List<StockLine> lines) {
+		return jdbcTemplate.batchUpdate(
+			"UPDATE inventories " +
+				"SET available = available - :quantity, " +
+				"outbound_processing = outbound_processing + :quantity, " +
+				"updated_at = NOW(), version = version + 1 " +
+				"WHERE product_id = :productId AND available >= :quantity",
+			toParams(lines)
+		);
+	}
+
+	/**
+	 * 일괄 복구: outbound_processing → available
+	 * - 상품별 조건부 UPDATE(outbound_processing >= 수량)를 JDBC 배치 한 번으로 전송
+	 */
+	public int[] restoreOutbound(List<StockLine> lines) {
+		return jdbcTemplate.batchUpdate(
+			"UPDATE inventories " +
+				"SET available = available + :quantity, " +
+				"outbound_processing = outbound_processing - :quantity, " +
+				"updated_at = NOW(), version = version + 1 " +
+				"WHERE product_id = :productId AND outbound_processing >= :quantity",
+			toParams(lines)
+		);
+	}
+
+	private SqlParameterSource[] toParams(List<StockLine> lines) {
+		return lines.stream()
+			.map(line -> new MapSqlParameterSource()
+				.addValue("productId", line.productId())
+				.addValue("quantity", line.quantity()))
+			.toArray(SqlParameterSource[]::new);
+	}
+}
@@ -0,0 +1,195 @@
+package com.kt.repository.inventory;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import com.kt.domain.inventory.InventoryCounter;
+import com.kt.domain.inventory.ledger.MovementType;
+import com.kt.domain.inventory.ledger.StockMovement;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 재고 이동 원장(inventory_movements)과 스냅샷 JDBC 경로
+ * - 원장 쓰기는 배치 INSERT, 스냅샷 갱신은 구간 합계 INSERT ... SELECT 한 번
+ */
+@Repository
+@RequiredArgsConstructor
+public class InventoryLedgerRepository {
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	public void insertAll(List<StockMovement> movements) {
+		SqlParameterSource[] params = movements.stream()
+			.map(movement -> new MapSqlParameterSource()
+				.addValue("productId", movement.productId())
+				.addValue("movementType", movement.type().name())
+				.addValue("quantity", movement.quantity())
+				.addValue("physicalDelta", movement.physicalDelta())
+				.addValue("reservedDelta", movement.reservedDelta())
+				.addValue("outboundDelta", movement.outboundDelta()))
+			.toArray(SqlParameterSource[]::new);
+
+		jdbcTemplate.batchUpdate(
+			"INSERT INTO inventory_movements " +
+				"(product_id, movement_type, quantity, physical_delta, reserved_delta, outbound_delta, created_at) " +
+				"VALUES (:productId, :movementType, :quantity, :physicalDelta, :reservedDelta, :outboundDelta, NOW())",
+			params
+		);
+	}
+
+	/**
+	 * 작업 위치를 잠그고 읽는다 (행이 없으면 0 으로 만든다)
+	 */
+	public long lockCursor(String name) {
+		jdbcTemplate.update(
+			"INSERT IGNORE INTO inventory_ledger_cursors (name, ledger_id) VALUES (:name, 0)",
+			Map.of("name", name)
+		);
+		return jdbcTemplate.queryForObject(
+			"SELECT ledger_id FROM inventory_ledger_cursors WHERE name = :name FOR UPDATE",
+			Map.of("name", name),
+			Long.class
+		);
+	}
+
+	public void moveCursor(String name, long ledgerId) {
+		jdbcTemplate.update(
+			"UPDATE inventory_ledger_cursors SET ledger_id = :ledgerId WHERE name = :name",
+			new MapSqlParameterSource()
+				.addValue("name", name)
+				.addValue("ledgerId", ledgerId)
+		);
+	}
+
+	/**
+	 * before 이전에 쓰인 마지막 이동 ID
+	 * - 늦게 커밋된 트랜잭션이 작은 ID 를 나중에 채울 수 있으므로 최근 구간은 스냅샷에 합치지 않는다
+	 */
+	public long findLastIdBefore(LocalDateTime before) {
+		Long lastId = jdbcTemplate.queryForObject(
+			"SELECT MAX(id) FROM inventory_movements WHERE created_at < :before",
+			Map.of("before", before),
+			Long.class
+		);
+		return lastId == null ? 0L : lastId;
+	}
+
+	/**
+	 * (fromId, toId] 구간 이동을 상품별로 합쳐 스냅샷에 더한다
+	 */
+	public int foldIntoSnapshots(long fromId, long toId) {
+		return jdbcTemplate.update(
+			"INSERT INTO inventory_ledger_snapshots " +
+				"(product_id, ledger_id, physical_stock_total, reserved, outbound_processing, updated_at) " +
+				"SELECT product_id, :toId, SUM(physical_delta), SUM(reserved_delta), SUM(outbound_delta), NOW() " +
+				"FROM inventory_movements WHERE id > :fromId AND id <= :toId GROUP BY product_id " +
+				"ON DUPLICATE KEY UPDATE " +
+				"physical_stock_total = physical_stock_total + VALUES(physical_stock_total), " +
+				"reserved = reserved + VALUES(reserved), " +
+				"outbound_processing = outbound_processing + VALUES(outbound_processing), " +
+				"ledger_id = VALUES(ledger_id), " +
+				"updated_at = VALUES(updated_at)",
+			new MapSqlParameterSource()
+				.addValue("fromId", fromId)
+				.addValue("toId", toId)
+		);
+	}
+
+	/**
+	 * 원장 기준 카운터 = 스냅샷 + 스냅샷 이후 이동의 합 (원장이 없는 상품은 결과에서 빠진다)
+	 */
+	public List<InventoryCounter> findLedgerCounters(Collection<Long> productIds) {
+		if (productIds.isEmpty()) {
+			return List.of();
+		}
+
+		return jdbcTemplate.query(
+			"SELECT p.product_id, " +
+				"COALESCE(s.physical_stock_total, 0) + COALESCE(t.physical, 0) AS physical_stock_total, " +
+				"COALESCE(s.reserved, 0) + COALESCE(t.reserved, 0) AS reserved, " +
+				"COALESCE(s.outbound_processing, 0) + COALESCE(t.outbound, 0) AS outbound_processing " +
+				"FROM (SELECT product_id FROM inventory_ledger_snapshots WHERE product_id IN (:productIds) " +
+				"UNION SELECT DISTINCT product_id FROM inventory_movements WHERE product_id IN (:productIds)) p " +
+				"LEFT JOIN inventory_ledger_snapshots s ON s.product_id = p.product_id " +
+				"LEFT JOIN (SELECT m.product_id, SUM(m.physical_delta) AS physical, " +
+				"SUM(m.reserved_delta) AS reserved, SUM(m.outbound_delta) AS outbound " +
+				"FROM inventory_movements m LEFT JOIN inventory_ledger_snapshots ms ON ms.product_id = m.product_id " +
+				"WHERE m.product_id IN (:productIds) AND m.id > COALESCE(ms.ledger_id, 0) " +
+				"GROUP BY m.product_id) t ON t.product_id = p.product_id",
+			Map.of("productIds", productIds),
+			this::toCounter
+		);
+	}
+
+	/**
+	 * 테이블 기준 카운터 (핫 상품은 버킷 예약/출고 합계를 더한 값) - productId 순 keyset 페이지
+	 */
+	public List<InventoryCounter> findStoredCountersAfter(long afterProductId, int limit) {
+		return jdbcTemplate.query(
+			"SELECT i.product_id, i.physical_stock_total, " +
+				"i.reserved + COALESCE((SELECT SUM(b.reserved) FROM inventory_buckets b " +
+				"WHERE b.product_id = i.product_id), 0) AS reserved, " +
+				"i.outbound_processing + COALESCE((SELECT SUM(b.outbound) FROM inventory_buckets b " +
+				"WHERE b.product_id = i.product_id), 0) AS outbound_processing " +
+				"FROM inventories i WHERE i.product_id > :afterProductId ORDER BY i.product_id LIMIT :limit",
+			new MapSqlParameterSource()
+				.addValue("afterProductId", afterProductId)
+				.addValue("limit", limit),
+			this::toCounter
+		);
+	}
+
+	/**
+	 * 기초 잔액(OPENING)이 없는 상품 - productId 순 keyset 페이지
+	 * - 원장 도입 뒤 기초 잔액을 남기기 전에 이동이 먼저 쌓인 상품도 포함한다
+	 */
+	public List<Long> findProductIdsWithoutOpening(long afterProductId, int limit) {
+		return jdbcTemplate.queryForList(
+			"SELECT i.product_id FROM inventories i WHERE i.product_id > :afterProductId " +
+				"AND NOT EXISTS (SELECT 1 FROM inventory_movements m " +
+				"WHERE m.product_id = i.product_id AND m.movement_type = :opening) " +
+				"ORDER BY i.product_id LIMIT :limit",
+			new MapSqlParameterSource()
+				.addValue("afterProductId", afterProductId)
+				.addValue("opening", MovementType.OPENING.name())
+				.addValue("limit", limit),
+			Long.class
+		);
+	}
+
+	/**
+	 * 이미 기초 잔액을 남긴 상품 (잠근 뒤 다시 확인용)
+	 */
+	public List<Long> findOpenedProductIds(Collection<Long> productIds) {
+		if (productIds.isEmpty()) {
+			return List.of();
+		}
+		return jdbcTemplate.queryForList(
+			"SELECT DISTINCT product_id FROM inventory_movements " +
+				"WHERE product_id IN (:productIds) AND movement_type = :opening",
+			new MapSqlParameterSource()
+				.addValue("productIds", productIds)
+				.addValue("opening", MovementType.OPENING.name()),
+			Long.class
+		);
+	}
+
+	private InventoryCounter toCounter(ResultSet rs, int rowNum) throws SQLException {
+		return InventoryCounter.of(
+			rs.getLong("product_id"),
+			rs.getLong("physical_stock_total"),
+			rs.getLong("reserved"),
+			rs.getLong("outbound_processing")
+		);
+	}
+}
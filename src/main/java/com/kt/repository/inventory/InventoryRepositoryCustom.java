@@ -1,11 +1,19 @@
 package com.kt.repository.inventory;
 
 import com.kt.domain.inventory.Inventory;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface InventoryRepositoryCustom {
 
 	Optional<Inventory> findByProductId(Long productId);
 
+	Optional<Inventory> findByProductIdForUpdate(Long productId);
+
+	List<Inventory> findAllByProductIdIn(Collection<Long> productIds);
+
+	List<Inventory> findAllByProductIdInForUpdate(Collection<Long> productIds);
+
 	long deleteByProductId(Long productId);
 }
\ No newline at end of file
@@ -5,6 +5,8 @@ import com.kt.domain.inventory.QInventory;
 import com.kt.domain.product.QProduct;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
@@ -29,6 +31,46 @@ public class InventoryRepositoryImpl implements InventoryRepositoryCustom {
 		return Optional.ofNullable(result);
 	}
 
+	@Override
+	public Optional<Inventory> findByProductIdForUpdate(Long productId) {
+		QInventory inventory = QInventory.inventory;
+		QProduct product = QProduct.product;
+
+		Inventory result = queryFactory
+			.selectFrom(inventory)
+			.join(inventory.product, product).fetchJoin()
+			.where(product.id.eq(productId))
+			.setLockMode(LockModeType.PESSIMISTIC_WRITE)
+			.fetchOne();
+
+		return Optional.ofNullable(result);
+	}
+
+	@Override
+	public List<Inventory> findAllByProductIdIn(Collection<Long> productIds) {
+		QInventory inventory = QInventory.inventory;
+
+		return queryFactory
+			.selectFrom(inventory)
+			.where(inventory.product.id.in(productIds))
+			.fetch();
+	}
+
+	/**
+	 * 여러 상품 재고를 productId 오름차순으로 잠근다 (동시 배치끼리 같은 순서로 잠가 데드락 방지)
+	 */
+	@Override
+	public List<Inventory> findAllByProductIdInForUpdate(Collection<Long> productIds) {
+		QInventory inventory = QInventory.inventory;
+
+		return queryFactory
+			.selectFrom(inventory)
+			.where(inventory.product.id.in(productIds))
+			.orderBy(inventory.product.id.asc())
+			.setLockMode(LockModeType.PESSIMISTIC_WRITE)
+			.fetch();
+	}
+
 	@Override
 	public long deleteByProductId(Long productId) {
 		QInventory inventory = QInventory.inventory;
@@ -0,0 +1,8 @@
+package com.kt.repository.inventory;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.kt.domain.inventory.ProcessedOutboundEvent;
+
+public interface ProcessedOutboundEventRepository extends JpaRepository<ProcessedOutboundEvent, Long> {
+}
@@ -0,0 +1,12 @@
+package com.kt.repository.order;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.kt.domain.order.OrderCompletionDeadLetter;
+
+public interface OrderCompletionDeadLetterRepository extends JpaRepository<OrderCompletionDeadLetter, Long> {
+
+	Optional<OrderCompletionDeadLetter> findByOrderNumber(String orderNumber);
+}
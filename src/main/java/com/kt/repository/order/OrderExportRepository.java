@@ -0,0 +1,63 @@
+package com.kt.repository.order;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.kt.config.ExportProperties;
+import com.kt.domain.order.OrderStatus;
+import com.kt.dto.order.AdminOrderSearchCondition;
+import com.kt.dto.order.OrderResponse;
+
+/**
+ * 관리자 주문 내보내기 JDBC 경로
+ * - 엔티티/영속성 컨텍스트 없이 전진 전용 결과로 한 행씩 넘긴다
+ * - fetch size 는 ExportProperties 를 따른다 (MySQL 은 Integer.MIN_VALUE 일 때 서버가 한 행씩 흘려보내는 스트리밍 모드,
+ *   다른 조회가 같은 커넥션을 쓰지 못하지만 내보내기는 이 조회 하나뿐이라 문제없다)
+ */
+@Repository
+public class OrderExportRepository {
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	public OrderExportRepository(DataSource dataSource, ExportProperties properties) {
+		JdbcTemplate template = new JdbcTemplate(dataSource);
+		template.setFetchSize(properties.fetchSize());
+		this.jdbcTemplate = new NamedParameterJdbcTemplate(template);
+	}
+
+	public void forEach(AdminOrderSearchCondition condition, Consumer<OrderResponse.AdminList> consumer) {
+		StringBuilder sql = new StringBuilder(
+			"SELECT id, user_id, order_number, order_status, order_amount, created_at FROM orders WHERE 1 = 1");
+		MapSqlParameterSource params = new MapSqlParameterSource();
+		if (condition.status() != null) {
+			sql.append(" AND order_status = :status");
+			params.addValue("status", condition.status().name());
+		}
+		if (condition.from() != null) {
+			sql.append(" AND created_at >= :from");
+			params.addValue("from", condition.from().atStartOfDay());
+		}
+		if (condition.to() != null) {
+			sql.append(" AND created_at < :to");
+			params.addValue("to", condition.to().plusDays(1).atStartOfDay());
+		}
+		sql.append(" ORDER BY id");
+
+		jdbcTemplate.query(sql.toString(), params, (RowCallbackHandler)rs -> consumer.accept(new OrderResponse.AdminList(
+			rs.getLong("id"),
+			rs.getLong("user_id"),
+			rs.getString("order_number"),
+			OrderStatus.valueOf(rs.getString("order_status")),
+			rs.getLong("order_amount"),
+			rs.getObject("created_at", LocalDateTime.class)
+		)));
+	}
+}
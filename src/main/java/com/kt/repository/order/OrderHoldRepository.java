@@ -0,0 +1,46 @@
+package com.kt.repository.order;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.kt.domain.order.OrderHold;
+
+import jakarta.persistence.LockModeType;
+
+public interface OrderHoldRepository extends JpaRepository<OrderHold, Long> {
+
+	// 만료 시각 인덱스 순으로 앞에서부터 잘라 읽는다 (전체 스캔 없음)
+	@Query("select h.orderId from OrderHold h where h.expiresAt <= :now order by h.expiresAt")
+	List<Long> findExpiredOrderIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+	// 만료 처리 대상 잠금 (결제 완료 쪽 삭제와 경합하면 먼저 잠근 쪽이 처리)
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select h from OrderHold h where h.orderId in :orderIds and h.expiresAt <= :now")
+	List<OrderHold> findExpiredForUpdate(
+		@Param("orderIds") Collection<Long> orderIds,
+		@Param("now") LocalDateTime now
+	);
+
+	// 재시작 시 타이밍 휠 복구용 키셋 페이지
+	List<OrderHold> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+	@Modifying
+	@Query("delete from OrderHold h where h.orderId = :orderId")
+	int deleteByOrderId(@Param("orderId") Long orderId);
+
+	@Modifying
+	@Query("delete from OrderHold h where h.orderId in :orderIds")
+	int deleteAllByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+
+	@Modifying
+	@Query("update OrderHold h set h.expiresAt = :expiresAt where h.orderId in :orderIds")
+	int extendAll(@Param("orderIds") Collection<Long> orderIds, @Param("expiresAt") LocalDateTime expiresAt);
+}
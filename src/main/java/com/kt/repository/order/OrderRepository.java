@@ -1,18 +1,56 @@
 package com.kt.repository.order;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.kt.domain.order.Order;
 
-public interface OrderRepository extends JpaRepository<Order,Long>{
+import jakarta.persistence.LockModeType;
+
+public interface OrderRepository extends JpaRepository<Order,Long> {
 
 	List<Order> findByUserId(Long userId);
 
+	// 주문 이력 첫 페이지 (idx_orders_user_id_created_at 을 역순으로 읽는다)
+	@Query("select o from Order o where o.userId = :userId order by o.createdAt desc, o.id desc")
+	List<Order> findHistoryFirstPage(@Param("userId") Long userId, Pageable pageable);
+
+	// 주문 이력 다음 페이지 - 커서(createdAt, id) 보다 앞선 주문부터 (OFFSET 없이 인덱스에서 바로 이어 읽음)
+	@Query("select o from Order o where o.userId = :userId " +
+		"and (o.createdAt < :createdAt or (o.createdAt = :createdAt and o.id < :id)) " +
+		"order by o.createdAt desc, o.id desc")
+	List<Order> findHistoryAfter(
+		@Param("userId") Long userId,
+		@Param("createdAt") LocalDateTime createdAt,
+		@Param("id") Long id,
+		Pageable pageable
+	);
+
 	Optional<Order> findByOrderNumber(String orderNumber);
 
 	Optional<Order> findByOrderNumberAndUserId(String orderNumber, Long userId);
 
+	// 주문 완료 처리 - 같은 주문을 두 작업(재전송, 복구 스윕)이 동시에 완료하지 않도록 행 잠금
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select o from Order o where o.orderNumber = :orderNumber and o.userId = :userId")
+	Optional<Order> findByOrderNumberAndUserIdForUpdate(
+		@Param("orderNumber") String orderNumber,
+		@Param("userId") Long userId
+	);
+
+	// 재고 보류 만료 - 결제 대기 주문만 일괄 취소
+	@Modifying
+	@Query("update Order o set o.orderStatus = com.kt.domain.order.OrderStatus.CANCELLED, o.updatedAt = :now " +
+		"where o.id in :orderIds and o.orderStatus = com.kt.domain.order.OrderStatus.PENDING")
+	int cancelPendingOrders(@Param("orderIds") Collection<Long> orderIds, @Param("now") LocalDateTime now);
+
 }
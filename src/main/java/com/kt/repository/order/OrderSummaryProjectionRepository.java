@@ -0,0 +1,92 @@
+package com.kt.repository.order;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * order_summary 쓰기 경로 (JDBC)
+ * - 행을 부분 수정하지 않고 원본(orders, order_product, payments, delivery)에서 다시 계산해 통째로 바꾼다
+ *   → 이벤트가 늦게/두 번/순서가 바뀌어 와도 마지막 갱신 시점의 원본과 같아진다
+ * - 결제는 주문당 가장 최근(id 가 가장 큰) 결제 하나만 싣는다
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderSummaryProjectionRepository {
+
+	private static final String INSERT_FROM_SOURCE =
+		"INSERT INTO order_summary (order_id, user_id, order_number, order_status, order_amount, item_count, "
+			+ "total_quantity, payment_status, payment_amount, payment_type, delivery_status, courier_code, "
+			+ "tracking_number, ordered_at, projected_at) "
+			+ "SELECT o.id, o.user_id, o.order_number, o.order_status, o.order_amount, "
+			+ "COALESCE(op.item_count, 0), COALESCE(op.total_quantity, 0), "
+			+ "p.status, p.payment_amount, p.type, d.status, d.courier_code, d.tracking_number, o.created_at, :now "
+			+ "FROM orders o "
+			+ "LEFT JOIN (SELECT order_id, COUNT(*) AS item_count, SUM(quantity) AS total_quantity "
+			+ "FROM order_product WHERE order_id IN (:ids) GROUP BY order_id) op ON op.order_id = o.id "
+			+ "LEFT JOIN payments p ON p.id = (SELECT MAX(p2.id) FROM payments p2 WHERE p2.order_id = o.id) "
+			+ "LEFT JOIN delivery d ON d.order_id = o.id "
+			+ "WHERE o.id IN (:ids)";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	/**
+	 * 주어진 주문들의 요약 행을 원본 기준으로 다시 만든다 (원본이 없으면 요약 행도 지워진다)
+	 * @return 새로 쓴 행 수
+	 */
+	public int refresh(Collection<Long> orderIds, LocalDateTime now) {
+		if (orderIds.isEmpty()) {
+			return 0;
+		}
+		MapSqlParameterSource params = new MapSqlParameterSource()
+			.addValue("ids", orderIds)
+			.addValue("now", now);
+		jdbcTemplate.update("DELETE FROM order_summary WHERE order_id IN (:ids)", params);
+		return jdbcTemplate.update(INSERT_FROM_SOURCE, params);
+	}
+
+	/**
+	 * 요약 행이 없는 주문 ID (id 오름차순, afterId 다음부터 최대 limit 개) - 초기 적재와 누락 보정용
+	 */
+	public List<Long> findOrderIdsMissingSummary(long afterId, int limit) {
+		return jdbcTemplate.queryForList(
+			"SELECT o.id FROM orders o LEFT JOIN order_summary s ON s.order_id = o.id "
+				+ "WHERE o.id > :afterId AND s.order_id IS NULL ORDER BY o.id LIMIT :limit",
+			new MapSqlParameterSource()
+				.addValue("afterId", afterId)
+				.addValue("limit", limit),
+			Long.class
+		);
+	}
+
+	/**
+	 * 요약 행을 order_id 순서로 afterId 다음부터 최대 limit 개 훑어, 만든 뒤(projected_at) 원본이 바뀐 주문을 표시한다
+	 * - 원본(orders/payments/delivery)의 updated_at 이 projected_at 보다 늦거나 주문이 사라졌으면 stale
+	 * - 알림을 잃어 요약 행만 남고 낡은 주문을 찾는 용도 (훑은 마지막 order_id 를 다음 호출의 afterId 로 쓴다)
+	 */
+	public List<SummaryCheck> checkProjections(long afterId, int limit) {
+		return jdbcTemplate.query(
+			"SELECT s.order_id, (o.id IS NULL OR o.updated_at > s.projected_at OR d.updated_at > s.projected_at "
+				+ "OR EXISTS (SELECT 1 FROM payments p WHERE p.order_id = s.order_id AND p.updated_at > s.projected_at)) "
+				+ "AS stale "
+				+ "FROM (SELECT order_id, projected_at FROM order_summary WHERE order_id > :afterId "
+				+ "ORDER BY order_id LIMIT :limit) s "
+				+ "LEFT JOIN orders o ON o.id = s.order_id "
+				+ "LEFT JOIN delivery d ON d.order_id = s.order_id "
+				+ "ORDER BY s.order_id",
+			new MapSqlParameterSource()
+				.addValue("afterId", afterId)
+				.addValue("limit", limit),
+			(rs, rowNum) -> new SummaryCheck(rs.getLong("order_id"), rs.getBoolean("stale"))
+		);
+	}
+
+	public record SummaryCheck(Long orderId, boolean stale) {
+	}
+}
@@ -0,0 +1,9 @@
+package com.kt.repository.order;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.kt.domain.order.OrderSummary;
+
+// 관리자 주문 요약 읽기 전용 - 쓰기는 OrderSummaryProjectionRepository 에서만 한다
+public interface OrderSummaryRepository extends JpaRepository<OrderSummary, Long>, OrderSummaryRepositoryCustom {
+}
@@ -0,0 +1,13 @@
+package com.kt.repository.order;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.kt.domain.order.OrderSummary;
+import com.kt.dto.order.AdminOrderSearchCondition;
+
+public interface OrderSummaryRepositoryCustom {
+
+	//관리자 주문 목록 (조건 + 페이지) - order_summary 한 테이블만 읽는다
+	Page<OrderSummary> searchAdmin(AdminOrderSearchCondition condition, Pageable pageable);
+}
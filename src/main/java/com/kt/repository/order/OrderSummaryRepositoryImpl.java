@@ -0,0 +1,90 @@
+package com.kt.repository.order;
+
+import static com.kt.domain.order.QOrderSummary.orderSummary;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import com.kt.domain.delivery.DeliveryStatus;
+import com.kt.domain.order.OrderStatus;
+import com.kt.domain.order.OrderSummary;
+import com.kt.domain.payment.PaymentStatus;
+import com.kt.dto.order.AdminOrderSearchCondition;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class OrderSummaryRepositoryImpl implements OrderSummaryRepositoryCustom {
+
+	private final JPAQueryFactory queryFactory;
+
+	@Override
+	public Page<OrderSummary> searchAdmin(AdminOrderSearchCondition condition, Pageable pageable) {
+		List<OrderSummary> content = queryFactory
+			.selectFrom(orderSummary)
+			.where(conditions(condition))
+			.offset(pageable.getOffset())
+			.limit(pageable.getPageSize())
+			.orderBy(orderSummary.orderedAt.desc(), orderSummary.orderId.desc())
+			.fetch();
+
+		JPAQuery<Long> countQuery = queryFactory
+			.select(orderSummary.count())
+			.from(orderSummary)
+			.where(conditions(condition));
+
+		return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+	}
+
+	private BooleanExpression[] conditions(AdminOrderSearchCondition condition) {
+		return new BooleanExpression[] {
+			eqStatus(condition.status()),
+			eqPaymentStatus(condition.paymentStatus()),
+			eqDeliveryStatus(condition.deliveryStatus()),
+			orderedFrom(condition.from()),
+			orderedTo(condition.to())
+		};
+	}
+
+	private BooleanExpression eqStatus(OrderStatus status) {
+		if (status == null) {
+			return null;
+		}
+		return orderSummary.orderStatus.eq(status);
+	}
+
+	private BooleanExpression eqPaymentStatus(PaymentStatus status) {
+		if (status == null) {
+			return null;
+		}
+		return orderSummary.paymentStatus.eq(status);
+	}
+
+	private BooleanExpression eqDeliveryStatus(DeliveryStatus status) {
+		if (status == null) {
+			return null;
+		}
+		return orderSummary.deliveryStatus.eq(status);
+	}
+
+	private BooleanExpression orderedFrom(LocalDate from) {
+		if (from == null) {
+			return null;
+		}
+		return orderSummary.orderedAt.goe(from.atStartOfDay());
+	}
+
+	private BooleanExpression orderedTo(LocalDate to) {
+		if (to == null) {
+			return null;
+		}
+		return orderSummary.orderedAt.lt(to.plusDays(1).atStartOfDay());
+	}
+}
@@ -1,13 +1,26 @@
 package com.kt.repository.orderproduct;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.kt.domain.inventory.StockLine;
 import com.kt.domain.order.Order;
 import com.kt.domain.orderproduct.OrderProduct;
 
 public interface OrderProductRepository extends JpaRepository<OrderProduct,Long>{
 
 	List<OrderProduct> findAllByOrder(Order orderId);
+
+	// 여러 주문의 주문 상품을 한 번에 조회 (주문 이력 페이지)
+	@Query("select op from OrderProduct op where op.order.id in :orderIds order by op.id")
+	List<OrderProduct> findAllByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+
+	// 여러 주문의 상품 수량을 상품별로 합산 (productId 오름차순)
+	@Query("select new com.kt.domain.inventory.StockLine(op.productId, sum(op.quantity)) " +
+		"from OrderProduct op where op.order.id in :orderIds group by op.productId order by op.productId")
+	List<StockLine> sumQuantitiesByOrderIds(@Param("orderIds") Collection<Long> orderIds);
 }
@@ -0,0 +1,135 @@
+package com.kt.repository.outbox;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import com.kt.domain.outbox.OutboxEventType;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * outbox_events JDBC 경로
+ */
+@Repository
+@RequiredArgsConstructor
+public class OutboxRepository {
+
+	public record Claimed(
+		Long id,
+		OutboxEventType type,
+		String aggregateKey,
+		String payload,
+		LocalDateTime createdAt,
+		int attempts
+	) {
+	}
+
+	public record Failure(Long id, LocalDateTime nextAttemptAt, String error) {
+	}
+
+	public record Pending(long count, LocalDateTime oldestCreatedAt) {
+	}
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	public void insert(OutboxEventType type, String aggregateKey, String payload, LocalDateTime now) {
+		jdbcTemplate.update(
+			"INSERT INTO outbox_events (event_type, aggregate_key, payload, attempts, created_at, next_attempt_at) "
+				+ "VALUES (:type, :key, :payload, 0, :now, :now)",
+			new MapSqlParameterSource()
+				.addValue("type", type.name())
+				.addValue("key", aggregateKey)
+				.addValue("payload", payload)
+				.addValue("now", now)
+		);
+	}
+
+	/**
+	 * 전달할 차례인 행을 최대 limit 개 잠그고 next_attempt_at 을 leaseUntil 로 미뤄 가져간다
+	 * - SKIP LOCKED 라 다른 노드가 잠근 행은 건너뛰고 다음 행을 가져간다 (노드 수만큼 나눠 처리)
+	 * - 호출 측 트랜잭션이 커밋되면 잠금은 풀리지만 임대가 끝날 때까지 다른 릴레이는 이 행을 고르지 않는다
+	 */
+	public List<Claimed> claim(LocalDateTime now, LocalDateTime leaseUntil, int limit) {
+		List<Claimed> claimed = jdbcTemplate.query(
+			"SELECT id, event_type, aggregate_key, payload, created_at, attempts FROM outbox_events "
+				+ "WHERE delivered_at IS NULL AND next_attempt_at <= :now "
+				+ "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+			new MapSqlParameterSource()
+				.addValue("now", now)
+				.addValue("limit", limit),
+			(rs, rowNum) -> new Claimed(
+				rs.getLong("id"),
+				OutboxEventType.valueOf(rs.getString("event_type")),
+				rs.getString("aggregate_key"),
+				rs.getString("payload"),
+				rs.getTimestamp("created_at").toLocalDateTime(),
+				rs.getInt("attempts")
+			)
+		);
+		if (!claimed.isEmpty()) {
+			jdbcTemplate.update(
+				"UPDATE outbox_events SET next_attempt_at = :leaseUntil WHERE id IN (:ids)",
+				Map.of("leaseUntil", leaseUntil, "ids", claimed.stream().map(Claimed::id).toList())
+			);
+		}
+		return claimed;
+	}
+
+	public void markDelivered(Collection<Long> ids, LocalDateTime now) {
+		if (ids.isEmpty()) {
+			return;
+		}
+		jdbcTemplate.update(
+			"UPDATE outbox_events SET delivered_at = :now WHERE id IN (:ids)",
+			Map.of("now", now, "ids", ids)
+		);
+	}
+
+	public void markFailed(List<Failure> failures) {
+		if (failures.isEmpty()) {
+			return;
+		}
+		SqlParameterSource[] params = failures.stream()
+			.map(failure -> new MapSqlParameterSource()
+				.addValue("id", failure.id())
+				.addValue("nextAttemptAt", failure.nextAttemptAt())
+				.addValue("error", failure.error()))
+			.toArray(SqlParameterSource[]::new);
+		jdbcTemplate.batchUpdate(
+			"UPDATE outbox_events SET attempts = attempts + 1, next_attempt_at = :nextAttemptAt, last_error = :error "
+				+ "WHERE id = :id",
+			params
+		);
+	}
+
+	/**
+	 * 전달을 마친 지 보관 기간이 지난 행을 최대 limit 행만큼 삭제 (호출 측이 0 이 나올 때까지 반복)
+	 */
+	public int deleteDeliveredBefore(LocalDateTime cutoff, int limit) {
+		return jdbcTemplate.update(
+			"DELETE FROM outbox_events WHERE delivered_at < :cutoff LIMIT :limit",
+			new MapSqlParameterSource()
+				.addValue("cutoff", cutoff)
+				.addValue("limit", limit)
+		);
+	}
+
+	public Pending findPending() {
+		return jdbcTemplate.queryForObject(
+			"SELECT COUNT(*) AS pending, MIN(created_at) AS oldest FROM outbox_events WHERE delivered_at IS NULL",
+			Map.of(),
+			(rs, rowNum) -> {
+				Timestamp oldest = rs.getTimestamp("oldest");
+				return new Pending(rs.getLong("pending"), oldest == null ? null : oldest.toLocalDateTime());
+			}
+		);
+	}
+}
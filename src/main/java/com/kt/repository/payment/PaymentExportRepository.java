@@ -0,0 +1,62 @@
+package com.kt.repository.payment;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.kt.config.ExportProperties;
+import com.kt.domain.payment.PaymentStatus;
+import com.kt.domain.payment.PaymentType;
+import com.kt.dto.payment.AdminPaymentSearchCondition;
+import com.kt.dto.payment.PaymentResponse;
+
+/**
+ * 관리자 결제 내보내기 JDBC 경로 (OrderExportRepository 와 같은 방식의 전진 전용 커서 조회)
+ */
+@Repository
+public class PaymentExportRepository {
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	public PaymentExportRepository(DataSource dataSource, ExportProperties properties) {
+		JdbcTemplate template = new JdbcTemplate(dataSource);
+		template.setFetchSize(properties.fetchSize());
+		this.jdbcTemplate = new NamedParameterJdbcTemplate(template);
+	}
+
+	public void forEach(AdminPaymentSearchCondition condition, Consumer<PaymentResponse.AdminList> consumer) {
+		StringBuilder sql = new StringBuilder(
+			"SELECT id, user_id, order_number, payment_amount, type, status, created_at FROM payments WHERE 1 = 1");
+		MapSqlParameterSource params = new MapSqlParameterSource();
+		if (condition.status() != null) {
+			sql.append(" AND status = :status");
+			params.addValue("status", condition.status().name());
+		}
+		if (condition.from() != null) {
+			sql.append(" AND created_at >= :from");
+			params.addValue("from", condition.from().atStartOfDay());
+		}
+		if (condition.to() != null) {
+			sql.append(" AND created_at < :to");
+			params.addValue("to", condition.to().plusDays(1).atStartOfDay());
+		}
+		sql.append(" ORDER BY id");
+
+		jdbcTemplate.query(sql.toString(), params, (RowCallbackHandler)rs -> consumer.accept(new PaymentResponse.AdminList(
+			rs.getLong("id"),
+			rs.getLong("user_id"),
+			rs.getString("order_number"),
+			rs.getLong("payment_amount"),
+			PaymentType.valueOf(rs.getString("type")),
+			PaymentStatus.valueOf(rs.getString("status")),
+			rs.getObject("created_at", LocalDateTime.class)
+		)));
+	}
+}
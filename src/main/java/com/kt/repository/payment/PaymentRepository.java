@@ -1,15 +1,96 @@
 package com.kt.repository.payment;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.kt.domain.payment.Payment;
+import com.kt.domain.payment.PaymentStatus;
+import com.kt.domain.payment.event.PaymentConfirmedEvent;
 
-public interface PaymentRepository extends JpaRepository<Payment, Long> {
+import jakarta.persistence.LockModeType;
+
+public interface PaymentRepository extends JpaRepository<Payment, Long>, PaymentRepositoryCustom {
 
 	Optional<Payment> findByOrderNumber(String orderNumber);
 
+	// 여러 주문의 최신 결제(주문별 가장 큰 ID)를 한 번에 조회 (주문 이력 페이지)
+	@Query("select p from Payment p where p.order.id in :orderIds " +
+		"and p.id = (select max(p2.id) from Payment p2 where p2.order.id = p.order.id)")
+	List<Payment> findLatestByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+
 	// 결제 ID와 유저 ID가 모두 일치하는 데이터 조회
 	Optional<Payment> findByIdAndUserId(Long id, Long userId);
+
+	/**
+	 * 재고 보류 만료 - 주문들의 결제 행을 id 순으로 잠근다
+	 * - 잠금을 쥔 동안 승인 선점(READY -> IN_PROGRESS) UPDATE 는 기다리므로, 읽은 상태로 만료 여부를 정해도 그 사이에 바뀌지 않는다
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select p from Payment p where p.orderNumber in :orderNumbers order by p.id")
+	List<Payment> findAllByOrderNumberInForUpdate(@Param("orderNumbers") Collection<String> orderNumbers);
+
+	// 재고 보류 만료 - 결제 대기(READY) 결제만 일괄 실패 처리
+	@Modifying
+	@Query("update Payment p set p.status = com.kt.domain.payment.PaymentStatus.FAILED, p.updatedAt = :now " +
+		"where p.orderNumber in :orderNumbers and p.status = com.kt.domain.payment.PaymentStatus.READY")
+	int failReadyPayments(@Param("orderNumbers") Collection<String> orderNumbers, @Param("now") LocalDateTime now);
+
+	/**
+	 * 결제 상태 전이 - 현재 상태가 expected 일 때만 next 로 바꾸고 바뀐 행 수를 돌려준다
+	 * - 읽고 나서 고치는 대신 조건부 UPDATE 한 번으로 끝내므로 동시에 들어온 요청 중 하나만 1 을 받는다 (나머지는 0)
+	 * - IN_PROGRESS -> FAILED (PG 거절), IN_PROGRESS -> READY (PG 조회로 승인되지 않았음을 확인)
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("update Payment p set p.status = :next, p.updatedAt = :now where p.id = :id and p.status = :expected")
+	int transition(
+		@Param("id") Long id,
+		@Param("expected") PaymentStatus expected,
+		@Param("next") PaymentStatus next,
+		@Param("now") LocalDateTime now
+	);
+
+	// 승인 선점 - 결제 대기(READY)만 IN_PROGRESS 로 바꾸고 결제 키를 남긴다 (결과를 모를 때 PG 조회에 쓴다)
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("update Payment p set p.status = com.kt.domain.payment.PaymentStatus.IN_PROGRESS, p.paymentKey = :paymentKey, " +
+		"p.updatedAt = :now " +
+		"where p.id = :id and p.status = com.kt.domain.payment.PaymentStatus.READY")
+	int claim(@Param("id") Long id, @Param("paymentKey") String paymentKey, @Param("now") LocalDateTime now);
+
+	// PG 결과를 모른 채 before 이전부터 진행 중(IN_PROGRESS)인 결제 ID (PG 조회로 결과를 확정할 대상)
+	@Query("select p.id from Payment p where p.status = com.kt.domain.payment.PaymentStatus.IN_PROGRESS " +
+		"and p.updatedAt < :before order by p.id")
+	List<Long> findStalledInProgressIds(@Param("before") LocalDateTime before, Pageable pageable);
+
+	// 승인 확정 - 선점한(IN_PROGRESS) 결제만 DONE 으로 바꾸고 결제 키를 남긴다
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("update Payment p set p.status = com.kt.domain.payment.PaymentStatus.DONE, p.paymentKey = :paymentKey, " +
+		"p.updatedAt = :now " +
+		"where p.id = :id and p.status = com.kt.domain.payment.PaymentStatus.IN_PROGRESS")
+	int markDone(@Param("id") Long id, @Param("paymentKey") String paymentKey, @Param("now") LocalDateTime now);
+
+	// 취소 확정 - 완료(DONE)된 결제만 CANCELED 로 바꾸고 취소 사유를 남긴다
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("update Payment p set p.status = com.kt.domain.payment.PaymentStatus.CANCELED, " +
+		"p.cancelReason = :cancelReason, p.updatedAt = :now " +
+		"where p.id = :id and p.status = com.kt.domain.payment.PaymentStatus.DONE")
+	int markCanceled(@Param("id") Long id, @Param("cancelReason") String cancelReason, @Param("now") LocalDateTime now);
+
+	// 결제는 완료됐는데 주문이 아직 결제 대기인 건 (완료 처리 작업을 잃은 주문 - dead letter 로 남은 주문은 제외)
+	@Query("select new com.kt.domain.payment.event.PaymentConfirmedEvent(p.userId, p.orderNumber) from Payment p " +
+		"join p.order o " +
+		"where p.status = com.kt.domain.payment.PaymentStatus.DONE " +
+		"and o.orderStatus = com.kt.domain.order.OrderStatus.PENDING " +
+		"and p.updatedAt < :before " +
+		"and not exists (select d.id from OrderCompletionDeadLetter d where d.orderNumber = p.orderNumber) " +
+		"order by p.id")
+	List<PaymentConfirmedEvent> findStalledCompletions(@Param("before") LocalDateTime before, Pageable pageable);
 }
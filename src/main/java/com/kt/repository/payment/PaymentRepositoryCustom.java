@@ -0,0 +1,13 @@
+package com.kt.repository.payment;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.kt.domain.payment.Payment;
+import com.kt.dto.payment.AdminPaymentSearchCondition;
+
+public interface PaymentRepositoryCustom {
+
+	//관리자 결제 목록 (조건 + 페이지)
+	Page<Payment> searchAdmin(AdminPaymentSearchCondition condition, Pageable pageable);
+}
@@ -0,0 +1,72 @@
+package com.kt.repository.payment;
+
+import static com.kt.domain.payment.QPayment.payment;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import com.kt.domain.payment.Payment;
+import com.kt.domain.payment.PaymentStatus;
+import com.kt.dto.payment.AdminPaymentSearchCondition;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class PaymentRepositoryImpl implements PaymentRepositoryCustom {
+
+	private final JPAQueryFactory queryFactory;
+
+	@Override
+	public Page<Payment> searchAdmin(AdminPaymentSearchCondition condition, Pageable pageable) {
+		List<Payment> content = queryFactory
+			.selectFrom(payment)
+			.where(
+				eqStatus(condition.status()),
+				createdFrom(condition.from()),
+				createdTo(condition.to())
+			)
+			.offset(pageable.getOffset())
+			.limit(pageable.getPageSize())
+			.orderBy(payment.createdAt.desc(), payment.id.desc())
+			.fetch();
+
+		JPAQuery<Long> countQuery = queryFactory
+			.select(payment.count())
+			.from(payment)
+			.where(
+				eqStatus(condition.status()),
+				createdFrom(condition.from()),
+				createdTo(condition.to())
+			);
+
+		return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+	}
+
+	private BooleanExpression eqStatus(PaymentStatus status) {
+		if (status == null) {
+			return null;
+		}
+		return payment.status.eq(status);
+	}
+
+	private BooleanExpression createdFrom(LocalDate from) {
+		if (from == null) {
+			return null;
+		}
+		return payment.createdAt.goe(from.atStartOfDay());
+	}
+
+	private BooleanExpression createdTo(LocalDate to) {
+		if (to == null) {
+			return null;
+		}
+		return payment.createdAt.lt(to.plusDays(1).atStartOfDay());
+	}
+}
@@ -0,0 +1,15 @@
+package com.kt.repository.payment.settlement;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.kt.domain.payment.settlement.SettlementMismatch;
+import com.kt.domain.payment.settlement.SettlementMismatchType;
+
+public interface SettlementMismatchRepository extends JpaRepository<SettlementMismatch, Long> {
+
+	Page<SettlementMismatch> findByRunIdOrderById(Long runId, Pageable pageable);
+
+	Page<SettlementMismatch> findByRunIdAndTypeOrderById(Long runId, SettlementMismatchType type, Pageable pageable);
+}
@@ -0,0 +1,137 @@
+package com.kt.repository.payment.settlement;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import com.kt.domain.payment.PaymentStatus;
+import com.kt.domain.payment.settlement.SettlementMismatchType;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 정산 대사 JDBC 경로 - 정산 파일 묶음의 키 기록, 결제 조회, 불일치 묶음 INSERT
+ */
+@Repository
+@RequiredArgsConstructor
+public class SettlementReconciliationRepository {
+
+	public record PaymentRow(Long id, String paymentKey, long amount, PaymentStatus status) {
+	}
+
+	// 불일치 한 건 (없는 값은 null)
+	public record Mismatch(
+		SettlementMismatchType type,
+		String paymentKey,
+		Long lineNumber,
+		Long paymentId,
+		Long settledAmount,
+		Long paymentAmount,
+		PaymentStatus settledStatus,
+		PaymentStatus paymentStatus
+	) {
+	}
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	/**
+	 * 정렬된 키로 결제를 조회한다 (payment_key 유니크 인덱스를 키 순서대로 훑는다)
+	 */
+	public List<PaymentRow> findPayments(List<String> sortedKeys) {
+		if (sortedKeys.isEmpty()) {
+			return List.of();
+		}
+		return jdbcTemplate.query(
+			"SELECT id, payment_key, payment_amount, status FROM payments WHERE payment_key IN (:keys)",
+			Map.of("keys", sortedKeys),
+			(rs, rowNum) -> new PaymentRow(
+				rs.getLong("id"),
+				rs.getString("payment_key"),
+				rs.getLong("payment_amount"),
+				PaymentStatus.valueOf(rs.getString("status"))
+			)
+		);
+	}
+
+	// 같은 파일에 같은 키가 두 번 나와도 한 행만 남긴다
+	public void insertFileKeys(Long runId, List<String> keys) {
+		SqlParameterSource[] params = keys.stream()
+			.map(key -> new MapSqlParameterSource()
+				.addValue("runId", runId)
+				.addValue("paymentKey", key))
+			.toArray(SqlParameterSource[]::new);
+
+		jdbcTemplate.batchUpdate(
+			"INSERT INTO settlement_file_keys (run_id, payment_key) VALUES (:runId, :paymentKey) "
+				+ "ON DUPLICATE KEY UPDATE payment_key = VALUES(payment_key)",
+			params
+		);
+	}
+
+	public void insertMismatches(Long runId, List<Mismatch> mismatches) {
+		if (mismatches.isEmpty()) {
+			return;
+		}
+		SqlParameterSource[] params = mismatches.stream()
+			.map(mismatch -> new MapSqlParameterSource()
+				.addValue("runId", runId)
+				.addValue("type", mismatch.type().name())
+				.addValue("paymentKey", mismatch.paymentKey())
+				.addValue("lineNumber", mismatch.lineNumber())
+				.addValue("paymentId", mismatch.paymentId())
+				.addValue("settledAmount", mismatch.settledAmount())
+				.addValue("paymentAmount", mismatch.paymentAmount())
+				.addValue("settledStatus", mismatch.settledStatus() == null ? null : mismatch.settledStatus().name())
+				.addValue("paymentStatus", mismatch.paymentStatus() == null ? null : mismatch.paymentStatus().name()))
+			.toArray(SqlParameterSource[]::new);
+
+		jdbcTemplate.batchUpdate(
+			"INSERT INTO settlement_mismatches (run_id, type, payment_key, line_number, payment_id, "
+				+ "settled_amount, payment_amount, settled_status, payment_status) "
+				+ "VALUES (:runId, :type, :paymentKey, :lineNumber, :paymentId, "
+				+ ":settledAmount, :paymentAmount, :settledStatus, :paymentStatus)",
+			params
+		);
+	}
+
+	/**
+	 * [from, to) 에 승인/취소된 결제 중 이번 파일에 키가 없는 건을 불일치로 남기고 그 수를 돌려준다
+	 */
+	public int insertMissingSettlements(Long runId, Collection<PaymentStatus> statuses, LocalDateTime from,
+		LocalDateTime to) {
+		return jdbcTemplate.update(
+			"INSERT INTO settlement_mismatches (run_id, type, payment_key, payment_id, payment_amount, payment_status) "
+				+ "SELECT :runId, :type, p.payment_key, p.id, p.payment_amount, p.status FROM payments p "
+				+ "WHERE p.status IN (:statuses) AND p.updated_at >= :from AND p.updated_at < :to "
+				+ "AND p.payment_key IS NOT NULL "
+				+ "AND NOT EXISTS (SELECT 1 FROM settlement_file_keys k "
+				+ "WHERE k.run_id = :runId AND k.payment_key = p.payment_key)",
+			new MapSqlParameterSource()
+				.addValue("runId", runId)
+				.addValue("type", SettlementMismatchType.MISSING_SETTLEMENT.name())
+				.addValue("statuses", statuses.stream().map(Enum::name).toList())
+				.addValue("from", from)
+				.addValue("to", to)
+		);
+	}
+
+	// 한 번에 limit 행씩 지운다 (수백만 행을 트랜잭션 하나로 지우지 않도록) - 지운 행 수
+	public int deleteFileKeys(Long runId, int limit) {
+		return jdbcTemplate.update(
+			"DELETE FROM settlement_file_keys WHERE run_id = :runId LIMIT :limit",
+			new MapSqlParameterSource()
+				.addValue("runId", runId)
+				.addValue("limit", limit)
+		);
+	}
+
+	public void deleteMismatches(Long runId) {
+		jdbcTemplate.update("DELETE FROM settlement_mismatches WHERE run_id = :runId", Map.of("runId", runId));
+	}
+}
@@ -0,0 +1,59 @@
+package com.kt.repository.payment.settlement;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.kt.domain.payment.settlement.SettlementRun;
+import com.kt.domain.payment.settlement.SettlementRunStatus;
+
+public interface SettlementRunRepository extends JpaRepository<SettlementRun, Long> {
+
+	Optional<SettlementRun> findBySettlementDate(LocalDate settlementDate);
+
+	/**
+	 * 끝난(실패/완료) 실행이나 staleBefore 이후 진행이 없는(실행하던 노드가 죽은) 실행을 새 토큰으로 가져간다
+	 * - 진행 중이거나 다른 노드가 먼저 가져갔으면 0
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("update SettlementRun r set r.status = com.kt.domain.payment.settlement.SettlementRunStatus.RUNNING, " +
+		"r.fileName = :fileName, r.totalLines = 0, r.matchedCount = 0, r.mismatchCount = 0, " +
+		"r.startedAt = :now, r.finishedAt = null, r.leaseToken = :leaseToken, r.heartbeatAt = :now " +
+		"where r.id = :id and (r.status <> com.kt.domain.payment.settlement.SettlementRunStatus.RUNNING " +
+		"or coalesce(r.heartbeatAt, r.startedAt) < :staleBefore)")
+	int restart(
+		@Param("id") Long id,
+		@Param("fileName") String fileName,
+		@Param("leaseToken") String leaseToken,
+		@Param("now") LocalDateTime now,
+		@Param("staleBefore") LocalDateTime staleBefore
+	);
+
+	// 진행 기록 - 다른 쪽이 이어받았으면(토큰이 다르면) 0
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("update SettlementRun r set r.heartbeatAt = :now " +
+		"where r.id = :id and r.leaseToken = :leaseToken " +
+		"and r.status = com.kt.domain.payment.settlement.SettlementRunStatus.RUNNING")
+	int heartbeat(@Param("id") Long id, @Param("leaseToken") String leaseToken, @Param("now") LocalDateTime now);
+
+	// 실행 종료 (자기 토큰으로 RUNNING 인 실행만)
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("update SettlementRun r set r.status = :status, r.totalLines = :totalLines, " +
+		"r.matchedCount = :matchedCount, r.mismatchCount = :mismatchCount, r.finishedAt = :now " +
+		"where r.id = :id and r.leaseToken = :leaseToken " +
+		"and r.status = com.kt.domain.payment.settlement.SettlementRunStatus.RUNNING")
+	int finish(
+		@Param("id") Long id,
+		@Param("leaseToken") String leaseToken,
+		@Param("status") SettlementRunStatus status,
+		@Param("totalLines") long totalLines,
+		@Param("matchedCount") long matchedCount,
+		@Param("mismatchCount") long mismatchCount,
+		@Param("now") LocalDateTime now
+	);
+}
@@ -0,0 +1,239 @@
+package com.kt.repository.sales;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import com.kt.domain.order.OrderStatus;
+import com.kt.domain.sales.SalesContribution;
+import com.kt.domain.sales.SalesDimension;
+import com.kt.domain.sales.SalesGranularity;
+import com.kt.domain.sales.SalesMetric;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 매출 원장(sales_ledger)과 구간 집계(sales_rollups) JDBC 경로
+ * - 집계는 ON DUPLICATE KEY UPDATE 로 더하거나 빼기만 하고, 원장에는 주문별로 더한 몫을 남긴다
+ */
+@Repository
+@RequiredArgsConstructor
+public class SalesRollupRepository {
+
+	public record OrderState(OrderStatus status, LocalDateTime orderedAt) {
+	}
+
+	// 주문 상품을 상품별로 합친 값 (petType 은 상품 기준)
+	public record Line(Long productId, String petType, long units, long revenue) {
+	}
+
+	public record ProductCategory(Long productId, Long categoryId) {
+	}
+
+	public record Total(String dimensionKey, long units, long revenue, long orderCount) {
+	}
+
+	public record Point(LocalDateTime bucketStart, long units, long revenue, long orderCount) {
+	}
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	/**
+	 * 주문 행을 잠그고 상태와 주문 시각을 읽는다 - 같은 주문의 집계 반영을 한 번에 하나씩만 하게 한다
+	 */
+	public Optional<OrderState> lockOrder(Long orderId) {
+		return jdbcTemplate.query(
+			"SELECT order_status, created_at FROM orders WHERE id = :orderId FOR UPDATE",
+			Map.of("orderId", orderId),
+			(rs, rowNum) -> new OrderState(
+				OrderStatus.valueOf(rs.getString("order_status")),
+				rs.getTimestamp("created_at").toLocalDateTime()
+			)
+		).stream().findFirst();
+	}
+
+	public List<Line> findLines(Long orderId) {
+		return jdbcTemplate.query(
+			"SELECT op.product_id, p.pet_type, SUM(op.quantity) AS units, SUM(op.order_price) AS revenue "
+				+ "FROM order_product op JOIN products p ON p.id = op.product_id "
+				+ "WHERE op.order_id = :orderId GROUP BY op.product_id, p.pet_type",
+			Map.of("orderId", orderId),
+			(rs, rowNum) -> new Line(
+				rs.getLong("product_id"),
+				rs.getString("pet_type"),
+				rs.getLong("units"),
+				rs.getLong("revenue")
+			)
+		);
+	}
+
+	public List<ProductCategory> findCategories(Collection<Long> productIds) {
+		if (productIds.isEmpty()) {
+			return List.of();
+		}
+		return jdbcTemplate.query(
+			"SELECT product_id, category_id FROM product_categories WHERE product_id IN (:productIds)",
+			Map.of("productIds", productIds),
+			(rs, rowNum) -> new ProductCategory(rs.getLong("product_id"), rs.getLong("category_id"))
+		);
+	}
+
+	public List<SalesContribution> findLedger(Long orderId) {
+		return jdbcTemplate.query(
+			"SELECT dimension, dimension_key, units, revenue FROM sales_ledger WHERE order_id = :orderId",
+			Map.of("orderId", orderId),
+			(rs, rowNum) -> new SalesContribution(
+				SalesDimension.valueOf(rs.getString("dimension")),
+				rs.getString("dimension_key"),
+				rs.getLong("units"),
+				rs.getLong("revenue")
+			)
+		);
+	}
+
+	public Optional<LocalDateTime> findLedgerOrderedAt(Long orderId) {
+		return jdbcTemplate.query(
+			"SELECT ordered_at FROM sales_ledger WHERE order_id = :orderId LIMIT 1",
+			Map.of("orderId", orderId),
+			(rs, rowNum) -> rs.getTimestamp("ordered_at").toLocalDateTime()
+		).stream().findFirst();
+	}
+
+	public void insertLedger(Long orderId, LocalDateTime orderedAt, List<SalesContribution> contributions) {
+		SqlParameterSource[] params = contributions.stream()
+			.map(contribution -> new MapSqlParameterSource()
+				.addValue("orderId", orderId)
+				.addValue("dimension", contribution.dimension().name())
+				.addValue("dimensionKey", contribution.dimensionKey())
+				.addValue("units", contribution.units())
+				.addValue("revenue", contribution.revenue())
+				.addValue("orderedAt", orderedAt))
+			.toArray(SqlParameterSource[]::new);
+
+		jdbcTemplate.batchUpdate(
+			"INSERT INTO sales_ledger (order_id, dimension, dimension_key, units, revenue, ordered_at) "
+				+ "VALUES (:orderId, :dimension, :dimensionKey, :units, :revenue, :orderedAt)",
+			params
+		);
+	}
+
+	public void deleteLedger(Long orderId) {
+		jdbcTemplate.update("DELETE FROM sales_ledger WHERE order_id = :orderId", Map.of("orderId", orderId));
+	}
+
+	/**
+	 * 주문 시각이 속한 시간/일 구간 집계에 sign(+1 / -1) 을 곱해 더한다 (키마다 주문 수 1)
+	 */
+	public void applyToRollups(List<SalesContribution> contributions, LocalDateTime orderedAt, int sign,
+		LocalDateTime now) {
+		SqlParameterSource[] params = contributions.stream()
+			.flatMap(contribution -> Arrays.stream(SalesGranularity.values())
+				.map(granularity -> new MapSqlParameterSource()
+					.addValue("granularity", granularity.name())
+					.addValue("dimension", contribution.dimension().name())
+					.addValue("bucketStart", granularity.bucketOf(orderedAt))
+					.addValue("dimensionKey", contribution.dimensionKey())
+					.addValue("units", sign * contribution.units())
+					.addValue("revenue", sign * contribution.revenue())
+					.addValue("orderCount", sign)
+					.addValue("now", now)))
+			.toArray(SqlParameterSource[]::new);
+
+		jdbcTemplate.batchUpdate(
+			"INSERT INTO sales_rollups "
+				+ "(granularity, dimension, bucket_start, dimension_key, units, revenue, order_count, updated_at) "
+				+ "VALUES (:granularity, :dimension, :bucketStart, :dimensionKey, :units, :revenue, :orderCount, :now) "
+				+ "ON DUPLICATE KEY UPDATE "
+				+ "units = units + VALUES(units), "
+				+ "revenue = revenue + VALUES(revenue), "
+				+ "order_count = order_count + VALUES(order_count), "
+				+ "updated_at = VALUES(updated_at)",
+			params
+		);
+	}
+
+	/**
+	 * 집계와 원장이 어긋난 주문 ID (since 이후 주문, id 오름차순으로 afterId 다음부터 최대 limit 개)
+	 * - 판매 상태인데 원장이 없거나, 판매 상태가 아닌데 원장이 남아 있는 주문
+	 */
+	public List<Long> findOrderIdsOutOfSync(LocalDateTime since, Collection<OrderStatus> saleStatuses, long afterId,
+		int limit) {
+		return jdbcTemplate.queryForList(
+			"SELECT o.id FROM orders o WHERE o.created_at >= :since AND o.id > :afterId AND ("
+				+ "(o.order_status IN (:saleStatuses) "
+				+ "AND NOT EXISTS (SELECT 1 FROM sales_ledger l WHERE l.order_id = o.id) "
+				+ "AND EXISTS (SELECT 1 FROM order_product op WHERE op.order_id = o.id)) "
+				+ "OR (o.order_status NOT IN (:saleStatuses) "
+				+ "AND EXISTS (SELECT 1 FROM sales_ledger l WHERE l.order_id = o.id))"
+				+ ") ORDER BY o.id LIMIT :limit",
+			new MapSqlParameterSource()
+				.addValue("since", since)
+				.addValue("saleStatuses", saleStatuses.stream().map(Enum::name).toList())
+				.addValue("afterId", afterId)
+				.addValue("limit", limit),
+			Long.class
+		);
+	}
+
+	/**
+	 * from 이후 일 집계를 키별로 합쳐 metric 순으로 limit 개 (모두 취소돼 수량이 0 인 키는 뺀다)
+	 */
+	public List<Total> findTop(SalesDimension dimension, LocalDateTime from, SalesMetric metric, int limit) {
+		String orderBy = switch (metric) {
+			case UNITS -> "total_units";
+			case REVENUE -> "total_revenue";
+			case ORDERS -> "total_orders";
+		};
+		return jdbcTemplate.query(
+			"SELECT dimension_key, SUM(units) AS total_units, SUM(revenue) AS total_revenue, "
+				+ "SUM(order_count) AS total_orders "
+				+ "FROM sales_rollups "
+				+ "WHERE granularity = :granularity AND dimension = :dimension AND bucket_start >= :from "
+				+ "GROUP BY dimension_key HAVING SUM(units) > 0 "
+				+ "ORDER BY " + orderBy + " DESC, dimension_key LIMIT :limit",
+			new MapSqlParameterSource()
+				.addValue("granularity", SalesGranularity.DAY.name())
+				.addValue("dimension", dimension.name())
+				.addValue("from", from)
+				.addValue("limit", limit),
+			(rs, rowNum) -> new Total(
+				rs.getString("dimension_key"),
+				rs.getLong("total_units"),
+				rs.getLong("total_revenue"),
+				rs.getLong("total_orders")
+			)
+		);
+	}
+
+	/**
+	 * 키 하나의 [from, to) 구간별 집계 (값이 없는 구간은 빠진다)
+	 */
+	public List<Point> findSeries(SalesGranularity granularity, SalesDimension dimension, String dimensionKey,
+		LocalDateTime from, LocalDateTime to) {
+		return jdbcTemplate.query(
+			"SELECT bucket_start, units, revenue, order_count FROM sales_rollups "
+				+ "WHERE granularity = :granularity AND dimension = :dimension AND dimension_key = :dimensionKey "
+				+ "AND bucket_start >= :from AND bucket_start < :to ORDER BY bucket_start",
+			new MapSqlParameterSource()
+				.addValue("granularity", granularity.name())
+				.addValue("dimension", dimension.name())
+				.addValue("dimensionKey", dimensionKey)
+				.addValue("from", from)
+				.addValue("to", to),
+			(rs, rowNum) -> new Point(
+				rs.getTimestamp("bucket_start").toLocalDateTime(),
+				rs.getLong("units"),
+				rs.getLong("revenue"),
+				rs.getLong("order_count")
+			)
+		);
+	}
+}
@@ -0,0 +1,21 @@
+package com.kt.service.cart.store;
+
+/**
+ * 장바구니 Redis 키
+ * - 사용자별 해시 하나 (필드 = productId, 값 = "수량:담은시각ms:수정시각ms")
+ * - {userId} 해시태그로 한 사용자의 장바구니가 항상 같은 클러스터 슬롯에 배정되도록 한다
+ * - 변경 스크립트는 장바구니와 write-behind 대상(cart:dirty) 두 키를 함께 바꾸므로 단일 Redis(또는 같은 슬롯)를 전제로 한다
+ */
+public final class CartRedisKeys {
+	private CartRedisKeys() {}
+
+	// 변경할 때마다 1씩 오르는 버전 필드 (write-behind 가 오래된 내용으로 DB 를 덮어쓰지 않게 한다)
+	public static final String FIELD_VERSION = "_v";
+
+	// write-behind 대상 사용자 (sorted set, score = 마지막으로 바뀐 Redis 시각 ms) - DB 반영이 끝나야 뺀다
+	public static final String DIRTY_USERS = "cart:dirty";
+
+	public static String cart(Long userId) {
+		return "cart:{" + userId + "}";
+	}
+}
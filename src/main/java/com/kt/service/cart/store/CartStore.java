@@ -0,0 +1,40 @@
+package com.kt.service.cart.store;
+
+import java.util.List;
+
+import com.kt.domain.orderproduct.OrderProduct;
+import com.kt.dto.cart.CartResponse;
+import com.kt.dto.order.CheckoutLine;
+
+/**
+ * 장바구니 저장소
+ * - add / updateCount : 담긴 수량이 stockLimit 을 넘으면 PRODUCT_STOCK_NOT_ENOUGH
+ * - checkoutLines : 주문 생성에 쓸 장바구니 스냅샷 (상품 가격/상태, 실재고 포함)
+ * - clearOrdered : 장바구니 주문이 완료되면 주문한 상품을 장바구니에서 뺀다
+ *
+ * 구현체는 app.cart.store 설정으로 선택한다
+ * - jpa   : {@link JpaCartStore} (기본값)
+ * - redis : {@link RedisCartStore}
+ */
+public interface CartStore {
+
+	/**
+	 * 상품별로 장바구니에 담을 수 있는 최대 수량
+	 */
+	@FunctionalInterface
+	interface StockLimit {
+		long of(Long productId);
+	}
+
+	CartResponse.Create add(Long userId, Long productId, int count, StockLimit stockLimit);
+
+	List<CartResponse.Detail> detail(Long userId);
+
+	void delete(Long userId, Long itemId);
+
+	CartResponse.CountUpdate updateCount(Long userId, Long itemId, int count, StockLimit stockLimit);
+
+	List<CheckoutLine> checkoutLines(Long userId);
+
+	void clearOrdered(Long userId, List<OrderProduct> orderProducts);
+}
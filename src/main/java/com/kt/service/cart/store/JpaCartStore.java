@@ -0,0 +1,146 @@
+package com.kt.service.cart.store;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.kt.common.api.CustomException;
+import com.kt.common.api.ErrorCode;
+import com.kt.domain.cart.Cart;
+import com.kt.domain.cartproduct.CartProduct;
+import com.kt.domain.orderproduct.OrderProduct;
+import com.kt.dto.cart.CartResponse;
+import com.kt.dto.order.CheckoutLine;
+import com.kt.repository.cart.CartProductRepository;
+import com.kt.repository.cart.CartProductRepositoryImpl;
+import com.kt.repository.cart.CartRepository;
+import com.kt.repository.product.ProductRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * cart / cart_product 테이블 기반 장바구니 저장소
+ * - Redis 가 없는 환경(로컬/테스트)의 기본 구현, 호출한 트랜잭션 안에서 엔티티를 바로 바꾼다
+ */
+@Component
+@ConditionalOnProperty(name = "app.cart.store", havingValue = "jpa", matchIfMissing = true)
+@RequiredArgsConstructor
+public class JpaCartStore implements CartStore {
+
+	private final CartRepository cartRepository;
+	private final CartProductRepository cartProductRepository;
+	private final ProductRepository productRepository;
+	private final CartProductRepositoryImpl cartProductRepositoryImpl;
+
+	@Override
+	public CartResponse.Create add(Long userId, Long productId, int count, StockLimit stockLimit) {
+
+		//상품
+		var product = productRepository.findById(productId)
+			.orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
+
+		//유저에게 장바구니가 없으면 null 반환
+		var cart = cartRepository.findByUserId(userId).orElse(null);
+
+		//null이면 cart 생성
+		if(cart == null){
+			cart = Cart.create(userId);
+			cartRepository.save(cart);
+		}
+
+		//카트에 상품이 담겨 있는지 확인하고 없으면 null
+		var existCartProduct = cartProductRepository.findByCartIdAndProductId(cart.getId(),product.getId())
+			.orElse(null);
+
+		// 장바구니에 담으려는 총 수량 계산
+		int totalQuantity = count;
+		if (existCartProduct != null) {
+			totalQuantity += existCartProduct.getCount();
+		}
+
+		// 실제 재고 검증
+		if (totalQuantity > stockLimit.of(product.getId())) {
+			throw new CustomException(ErrorCode.PRODUCT_STOCK_NOT_ENOUGH);
+		}
+
+		CartProduct finalCartProduct;
+
+		//null이 아니면 = 장바구니에 상품이 있으면, 수량 증가
+		if(existCartProduct != null){
+
+			existCartProduct.add(count);
+			finalCartProduct = existCartProduct;
+
+		}else{
+
+			//없으면 cartProduct 상품 생성하고 저장
+			var cartProduct = CartProduct.create(cart, product, count);
+			cartProductRepository.save(cartProduct);
+
+			finalCartProduct = cartProduct;
+		}
+
+		return CartResponse.Create.from(finalCartProduct);
+	}
+
+	@Override
+	public List<CartResponse.Detail> detail(Long userId) {
+
+		var cart = cartRepository.findByUserId(userId).orElse(null);
+
+		if(cart == null){
+			return List.of(); //장바구니에 아무것도 없으면 빈 리스트 반환
+		}
+
+		//카트에 담긴 상품들을 찾아서 저장
+		return cartProductRepositoryImpl.findCartDetailList(cart.getId());
+	}
+
+	@Override
+	public void delete(Long userId, Long itemId) {
+
+		CartProduct cartProduct = cartProductRepository.findByCartIdAndCart_UserId(itemId, userId)
+			.orElseThrow(() -> new CustomException(ErrorCode.CART_PRODUCT_NOT_FOUND));
+
+		cartProductRepository.delete(cartProduct);
+	}
+
+	@Override
+	public CartResponse.CountUpdate updateCount(Long userId, Long itemId, int count, StockLimit stockLimit) {
+
+		CartProduct cartProduct = cartProductRepository.findByCartIdAndCart_UserId(itemId, userId)
+			.orElseThrow(() -> new CustomException(ErrorCode.CART_PRODUCT_NOT_FOUND));
+
+		// 변경하려는 수량에 대해 실제 재고 검증
+		if (count > stockLimit.of(cartProduct.getProduct().getId())) {
+			throw new CustomException(ErrorCode.PRODUCT_STOCK_NOT_ENOUGH);
+		}
+
+		// 이전 수량 저장
+		int previousCount = cartProduct.getCount();
+
+		cartProduct.countUpdate(count);
+
+		return CartResponse.CountUpdate.of(cartProduct, previousCount);
+	}
+
+	@Override
+	public List<CheckoutLine> checkoutLines(Long userId) {
+
+		// 사용자의 장바구니 조회(한 사람 당 하나의 장바구니를 가지므로 userId로 조회)
+		Cart cart = cartRepository.findByUserId(userId)
+			.orElseThrow(() -> new CustomException(ErrorCode.CART_NOT_FOUND));
+
+		// 장바구니에 담긴 상품들을 상품 가격/상태, 실재고와 함께 한 번에 조회
+		return cartProductRepository.findCheckoutLines(cart.getId());
+	}
+
+	// 기존과 같이 장바구니를 통째로 비운다
+	@Override
+	public void clearOrdered(Long userId, List<OrderProduct> orderProducts) {
+		cartRepository.findByUserId(userId).ifPresent(cart -> {
+			cartProductRepository.deleteAllByCartId(cart.getId());
+		});
+	}
+}
@@ -0,0 +1,367 @@
+package com.kt.service.cart.store;
+
+import static com.kt.service.cart.store.CartRedisKeys.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.kt.common.api.CustomException;
+import com.kt.common.api.ErrorCode;
+import com.kt.config.CartProperties;
+import com.kt.domain.cart.CartItem;
+import com.kt.domain.orderproduct.OrderProduct;
+import com.kt.domain.product.Product;
+import com.kt.dto.cart.CartResponse;
+import com.kt.dto.order.CheckoutLine;
+import com.kt.repository.cart.CartSyncRepository;
+import com.kt.repository.cart.CartSyncRepository.ProductSummary;
+import com.kt.repository.cart.CartSyncRepository.StoredCart;
+import com.kt.repository.product.ProductRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 기반 장바구니 저장소
+ * - 사용자별 해시(cart:{userId}) 하나를 Lua 스크립트로 바꾸므로 담기/수량 변경/삭제가 Redis 왕복 한 번이다
+ *   (재고 한도 비교도 스크립트 안에서 하므로 동시에 담아도 한도를 넘지 않는다)
+ * - 캐시에 없는 장바구니는 DB(cart / cart_product)에서 적재한 뒤 다시 실행한다
+ * - 바뀐 장바구니는 같은 스크립트 안에서 Redis 의 dirty 집합(cart:dirty)에 남고 {@link RedisCartSynchronizer} 가 모아서 DB 에 반영(write-behind)
+ *   (노드가 죽어도 반영할 대상이 사라지지 않고, 어느 노드의 synchronizer 든 이어서 반영한다)
+ * - 장바구니 상품 ID 는 productId 를 그대로 쓴다 (사용자 장바구니 안에서 상품은 한 줄)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.cart.store", havingValue = "redis")
+@RequiredArgsConstructor
+public class RedisCartStore implements CartStore {
+
+	private static final long OVER_LIMIT = -1L;
+	private static final long MISSING = -2L;
+	private static final long NOT_IN_CART = -3L;
+
+	private static final String REMOVE_ALL = "all";
+	private static final String REMOVE_ORDERED = "ordered";
+
+	private static final RedisScript<Long> LOAD_SCRIPT = loadScript("load");
+	private static final RedisScript<Long> ADD_SCRIPT = loadScript("add");
+	private static final RedisScript<Long> SET_COUNT_SCRIPT = loadScript("set_count");
+	private static final RedisScript<Long> REMOVE_SCRIPT = loadScript("remove");
+	private static final RedisScript<Long> FLUSHED_SCRIPT = loadScript("flushed");
+
+	private static final ZoneId ZONE = ZoneId.systemDefault();
+
+	// Redis 장바구니 한 벌 (버전 = 해시의 _v)
+	record CartSnapshot(Long userId, long version, List<CartItem> items) {
+	}
+
+	private final StringRedisTemplate redisTemplate;
+	private final CartSyncRepository cartSyncRepository;
+	private final ProductRepository productRepository;
+	private final CartProperties properties;
+
+	@Override
+	public CartResponse.Create add(Long userId, Long productId, int count, StockLimit stockLimit) {
+		Product product = productRepository.findById(productId)
+			.orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
+		long limit = stockLimit.of(productId);
+		String now = String.valueOf(System.currentTimeMillis());
+
+		long result = executeLoading(userId, () -> execute(
+			ADD_SCRIPT, userId, productId.toString(), String.valueOf(count), String.valueOf(limit), now, ttl(),
+			userId.toString()
+		));
+		if (result == OVER_LIMIT) {
+			throw new CustomException(ErrorCode.PRODUCT_STOCK_NOT_ENOUGH);
+		}
+
+		return CartResponse.Create.of(product, (int) result);
+	}
+
+	/**
+	 * 해시 한 번 읽기 + 상품 이름/가격 조회 한 번 (최근에 바꾼 상품부터, 상품 행이 없는 줄은 뺀다)
+	 */
+	@Override
+	public List<CartResponse.Detail> detail(Long userId) {
+		List<CartItem> items = readItems(userId);
+		if (items.isEmpty()) {
+			return List.of();
+		}
+
+		Map<Long, ProductSummary> products = cartSyncRepository.findProducts(
+				items.stream().map(CartItem::productId).toList()
+			).stream()
+			.collect(Collectors.toMap(ProductSummary::productId, Function.identity()));
+
+		return items.stream()
+			.filter(item -> products.containsKey(item.productId()))
+			.sorted(Comparator.comparing(CartItem::updatedAt).reversed()
+				.thenComparing(Comparator.comparing(CartItem::createdAt).reversed()))
+			.map(item -> {
+				ProductSummary product = products.get(item.productId());
+				return new CartResponse.Detail(
+					item.productId(),
+					item.productId(),
+					product.name(),
+					product.price(),
+					item.count(),
+					item.createdAt(),
+					item.updatedAt()
+				);
+			})
+			.toList();
+	}
+
+	@Override
+	public void delete(Long userId, Long itemId) {
+		long removed = executeLoading(userId, () -> execute(
+			REMOVE_SCRIPT, userId, ttl(), REMOVE_ALL, userId.toString(), itemId.toString(), "0"
+		));
+		if (removed == 0) {
+			throw new CustomException(ErrorCode.CART_PRODUCT_NOT_FOUND);
+		}
+	}
+
+	@Override
+	public CartResponse.CountUpdate updateCount(Long userId, Long itemId, int count, StockLimit stockLimit) {
+		Product product = productRepository.findById(itemId)
+			.orElseThrow(() -> new CustomException(ErrorCode.CART_PRODUCT_NOT_FOUND));
+
+		// 바꿀 수량이 절대값이라 한도 비교는 스크립트 밖에서 해도 된다
+		if (count > stockLimit.of(itemId)) {
+			throw new CustomException(ErrorCode.PRODUCT_STOCK_NOT_ENOUGH);
+		}
+
+		long now = System.currentTimeMillis();
+		long previous = executeLoading(userId, () -> execute(
+			SET_COUNT_SCRIPT, userId, itemId.toString(), String.valueOf(count), String.valueOf(now), ttl(),
+			userId.toString()
+		));
+		if (previous == NOT_IN_CART) {
+			throw new CustomException(ErrorCode.CART_PRODUCT_NOT_FOUND);
+		}
+
+		return CartResponse.CountUpdate.of(product, (int) previous, count, toDateTime(now));
+	}
+
+	/**
+	 * HGETALL 한 번으로 읽은 장바구니를 주문 스냅샷으로 쓴다 (읽은 뒤의 변경은 이 주문에 섞이지 않는다)
+	 * - 장바구니가 없으면 빈 목록 → 주문 검증에서 CART_EMPTY
+	 */
+	@Override
+	public List<CheckoutLine> checkoutLines(Long userId) {
+		return cartSyncRepository.findCheckoutLines(readItems(userId));
+	}
+
+	/**
+	 * 커밋 후 주문한 상품을 뺀다 - 주문 스냅샷 뒤에 수량을 바꾼 상품은 남긴다
+	 * (주문은 이미 완료됐으므로 실패해도 예외 없이 경고만 남긴다)
+	 */
+	@Override
+	public void clearOrdered(Long userId, List<OrderProduct> orderProducts) {
+		if (orderProducts.isEmpty()) {
+			return;
+		}
+
+		List<String> args = new ArrayList<>(3 + orderProducts.size() * 2);
+		args.add(ttl());
+		args.add(REMOVE_ORDERED);
+		args.add(userId.toString());
+		for (OrderProduct orderProduct : orderProducts) {
+			args.add(orderProduct.getProductId().toString());
+			args.add(String.valueOf(orderProduct.getQuantity()));
+		}
+
+		runAfterCommit(() -> {
+			try {
+				executeLoading(userId, () -> execute(REMOVE_SCRIPT, userId, args.toArray(String[]::new)));
+			} catch (RuntimeException e) {
+				log.warn("[CART_CLEAR_FAILED] userId={}", userId, e);
+			}
+		});
+	}
+
+	// Redis 서버 시각(ms) - dirty 집합의 score 와 같은 시계
+	long currentTimeMillis() {
+		Long now = redisTemplate.execute((RedisCallback<Long>) connection -> connection.serverCommands().time());
+		return now == null ? System.currentTimeMillis() : now;
+	}
+
+	/**
+	 * changedUntil(ms) 까지 바뀐 flush 대상 사용자를 오래된 순으로 최대 limit 명까지 (꺼내지 않고 읽기만 한다)
+	 */
+	List<Long> findDirtyUserIds(long changedUntil, int limit) {
+		Set<String> members = redisTemplate.opsForZSet()
+			.rangeByScore(DIRTY_USERS, Double.NEGATIVE_INFINITY, changedUntil, 0, limit);
+		if (members == null) {
+			return List.of();
+		}
+		return members.stream().map(Long::valueOf).toList();
+	}
+
+	/**
+	 * DB 반영이 끝난 사용자를 dirty 집합에서 뺀다 - 읽은 뒤 다시 바뀐 장바구니는 남긴다 (스크립트 한 번)
+	 */
+	void markFlushed(List<Long> userIds, List<CartSnapshot> snapshots) {
+		Map<Long, Long> versions = snapshots.stream()
+			.collect(Collectors.toMap(CartSnapshot::userId, CartSnapshot::version));
+
+		List<String> keys = new ArrayList<>(1 + userIds.size());
+		List<String> args = new ArrayList<>(userIds.size() * 2);
+		keys.add(DIRTY_USERS);
+		for (Long userId : userIds) {
+			keys.add(cart(userId));
+			args.add(userId.toString());
+			args.add(String.valueOf(versions.getOrDefault(userId, 0L)));
+		}
+		redisTemplate.execute(FLUSHED_SCRIPT, keys, args.toArray());
+	}
+
+	/**
+	 * 여러 사용자의 장바구니를 파이프라인 한 번으로 읽는다 (만료돼 없는 장바구니는 결과에서 제외)
+	 */
+	List<CartSnapshot> readCarts(List<Long> userIds) {
+		List<Object> rows = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			for (Long userId : userIds) {
+				connection.hashCommands().hGetAll(cart(userId).getBytes(StandardCharsets.UTF_8));
+			}
+			return null;
+		});
+
+		List<CartSnapshot> snapshots = new ArrayList<>(userIds.size());
+		for (int i = 0; i < userIds.size(); i++) {
+			Map<?, ?> entries = (Map<?, ?>) rows.get(i);
+			if (entries == null || entries.isEmpty()) {
+				continue;
+			}
+			snapshots.add(toSnapshot(userIds.get(i), entries));
+		}
+		return snapshots;
+	}
+
+	private List<CartItem> readItems(Long userId) {
+		Map<Object, Object> entries = redisTemplate.opsForHash().entries(cart(userId));
+		if (entries.isEmpty()) {
+			load(userId);
+			entries = redisTemplate.opsForHash().entries(cart(userId));
+		}
+		return toSnapshot(userId, entries).items();
+	}
+
+	/**
+	 * 스크립트를 실행하고, 캐시에 없으면 DB 에서 적재한 뒤 한 번 더 실행한다
+	 */
+	private long executeLoading(Long userId, LongSupplier script) {
+		long result = script.getAsLong();
+		if (result == MISSING) {
+			load(userId);
+			result = script.getAsLong();
+		}
+		if (result == MISSING) {
+			throw new CustomException(ErrorCode.CART_NOT_FOUND);
+		}
+		return result;
+	}
+
+	private long execute(RedisScript<Long> script, Long userId, String... args) {
+		Long result = redisTemplate.execute(script, List.of(cart(userId), DIRTY_USERS), (Object[]) args);
+		return result == null ? MISSING : result;
+	}
+
+	/**
+	 * DB 장바구니를 마지막 반영 버전과 함께 적재 (이미 다른 요청/노드가 적재했다면 스크립트가 무시)
+	 */
+	private void load(Long userId) {
+		StoredCart stored = cartSyncRepository.findCart(userId);
+
+		List<String> args = new ArrayList<>(2 + stored.items().size() * 2);
+		args.add(ttl());
+		args.add(String.valueOf(stored.version()));
+		for (CartItem item : stored.items()) {
+			args.add(item.productId().toString());
+			args.add(encode(item));
+		}
+		redisTemplate.execute(LOAD_SCRIPT, List.of(cart(userId)), args.toArray());
+	}
+
+	private String ttl() {
+		return String.valueOf(properties.ttl().toSeconds());
+	}
+
+	private static CartSnapshot toSnapshot(Long userId, Map<?, ?> entries) {
+		long version = 0;
+		List<CartItem> items = new ArrayList<>(entries.size());
+		for (Map.Entry<?, ?> entry : entries.entrySet()) {
+			String field = entry.getKey().toString();
+			if (FIELD_VERSION.equals(field)) {
+				version = Long.parseLong(entry.getValue().toString());
+				continue;
+			}
+			String[] parts = entry.getValue().toString().split(":");
+			items.add(new CartItem(
+				Long.valueOf(field),
+				Integer.parseInt(parts[0]),
+				toDateTime(Long.parseLong(parts[1])),
+				toDateTime(Long.parseLong(parts[2]))
+			));
+		}
+		return new CartSnapshot(userId, version, items);
+	}
+
+	// "수량:담은시각ms:수정시각ms" (수정된 적 없는 행은 담은 시각을 쓴다)
+	private static String encode(CartItem item) {
+		LocalDateTime createdAt = item.createdAt() != null ? item.createdAt() : LocalDateTime.now();
+		LocalDateTime updatedAt = item.updatedAt() != null ? item.updatedAt() : createdAt;
+		return item.count() + ":" + toEpochMilli(createdAt) + ":" + toEpochMilli(updatedAt);
+	}
+
+	private static long toEpochMilli(LocalDateTime dateTime) {
+		return dateTime.atZone(ZONE).toInstant().toEpochMilli();
+	}
+
+	private static LocalDateTime toDateTime(long epochMilli) {
+		return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZONE);
+	}
+
+	private void runAfterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+
+	private static RedisScript<Long> loadScript(String name) {
+		DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+		script.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/cart/" + name + ".lua")));
+		script.setResultType(Long.class);
+		return script;
+	}
+}
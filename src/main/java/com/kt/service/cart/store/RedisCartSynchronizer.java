@@ -0,0 +1,72 @@
+package com.kt.service.cart.store;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kt.config.CartProperties;
+import com.kt.repository.cart.CartSyncRepository;
+import com.kt.service.cart.store.RedisCartStore.CartSnapshot;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 장바구니 → cart / cart_product 테이블 write-behind
+ * - Redis dirty 집합의 사용자를 읽어 장바구니를 파이프라인 한 번으로 읽고 배치마다 트랜잭션 하나로 덮어쓴 뒤,
+ *   커밋이 끝나야 dirty 집합에서 뺀다 (반영 도중 노드가 죽으면 다른 노드가 다음 주기에 다시 반영)
+ * - 장바구니 행의 synced_version 보다 높은 버전만 반영하므로 늦게 도착한 반영이나 여러 노드의 중복 반영이 최신 내용을 되돌리지 않는다
+ * - 이번 주기가 시작된 뒤 바뀐 장바구니는 다음 주기로 넘겨 계속 바뀌는 장바구니가 한 주기를 붙잡지 않게 한다
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.cart.store", havingValue = "redis")
+public class RedisCartSynchronizer {
+
+	private final RedisCartStore cartStore;
+	private final CartSyncRepository cartSyncRepository;
+	private final CartProperties properties;
+	private final TransactionTemplate transactionTemplate;
+
+	public RedisCartSynchronizer(
+		RedisCartStore cartStore,
+		CartSyncRepository cartSyncRepository,
+		CartProperties properties,
+		PlatformTransactionManager transactionManager
+	) {
+		this.cartStore = cartStore;
+		this.cartSyncRepository = cartSyncRepository;
+		this.properties = properties;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	@Scheduled(fixedDelayString = "${app.cart.flush-interval-ms:1000}")
+	public void flush() {
+		try {
+			long changedUntil = cartStore.currentTimeMillis();
+			List<Long> userIds = cartStore.findDirtyUserIds(changedUntil, properties.flushBatchSize());
+			while (!userIds.isEmpty()) {
+				List<CartSnapshot> snapshots = cartStore.readCarts(userIds);
+				LocalDateTime now = LocalDateTime.now();
+				transactionTemplate.executeWithoutResult(status -> snapshots.forEach(snapshot ->
+					cartSyncRepository.overwrite(snapshot.userId(), snapshot.version(), snapshot.items(), now)
+				));
+				cartStore.markFlushed(userIds, snapshots);
+				userIds = cartStore.findDirtyUserIds(changedUntil, properties.flushBatchSize());
+			}
+		} catch (RuntimeException e) {
+			// 반영하지 못한 사용자는 dirty 집합에 남아 다음 주기에 다시 반영 (장바구니 전체를 덮어쓰므로 재시도해도 안전)
+			log.error("[CART_FLUSH_FAILED]", e);
+		}
+	}
+
+	@PreDestroy
+	public void flushOnShutdown() {
+		flush();
+	}
+}
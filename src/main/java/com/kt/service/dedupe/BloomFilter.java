@@ -0,0 +1,72 @@
+package com.kt.service.dedupe;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 키용 블룸 필터
+ * - mightContain 이 false 면 넣은 적이 없는 키 (확정), true 면 넣었을 수도 있는 키
+ * - 비트 배열은 AtomicLongArray 라 잠금 없이 여러 스레드가 동시에 넣고 조회할 수 있다
+ * - 해시는 64비트 FNV-1a 에 murmur3 finalizer 를 섞어 두 개로 나눈 이중 해싱 (h1 + i * h2)
+ */
+public class BloomFilter {
+
+	private final AtomicLongArray bits;
+	private final long bitSize;
+	private final int hashCount;
+
+	public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+		if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+			throw new IllegalArgumentException("expectedInsertions must be positive and falsePositiveRate in (0, 1)");
+		}
+		long optimalBits = (long)Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+		this.bits = new AtomicLongArray(Math.toIntExact(Math.max(1, (optimalBits + 63) / 64)));
+		this.bitSize = bits.length() * 64L;
+		this.hashCount = Math.max(1, (int)Math.round((double)bitSize / expectedInsertions * Math.log(2)));
+	}
+
+	public void put(String key) {
+		long hash = hash(key);
+		int h1 = (int)hash;
+		int h2 = (int)(hash >>> 32) | 1;
+		for (int i = 1; i <= hashCount; i++) {
+			long bit = Math.floorMod(h1 + (long)i * h2, bitSize);
+			int index = (int)(bit >>> 6);
+			long mask = 1L << bit;
+			long current;
+			do {
+				current = bits.get(index);
+				if ((current & mask) != 0) {
+					break;
+				}
+			} while (!bits.compareAndSet(index, current, current | mask));
+		}
+	}
+
+	public boolean mightContain(String key) {
+		long hash = hash(key);
+		int h1 = (int)hash;
+		int h2 = (int)(hash >>> 32) | 1;
+		for (int i = 1; i <= hashCount; i++) {
+			long bit = Math.floorMod(h1 + (long)i * h2, bitSize);
+			if ((bits.get((int)(bit >>> 6)) & (1L << bit)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static long hash(String key) {
+		long hash = 0xcbf29ce484222325L;
+		for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+			hash ^= b;
+			hash *= 0x100000001b3L;
+		}
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+}
@@ -0,0 +1,123 @@
+package com.kt.service.dedupe;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.kt.config.EventDedupeProperties;
+import com.kt.domain.dedupe.DedupeChannel;
+import com.kt.repository.dedupe.ProcessedEventRepository;
+
+/**
+ * 외부 이벤트 중복 제거 (채널 공용)
+ * 1) 최근 캐시 : 커밋이 확인된 이벤트 ID → DB 없이 "중복" 확정 (재시도 폭주 흡수)
+ * 2) 확률적 필터 : 넣은 적 없다고 답하면 "처음" 확정 → 조회 없이 기록만 한다
+ * 3) DB 유니크 키 : 필터가 "있을 수도 있음" 이라고 답한 이벤트만 조회하고, 기록은 INSERT IGNORE 로 최종 판정
+ *
+ * 기록은 호출 측 트랜잭션에 참여하고, 최근 캐시에는 커밋된 뒤에만 넣는다 (롤백된 이벤트를 중복으로 오판하지 않도록)
+ * 필터는 틀려도 DB 조회가 한 번 늘 뿐이라 기록 즉시 넣는다
+ */
+@Service
+public class EventDeduplicator {
+
+	private final ProcessedEventRepository processedEventRepository;
+	private final ProcessedEventFilter processedEventFilter;
+	private final Set<String> recent;
+
+	public EventDeduplicator(
+		ProcessedEventRepository processedEventRepository,
+		ProcessedEventFilter processedEventFilter,
+		EventDedupeProperties properties
+	) {
+		this.processedEventRepository = processedEventRepository;
+		this.processedEventFilter = processedEventFilter;
+		int capacity = properties.recentCapacity();
+		this.recent = Collections.newSetFromMap(Collections.synchronizedMap(new LinkedHashMap<String, Boolean>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+				return size() > capacity;
+			}
+		}));
+	}
+
+	/**
+	 * 단건 - 처음 보는 이벤트면 기록하고 true, 이미 처리된 이벤트면 false
+	 */
+	public boolean tryAcquire(DedupeChannel channel, String eventId) {
+		if (!findProcessed(channel, List.of(eventId)).isEmpty()) {
+			return false;
+		}
+		if (recordAll(channel, List.of(eventId))) {
+			return true;
+		}
+		// INSERT IGNORE 가 0 행이면 다른 요청이 먼저 커밋한 것
+		recent.add(key(channel, eventId));
+		return false;
+	}
+
+	/**
+	 * 이미 처리된 이벤트 ID 만 골라 반환 - DB 는 필터가 "있을 수도 있음" 이라고 답한 ID 만 IN 조회 한 번
+	 */
+	public Set<String> findProcessed(DedupeChannel channel, Collection<String> eventIds) {
+		Set<String> processed = new HashSet<>();
+		List<String> uncertain = new ArrayList<>();
+		for (String eventId : eventIds) {
+			if (recent.contains(key(channel, eventId))) {
+				processed.add(eventId);
+			} else if (processedEventFilter.mightContain(channel, eventId)) {
+				uncertain.add(eventId);
+			}
+		}
+
+		Set<String> existing = processedEventRepository.findExistingEventIds(channel, uncertain);
+		existing.forEach(eventId -> recent.add(key(channel, eventId)));
+		processed.addAll(existing);
+		return processed;
+	}
+
+	/**
+	 * 다중 행 INSERT IGNORE 로 기록 - 모두 새로 들어갔으면 true
+	 * - false 면 일부를 다른 요청이 먼저 기록한 것이므로 호출 측이 트랜잭션을 롤백하고 다시 판정해야 한다
+	 */
+	public boolean recordAll(DedupeChannel channel, List<String> eventIds) {
+		if (eventIds.isEmpty()) {
+			return true;
+		}
+
+		int inserted = processedEventRepository.insertIgnore(channel, eventIds, LocalDate.now());
+		eventIds.forEach(eventId -> processedEventFilter.put(channel, eventId));
+		if (inserted != eventIds.size()) {
+			return false;
+		}
+
+		rememberAfterCommit(channel, eventIds);
+		return true;
+	}
+
+	private void rememberAfterCommit(DedupeChannel channel, List<String> eventIds) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			eventIds.forEach(eventId -> recent.add(key(channel, eventId)));
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				eventIds.forEach(eventId -> recent.add(key(channel, eventId)));
+			}
+		});
+	}
+
+	private String key(DedupeChannel channel, String eventId) {
+		return channel.name() + ":" + eventId;
+	}
+}
@@ -0,0 +1,59 @@
+package com.kt.service.dedupe;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.kt.config.EventDedupeProperties;
+import com.kt.domain.dedupe.DedupeChannel;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 노드 메모리 블룸 필터
+ * - 다른 노드가 처리한 이벤트나 재시작 이전 이벤트는 모르므로 "처음 봄" 으로 답할 수 있지만,
+ *   그 경우에도 INSERT IGNORE 가 유니크 키로 막으므로 정합성에는 영향이 없다
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.dedupe.filter", havingValue = "local", matchIfMissing = true)
+public class LocalProcessedEventFilter implements ProcessedEventFilter {
+
+	private record Key(DedupeChannel channel, long generation) {
+	}
+
+	private final EventDedupeProperties properties;
+	private final Map<Key, BloomFilter> filters = new ConcurrentHashMap<>();
+
+	@Override
+	public boolean mightContain(DedupeChannel channel, String eventId) {
+		long generation = currentGeneration();
+		return contains(new Key(channel, generation), eventId) || contains(new Key(channel, generation - 1), eventId);
+	}
+
+	@Override
+	public void put(DedupeChannel channel, String eventId) {
+		long generation = currentGeneration();
+		Key current = new Key(channel, generation);
+		if (!filters.containsKey(current)) {
+			// 세대가 바뀌면 직전 세대보다 오래된 필터를 버린다
+			filters.keySet().removeIf(key -> key.channel() == channel && key.generation() < generation - 1);
+		}
+		filters.computeIfAbsent(current, key -> new BloomFilter(
+			properties.expectedEventsPerDay() * properties.retentionDays(),
+			properties.falsePositiveRate()
+		)).put(eventId);
+	}
+
+	private boolean contains(Key key, String eventId) {
+		BloomFilter filter = filters.get(key);
+		return filter != null && filter.mightContain(eventId);
+	}
+
+	private long currentGeneration() {
+		return ProcessedEventFilter.generation(LocalDate.now().toEpochDay(), properties.retentionDays());
+	}
+}
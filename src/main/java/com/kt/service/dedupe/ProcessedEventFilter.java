@@ -0,0 +1,23 @@
+package com.kt.service.dedupe;
+
+import com.kt.domain.dedupe.DedupeChannel;
+
+/**
+ * 처리한 이벤트 ID 확률적 필터
+ * - mightContain 이 false 면 "확실히 처음 보는 이벤트" → DB 조회 없이 바로 기록
+ * - true 는 "처리했을 수도 있음" → DB 유니크 키로 확인
+ * - 보관 기간 단위 세대(generation)로 나눠 현재/직전 세대만 조회하고 더 오래된 세대는 버린다
+ */
+public interface ProcessedEventFilter {
+
+	boolean mightContain(DedupeChannel channel, String eventId);
+
+	void put(DedupeChannel channel, String eventId);
+
+	/**
+	 * 보관 기간 단위 세대 번호 - 한 세대가 보관 기간 전체를 덮으므로 현재/직전 두 세대면 충분하다
+	 */
+	static long generation(long epochDay, int retentionDays) {
+		return Math.floorDiv(epochDay, Math.max(1, retentionDays));
+	}
+}
@@ -0,0 +1,54 @@
+package com.kt.service.dedupe;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.kt.config.EventDedupeProperties;
+import com.kt.domain.dedupe.DedupeChannel;
+import com.kt.repository.dedupe.ProcessedEventRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * partition_date 도입 전 행을 위한 일회성 마이그레이션
+ * - 빈 partition_date 를 created_at 날짜로 purgeBatchSize 단위로 채운 뒤 컬럼을 NOT NULL 로 바꾼다
+ * - 채우는 동안 새로 들어오는 행은 항상 partition_date 를 갖고, 보관 삭제(partition_date < cutoff)는 NULL 행을 건드리지 않는다
+ * - 이미 NOT NULL 이면 아무것도 하지 않으므로 매 기동마다, 여러 노드가 동시에 돌아도 안전하다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProcessedEventPartitionBackfill {
+
+	private final ProcessedEventRepository processedEventRepository;
+	private final EventDedupeProperties properties;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void migrate() {
+		for (DedupeChannel channel : DedupeChannel.values()) {
+			try {
+				migrate(channel);
+			} catch (Exception e) {
+				log.warn("[DEDUPE_BACKFILL_FAILED] channel={}, reason={}", channel, e.getMessage());
+			}
+		}
+	}
+
+	private void migrate(DedupeChannel channel) {
+		if (!processedEventRepository.isPartitionDateNullable(channel)) {
+			return;
+		}
+
+		long filled = 0;
+		int batch;
+		do {
+			batch = processedEventRepository.backfillPartitionDates(channel, properties.purgeBatchSize());
+			filled += batch;
+		} while (batch >= properties.purgeBatchSize());
+
+		processedEventRepository.requirePartitionDate(channel);
+		log.info("[DEDUPE_BACKFILL] channel={}, filled={}", channel, filled);
+	}
+}
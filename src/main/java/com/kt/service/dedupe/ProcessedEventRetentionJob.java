@@ -0,0 +1,44 @@
+package com.kt.service.dedupe;
+
+import java.time.LocalDate;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.kt.config.EventDedupeProperties;
+import com.kt.domain.dedupe.DedupeChannel;
+import com.kt.repository.dedupe.ProcessedEventRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 처리 기록 보관 기간 관리
+ * - 보관 기간이 지난 일 파티션(partition_date)을 purgeBatchSize 단위로 나눠 통째로 삭제
+ * - 여러 노드가 동시에 돌아도 같은 범위를 지울 뿐이라 별도 잠금은 두지 않는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProcessedEventRetentionJob {
+
+	private final ProcessedEventRepository processedEventRepository;
+	private final EventDedupeProperties properties;
+
+	@Scheduled(cron = "${app.dedupe.purge-cron:0 30 4 * * *}")
+	public void purge() {
+		LocalDate cutoff = LocalDate.now().minusDays(properties.retentionDays());
+		for (DedupeChannel channel : DedupeChannel.values()) {
+			long deleted = 0;
+			int batch;
+			do {
+				batch = processedEventRepository.deletePartitionsBefore(channel, cutoff, properties.purgeBatchSize());
+				deleted += batch;
+			} while (batch >= properties.purgeBatchSize());
+
+			if (deleted > 0) {
+				log.info("[DEDUPE_PURGE] channel={}, cutoff={}, deleted={}", channel, cutoff, deleted);
+			}
+		}
+	}
+}
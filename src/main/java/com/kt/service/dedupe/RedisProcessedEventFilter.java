@@ -0,0 +1,77 @@
+package com.kt.service.dedupe;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.redisson.api.RBloomFilter;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.kt.config.EventDedupeProperties;
+import com.kt.domain.dedupe.DedupeChannel;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 블룸 필터 - 모든 노드가 같은 필터를 보므로 다른 노드가 처리한 재시도도 걸러낸다
+ * - 키: dedupe:bloom:{채널}:{세대}, 두 세대가 지나면 만료
+ * - Redis 장애 시 "처리했을 수도 있음" 으로 답해 DB 경로로 넘긴다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.dedupe.filter", havingValue = "redis")
+public class RedisProcessedEventFilter implements ProcessedEventFilter {
+
+	private final RedissonClient redissonClient;
+	private final EventDedupeProperties properties;
+	private record Key(DedupeChannel channel, long generation) {
+	}
+
+	private final Map<Key, RBloomFilter<String>> filters = new ConcurrentHashMap<>();
+
+	@Override
+	public boolean mightContain(DedupeChannel channel, String eventId) {
+		long generation = currentGeneration();
+		try {
+			return filter(channel, generation).contains(eventId) || filter(channel, generation - 1).contains(eventId);
+		} catch (RuntimeException e) {
+			log.warn("[DEDUPE_FILTER_UNAVAILABLE] channel={}, eventId={}", channel, eventId, e);
+			return true;
+		}
+	}
+
+	@Override
+	public void put(DedupeChannel channel, String eventId) {
+		try {
+			filter(channel, currentGeneration()).add(eventId);
+		} catch (RuntimeException e) {
+			log.warn("[DEDUPE_FILTER_UNAVAILABLE] channel={}, eventId={}", channel, eventId, e);
+		}
+	}
+
+	private RBloomFilter<String> filter(DedupeChannel channel, long generation) {
+		Key current = new Key(channel, generation);
+		if (!filters.containsKey(current)) {
+			filters.keySet().removeIf(key -> key.channel() == channel && key.generation() < generation - 1);
+		}
+		return filters.computeIfAbsent(current, key -> {
+			String name = "dedupe:bloom:" + channel.name().toLowerCase() + ":" + generation;
+			RBloomFilter<String> filter = redissonClient.getBloomFilter(name, StringCodec.INSTANCE);
+			// 현재 세대로 한 번, 다음 세대에서 직전 세대로 한 번 쓰이므로 두 세대 이상 유지
+			if (filter.tryInit(properties.expectedEventsPerDay() * properties.retentionDays(), properties.falsePositiveRate())) {
+				filter.expire(Duration.ofDays(3L * Math.max(1, properties.retentionDays())));
+			}
+			return filter;
+		});
+	}
+
+	private long currentGeneration() {
+		return ProcessedEventFilter.generation(LocalDate.now().toEpochDay(), properties.retentionDays());
+	}
+}
@@ -1,5 +1,7 @@
 package com.kt.service.delivery;
 
+import java.time.LocalDateTime;
+
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -9,16 +11,19 @@ import org.springframework.transaction.annotation.Transactional;
 import com.kt.common.api.CustomException;
 import com.kt.common.api.ErrorCode;
 import com.kt.common.Preconditions;
+import com.kt.domain.dedupe.DedupeChannel;
 import com.kt.domain.delivery.Delivery;
 import com.kt.domain.delivery.DeliveryStatus;
 import com.kt.domain.delivery.DeliveryStatusHistory;
 import com.kt.domain.delivery.event.DeliveryStatusEvent;
+import com.kt.domain.order.event.OrderChangedEvent;
 import com.kt.dto.delivery.DeliveryRequest;
 import com.kt.dto.delivery.DeliveryResponse;
 import com.kt.repository.delivery.CourierRepository;
 import com.kt.repository.delivery.DeliveryAddressRepository;
 import com.kt.repository.delivery.DeliveryRepository;
 import com.kt.repository.delivery.DeliveryStatusHistoryRepository;
+import com.kt.service.dedupe.EventDeduplicator;
 
 import lombok.RequiredArgsConstructor;
 
@@ -30,6 +35,7 @@ public class DeliveryService {
 	private final DeliveryAddressRepository deliveryAddressRepository;
 	private final DeliveryStatusHistoryRepository deliveryStatusHistoryRepository;
 	private final CourierRepository courierRepository;
+	private final EventDeduplicator eventDeduplicator;
 
 	private final ApplicationEventPublisher eventPublisher;
 
@@ -58,6 +64,7 @@ public class DeliveryService {
 		var savedDelivery = deliveryRepository.save(delivery);
 
 		saveHistory(savedDelivery.getId(), DeliveryStatus.PENDING);
+		eventPublisher.publishEvent(OrderChangedEvent.of(savedDelivery.getOrderId()));
 
 		return DeliveryResponse.Detail.from(savedDelivery, address);
 	}
@@ -126,6 +133,7 @@ public class DeliveryService {
 			delivery.getTrackingNumber(),
 			delivery.getCourierCode()
 		));
+		eventPublisher.publishEvent(OrderChangedEvent.of(delivery.getOrderId()));
 
 		var address =  deliveryAddressRepository.findById(delivery.getDeliveryAddressId())
 			.orElseThrow(() -> new CustomException(ErrorCode.DELIVERY_ADDRESS_NOT_FOUND));
@@ -133,7 +141,16 @@ public class DeliveryService {
 		return DeliveryResponse.Detail.from(delivery, address);
 	}
 
-	public void updateStatusByWebhook(String trackingNumber, DeliveryStatus status) {
+	/**
+	 * 택배사 웹훅은 같은 알림을 여러 번 보낼 수 있어 (송장번호, 상태, 발생 시각) 으로 중복을 거른다
+	 * - 상태 반영이 실패하면 처리 기록도 함께 롤백되어 재전송 시 다시 반영된다
+	 */
+	public void updateStatusByWebhook(String trackingNumber, DeliveryStatus status, LocalDateTime eventTime) {
+		String eventId = trackingNumber + ":" + status + ":" + eventTime;
+		if (!eventDeduplicator.tryAcquire(DedupeChannel.DELIVERY_WEBHOOK, eventId)) {
+			return;
+		}
+
 		var delivery = deliveryRepository.findByTrackingNumber(trackingNumber)
 			.orElseThrow(() -> new CustomException(ErrorCode.DELIVERY_NOT_FOUND));
 
@@ -152,6 +169,7 @@ public class DeliveryService {
 			delivery.getTrackingNumber(),
 			delivery.getCourierCode()
 		));
+		eventPublisher.publishEvent(OrderChangedEvent.of(delivery.getOrderId()));
 	}
 
 	public DeliveryResponse.Detail registerTrackingNumber(Long deliveryId, DeliveryRequest.RegisterTracking request){
@@ -172,6 +190,7 @@ public class DeliveryService {
 			delivery.getTrackingNumber(),
 			delivery.getCourierCode()
 		));
+		eventPublisher.publishEvent(OrderChangedEvent.of(delivery.getOrderId()));
 
 		var address =  deliveryAddressRepository.findById(delivery.getDeliveryAddressId())
 			.orElseThrow(() -> new CustomException(ErrorCode.DELIVERY_ADDRESS_NOT_FOUND));
@@ -1,19 +1,27 @@
 package com.kt.service.delivery.listener;
 
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 
 import com.kt.domain.delivery.event.DeliveryStatusEvent;
+import com.kt.domain.outbox.OutboxEventType;
+import com.kt.service.outbox.OutboxEventHandler;
 
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 배송 상태 변경 알림 (아웃박스 전달 - 같은 알림이 다시 전달될 수 있다)
+ */
 @Slf4j
 @Component
-public class DeliveryEventListener {
+public class DeliveryEventListener implements OutboxEventHandler<DeliveryStatusEvent> {
 
-	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-	public void handleDeliveryStatusChange(DeliveryStatusEvent event) {
+	@Override
+	public OutboxEventType type() {
+		return OutboxEventType.DELIVERY_STATUS_CHANGED;
+	}
+
+	@Override
+	public void handle(DeliveryStatusEvent event) {
 
 		switch (event.status()) {
 			case SHIPPING -> sendShippingNotification(event);
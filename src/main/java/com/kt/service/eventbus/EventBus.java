@@ -0,0 +1,12 @@
+package com.kt.service.eventbus;
+
+import com.kt.domain.outbox.OutboxEventType;
+
+/**
+ * 아웃박스 릴레이가 이벤트를 넘기는 곳
+ * - 반환되면 전달된 것으로 보고 아웃박스 행을 전달 완료로 기록한다 (예외면 재시도)
+ */
+public interface EventBus {
+
+	void publish(OutboxEventType type, String partitionKey, String payload);
+}
@@ -0,0 +1,25 @@
+package com.kt.service.eventbus;
+
+import com.kt.domain.outbox.OutboxEventType;
+
+/**
+ * 이벤트 스트림 키 - events:{종류}:{파티션}
+ * (클러스터에서 파티션마다 다른 슬롯에 놓이도록 해시 태그를 쓰지 않는다)
+ */
+final class EventStreams {
+
+	static final String DEAD_LETTER_KEY = "events:dead-letter";
+	static final String FIELD_KEY = "key";
+	static final String FIELD_PAYLOAD = "payload";
+
+	private EventStreams() {
+	}
+
+	static String key(OutboxEventType type, int partition) {
+		return "events:" + type.name() + ":" + partition;
+	}
+
+	static int partition(String partitionKey, int partitions) {
+		return partitionKey == null ? 0 : Math.floorMod(partitionKey.hashCode(), partitions);
+	}
+}
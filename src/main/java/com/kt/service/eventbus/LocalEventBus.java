@@ -0,0 +1,25 @@
+package com.kt.service.eventbus;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.kt.domain.outbox.OutboxEventType;
+import com.kt.service.outbox.OutboxEventDispatcher;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Redis 를 쓰지 않는 단일 노드 환경(로컬/테스트)용 - 릴레이한 스레드에서 바로 핸들러를 호출한다
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "app.redis.enabled", havingValue = "false")
+public class LocalEventBus implements EventBus {
+
+	private final OutboxEventDispatcher outboxEventDispatcher;
+
+	@Override
+	public void publish(OutboxEventType type, String partitionKey, String payload) {
+		outboxEventDispatcher.dispatch(type, payload);
+	}
+}
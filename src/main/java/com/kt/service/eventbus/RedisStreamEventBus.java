@@ -0,0 +1,44 @@
+package com.kt.service.eventbus;
+
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.kt.config.EventBusProperties;
+import com.kt.domain.outbox.OutboxEventType;
+import com.kt.service.outbox.OutboxEventDispatcher;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * streamTypes 에 든 이벤트는 파티션 스트림에 XADD 하고 (어느 노드의 소비자든 가져가 처리),
+ * 나머지는 릴레이한 노드에서 바로 처리한다
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "app.redis.enabled", havingValue = "true", matchIfMissing = true)
+public class RedisStreamEventBus implements EventBus {
+
+	private final StringRedisTemplate redisTemplate;
+	private final OutboxEventDispatcher outboxEventDispatcher;
+	private final EventBusProperties properties;
+
+	@Override
+	public void publish(OutboxEventType type, String partitionKey, String payload) {
+		if (!properties.streamTypes().contains(type)) {
+			outboxEventDispatcher.dispatch(type, payload);
+			return;
+		}
+
+		String streamKey = EventStreams.key(type, EventStreams.partition(partitionKey, properties.partitions()));
+		redisTemplate.opsForStream().add(StreamRecords.newRecord()
+			.in(streamKey)
+			.ofMap(Map.of(
+				EventStreams.FIELD_KEY, partitionKey == null ? "" : partitionKey,
+				EventStreams.FIELD_PAYLOAD, payload
+			)));
+	}
+}
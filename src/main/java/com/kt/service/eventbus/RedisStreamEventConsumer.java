@@ -0,0 +1,217 @@
+package com.kt.service.eventbus;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.kt.config.EventBusProperties;
+import com.kt.domain.outbox.OutboxEventType;
+import com.kt.service.outbox.OutboxEventDispatcher;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이벤트 스트림 소비자 - 소비자 그룹으로 읽으므로 노드가 몇 개든 메시지 하나는 한 노드만 처리한다
+ * - 파티션 스트림마다 가상 스레드 하나가 readCount 씩 읽어 핸들러에 넘기고, 처리한 메시지는 묶어서 한 번에 XACK
+ * - 처리하지 못한 메시지는 ACK 하지 않고 남겨 두고, reclaimIdle 이 지난 대기 메시지는 살아 있는 소비자가 XCLAIM 해 다시 처리
+ *   (처리 도중 노드가 죽어도 다른 노드가 이어받는다)
+ * - maxDeliveries 번 전달해도 처리하지 못한 메시지는 dead letter 스트림으로 옮기고 ACK 한다
+ *
+ * 메트릭 (type 태그)
+ * - event.bus.consumed / event.bus.failures / event.bus.dead.letters
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "app.redis.enabled", havingValue = "true", matchIfMissing = true)
+public class RedisStreamEventConsumer {
+
+	private final StreamOperations<String, String, String> streams;
+	private final OutboxEventDispatcher outboxEventDispatcher;
+	private final EventBusProperties properties;
+	private final MeterRegistry meterRegistry;
+	private final String consumerName = ManagementFactory.getRuntimeMXBean().getName();
+	private final List<Thread> workers = new ArrayList<>();
+	private volatile boolean running;
+
+	public RedisStreamEventConsumer(
+		StringRedisTemplate redisTemplate,
+		OutboxEventDispatcher outboxEventDispatcher,
+		EventBusProperties properties,
+		MeterRegistry meterRegistry
+	) {
+		this.streams = redisTemplate.opsForStream();
+		this.outboxEventDispatcher = outboxEventDispatcher;
+		this.properties = properties;
+		this.meterRegistry = meterRegistry;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void start() {
+		if (!properties.consumerEnabled()) {
+			return;
+		}
+
+		running = true;
+		for (OutboxEventType type : properties.streamTypes()) {
+			for (int partition = 0; partition < properties.partitions(); partition++) {
+				String streamKey = EventStreams.key(type, partition);
+				createGroup(streamKey);
+				workers.add(Thread.ofVirtual()
+					.name("event-bus-" + type.name().toLowerCase() + "-" + partition)
+					.start(() -> consume(type, streamKey)));
+			}
+		}
+	}
+
+	@EventListener(ContextClosedEvent.class)
+	public void stop() throws InterruptedException {
+		running = false;
+		for (Thread worker : workers) {
+			worker.join(properties.reclaimIdle());
+		}
+	}
+
+	private void consume(OutboxEventType type, String streamKey) {
+		long nextReclaim = System.nanoTime() + properties.reclaimInterval().toNanos();
+		while (running) {
+			try {
+				if (System.nanoTime() >= nextReclaim) {
+					reclaim(type, streamKey);
+					streams.trim(streamKey, properties.maxLength(), true);
+					nextReclaim = System.nanoTime() + properties.reclaimInterval().toNanos();
+				}
+
+				List<MapRecord<String, String, String>> records = streams.read(
+					Consumer.from(properties.group(), consumerName),
+					StreamReadOptions.empty().count(properties.readCount()),
+					StreamOffset.create(streamKey, ReadOffset.lastConsumed())
+				);
+				if (records == null || records.isEmpty()) {
+					Thread.sleep(properties.pollInterval());
+					continue;
+				}
+				acknowledge(streamKey, handle(type, records));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (RuntimeException e) {
+				log.error("[EVENT_BUS_CONSUMER_ERROR] stream={}", streamKey, e);
+				if (!pause()) {
+					return;
+				}
+			}
+		}
+	}
+
+	// 오래 처리되지 않은 대기 메시지를 이 소비자로 가져와 다시 처리 (전달 횟수를 다 쓴 메시지는 dead letter)
+	private void reclaim(OutboxEventType type, String streamKey) {
+		Map<RecordId, Long> deliveries = new HashMap<>();
+		for (PendingMessage pending : streams.pending(streamKey, properties.group(), Range.unbounded(),
+			properties.readCount())) {
+			if (pending.getElapsedTimeSinceLastDelivery().compareTo(properties.reclaimIdle()) >= 0) {
+				deliveries.put(pending.getId(), pending.getTotalDeliveryCount());
+			}
+		}
+		if (deliveries.isEmpty()) {
+			return;
+		}
+
+		List<MapRecord<String, String, String>> claimed = streams.claim(
+			streamKey, properties.group(), consumerName, properties.reclaimIdle(),
+			deliveries.keySet().toArray(RecordId[]::new)
+		);
+		List<MapRecord<String, String, String>> retry = new ArrayList<>(claimed.size());
+		List<RecordId> deadLettered = new ArrayList<>();
+		for (MapRecord<String, String, String> record : claimed) {
+			long delivered = deliveries.getOrDefault(record.getId(), 0L);
+			if (delivered >= properties.maxDeliveries()) {
+				deadLetter(type, streamKey, record, delivered);
+				deadLettered.add(record.getId());
+			} else {
+				retry.add(record);
+			}
+		}
+
+		List<RecordId> handled = handle(type, retry);
+		handled.addAll(deadLettered);
+		acknowledge(streamKey, handled);
+		log.info("[EVENT_BUS_RECLAIMED] stream={}, claimed={}, deadLettered={}", streamKey, claimed.size(),
+			deadLettered.size());
+	}
+
+	private List<RecordId> handle(OutboxEventType type, List<MapRecord<String, String, String>> records) {
+		List<RecordId> handled = new ArrayList<>(records.size());
+		for (MapRecord<String, String, String> record : records) {
+			try {
+				outboxEventDispatcher.dispatch(type, record.getValue().get(EventStreams.FIELD_PAYLOAD));
+				handled.add(record.getId());
+			} catch (RuntimeException e) {
+				meterRegistry.counter("event.bus.failures", "type", type.name()).increment();
+				log.warn("[EVENT_BUS_HANDLE_FAILED] type={}, id={}", type, record.getId(), e);
+			}
+		}
+		meterRegistry.counter("event.bus.consumed", "type", type.name()).increment(handled.size());
+		return handled;
+	}
+
+	private void acknowledge(String streamKey, List<RecordId> ids) {
+		if (!ids.isEmpty()) {
+			streams.acknowledge(streamKey, properties.group(), ids.toArray(RecordId[]::new));
+		}
+	}
+
+	private void deadLetter(OutboxEventType type, String streamKey, MapRecord<String, String, String> record,
+		long delivered) {
+		log.error("[EVENT_BUS_DEAD_LETTER] stream={}, id={}, deliveries={}", streamKey, record.getId(), delivered);
+		meterRegistry.counter("event.bus.dead.letters", "type", type.name()).increment();
+		Map<String, String> fields = new HashMap<>(record.getValue());
+		fields.put("stream", streamKey);
+		fields.put("recordId", record.getId().getValue());
+		fields.put("deliveries", String.valueOf(delivered));
+		streams.add(StreamRecords.newRecord().in(EventStreams.DEAD_LETTER_KEY).ofMap(fields));
+	}
+
+	// 스트림이 없으면 만들면서 처음부터 읽는 그룹을 만든다 (이미 있으면 BUSYGROUP - 무시)
+	private void createGroup(String streamKey) {
+		try {
+			streams.createGroup(streamKey, ReadOffset.from("0-0"), properties.group());
+		} catch (DataAccessException e) {
+			String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+			if (message == null || !message.contains("BUSYGROUP")) {
+				throw e;
+			}
+		}
+	}
+
+	private boolean pause() {
+		try {
+			Thread.sleep(properties.pollInterval().multipliedBy(10));
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+}
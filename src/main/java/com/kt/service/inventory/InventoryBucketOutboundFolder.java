@@ -0,0 +1,45 @@
+package com.kt.service.inventory;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.kt.config.InventoryReservationProperties;
+import com.kt.repository.inventory.InventoryBucketRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 핫 상품 버킷에 쌓인 출고 수량을 주기적으로 상품 행의 출고 처리 중으로 옮긴다
+ * - 주문마다 상품 행을 갱신하지 않고 주기마다 상품당 한 번만 잠가 모은다
+ * - 조회/원장 대사는 버킷 outbound 를 합쳐 보므로, 옮기기 전에도 보이는 재고는 같다
+ * - 실패한 상품은 버킷에 그대로 남아 다음 주기에 다시 옮긴다
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.inventory.reservation.engine", havingValue = "jpa", matchIfMissing = true)
+@RequiredArgsConstructor
+public class InventoryBucketOutboundFolder {
+
+	private final InventoryBucketRepository inventoryBucketRepository;
+	private final InventoryBucketService inventoryBucketService;
+	private final InventoryReservationProperties properties;
+
+	@Scheduled(fixedDelayString = "${app.inventory.reservation.bucket-fold-interval-ms:1000}")
+	public void fold() {
+		List<Long> productIds = inventoryBucketRepository.findProductIdsWithOutbound(
+			PageRequest.of(0, properties.flushBatchSize())
+		);
+		for (Long productId : productIds) {
+			try {
+				inventoryBucketService.foldOutbound(productId);
+			} catch (RuntimeException e) {
+				log.warn("[INVENTORY_BUCKET_FOLD_FAILED] productId={}", productId, e);
+			}
+		}
+	}
+}
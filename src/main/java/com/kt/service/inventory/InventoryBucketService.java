@@ -0,0 +1,283 @@
+package com.kt.service.inventory;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiConsumer;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.kt.common.Preconditions;
+import com.kt.common.api.CustomException;
+import com.kt.common.api.ErrorCode;
+import com.kt.config.InventoryReservationProperties;
+import com.kt.domain.inventory.BucketTotals;
+import com.kt.domain.inventory.Inventory;
+import com.kt.domain.inventory.InventoryBucket;
+import com.kt.repository.inventory.InventoryBucketRepository;
+import com.kt.repository.inventory.InventoryRepository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 핫 상품 재고 버킷 관리
+ * - 판매 가능 재고를 N 개 버킷 행으로 나눠 두고, 예약은 임의의 버킷부터 조건부 UPDATE 로 시도한다
+ * - 모든 버킷이 바닥나면 상품 행과 버킷을 잠그고 남은 재고를 고르게 재분배한다
+ * - 확정/차감은 버킷의 outbound 에만 쌓고, 상품 행의 출고 처리 중으로는 foldOutbound 가 모아서 옮긴다
+ *   (핫 상품의 주문마다 상품 행 한 줄을 갱신하면 버킷으로 나눈 의미가 없어진다)
+ * - 일반 상품이면 NOT_HOT 을 돌려주어 호출 측이 기존 행 잠금 경로로 처리하게 한다
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class InventoryBucketService {
+
+	public enum Outcome {
+		NOT_HOT, APPLIED, SHORTAGE
+	}
+
+	private static final int MAX_BUCKET_COUNT = 64;
+
+	private final InventoryRepository inventoryRepository;
+	private final InventoryBucketRepository inventoryBucketRepository;
+	private final EntityManager entityManager;
+	private final InventoryReservationProperties reservationProperties;
+
+	public void enable(Long productId, int bucketCount) {
+		Preconditions.validate(reservationProperties.supportsHotBuckets(), ErrorCode.INVENTORY_HOT_MODE_UNSUPPORTED);
+		Preconditions.validate(bucketCount <= MAX_BUCKET_COUNT, ErrorCode.INVENTORY_BUCKET_COUNT_INVALID);
+
+		Inventory inventory = lockInventory(productId);
+		long moved = inventory.enableHotMode(bucketCount);
+
+		inventoryBucketRepository.saveAll(
+			IntStream.range(0, bucketCount)
+				.mapToObj(bucketNo -> InventoryBucket.create(productId, bucketNo, share(moved, bucketCount, bucketNo)))
+				.toList()
+		);
+	}
+
+	public void disable(Long productId) {
+		Inventory inventory = lockInventory(productId);
+		List<InventoryBucket> buckets = lockBuckets(productId);
+		fold(inventory, buckets);
+
+		inventory.disableHotMode(sumAvailable(buckets), sumReserved(buckets));
+		inventoryBucketRepository.deleteAllInBatch(buckets);
+	}
+
+	public void deleteByProductId(Long productId) {
+		inventoryBucketRepository.deleteByProductId(productId);
+	}
+
+	/**
+	 * 핫 상품이면 버킷 합계를 합친 조회용 재고를, 아니면 그대로 반환
+	 */
+	@Transactional(readOnly = true)
+	public Inventory aggregate(Inventory inventory) {
+		if (!inventory.isHot()) {
+			return inventory;
+		}
+
+		return inventoryBucketRepository.sumByProductIds(List.of(inventory.getProduct().getId())).stream()
+			.findFirst()
+			.map(totals -> inventory.withBucketTotals(totals.available(), totals.reserved(), totals.outbound()))
+			.orElse(inventory);
+	}
+
+	/**
+	 * 여러 재고를 한 번에 조회용으로 변환 - 핫 상품 버킷 합계는 쿼리 한 번으로 읽는다
+	 */
+	@Transactional(readOnly = true)
+	public List<Inventory> aggregateAll(List<Inventory> inventories) {
+		List<Long> hotProductIds = inventories.stream()
+			.filter(Inventory::isHot)
+			.map(inventory -> inventory.getProduct().getId())
+			.toList();
+		if (hotProductIds.isEmpty()) {
+			return inventories;
+		}
+
+		Map<Long, BucketTotals> totalsByProduct = inventoryBucketRepository.sumByProductIds(hotProductIds).stream()
+			.collect(Collectors.toMap(BucketTotals::productId, totals -> totals));
+		return inventories.stream()
+			.map(inventory -> {
+				BucketTotals totals = totalsByProduct.get(inventory.getProduct().getId());
+				return totals == null
+					? inventory
+					: inventory.withBucketTotals(totals.available(), totals.reserved(), totals.outbound());
+			})
+			.toList();
+	}
+
+	@Transactional(readOnly = true)
+	public Set<Long> findHotProductIds(Collection<Long> productIds) {
+		return new HashSet<>(inventoryBucketRepository.findHotProductIds(productIds));
+	}
+
+	public Outcome reserve(Long productId, long quantity) {
+		int bucketCount = inventoryBucketRepository.countByProductId(productId);
+		if (bucketCount == 0) {
+			return Outcome.NOT_HOT;
+		}
+
+		if (probe(bucketCount, bucketNo -> inventoryBucketRepository.reserve(productId, bucketNo, quantity))) {
+			return Outcome.APPLIED;
+		}
+		return rebalance(productId, quantity, (inventory, bucket) -> bucket.holdReserved(quantity));
+	}
+
+	/**
+	 * 예약 해제 - 버킷에 해당 예약이 없으면(핫 모드 전환 전 예약) SHORTAGE 로 행 경로에 넘긴다
+	 */
+	public Outcome release(Long productId, long quantity) {
+		int bucketCount = inventoryBucketRepository.countByProductId(productId);
+		if (bucketCount == 0) {
+			return Outcome.NOT_HOT;
+		}
+
+		return probe(bucketCount, bucketNo -> inventoryBucketRepository.release(productId, bucketNo, quantity))
+			? Outcome.APPLIED
+			: Outcome.SHORTAGE;
+	}
+
+	/**
+	 * 예약 확정 - 버킷 예약분을 소진해 버킷의 outbound 에 쌓는다
+	 */
+	public Outcome commit(Long productId, long quantity) {
+		int bucketCount = inventoryBucketRepository.countByProductId(productId);
+		if (bucketCount == 0) {
+			return Outcome.NOT_HOT;
+		}
+
+		return probe(bucketCount, bucketNo -> inventoryBucketRepository.consumeReserved(productId, bucketNo, quantity))
+			? Outcome.APPLIED
+			: Outcome.SHORTAGE;
+	}
+
+	/**
+	 * 예약 없이 바로 차감 - 버킷 판매 가능분을 소진해 버킷의 outbound 에 쌓는다
+	 */
+	public Outcome deduct(Long productId, long quantity) {
+		int bucketCount = inventoryBucketRepository.countByProductId(productId);
+		if (bucketCount == 0) {
+			return Outcome.NOT_HOT;
+		}
+
+		if (probe(bucketCount, bucketNo -> inventoryBucketRepository.consumeAvailable(productId, bucketNo, quantity))) {
+			return Outcome.APPLIED;
+		}
+		return rebalance(productId, quantity, (inventory, bucket) -> inventory.shipFromBuckets(quantity));
+	}
+
+	/**
+	 * 버킷에 쌓인 출고 수량을 상품 행의 출고 처리 중으로 옮긴다 (주기 작업)
+	 */
+	public void foldOutbound(Long productId) {
+		Inventory inventory = lockInventory(productId);
+		fold(inventory, lockBuckets(productId));
+		entityManager.flush();
+	}
+
+	/**
+	 * 상품 행의 출고 처리 중을 JDBC 로 직접 다루기 전에 호출 (결제 취소 복구)
+	 * - 상품 ID 순서로 상품 행 → 버킷을 잠가 재분배나 다른 모으기와 교착하지 않는다
+	 */
+	public void foldOutbound(Collection<Long> productIds) {
+		findHotProductIds(productIds).stream()
+			.sorted()
+			.forEach(this::foldOutbound);
+	}
+
+	/**
+	 * 호출 측이 이미 잠근 상품 행에 버킷 출고 수량을 모은다 (WMS 출고 확정/취소)
+	 */
+	public void foldOutbound(Inventory lockedInventory) {
+		if (lockedInventory.isHot()) {
+			fold(lockedInventory, lockBuckets(lockedInventory.getProduct().getId()));
+		}
+	}
+
+	// 임의의 버킷부터 한 바퀴 돌며 조건부 UPDATE 를 시도 → 동시 요청이 서로 다른 행으로 흩어진다
+	private boolean probe(int bucketCount, IntUnaryOperator update) {
+		int start = ThreadLocalRandom.current().nextInt(bucketCount);
+		for (int i = 0; i < bucketCount; i++) {
+			if (update.applyAsInt((start + i) % bucketCount) > 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 버킷 재분배
+	 * - 상품 행 → 버킷 순서로 잠가 교착을 피한다
+	 * - 행에 남은 판매 가능 재고(입고분)까지 모아 요청 수량을 먼저 떼고 나머지를 고르게 나눈다
+	 */
+	private Outcome rebalance(Long productId, long quantity, BiConsumer<Inventory, InventoryBucket> apply) {
+		Inventory inventory = lockInventory(productId);
+		List<InventoryBucket> buckets = lockBuckets(productId);
+		if (buckets.isEmpty()) {
+			return Outcome.NOT_HOT;
+		}
+
+		long pool = inventory.getAvailable() + sumAvailable(buckets);
+		if (pool < quantity) {
+			return Outcome.SHORTAGE;
+		}
+
+		fold(inventory, buckets);
+		inventory.absorbIntoBuckets();
+		long remaining = pool - quantity;
+		for (int i = 0; i < buckets.size(); i++) {
+			buckets.get(i).assignAvailable(share(remaining, buckets.size(), i));
+		}
+		apply.accept(inventory, buckets.get(0));
+
+		// 이후 같은 트랜잭션의 JDBC 조건부 UPDATE 가 덮어쓰지 않도록 즉시 반영
+		entityManager.flush();
+		return Outcome.APPLIED;
+	}
+
+	// 상품 행과 버킷을 모두 잠근 상태에서 호출
+	private void fold(Inventory inventory, List<InventoryBucket> buckets) {
+		long pending = buckets.stream().mapToLong(InventoryBucket::takeOutbound).sum();
+		if (pending > 0) {
+			inventory.shipFromBuckets(pending);
+		}
+	}
+
+	// 조건부 UPDATE 로 바뀐 값을 보도록 잠근 뒤 다시 읽는다
+	private Inventory lockInventory(Long productId) {
+		Inventory inventory = inventoryRepository.findByProductIdForUpdate(productId)
+			.orElseThrow(() -> new CustomException(ErrorCode.INVENTORY_NOT_FOUND));
+		entityManager.refresh(inventory);
+		return inventory;
+	}
+
+	private List<InventoryBucket> lockBuckets(Long productId) {
+		List<InventoryBucket> buckets = inventoryBucketRepository.findAllForUpdate(productId);
+		buckets.forEach(entityManager::refresh);
+		return buckets;
+	}
+
+	private static long share(long total, int bucketCount, int bucketNo) {
+		return total / bucketCount + (bucketNo < total % bucketCount ? 1 : 0);
+	}
+
+	private static long sumAvailable(List<InventoryBucket> buckets) {
+		return buckets.stream().mapToLong(InventoryBucket::getAvailable).sum();
+	}
+
+	private static long sumReserved(List<InventoryBucket> buckets) {
+		return buckets.stream().mapToLong(InventoryBucket::getReserved).sum();
+	}
+}
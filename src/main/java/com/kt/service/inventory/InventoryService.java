@@ -5,6 +5,7 @@ import com.kt.common.api.ErrorCode;
 import com.kt.domain.inventory.Inventory;
 import com.kt.domain.product.Product;
 import com.kt.repository.inventory.InventoryRepository;
+import com.kt.service.inventory.cache.InventorySnapshotCache;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -15,15 +16,21 @@ import org.springframework.transaction.annotation.Transactional;
 public class InventoryService {
 
 	private final InventoryRepository inventoryRepository;
+	private final InventoryBucketService inventoryBucketService;
+	private final InventorySnapshotCache inventorySnapshotCache;
 
 	@Transactional
 	public Inventory initialize(Product product) {
 		return inventoryRepository.save(Inventory.initialize(product));
 	}
 
+	/**
+	 * 핫 상품은 버킷 합계를 합친 재고를 반환 (조회 전용)
+	 */
 	@Transactional(readOnly = true)
 	public Inventory getInventoryOrThrow(Long productId) {
 		return inventoryRepository.findByProductId(productId)
+			.map(inventoryBucketService::aggregate)
 			.orElseThrow(() -> new CustomException(ErrorCode.INVENTORY_NOT_FOUND));
 	}
 
@@ -32,8 +39,22 @@ public class InventoryService {
 		return getInventoryOrThrow(productId).hasAvailableStock();
 	}
 
+	@Transactional
+	public void enableHotMode(Long productId, int bucketCount) {
+		inventoryBucketService.enable(productId, bucketCount);
+		inventorySnapshotCache.evictAfterCommit(productId);
+	}
+
+	@Transactional
+	public void disableHotMode(Long productId) {
+		inventoryBucketService.disable(productId);
+		inventorySnapshotCache.evictAfterCommit(productId);
+	}
+
 	@Transactional
 	public void deleteByProductId(Long productId) {
+		inventoryBucketService.deleteByProductId(productId);
 		inventoryRepository.deleteByProductId(productId);
+		inventorySnapshotCache.evictAfterCommit(productId);
 	}
 }
\ No newline at end of file
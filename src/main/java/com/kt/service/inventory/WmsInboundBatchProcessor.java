@@ -0,0 +1,136 @@
+package com.kt.service.inventory;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.kt.common.api.CustomException;
+import com.kt.common.api.ErrorCode;
+import com.kt.domain.dedupe.DedupeChannel;
+import com.kt.domain.inventory.Inventory;
+import com.kt.domain.inventory.ledger.MovementType;
+import com.kt.domain.product.Product;
+import com.kt.dto.wms.InboundBatchConfirmedResponse.Status;
+import com.kt.dto.wms.InboundConfirmedRequest;
+import com.kt.repository.inventory.InventoryRepository;
+import com.kt.repository.product.ProductRepository;
+import com.kt.service.dedupe.EventDeduplicator;
+import com.kt.service.inventory.cache.InventorySnapshotCache;
+import com.kt.service.inventory.ledger.InventoryLedger;
+import com.kt.service.inventory.reservation.StockReservationEngine;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 입고 이벤트 묶음 하나를 한 트랜잭션으로 반영
+ * 1) 수량/상품/재고 검증 (상품, 재고 조회 각 1회)
+ * 2) 이벤트 ID 중복 제거 (묶음 내 중복 + EventDeduplicator 조회 최대 1회 + 다중 행 INSERT 1회)
+ * 3) 상품별 수량 합산 후 상품당 applyWmsInbound 1회
+ */
+@Component
+@RequiredArgsConstructor
+public class WmsInboundBatchProcessor {
+
+	private final ProductRepository productRepository;
+	private final InventoryRepository inventoryRepository;
+	private final EventDeduplicator eventDeduplicator;
+	private final StockReservationEngine stockReservationEngine;
+	private final InventorySnapshotCache inventorySnapshotCache;
+	private final InventoryLedger inventoryLedger;
+
+	/**
+	 * @return 이벤트별 처리 결과 (입력 순서와 같음)
+	 */
+	@Transactional
+	public List<Status> process(List<InboundConfirmedRequest> events) {
+		Status[] statuses = new Status[events.size()];
+
+		Map<Long, Inventory> inventories = lockInventories(events);
+		for (int i = 0; i < events.size(); i++) {
+			if (!isValid(events.get(i)) || !inventories.containsKey(events.get(i).productId())) {
+				statuses[i] = Status.REJECTED;
+			}
+		}
+
+		List<String> newEventIds = markDuplicates(events, statuses);
+		if (!eventDeduplicator.recordAll(DedupeChannel.WMS_INBOUND, newEventIds)) {
+			throw new CustomException(ErrorCode.WMS_INBOUND_BATCH_CONFLICT);
+		}
+
+		Map<Long, Long> quantityByProduct = new TreeMap<>();
+		for (int i = 0; i < events.size(); i++) {
+			if (statuses[i] == Status.ACCEPTED) {
+				quantityByProduct.merge(events.get(i).productId(), events.get(i).quantity(), Long::sum);
+			}
+		}
+		inventorySnapshotCache.evictAfterCommit(quantityByProduct.keySet());
+		quantityByProduct.forEach((productId, quantity) -> {
+			inventories.get(productId).applyWmsInbound(quantity);
+			inventoryLedger.record(productId, MovementType.INBOUND, quantity);
+			stockReservationEngine.onPhysicalStockChanged(productId);
+		});
+
+		return List.of(statuses);
+	}
+
+	// 유효한 이벤트의 상품 중 삭제되지 않은 상품의 재고만 productId 순으로 잠근다
+	private Map<Long, Inventory> lockInventories(List<InboundConfirmedRequest> events) {
+		Set<Long> productIds = events.stream()
+			.filter(this::isValid)
+			.map(InboundConfirmedRequest::productId)
+			.collect(Collectors.toSet());
+		if (productIds.isEmpty()) {
+			return Map.of();
+		}
+
+		List<Long> activeProductIds = productRepository.findByIdInAndDeletedFalse(productIds).stream()
+			.map(Product::getId)
+			.toList();
+		if (activeProductIds.isEmpty()) {
+			return Map.of();
+		}
+
+		return inventoryRepository.findAllByProductIdInForUpdate(activeProductIds).stream()
+			.collect(Collectors.toMap(inventory -> inventory.getProduct().getId(), inventory -> inventory));
+	}
+
+	// 묶음 안에서 먼저 나온 이벤트만 남기고, 이미 처리된 이벤트는 DUPLICATE → 새로 기록할 이벤트 ID 반환
+	private List<String> markDuplicates(List<InboundConfirmedRequest> events, Status[] statuses) {
+		Set<String> candidates = new HashSet<>();
+		for (int i = 0; i < events.size(); i++) {
+			if (statuses[i] == null) {
+				candidates.add(events.get(i).eventId());
+			}
+		}
+		Set<String> processed = eventDeduplicator.findProcessed(DedupeChannel.WMS_INBOUND, candidates);
+
+		Set<String> seen = new HashSet<>();
+		List<String> newEventIds = new ArrayList<>();
+		for (int i = 0; i < events.size(); i++) {
+			if (statuses[i] != null) {
+				continue;
+			}
+			String eventId = events.get(i).eventId();
+			if (processed.contains(eventId) || !seen.add(eventId)) {
+				statuses[i] = Status.DUPLICATE;
+			} else {
+				statuses[i] = Status.ACCEPTED;
+				newEventIds.add(eventId);
+			}
+		}
+		return newEventIds;
+	}
+
+	private boolean isValid(InboundConfirmedRequest event) {
+		return event.eventId() != null && !event.eventId().isBlank()
+			&& event.productId() != null
+			&& event.quantity() != null && event.quantity() > 0;
+	}
+}
@@ -3,24 +3,44 @@ package com.kt.service.inventory;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kt.common.Preconditions;
 import com.kt.common.api.CustomException;
 import com.kt.common.api.ErrorCode;
 import com.kt.domain.inventory.event.InboundConfirmedEvent;
+import com.kt.dto.wms.InboundBatchConfirmedResponse;
+import com.kt.dto.wms.InboundBatchConfirmedResponse.Result;
+import com.kt.dto.wms.InboundBatchConfirmedResponse.Status;
 import com.kt.dto.wms.InboundConfirmedRequest;
 import com.kt.dto.wms.InboundConfirmedResponse;
 import com.kt.repository.product.ProductRepository;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class WmsInboundIngressService {
 
+	// 한 트랜잭션에서 처리할 입고 이벤트 수
+	private static final int BATCH_CHUNK_SIZE = 1000;
+
 	private final ProductRepository productRepository;
 	private final ApplicationEventPublisher eventPublisher;
+	private final WmsInboundBatchProcessor wmsInboundBatchProcessor;
+	private final ObjectMapper objectMapper;
 
 	public InboundConfirmedResponse confirmInbound(InboundConfirmedRequest request) {
 		Preconditions.validate(
@@ -46,4 +66,84 @@ public class WmsInboundIngressService {
 			confirmedAt
 		);
 	}
-}
\ No newline at end of file
+
+	/**
+	 * NDJSON 입고 배치
+	 * - 본문을 한 줄씩 읽어 BATCH_CHUNK_SIZE 단위로 묶고, 묶음마다 한 트랜잭션으로 반영
+	 * - 파싱할 수 없는 줄은 REJECTED 로 응답하고 나머지는 계속 처리
+	 */
+	public InboundBatchConfirmedResponse confirmInboundBatch(InputStream body) {
+		List<Result> results = new ArrayList<>();
+		List<InboundConfirmedRequest> chunk = new ArrayList<>(BATCH_CHUNK_SIZE);
+		List<Long> chunkLines = new ArrayList<>(BATCH_CHUNK_SIZE);
+
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+			long lineNumber = 0;
+			String line;
+			while ((line = reader.readLine()) != null) {
+				lineNumber++;
+				if (line.isBlank()) {
+					continue;
+				}
+
+				InboundConfirmedRequest request = parseLine(line);
+				if (request == null) {
+					results.add(Result.of(lineNumber, null, null, Status.REJECTED));
+					continue;
+				}
+
+				chunk.add(request);
+				chunkLines.add(lineNumber);
+				if (chunk.size() == BATCH_CHUNK_SIZE) {
+					processChunk(chunk, chunkLines, results);
+					chunk.clear();
+					chunkLines.clear();
+				}
+			}
+		} catch (IOException e) {
+			throw new CustomException(ErrorCode.WMS_INBOUND_BATCH_READ_FAILED);
+		}
+
+		if (!chunk.isEmpty()) {
+			processChunk(chunk, chunkLines, results);
+		}
+
+		results.sort(Comparator.comparingLong(Result::line));
+		return InboundBatchConfirmedResponse.of(results);
+	}
+
+	// 다른 요청과 같은 이벤트를 동시에 기록해 충돌하면 한 번 더 시도 (재시도 시 DUPLICATE 로 분류됨)
+	private void processChunk(List<InboundConfirmedRequest> chunk, List<Long> lines, List<Result> results) {
+		List<Status> statuses;
+		try {
+			statuses = processWithRetry(chunk);
+		} catch (RuntimeException e) {
+			log.error("[WMS_INBOUND_BATCH_FAILED] size={}", chunk.size(), e);
+			statuses = chunk.stream().map(request -> Status.REJECTED).toList();
+		}
+
+		for (int i = 0; i < chunk.size(); i++) {
+			InboundConfirmedRequest request = chunk.get(i);
+			results.add(Result.of(lines.get(i), request.eventId(), request.productId(), statuses.get(i)));
+		}
+	}
+
+	private List<Status> processWithRetry(List<InboundConfirmedRequest> chunk) {
+		try {
+			return wmsInboundBatchProcessor.process(chunk);
+		} catch (CustomException e) {
+			if (e.getErrorCode() != ErrorCode.WMS_INBOUND_BATCH_CONFLICT) {
+				throw e;
+			}
+			return wmsInboundBatchProcessor.process(chunk);
+		}
+	}
+
+	private InboundConfirmedRequest parseLine(String line) {
+		try {
+			return objectMapper.readValue(line, InboundConfirmedRequest.class);
+		} catch (JsonProcessingException e) {
+			return null;
+		}
+	}
+}
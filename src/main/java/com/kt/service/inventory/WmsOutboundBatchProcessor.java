@@ -0,0 +1,156 @@
+package com.kt.service.inventory;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.kt.common.api.CustomException;
+import com.kt.common.api.ErrorCode;
+import com.kt.domain.dedupe.DedupeChannel;
+import com.kt.domain.inventory.Inventory;
+import com.kt.domain.inventory.event.OutboundEvent;
+import com.kt.domain.inventory.event.OutboundEventType;
+import com.kt.domain.inventory.ledger.StockMovement;
+import com.kt.dto.wms.OutboundBatchResponse.Status;
+import com.kt.repository.inventory.InventoryRepository;
+import com.kt.service.dedupe.EventDeduplicator;
+import com.kt.service.inventory.cache.InventorySnapshotCache;
+import com.kt.service.inventory.ledger.InventoryLedger;
+import com.kt.service.inventory.reservation.StockReservationEngine;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 출고 확정/취소 이벤트 묶음 하나를 한 트랜잭션으로 반영
+ * 1) 수량/재고 검증 (재고 조회 + 잠금 1회, productId 순) - 핫 상품은 버킷에 쌓인 출고분을 행으로 먼저 모은다
+ * 2) 이벤트 ID 중복 제거 (묶음 내 중복 + EventDeduplicator 조회 최대 1회)
+ * 3) 이벤트 순서대로 엔티티에 반영하고, 출고 처리 중 수량이 모자란 이벤트만 REJECTED
+ * 4) 반영된 이벤트 ID 기록(다중 행 INSERT 1회), 원장/캐시/예약 엔진에는 상품·종류별로 합쳐서 한 번씩 알린다
+ */
+@Component
+@RequiredArgsConstructor
+public class WmsOutboundBatchProcessor {
+
+	private final InventoryRepository inventoryRepository;
+	private final EventDeduplicator eventDeduplicator;
+	private final StockReservationEngine stockReservationEngine;
+	private final InventorySnapshotCache inventorySnapshotCache;
+	private final InventoryLedger inventoryLedger;
+	private final InventoryBucketService inventoryBucketService;
+
+	/**
+	 * @return 이벤트별 처리 결과 (입력 순서와 같음)
+	 */
+	@Transactional
+	public List<Status> process(List<OutboundEvent> events) {
+		Status[] statuses = new Status[events.size()];
+
+		Map<Long, Inventory> inventories = lockInventories(events);
+		for (int i = 0; i < events.size(); i++) {
+			if (!isValid(events.get(i)) || !inventories.containsKey(events.get(i).productId())) {
+				statuses[i] = Status.REJECTED;
+			}
+		}
+		markDuplicates(events, statuses);
+
+		List<String> appliedEventIds = new ArrayList<>();
+		Map<Long, long[]> settledByProduct = new TreeMap<>();
+		for (int i = 0; i < events.size(); i++) {
+			if (statuses[i] != Status.ACCEPTED) {
+				continue;
+			}
+			OutboundEvent event = events.get(i);
+			if (!apply(inventories.get(event.productId()), event)) {
+				statuses[i] = Status.REJECTED;
+				continue;
+			}
+			appliedEventIds.add(event.eventId());
+			settledByProduct.computeIfAbsent(event.productId(), productId -> new long[2])[event.type().ordinal()]
+				+= event.quantity();
+		}
+
+		if (!eventDeduplicator.recordAll(DedupeChannel.WMS_OUTBOUND, appliedEventIds)) {
+			throw new CustomException(ErrorCode.WMS_OUTBOUND_BATCH_CONFLICT);
+		}
+
+		List<StockMovement> movements = new ArrayList<>();
+		settledByProduct.forEach((productId, settled) -> {
+			long confirmed = settled[OutboundEventType.CONFIRMED.ordinal()];
+			long canceled = settled[OutboundEventType.CANCELED.ordinal()];
+			if (confirmed > 0) {
+				movements.add(StockMovement.of(productId, OutboundEventType.CONFIRMED.getMovementType(), confirmed));
+			}
+			if (canceled > 0) {
+				movements.add(StockMovement.of(productId, OutboundEventType.CANCELED.getMovementType(), canceled));
+			}
+			stockReservationEngine.onOutboundSettled(productId, confirmed, canceled);
+		});
+		inventoryLedger.append(movements);
+		inventorySnapshotCache.evictAfterCommit(settledByProduct.keySet());
+
+		return List.of(statuses);
+	}
+
+	// 엔티티 검증에 걸리면 카운터는 바뀌지 않은 상태로 false
+	private boolean apply(Inventory inventory, OutboundEvent event) {
+		try {
+			switch (event.type()) {
+				case CONFIRMED -> inventory.applyWmsOutboundConfirmed(event.quantity());
+				case CANCELED -> inventory.applyWmsOutboundCanceled(event.quantity());
+			}
+			return true;
+		} catch (CustomException e) {
+			return false;
+		}
+	}
+
+	private Map<Long, Inventory> lockInventories(List<OutboundEvent> events) {
+		Set<Long> productIds = events.stream()
+			.filter(this::isValid)
+			.map(OutboundEvent::productId)
+			.collect(Collectors.toSet());
+		if (productIds.isEmpty()) {
+			return Map.of();
+		}
+
+		Map<Long, Inventory> inventories = inventoryRepository.findAllByProductIdInForUpdate(productIds).stream()
+			.collect(Collectors.toMap(inventory -> inventory.getProduct().getId(), inventory -> inventory, (a, b) -> a,
+				TreeMap::new));
+		inventories.values().forEach(inventoryBucketService::foldOutbound);
+		return inventories;
+	}
+
+	// 묶음 안에서 먼저 나온 이벤트만 ACCEPTED 후보로 남기고, 이미 처리된 이벤트는 DUPLICATE
+	private void markDuplicates(List<OutboundEvent> events, Status[] statuses) {
+		Set<String> candidates = new HashSet<>();
+		for (int i = 0; i < events.size(); i++) {
+			if (statuses[i] == null) {
+				candidates.add(events.get(i).eventId());
+			}
+		}
+		Set<String> processed = eventDeduplicator.findProcessed(DedupeChannel.WMS_OUTBOUND, candidates);
+
+		Set<String> seen = new HashSet<>();
+		for (int i = 0; i < events.size(); i++) {
+			if (statuses[i] != null) {
+				continue;
+			}
+			String eventId = events.get(i).eventId();
+			statuses[i] = processed.contains(eventId) || !seen.add(eventId) ? Status.DUPLICATE : Status.ACCEPTED;
+		}
+	}
+
+	private boolean isValid(OutboundEvent event) {
+		return event.eventId() != null && !event.eventId().isBlank()
+			&& event.productId() != null
+			&& event.type() != null
+			&& event.quantity() > 0;
+	}
+}
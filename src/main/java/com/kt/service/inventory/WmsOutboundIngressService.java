@@ -0,0 +1,152 @@
+package com.kt.service.inventory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kt.common.Preconditions;
+import com.kt.common.api.CustomException;
+import com.kt.common.api.ErrorCode;
+import com.kt.config.WmsOutboundProperties;
+import com.kt.domain.inventory.event.OutboundEvent;
+import com.kt.domain.inventory.event.OutboundEventType;
+import com.kt.dto.wms.OutboundBatchResponse;
+import com.kt.dto.wms.OutboundBatchResponse.Result;
+import com.kt.dto.wms.OutboundBatchResponse.Status;
+import com.kt.dto.wms.OutboundRequest;
+import com.kt.dto.wms.OutboundResponse;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * WMS 출고 확정/취소 수신
+ * - 요청 스레드는 검증 후 {@link WmsOutboundQueue} 에 넣고 반영 결과만 기다린다
+ * - 배치는 BATCH_CHUNK_SIZE 줄씩 넣고 기다리므로 본문이 커도 대기열을 한 번에 채우지 않는다
+ */
+@Service
+@RequiredArgsConstructor
+public class WmsOutboundIngressService {
+
+	// 배치 본문에서 한 번에 대기열에 넣고 기다리는 이벤트 수
+	private static final int BATCH_CHUNK_SIZE = 1000;
+
+	private final WmsOutboundQueue wmsOutboundQueue;
+	private final WmsOutboundProperties properties;
+	private final ObjectMapper objectMapper;
+
+	public OutboundResponse settle(OutboundRequest request, OutboundEventType type) {
+		Preconditions.validate(
+			request.quantity() != null && request.quantity() > 0,
+			ErrorCode.WMS_OUTBOUND_EVENT_QUANTITY_INVALID
+		);
+
+		Status status = await(wmsOutboundQueue.submit(toEvent(request, type)));
+		Preconditions.validate(status != Status.FAILED, ErrorCode.WMS_OUTBOUND_PROCESS_FAILED);
+		Preconditions.validate(status != Status.REJECTED, ErrorCode.WMS_OUTBOUND_REJECTED);
+
+		return OutboundResponse.of(request.eventId(), request.productId(), request.quantity(), type, status);
+	}
+
+	/**
+	 * NDJSON 출고 배치
+	 * - 파싱/검증할 수 없는 줄은 REJECTED 로 응답하고 나머지는 계속 처리
+	 */
+	public OutboundBatchResponse settleBatch(InputStream body, OutboundEventType type) {
+		List<Result> results = new ArrayList<>();
+		List<OutboundRequest> chunk = new ArrayList<>(BATCH_CHUNK_SIZE);
+		List<Long> chunkLines = new ArrayList<>(BATCH_CHUNK_SIZE);
+
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+			long lineNumber = 0;
+			String line;
+			while ((line = reader.readLine()) != null) {
+				lineNumber++;
+				if (line.isBlank()) {
+					continue;
+				}
+
+				OutboundRequest request = parseLine(line);
+				if (request == null || !isValid(request)) {
+					results.add(Result.of(
+						lineNumber,
+						request == null ? null : request.eventId(),
+						request == null ? null : request.productId(),
+						Status.REJECTED
+					));
+					continue;
+				}
+
+				chunk.add(request);
+				chunkLines.add(lineNumber);
+				if (chunk.size() == BATCH_CHUNK_SIZE) {
+					processChunk(chunk, chunkLines, type, results);
+					chunk.clear();
+					chunkLines.clear();
+				}
+			}
+		} catch (IOException e) {
+			throw new CustomException(ErrorCode.WMS_OUTBOUND_BATCH_READ_FAILED);
+		}
+
+		if (!chunk.isEmpty()) {
+			processChunk(chunk, chunkLines, type, results);
+		}
+
+		results.sort(Comparator.comparingLong(Result::line));
+		return OutboundBatchResponse.of(type, results);
+	}
+
+	private void processChunk(List<OutboundRequest> chunk, List<Long> lines, OutboundEventType type, List<Result> results) {
+		List<CompletableFuture<Status>> futures = chunk.stream()
+			.map(request -> wmsOutboundQueue.submit(toEvent(request, type)))
+			.toList();
+
+		for (int i = 0; i < chunk.size(); i++) {
+			OutboundRequest request = chunk.get(i);
+			results.add(Result.of(lines.get(i), request.eventId(), request.productId(), await(futures.get(i))));
+		}
+	}
+
+	// 처리 실패/지연은 FAILED (응답 뒤에 반영됐더라도 재전송은 DUPLICATE 로 걸러진다)
+	private Status await(CompletableFuture<Status> future) {
+		try {
+			return future.get(properties.responseTimeout().toMillis(), TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return Status.FAILED;
+		} catch (ExecutionException | TimeoutException e) {
+			return Status.FAILED;
+		}
+	}
+
+	private OutboundEvent toEvent(OutboundRequest request, OutboundEventType type) {
+		return OutboundEvent.of(request.eventId(), request.productId(), request.quantity(), type);
+	}
+
+	private boolean isValid(OutboundRequest request) {
+		return request.eventId() != null && !request.eventId().isBlank()
+			&& request.productId() != null
+			&& request.quantity() != null && request.quantity() > 0;
+	}
+
+	private OutboundRequest parseLine(String line) {
+		try {
+			return objectMapper.readValue(line, OutboundRequest.class);
+		} catch (JsonProcessingException e) {
+			return null;
+		}
+	}
+}
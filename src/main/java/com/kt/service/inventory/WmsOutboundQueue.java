@@ -0,0 +1,154 @@
+package com.kt.service.inventory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.kt.common.api.CustomException;
+import com.kt.common.api.ErrorCode;
+import com.kt.config.WmsOutboundProperties;
+import com.kt.domain.inventory.event.OutboundEvent;
+import com.kt.dto.wms.OutboundBatchResponse.Status;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * WMS 출고 이벤트 대기열
+ * - 상품 ID 로 파티션을 고르므로 같은 상품의 이벤트는 항상 한 작업 스레드가 받은 순서대로 처리한다
+ *   (노드 안에서는 작업 스레드끼리 같은 재고 행을 두고 잠금 경쟁을 하지 않는다)
+ * - 작업 스레드는 대기 중인 이벤트를 batchSize 까지 모아 트랜잭션 하나로 반영한다 (요청 수 ≠ 트랜잭션 수)
+ * - 반영 결과는 CompletableFuture 로 돌려주고, 요청 스레드는 커밋된 결과를 받은 뒤 응답한다
+ *   (메모리 대기열이지만 응답 전에 커밋되므로 노드가 죽어도 WMS 재전송으로 복구되고, 재전송은 이벤트 ID 로 걸러진다)
+ */
+@Slf4j
+@Component
+public class WmsOutboundQueue {
+
+	private record Pending(OutboundEvent event, CompletableFuture<Status> result) {
+	}
+
+	private final WmsOutboundBatchProcessor wmsOutboundBatchProcessor;
+	private final WmsOutboundProperties properties;
+	private final List<BlockingQueue<Pending>> partitions = new ArrayList<>();
+	private final List<Thread> workers = new ArrayList<>();
+	private volatile boolean running;
+
+	public WmsOutboundQueue(WmsOutboundBatchProcessor wmsOutboundBatchProcessor, WmsOutboundProperties properties) {
+		this.wmsOutboundBatchProcessor = wmsOutboundBatchProcessor;
+		this.properties = properties;
+		for (int i = 0; i < properties.partitions(); i++) {
+			partitions.add(new ArrayBlockingQueue<>(properties.queueCapacity()));
+		}
+	}
+
+	/**
+	 * 이벤트를 상품 파티션에 넣는다
+	 * - 파티션이 없으면(partitions=0) 호출 스레드에서 바로 처리한다
+	 * - 대기열이 가득 차면 WMS_OUTBOUND_QUEUE_FULL 로 끝난 결과를 돌려준다
+	 */
+	public CompletableFuture<Status> submit(OutboundEvent event) {
+		Pending pending = new Pending(event, new CompletableFuture<>());
+		if (partitions.isEmpty()) {
+			dispatch(List.of(pending));
+			return pending.result();
+		}
+
+		BlockingQueue<Pending> partition = partitions.get(Math.floorMod(Long.hashCode(event.productId()), partitions.size()));
+		if (!running || !partition.offer(pending)) {
+			pending.result().completeExceptionally(new CustomException(ErrorCode.WMS_OUTBOUND_QUEUE_FULL));
+		}
+		return pending.result();
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void start() {
+		running = true;
+		for (int i = 0; i < partitions.size(); i++) {
+			BlockingQueue<Pending> partition = partitions.get(i);
+			workers.add(Thread.ofVirtual()
+				.name("wms-outbound-" + i)
+				.start(() -> work(partition)));
+		}
+	}
+
+	/**
+	 * 새 이벤트를 더 받지 않고, 이미 받은 이벤트는 처리한 뒤 종료
+	 */
+	@EventListener(ContextClosedEvent.class)
+	public void stop() throws InterruptedException {
+		running = false;
+		for (Thread worker : workers) {
+			worker.join(properties.responseTimeout().toMillis());
+		}
+	}
+
+	private void work(BlockingQueue<Pending> partition) {
+		List<Pending> batch = new ArrayList<>(properties.batchSize());
+		while (running || !partition.isEmpty()) {
+			try {
+				Pending first = partition.poll(100, TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+				batch.add(first);
+				fill(partition, batch);
+				dispatch(batch);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} finally {
+				batch.clear();
+			}
+		}
+	}
+
+	// linger 동안 batchSize 까지 이어서 꺼낸다 (몰릴 때는 바로 차고, 한산할 때는 지연이 linger 를 넘지 않음)
+	private void fill(BlockingQueue<Pending> partition, List<Pending> batch) throws InterruptedException {
+		long deadline = System.nanoTime() + properties.linger().toNanos();
+		while (batch.size() < properties.batchSize()) {
+			partition.drainTo(batch, properties.batchSize() - batch.size());
+			long remaining = deadline - System.nanoTime();
+			if (batch.size() >= properties.batchSize() || remaining <= 0) {
+				return;
+			}
+			Pending next = partition.poll(remaining, TimeUnit.NANOSECONDS);
+			if (next == null) {
+				return;
+			}
+			batch.add(next);
+		}
+	}
+
+	private void dispatch(List<Pending> batch) {
+		try {
+			List<Status> statuses = processWithRetry(batch.stream().map(Pending::event).toList());
+			for (int i = 0; i < batch.size(); i++) {
+				batch.get(i).result().complete(statuses.get(i));
+			}
+		} catch (RuntimeException e) {
+			log.error("[WMS_OUTBOUND_BATCH_FAILED] size={}", batch.size(), e);
+			CustomException failure = new CustomException(ErrorCode.WMS_OUTBOUND_PROCESS_FAILED);
+			batch.forEach(pending -> pending.result().completeExceptionally(failure));
+		}
+	}
+
+	// 다른 노드와 같은 이벤트를 동시에 기록해 충돌하면 한 번 더 시도 (재시도 시 DUPLICATE 로 분류됨)
+	private List<Status> processWithRetry(List<OutboundEvent> events) {
+		try {
+			return wmsOutboundBatchProcessor.process(events);
+		} catch (CustomException e) {
+			if (e.getErrorCode() != ErrorCode.WMS_OUTBOUND_BATCH_CONFLICT) {
+				throw e;
+			}
+			return wmsOutboundBatchProcessor.process(events);
+		}
+	}
+}
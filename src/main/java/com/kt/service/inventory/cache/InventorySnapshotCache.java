@@ -0,0 +1,192 @@
+package com.kt.service.inventory.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.kt.config.InventorySnapshotCacheProperties;
+import com.kt.domain.inventory.InventorySnapshot;
+import com.kt.repository.inventory.InventoryRepository;
+import com.kt.service.inventory.InventoryBucketService;
+
+/**
+ * 재고 스냅샷 근접 캐시 (L1 노드 메모리 → L2 Redis → DB)
+ * - 여러 상품을 한 번에 조회하고, 단계마다 빠진 상품만 다음 단계에서 한 번에 채운다
+ * - 재고를 바꾼 쪽이 evictAfterCommit 을 호출하면 커밋 후 L1/L2 를 지우고 pub/sub 로 다른 노드 L1 도 지운다
+ * - 조회/검증용 값이라 짧게 늦을 수 있다 (최대 localTtl) - 실제 차감은 예약 엔진의 조건부 UPDATE 가 막는다
+ *
+ * 트랜잭션 안에서 재고를 바꿨다면 그 상품은 캐시를 거치지 않고 DB 에서 읽는다 (자기 변경 읽기)
+ */
+@Component
+public class InventorySnapshotCache {
+
+	private static final int VERSION_STRIPES = 1024;
+
+	private record CachedSnapshot(InventorySnapshot snapshot, long expiresAtMs) {
+	}
+
+	private final InventoryRepository inventoryRepository;
+	private final InventoryBucketService inventoryBucketService;
+	private final InventorySnapshotStore inventorySnapshotStore;
+	private final InventorySnapshotCacheProperties properties;
+	private final Map<Long, CachedSnapshot> local = new ConcurrentHashMap<>();
+	// 상품별(줄무늬) 무효화 횟수 - 조회 중 무효화가 끼어든 상품은 읽어 온 값을 캐시에 넣지 않는다
+	private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+	public InventorySnapshotCache(
+		InventoryRepository inventoryRepository,
+		InventoryBucketService inventoryBucketService,
+		InventorySnapshotStore inventorySnapshotStore,
+		InventorySnapshotCacheProperties properties
+	) {
+		this.inventoryRepository = inventoryRepository;
+		this.inventoryBucketService = inventoryBucketService;
+		this.inventorySnapshotStore = inventorySnapshotStore;
+		this.properties = properties;
+		inventorySnapshotStore.subscribe(this::evictLocal);
+	}
+
+	public Optional<InventorySnapshot> get(Long productId) {
+		return Optional.ofNullable(getAll(List.of(productId)).get(productId));
+	}
+
+	/**
+	 * 재고가 없는 상품은 결과에서 빠진다
+	 */
+	public Map<Long, InventorySnapshot> getAll(Collection<Long> productIds) {
+		Map<Long, InventorySnapshot> result = new HashMap<>();
+		Set<Long> pending = pendingChanges();
+		long now = System.currentTimeMillis();
+		Map<Long, Long> versionsBefore = new HashMap<>();
+
+		List<Long> localMisses = new ArrayList<>();
+		List<Long> uncached = new ArrayList<>();
+		for (Long productId : new LinkedHashSet<>(productIds)) {
+			if (pending.contains(productId)) {
+				uncached.add(productId);
+				continue;
+			}
+			CachedSnapshot cached = local.get(productId);
+			if (cached != null && cached.expiresAtMs() > now) {
+				result.put(productId, cached.snapshot());
+			} else {
+				localMisses.add(productId);
+				versionsBefore.put(productId, version(productId));
+			}
+		}
+
+		if (!localMisses.isEmpty()) {
+			Map<Long, InventorySnapshot> remote = inventorySnapshotStore.getAll(localMisses);
+			putLocal(unchanged(remote.values(), versionsBefore));
+			result.putAll(remote);
+
+			List<Long> remoteMisses = localMisses.stream().filter(id -> !remote.containsKey(id)).toList();
+			List<InventorySnapshot> loaded = load(remoteMisses);
+			List<InventorySnapshot> cacheable = unchanged(loaded, versionsBefore);
+			inventorySnapshotStore.putAll(cacheable);
+			putLocal(cacheable);
+			loaded.forEach(snapshot -> result.put(snapshot.productId(), snapshot));
+		}
+
+		load(uncached).forEach(snapshot -> result.put(snapshot.productId(), snapshot));
+		return result;
+	}
+
+	/**
+	 * 재고를 바꾼 트랜잭션이 커밋되면 해당 상품 캐시를 모든 노드에서 지운다
+	 * - 트랜잭션 밖이면 바로 지운다
+	 */
+	public void evictAfterCommit(Collection<Long> productIds) {
+		if (productIds.isEmpty()) {
+			return;
+		}
+		evictLocal(productIds);
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			inventorySnapshotStore.evictAndBroadcast(productIds);
+			return;
+		}
+
+		Set<Long> pending = pendingChanges();
+		if (pending.isEmpty()) {
+			Set<Long> changed = new HashSet<>();
+			TransactionSynchronizationManager.bindResource(this, changed);
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					evictLocal(changed);
+					inventorySnapshotStore.evictAndBroadcast(changed);
+				}
+
+				@Override
+				public void afterCompletion(int status) {
+					TransactionSynchronizationManager.unbindResourceIfPossible(InventorySnapshotCache.this);
+				}
+			});
+			pending = changed;
+		}
+		pending.addAll(productIds);
+	}
+
+	public void evictAfterCommit(Long productId) {
+		evictAfterCommit(List.of(productId));
+	}
+
+	private void evictLocal(Collection<Long> productIds) {
+		productIds.forEach(productId -> {
+			versions.incrementAndGet(stripe(productId));
+			local.remove(productId);
+		});
+	}
+
+	private List<InventorySnapshot> unchanged(Collection<InventorySnapshot> snapshots, Map<Long, Long> versionsBefore) {
+		return snapshots.stream()
+			.filter(snapshot -> versionsBefore.get(snapshot.productId()) == version(snapshot.productId()))
+			.toList();
+	}
+
+	private void putLocal(Collection<InventorySnapshot> snapshots) {
+		if (snapshots.isEmpty()) {
+			return;
+		}
+		if (local.size() + snapshots.size() > properties.localCapacity()) {
+			local.clear();
+		}
+		long expiresAtMs = System.currentTimeMillis() + properties.localTtl().toMillis();
+		snapshots.forEach(snapshot -> local.put(snapshot.productId(), new CachedSnapshot(snapshot, expiresAtMs)));
+	}
+
+	private List<InventorySnapshot> load(List<Long> productIds) {
+		if (productIds.isEmpty()) {
+			return List.of();
+		}
+		return inventoryBucketService.aggregateAll(inventoryRepository.findAllByProductIdIn(productIds)).stream()
+			.map(InventorySnapshot::from)
+			.toList();
+	}
+
+	private long version(Long productId) {
+		return versions.get(stripe(productId));
+	}
+
+	private int stripe(Long productId) {
+		return (int)Math.floorMod(productId, (long)VERSION_STRIPES);
+	}
+
+	@SuppressWarnings("unchecked")
+	private Set<Long> pendingChanges() {
+		Object pending = TransactionSynchronizationManager.getResource(this);
+		return pending != null ? (Set<Long>)pending : Set.of();
+	}
+}
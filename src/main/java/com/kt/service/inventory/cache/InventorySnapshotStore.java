@@ -0,0 +1,25 @@
+package com.kt.service.inventory.cache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import com.kt.domain.inventory.InventorySnapshot;
+
+/**
+ * 재고 스냅샷 공유 저장소(L2)와 노드 간 무효화 채널
+ */
+public interface InventorySnapshotStore {
+
+	Map<Long, InventorySnapshot> getAll(Collection<Long> productIds);
+
+	void putAll(Collection<InventorySnapshot> snapshots);
+
+	/**
+	 * 공유 저장소에서 지우고 다른 노드에 L1 무효화를 알린다
+	 */
+	void evictAndBroadcast(Collection<Long> productIds);
+
+	void subscribe(Consumer<List<Long>> onInvalidated);
+}
@@ -0,0 +1,36 @@
+package com.kt.service.inventory.cache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.kt.domain.inventory.InventorySnapshot;
+
+/**
+ * Redis 를 쓰지 않는 환경(로컬/테스트) - 노드 메모리(L1)만 사용
+ */
+@Component
+@ConditionalOnProperty(value = "app.redis.enabled", havingValue = "false")
+public class NoopInventorySnapshotStore implements InventorySnapshotStore {
+
+	@Override
+	public Map<Long, InventorySnapshot> getAll(Collection<Long> productIds) {
+		return Map.of();
+	}
+
+	@Override
+	public void putAll(Collection<InventorySnapshot> snapshots) {
+	}
+
+	@Override
+	public void evictAndBroadcast(Collection<Long> productIds) {
+	}
+
+	@Override
+	public void subscribe(Consumer<List<Long>> onInvalidated) {
+	}
+}
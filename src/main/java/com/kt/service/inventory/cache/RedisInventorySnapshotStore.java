@@ -0,0 +1,123 @@
+package com.kt.service.inventory.cache;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.redisson.api.RBatch;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.kt.config.InventorySnapshotCacheProperties;
+import com.kt.domain.inventory.InventorySnapshot;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis L2 + pub/sub 무효화
+ * - 값: inventory:snapshot:{productId} → "physical:reserved:outbound:available" (remoteTtl 만료)
+ * - 조회는 MGET 한 번, 저장은 배치 한 번
+ * - Redis 장애 시 캐시가 없는 것처럼 동작한다 (DB 조회로 대체)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "app.redis.enabled", havingValue = "true", matchIfMissing = true)
+public class RedisInventorySnapshotStore implements InventorySnapshotStore {
+
+	private static final String KEY_PREFIX = "inventory:snapshot:";
+	private static final String INVALIDATION_TOPIC = "inventory:snapshot:invalidated";
+
+	private final RedissonClient redissonClient;
+	private final InventorySnapshotCacheProperties properties;
+
+	@Override
+	public Map<Long, InventorySnapshot> getAll(Collection<Long> productIds) {
+		if (productIds.isEmpty()) {
+			return Map.of();
+		}
+
+		try {
+			Map<String, String> values = redissonClient.getBuckets(StringCodec.INSTANCE)
+				.get(productIds.stream().map(this::key).toArray(String[]::new));
+			Map<Long, InventorySnapshot> snapshots = new HashMap<>();
+			values.forEach((key, value) -> {
+				Long productId = Long.valueOf(key.substring(KEY_PREFIX.length()));
+				snapshots.put(productId, decode(productId, value));
+			});
+			return snapshots;
+		} catch (RuntimeException e) {
+			log.warn("[INVENTORY_SNAPSHOT_L2_UNAVAILABLE] read productIds={}", productIds, e);
+			return Map.of();
+		}
+	}
+
+	@Override
+	public void putAll(Collection<InventorySnapshot> snapshots) {
+		if (snapshots.isEmpty()) {
+			return;
+		}
+
+		try {
+			RBatch batch = redissonClient.createBatch();
+			long ttlMs = properties.remoteTtl().toMillis();
+			snapshots.forEach(snapshot -> batch.<String>getBucket(key(snapshot.productId()), StringCodec.INSTANCE)
+				.setAsync(encode(snapshot), ttlMs, TimeUnit.MILLISECONDS));
+			batch.execute();
+		} catch (RuntimeException e) {
+			log.warn("[INVENTORY_SNAPSHOT_L2_UNAVAILABLE] write size={}", snapshots.size(), e);
+		}
+	}
+
+	@Override
+	public void evictAndBroadcast(Collection<Long> productIds) {
+		if (productIds.isEmpty()) {
+			return;
+		}
+
+		try {
+			redissonClient.getKeys().delete(productIds.stream().map(this::key).toArray(String[]::new));
+			redissonClient.getTopic(INVALIDATION_TOPIC, StringCodec.INSTANCE)
+				.publish(productIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
+		} catch (RuntimeException e) {
+			// 다른 노드의 L1 은 localTtl 안에, L2 는 remoteTtl 안에 만료된다
+			log.warn("[INVENTORY_SNAPSHOT_L2_UNAVAILABLE] evict productIds={}", productIds, e);
+		}
+	}
+
+	@Override
+	public void subscribe(Consumer<List<Long>> onInvalidated) {
+		redissonClient.getTopic(INVALIDATION_TOPIC, StringCodec.INSTANCE)
+			.addListener(String.class, (channel, message) -> onInvalidated.accept(
+				Arrays.stream(message.split(",")).map(Long::valueOf).toList()
+			));
+	}
+
+	private String key(Long productId) {
+		return KEY_PREFIX + productId;
+	}
+
+	private String encode(InventorySnapshot snapshot) {
+		return snapshot.physicalStockTotal() + ":" + snapshot.reserved() + ":"
+			+ snapshot.outboundProcessing() + ":" + snapshot.available();
+	}
+
+	private InventorySnapshot decode(Long productId, String value) {
+		String[] parts = value.split(":");
+		return new InventorySnapshot(
+			productId,
+			Long.parseLong(parts[0]),
+			Long.parseLong(parts[1]),
+			Long.parseLong(parts[2]),
+			Long.parseLong(parts[3])
+		);
+	}
+}
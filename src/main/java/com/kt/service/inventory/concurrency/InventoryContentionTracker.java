@@ -0,0 +1,102 @@
+package com.kt.service.inventory.concurrency;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.kt.config.InventoryConcurrencyProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품별 낙관적 쓰기 충돌 비율 (노드 메모리)
+ * - 충돌 비율이 임계치를 넘은 상품은 pessimisticHold 동안 행 잠금으로 처리하고, 지나면 다시 낙관적 쓰기로 시험한다
+ * - 오래 쓰이지 않은 상품은 주기적으로 지워 맵이 자라지 않게 한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InventoryContentionTracker {
+
+	private final InventoryConcurrencyProperties properties;
+	private final Map<Long, Window> windows = new ConcurrentHashMap<>();
+
+	public boolean isContended(Long productId) {
+		Window window = windows.get(productId);
+		return window != null && window.isPessimistic(System.currentTimeMillis());
+	}
+
+	public void record(Long productId, boolean conflicted) {
+		long now = System.currentTimeMillis();
+		Window window = windows.computeIfAbsent(productId, id -> new Window(now));
+		if (window.record(conflicted, now, properties)) {
+			log.info("[INVENTORY_CONTENTION_PESSIMISTIC] productId={}, hold={}", productId, properties.pessimisticHold());
+		}
+	}
+
+	public int contendedCount() {
+		long now = System.currentTimeMillis();
+		return (int)windows.values().stream().filter(window -> window.isPessimistic(now)).count();
+	}
+
+	@Scheduled(fixedDelayString = "${app.inventory.concurrency.cleanup-interval-ms:60000}")
+	public void evictIdle() {
+		long now = System.currentTimeMillis();
+		long idleMs = properties.window().toMillis() * 2;
+		windows.values().removeIf(window -> window.isIdle(now, idleMs));
+	}
+
+	private static final class Window {
+
+		private long startedAt;
+		private int attempts;
+		private int conflicts;
+		private long pessimisticUntil;
+
+		private Window(long startedAt) {
+			this.startedAt = startedAt;
+		}
+
+		/**
+		 * @return 이번 기록으로 행 잠금으로 전환했으면 true
+		 */
+		synchronized boolean record(boolean conflicted, long now, InventoryConcurrencyProperties properties) {
+			long windowMs = properties.window().toMillis();
+			if (now - startedAt >= windowMs * 2) {
+				attempts = 0;
+				conflicts = 0;
+				startedAt = now;
+			} else if (now - startedAt >= windowMs) {
+				attempts >>= 1;
+				conflicts >>= 1;
+				startedAt = now;
+			}
+
+			attempts++;
+			if (conflicted) {
+				conflicts++;
+			}
+
+			if (pessimisticUntil <= now
+				&& attempts >= properties.minSamples()
+				&& conflicts >= attempts * properties.conflictThreshold()) {
+				pessimisticUntil = now + properties.pessimisticHold().toMillis();
+				attempts = 0;
+				conflicts = 0;
+				return true;
+			}
+			return false;
+		}
+
+		synchronized boolean isPessimistic(long now) {
+			return pessimisticUntil > now;
+		}
+
+		synchronized boolean isIdle(long now, long idleMs) {
+			return pessimisticUntil <= now && now - startedAt >= idleMs;
+		}
+	}
+}
@@ -0,0 +1,125 @@
+package com.kt.service.inventory.concurrency;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kt.common.api.CustomException;
+import com.kt.common.api.ErrorCode;
+import com.kt.config.InventoryConcurrencyProperties;
+import com.kt.domain.inventory.Inventory;
+import com.kt.repository.inventory.InventoryRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 재고 행 하나를 바꾸는 작업 실행기
+ * - 기본은 낙관적 쓰기: 잠금 없이 읽고 커밋 시 @Version 으로 충돌을 확인, 충돌하면 무작위 대기 후 트랜잭션을 통째로 재시도
+ * - 충돌이 잦은 상품(InventoryContentionTracker)이나 재시도를 다 쓴 작업은 행 잠금(SELECT ... FOR UPDATE)으로 처리
+ *   (Redis 분산 락은 다른 노드의 낙관적 쓰기를 막지 못하므로 모든 쓰기 경로가 따르는 DB 행 잠금을 쓴다)
+ * - 이미 시작된 트랜잭션에 참여한 경우에는 재시도할 수 없으므로 한 번만 실행한다 (충돌은 바깥 커밋에서 드러남)
+ *
+ * 메트릭 (productId 태그)
+ * - inventory.write.conflicts / inventory.write.retries / inventory.write.fallbacks : 충돌, 재시도, 행 잠금 전환 횟수
+ * - inventory.write.lock.wait : 행 잠금 획득 대기 시간
+ */
+@Slf4j
+@Component
+public class InventoryWriteExecutor {
+
+	private final InventoryRepository inventoryRepository;
+	private final InventoryContentionTracker contentionTracker;
+	private final InventoryConcurrencyProperties properties;
+	private final MeterRegistry meterRegistry;
+	private final TransactionTemplate transactionTemplate;
+
+	public InventoryWriteExecutor(
+		InventoryRepository inventoryRepository,
+		InventoryContentionTracker contentionTracker,
+		InventoryConcurrencyProperties properties,
+		MeterRegistry meterRegistry,
+		PlatformTransactionManager transactionManager
+	) {
+		this.inventoryRepository = inventoryRepository;
+		this.contentionTracker = contentionTracker;
+		this.properties = properties;
+		this.meterRegistry = meterRegistry;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		meterRegistry.gauge("inventory.write.pessimistic.products", contentionTracker,
+			InventoryContentionTracker::contendedCount);
+	}
+
+	/**
+	 * @param notFound 재고 행이 없을 때 던질 에러 코드
+	 * @param work     재고 엔티티를 바꾸는 작업 (재시도될 수 있으므로 트랜잭션 밖에 부수 효과를 남기지 않아야 한다)
+	 */
+	public void execute(Long productId, ErrorCode notFound, Consumer<Inventory> work) {
+		if (contentionTracker.isContended(productId)) {
+			runLocked(productId, notFound, work);
+			return;
+		}
+
+		boolean retryable = !TransactionSynchronizationManager.isActualTransactionActive();
+		for (int attempt = 1; ; attempt++) {
+			try {
+				transactionTemplate.executeWithoutResult(status -> work.accept(find(productId, notFound)));
+				if (retryable) {
+					contentionTracker.record(productId, false);
+				}
+				return;
+			} catch (OptimisticLockingFailureException e) {
+				contentionTracker.record(productId, true);
+				increment("inventory.write.conflicts", productId);
+				if (!retryable) {
+					throw e;
+				}
+				if (attempt >= properties.maxAttempts() || !backoff(attempt)) {
+					break;
+				}
+				increment("inventory.write.retries", productId);
+			}
+		}
+
+		increment("inventory.write.fallbacks", productId);
+		runLocked(productId, notFound, work);
+	}
+
+	private void runLocked(Long productId, ErrorCode notFound, Consumer<Inventory> work) {
+		transactionTemplate.executeWithoutResult(status -> {
+			long started = System.nanoTime();
+			Inventory inventory = inventoryRepository.findByProductIdForUpdate(productId)
+				.orElseThrow(() -> new CustomException(notFound));
+			meterRegistry.timer("inventory.write.lock.wait", "productId", String.valueOf(productId))
+				.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+			work.accept(inventory);
+		});
+	}
+
+	private Inventory find(Long productId, ErrorCode notFound) {
+		return inventoryRepository.findByProductId(productId)
+			.orElseThrow(() -> new CustomException(notFound));
+	}
+
+	// 대기 상한은 시도마다 두 배 (maxBackoff 까지), 실제 대기는 0 ~ 상한 사이 임의 값 → 동시에 충돌한 쓰기가 흩어진다
+	private boolean backoff(int attempt) {
+		long capMs = Math.min(properties.maxBackoff().toMillis(), properties.baseBackoff().toMillis() << (attempt - 1));
+		try {
+			Thread.sleep(ThreadLocalRandom.current().nextLong(capMs + 1));
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private void increment(String name, Long productId) {
+		meterRegistry.counter(name, "productId", String.valueOf(productId)).increment();
+	}
+}
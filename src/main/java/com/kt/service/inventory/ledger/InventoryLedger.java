@@ -0,0 +1,74 @@
+package com.kt.service.inventory.ledger;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.kt.domain.inventory.StockLine;
+import com.kt.domain.inventory.ledger.MovementType;
+import com.kt.domain.inventory.ledger.StockMovement;
+import com.kt.repository.inventory.InventoryLedgerRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 재고 이동 원장 기록기
+ * - 트랜잭션 안의 이동은 모아 두었다가 커밋 직전에 JDBC 배치 한 번으로 같은 트랜잭션에 쓴다
+ *   (카운터 변경과 원장이 함께 커밋/롤백되므로 원장만 남거나 빠지는 일이 없다)
+ * - 트랜잭션 밖이면 바로 쓴다
+ */
+@Component
+@RequiredArgsConstructor
+public class InventoryLedger {
+
+	private final InventoryLedgerRepository inventoryLedgerRepository;
+
+	public void record(Long productId, MovementType type, long quantity) {
+		append(List.of(StockMovement.of(productId, type, quantity)));
+	}
+
+	public void recordAll(Collection<StockLine> lines, MovementType type) {
+		append(lines.stream().map(line -> StockMovement.of(line.productId(), type, line.quantity())).toList());
+	}
+
+	public void append(List<StockMovement> movements) {
+		if (movements.isEmpty()) {
+			return;
+		}
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			inventoryLedgerRepository.insertAll(movements);
+			return;
+		}
+		buffer().addAll(movements);
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<StockMovement> buffer() {
+		Object bound = TransactionSynchronizationManager.getResource(this);
+		if (bound != null) {
+			return (List<StockMovement>)bound;
+		}
+
+		List<StockMovement> buffer = new ArrayList<>();
+		TransactionSynchronizationManager.bindResource(this, buffer);
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void beforeCommit(boolean readOnly) {
+				if (!buffer.isEmpty()) {
+					inventoryLedgerRepository.insertAll(List.copyOf(buffer));
+					buffer.clear();
+				}
+			}
+
+			@Override
+			public void afterCompletion(int status) {
+				TransactionSynchronizationManager.unbindResourceIfPossible(InventoryLedger.this);
+			}
+		});
+		return buffer;
+	}
+}
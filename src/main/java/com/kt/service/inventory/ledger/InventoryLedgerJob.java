@@ -0,0 +1,69 @@
+package com.kt.service.inventory.ledger;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.kt.domain.inventory.InventoryCounter;
+import com.kt.service.inventory.ledger.InventoryLedgerService.Drift;
+import com.kt.service.inventory.ledger.InventoryLedgerService.ReconcilePage;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 재고 원장 주기 작업
+ * - snapshot : 기초 잔액이 없는 상품을 채우고, 쌓인 이동을 스냅샷에 합친다
+ * - reconcile : 전체 재고를 productId 순으로 훑으며 원장과 다른 상품을 찾는다
+ *   write-behind(redis 엔진) 지연 등 일시적인 차이를 거르기 위해 두 번 연속 같은 차이(테이블 - 원장)가 보일 때만 경고한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InventoryLedgerJob {
+
+	private final InventoryLedgerService inventoryLedgerService;
+
+	// 직전 대사에서 차이가 났던 상품과 그때의 차이
+	private Map<Long, InventoryCounter> suspected = Map.of();
+
+	@Scheduled(fixedDelayString = "${app.inventory.ledger.snapshot-interval-ms:300000}")
+	public void snapshot() {
+		Long after = 0L;
+		while (after != null) {
+			after = inventoryLedgerService.openBaselines(after);
+		}
+		while (inventoryLedgerService.foldSnapshots()) {
+			// 남은 구간이 없을 때까지 구간 단위 트랜잭션으로 반복
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${app.inventory.ledger.reconcile-interval-ms:600000}")
+	public void reconcile() {
+		Map<Long, InventoryCounter> drifted = new HashMap<>();
+		int confirmed = 0;
+
+		Long after = 0L;
+		while (after != null) {
+			ReconcilePage page = inventoryLedgerService.reconcile(after);
+			for (Drift drift : page.drifts()) {
+				InventoryCounter actual = drift.actual();
+				InventoryCounter difference = drift.difference();
+				drifted.put(actual.productId(), difference);
+				if (difference.equals(suspected.get(actual.productId()))) {
+					confirmed++;
+					log.warn("[INVENTORY_LEDGER_DRIFT] productId={}, expected={}, actual={}",
+						actual.productId(), drift.expected(), actual);
+				}
+			}
+			after = page.nextProductId();
+		}
+
+		suspected = drifted;
+		if (confirmed > 0) {
+			log.warn("[INVENTORY_LEDGER_RECONCILE] drifted={}", confirmed);
+		}
+	}
+}
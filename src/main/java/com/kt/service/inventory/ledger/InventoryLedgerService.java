@@ -0,0 +1,150 @@
+package com.kt.service.inventory.ledger;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.kt.config.InventoryLedgerProperties;
+import com.kt.domain.inventory.Inventory;
+import com.kt.domain.inventory.InventoryBucket;
+import com.kt.domain.inventory.InventoryCounter;
+import com.kt.domain.inventory.ledger.StockMovement;
+import com.kt.repository.inventory.InventoryBucketRepository;
+import com.kt.repository.inventory.InventoryLedgerRepository;
+import com.kt.repository.inventory.InventoryRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 재고 원장 스냅샷/기초 잔액/대사
+ * - 메서드 하나가 한 트랜잭션이며, 호출 측(InventoryLedgerJob)이 페이지/구간 단위로 반복 호출한다
+ */
+@Service
+@RequiredArgsConstructor
+public class InventoryLedgerService {
+
+	private static final String SNAPSHOT_CURSOR = "snapshot";
+
+	private final InventoryLedgerRepository inventoryLedgerRepository;
+	private final InventoryRepository inventoryRepository;
+	private final InventoryBucketRepository inventoryBucketRepository;
+	private final InventoryLedger inventoryLedger;
+	private final InventoryLedgerProperties properties;
+
+	/**
+	 * 스냅샷 이후 이동 중 foldLag 이전 구간을 foldChunkSize 만큼 스냅샷에 합친다
+	 * - 작업 위치 행을 잠그므로 여러 노드가 동시에 돌아도 같은 구간을 두 번 합치지 않는다
+	 *
+	 * @return 더 합칠 구간이 남았으면 true
+	 */
+	@Transactional
+	public boolean foldSnapshots() {
+		long fromId = inventoryLedgerRepository.lockCursor(SNAPSHOT_CURSOR);
+		long lastId = inventoryLedgerRepository.findLastIdBefore(LocalDateTime.now().minus(properties.foldLag()));
+		if (lastId <= fromId) {
+			return false;
+		}
+
+		long toId = Math.min(lastId, fromId + properties.foldChunkSize());
+		inventoryLedgerRepository.foldIntoSnapshots(fromId, toId);
+		inventoryLedgerRepository.moveCursor(SNAPSHOT_CURSOR, toId);
+		return toId < lastId;
+	}
+
+	/**
+	 * 원장 도입 이전부터 있던 재고에 기초 잔액(OPENING) 이동을 남긴다
+	 * - 기초 잔액 = 현재 카운터 - 이미 원장에 쌓인 이동 (도입 뒤 기초 잔액보다 이동이 먼저 들어온 상품도 원장과 맞는다)
+	 * - 기초 잔액과 동시에 들어오는 이동이 섞이지 않도록 상품 행과 버킷을 잠근 뒤 원장을 읽고 다시 확인한다
+	 * - 원장 도입 뒤 생긴 상품은 0 기초 잔액이 남아 다음 주기부터 다시 고르지 않는다
+	 *
+	 * @return 다음 페이지 시작 productId (없으면 null)
+	 */
+	@Transactional(isolation = Isolation.READ_COMMITTED)
+	public Long openBaselines(long afterProductId) {
+		List<Long> productIds = inventoryLedgerRepository.findProductIdsWithoutOpening(afterProductId, properties.pageSize());
+		if (productIds.isEmpty()) {
+			return null;
+		}
+
+		Map<Long, InventoryCounter> current = new HashMap<>();
+		for (Inventory inventory : inventoryRepository.findAllByProductIdInForUpdate(productIds)) {
+			Long productId = inventory.getProduct().getId();
+			List<InventoryBucket> buckets = inventoryBucketRepository.findAllForUpdate(productId);
+			current.put(productId, InventoryCounter.of(
+				productId,
+				inventory.getPhysicalStockTotal(),
+				inventory.getReserved() + buckets.stream().mapToLong(InventoryBucket::getReserved).sum(),
+				inventory.getOutboundProcessing() + buckets.stream().mapToLong(InventoryBucket::getOutbound).sum()
+			));
+		}
+		inventoryLedgerRepository.findOpenedProductIds(current.keySet()).forEach(current::remove);
+
+		Map<Long, InventoryCounter> recorded = inventoryLedgerRepository.findLedgerCounters(current.keySet()).stream()
+			.collect(Collectors.toMap(InventoryCounter::productId, Function.identity()));
+
+		List<StockMovement> openings = new ArrayList<>(current.size());
+		for (InventoryCounter counter : current.values()) {
+			InventoryCounter ledger = recorded.getOrDefault(counter.productId(), InventoryCounter.of(counter.productId(), 0, 0, 0));
+			openings.add(StockMovement.opening(InventoryCounter.of(
+				counter.productId(),
+				counter.physicalStockTotal() - ledger.physicalStockTotal(),
+				counter.reserved() - ledger.reserved(),
+				counter.outboundProcessing() - ledger.outboundProcessing()
+			)));
+		}
+		inventoryLedger.append(openings);
+		return productIds.getLast();
+	}
+
+	/**
+	 * 테이블 카운터와 원장(스냅샷 + 이후 이동)을 비교해 다른 상품을 반환
+	 * - REPEATABLE READ 일관 읽기라 두 값을 같은 시점으로 비교하고, 재고 행은 잠그지 않는다
+	 */
+	@Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+	public ReconcilePage reconcile(long afterProductId) {
+		List<InventoryCounter> stored = inventoryLedgerRepository.findStoredCountersAfter(afterProductId, properties.pageSize());
+		if (stored.isEmpty()) {
+			return new ReconcilePage(List.of(), null);
+		}
+
+		Map<Long, InventoryCounter> ledger = inventoryLedgerRepository.findLedgerCounters(
+			stored.stream().map(InventoryCounter::productId).toList()
+		).stream().collect(Collectors.toMap(InventoryCounter::productId, Function.identity()));
+
+		List<Drift> drifts = new ArrayList<>();
+		for (InventoryCounter actual : stored) {
+			InventoryCounter expected = ledger.getOrDefault(actual.productId(), InventoryCounter.of(actual.productId(), 0, 0, 0));
+			if (expected.physicalStockTotal() != actual.physicalStockTotal() || !expected.sameOmsCounters(actual)) {
+				drifts.add(new Drift(expected, actual));
+			}
+		}
+		return new ReconcilePage(drifts, stored.getLast().productId());
+	}
+
+	public record Drift(InventoryCounter expected, InventoryCounter actual) {
+
+		// 테이블 - 원장
+		public InventoryCounter difference() {
+			return InventoryCounter.of(
+				actual.productId(),
+				actual.physicalStockTotal() - expected.physicalStockTotal(),
+				actual.reserved() - expected.reserved(),
+				actual.outboundProcessing() - expected.outboundProcessing()
+			);
+		}
+	}
+
+	/**
+	 * @param nextProductId 다음 페이지 시작 productId (마지막 페이지면 null)
+	 */
+	public record ReconcilePage(List<Drift> drifts, Long nextProductId) {
+	}
+}
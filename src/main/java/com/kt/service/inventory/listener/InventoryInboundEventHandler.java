@@ -1,69 +1,52 @@
 package com.kt.service.inventory.listener;
 
-import java.util.concurrent.TimeUnit;
-
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import com.kt.common.api.CustomException;
 import com.kt.common.api.ErrorCode;
+import com.kt.domain.dedupe.DedupeChannel;
 import com.kt.domain.inventory.event.InboundConfirmedEvent;
-import com.kt.repository.inventory.InventoryRepository;
-import com.kt.repository.inventory.ProcessedInboundEventRepository;
+import com.kt.domain.inventory.ledger.MovementType;
+import com.kt.service.dedupe.EventDeduplicator;
+import com.kt.service.inventory.cache.InventorySnapshotCache;
+import com.kt.service.inventory.concurrency.InventoryWriteExecutor;
+import com.kt.service.inventory.ledger.InventoryLedger;
+import com.kt.service.inventory.reservation.StockReservationEngine;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 단건 입고 반영
+ * - 재고 행 변경은 InventoryWriteExecutor 가 낙관적 쓰기(충돌 시 재시도) 또는 행 잠금으로 실행한다
+ * - 재시도되면 중복 기록까지 함께 롤백되므로 이벤트 ID 확인도 같은 작업 안에서 한다
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class InventoryInboundEventHandler {
 
-	private final ProcessedInboundEventRepository processedInboundEventRepository;
-	private final InventoryRepository inventoryRepository;
-	private final RedissonClient redissonClient;
+	private final EventDeduplicator eventDeduplicator;
+	private final InventoryWriteExecutor inventoryWriteExecutor;
+	private final StockReservationEngine stockReservationEngine;
+	private final InventorySnapshotCache inventorySnapshotCache;
+	private final InventoryLedger inventoryLedger;
 
 	@EventListener
-	@Transactional
 	public void handleInboundConfirmed(InboundConfirmedEvent event) {
-		boolean firstProcessed = tryInsertEvent(event.eventId());
-		if (!firstProcessed) {
-			log.info("[WMS_INBOUND_DUPLICATE] eventId={}", event.eventId());
-			return;
-		}
-
-		String lockKey = "lock:inventory:{" + event.productId() + "}";
-		RLock lock = redissonClient.getLock(lockKey);
-		if (lock == null) {
-			throw new CustomException(ErrorCode.WMS_INBOUND_LOCK_ACQUIRE_FAILED);
-		}
-
-		boolean locked = false;
-		try {
-			locked = lock.tryLock(3, 10, TimeUnit.SECONDS);
-			if (!locked) {
-				throw new CustomException(ErrorCode.WMS_INBOUND_LOCK_ACQUIRE_FAILED);
+		inventoryWriteExecutor.execute(event.productId(), ErrorCode.WMS_INBOUND_INVENTORY_NOT_FOUND, inventory -> {
+			boolean firstProcessed = eventDeduplicator.tryAcquire(DedupeChannel.WMS_INBOUND, event.eventId());
+			if (!firstProcessed) {
+				log.info("[WMS_INBOUND_DUPLICATE] eventId={}", event.eventId());
+				return;
 			}
 
-			var inventory = inventoryRepository.findByProductId(event.productId())
-				.orElseThrow(() -> new CustomException(ErrorCode.WMS_INBOUND_INVENTORY_NOT_FOUND));
-
 			inventory.applyWmsInbound(event.quantity());
-			inventoryRepository.save(inventory);
-		} catch (InterruptedException e) {
-			Thread.currentThread().interrupt();
-			throw new CustomException(ErrorCode.WMS_INBOUND_LOCK_ACQUIRE_FAILED);
-		} finally {
-			if (locked) {
-				lock.unlock();
-			}
-		}
-	}
+			inventorySnapshotCache.evictAfterCommit(event.productId());
+			inventoryLedger.record(event.productId(), MovementType.INBOUND, event.quantity());
 
-	private boolean tryInsertEvent(String eventId) {
-		return processedInboundEventRepository.insertIfAbsent(eventId) > 0;
+			// 예약 엔진이 물리 재고를 캐시하고 있다면 커밋 후 DB 값으로 맞춘다
+			stockReservationEngine.onPhysicalStockChanged(event.productId());
+		});
 	}
 }
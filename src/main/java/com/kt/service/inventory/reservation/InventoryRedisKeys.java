@@ -0,0 +1,28 @@
+package com.kt.service.inventory.reservation;
+
+/**
+ * 재고 관련 Redis 키
+ * - 상품별 키는 {productId} 해시태그를 사용해 같은 상품의 키가 항상 같은 클러스터 슬롯에 배정되도록 한다
+ * - 변경 스크립트는 상품 카운터와 write-behind 대상(inventory:{dirty}) 두 키를 함께 바꾸므로 단일 Redis(또는 같은 슬롯)를 전제로 한다
+ */
+public final class InventoryRedisKeys {
+	private InventoryRedisKeys() {}
+
+	// 예약 엔진이 적재한 상품 ID 집합 (정합성 검증 대상)
+	public static final String TRACKED_PRODUCTS = "inventory:tracked";
+
+	// write-behind 대상 상품 (sorted set, score = 마지막으로 바뀐 Redis 시각 ms) - DB 반영이 끝나야 뺀다
+	public static final String DIRTY_PRODUCTS = "inventory:{dirty}";
+
+	// 카운터가 바뀔 때마다 1씩 오르는 버전 필드 (반영 도중 다시 바뀐 상품을 dirty 에서 빼지 않게 한다)
+	public static final String FIELD_VERSION = "_v";
+
+	public static final String FIELD_PHYSICAL = "physical";
+	public static final String FIELD_RESERVED = "reserved";
+	public static final String FIELD_OUTBOUND = "outbound";
+	public static final String FIELD_AVAILABLE = "available";
+
+	public static String counter(Long productId) {
+		return "inventory:{" + productId + "}";
+	}
+}
@@ -0,0 +1,191 @@
+package com.kt.service.inventory.reservation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.kt.common.api.CustomException;
+import com.kt.common.api.ErrorCode;
+import com.kt.common.api.InsufficientStockException;
+import com.kt.domain.inventory.Inventory;
+import com.kt.domain.inventory.StockLine;
+import com.kt.domain.inventory.ledger.MovementType;
+import com.kt.repository.inventory.InventoryBulkRepository;
+import com.kt.repository.inventory.InventoryRepository;
+import com.kt.service.inventory.InventoryBucketService;
+import com.kt.service.inventory.InventoryBucketService.Outcome;
+import com.kt.service.inventory.cache.InventorySnapshotCache;
+import com.kt.service.inventory.ledger.InventoryLedger;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * DB 행 잠금(SELECT ... FOR UPDATE) 기반 예약 엔진
+ * - Redis 가 없는 환경(로컬/테스트)의 기본 구현
+ * - 여러 상품 일괄 변경은 엔티티를 로딩하지 않고 조건부 UPDATE 배치 한 번으로 처리
+ * - 핫 상품은 행 잠금 대신 재고 버킷(InventoryBucketService)에서 처리
+ * - 바꾼 상품은 커밋 후 재고 스냅샷 캐시에서 지우고, 이동은 재고 원장에 남긴다
+ */
+@Component
+@ConditionalOnProperty(name = "app.inventory.reservation.engine", havingValue = "jpa", matchIfMissing = true)
+@RequiredArgsConstructor
+public class JpaStockReservationEngine implements StockReservationEngine {
+
+	private final InventoryRepository inventoryRepository;
+	private final InventoryBulkRepository inventoryBulkRepository;
+	private final InventoryBucketService inventoryBucketService;
+	private final InventorySnapshotCache inventorySnapshotCache;
+	private final InventoryLedger inventoryLedger;
+
+	@Override
+	@Transactional
+	public void reserve(Long productId, long quantity) {
+		inventorySnapshotCache.evictAfterCommit(productId);
+		Outcome outcome = inventoryBucketService.reserve(productId, quantity);
+		if (outcome == Outcome.SHORTAGE) {
+			throw new CustomException(ErrorCode.PRODUCT_STOCK_NOT_ENOUGH);
+		}
+		if (outcome == Outcome.NOT_HOT) {
+			lockInventory(productId).applyOmsReserve(quantity);
+		}
+		inventoryLedger.record(productId, MovementType.RESERVE, quantity);
+	}
+
+	// 핫 모드 전환 전에 잡힌 예약은 버킷에 없으므로 행에서 처리
+	@Override
+	@Transactional
+	public void release(Long productId, long quantity) {
+		inventorySnapshotCache.evictAfterCommit(productId);
+		if (inventoryBucketService.release(productId, quantity) != Outcome.APPLIED) {
+			lockInventory(productId).applyOmsRelease(quantity);
+		}
+		inventoryLedger.record(productId, MovementType.RELEASE, quantity);
+	}
+
+	@Override
+	@Transactional
+	public void commit(Long productId, long quantity) {
+		inventorySnapshotCache.evictAfterCommit(productId);
+		if (inventoryBucketService.commit(productId, quantity) != Outcome.APPLIED) {
+			lockInventory(productId).applyOmsCommit(quantity);
+		}
+		inventoryLedger.record(productId, MovementType.COMMIT, quantity);
+	}
+
+	@Override
+	@Transactional
+	public void reserveAll(List<StockLine> lines) {
+		throwIfAny(
+			applyAll(lines, line -> inventoryBucketService.reserve(line.productId(), line.quantity()), false,
+				inventoryBulkRepository::reserveAvailable),
+			ErrorCode.PRODUCT_STOCK_NOT_ENOUGH
+		);
+		inventoryLedger.recordAll(lines, MovementType.RESERVE);
+	}
+
+	@Override
+	@Transactional
+	public List<Long> releaseAll(List<StockLine> lines) {
+		List<Long> rejected = applyAll(lines, line -> inventoryBucketService.release(line.productId(), line.quantity()), true,
+			inventoryBulkRepository::releaseReserved);
+		inventoryLedger.recordAll(
+			lines.stream().filter(line -> !rejected.contains(line.productId())).toList(),
+			MovementType.RELEASE
+		);
+		return rejected;
+	}
+
+	@Override
+	@Transactional
+	public void commitAll(List<StockLine> lines) {
+		throwIfAny(
+			applyAll(lines, line -> inventoryBucketService.commit(line.productId(), line.quantity()), true,
+				inventoryBulkRepository::commitReserved),
+			ErrorCode.INVENTORY_RESERVATION_NOT_FOUND
+		);
+		inventoryLedger.recordAll(lines, MovementType.COMMIT);
+	}
+
+	@Override
+	@Transactional
+	public void deduct(List<StockLine> lines) {
+		throwIfAny(
+			applyAll(lines, line -> inventoryBucketService.deduct(line.productId(), line.quantity()), false,
+				inventoryBulkRepository::deductAvailable),
+			ErrorCode.PRODUCT_STOCK_NOT_ENOUGH
+		);
+		inventoryLedger.recordAll(lines, MovementType.DEDUCT);
+	}
+
+	@Override
+	@Transactional
+	public void restore(List<StockLine> lines) {
+		List<Long> productIds = lines.stream().map(StockLine::productId).toList();
+		inventorySnapshotCache.evictAfterCommit(productIds);
+		// 핫 상품은 버킷에 쌓인 출고분을 먼저 행으로 옮겨야 행 조건(outbound_processing >= 수량)이 맞는다
+		inventoryBucketService.foldOutbound(productIds);
+		throwIfAny(
+			rejectedProductIds(lines, inventoryBulkRepository.restoreOutbound(lines)),
+			ErrorCode.INVENTORY_OUTBOUND_NOT_RESERVED
+		);
+		inventoryLedger.recordAll(lines, MovementType.RESTORE);
+	}
+
+	/**
+	 * 핫 상품 줄은 버킷에서, 나머지 줄은 조건부 UPDATE 배치 한 번으로 처리하고 거절된 상품 ID 를 반환
+	 * - fallbackToRow : 버킷에 수량이 없을 때 행에서 다시 시도 (핫 모드 전환 전에 잡힌 예약)
+	 */
+	private List<Long> applyAll(
+		List<StockLine> lines,
+		Function<StockLine, Outcome> bucketOperation,
+		boolean fallbackToRow,
+		Function<List<StockLine>, int[]> rowOperation
+	) {
+		List<Long> productIds = lines.stream().map(StockLine::productId).toList();
+		inventorySnapshotCache.evictAfterCommit(productIds);
+		Set<Long> hotProductIds = inventoryBucketService.findHotProductIds(productIds);
+
+		List<StockLine> rowLines = new ArrayList<>();
+		List<Long> rejected = new ArrayList<>();
+		for (StockLine line : lines) {
+			Outcome outcome = hotProductIds.contains(line.productId()) ? bucketOperation.apply(line) : Outcome.NOT_HOT;
+			if (outcome == Outcome.NOT_HOT || (outcome == Outcome.SHORTAGE && fallbackToRow)) {
+				rowLines.add(line);
+			} else if (outcome == Outcome.SHORTAGE) {
+				rejected.add(line.productId());
+			}
+		}
+
+		if (!rowLines.isEmpty()) {
+			rejected.addAll(rejectedProductIds(rowLines, rowOperation.apply(rowLines)));
+		}
+		return rejected.stream().sorted().toList();
+	}
+
+	private List<Long> rejectedProductIds(List<StockLine> lines, int[] updatedRows) {
+		List<Long> rejected = new ArrayList<>();
+		for (int i = 0; i < lines.size(); i++) {
+			if (updatedRows[i] == 0) {
+				rejected.add(lines.get(i).productId());
+			}
+		}
+		return rejected;
+	}
+
+	// 거절된 줄이 있으면 트랜잭션을 롤백시켜 전체를 되돌린다
+	private void throwIfAny(List<Long> rejected, ErrorCode errorCode) {
+		if (!rejected.isEmpty()) {
+			throw new InsufficientStockException(errorCode, rejected);
+		}
+	}
+
+	private Inventory lockInventory(Long productId) {
+		return inventoryRepository.findByProductIdForUpdate(productId)
+			.orElseThrow(() -> new CustomException(ErrorCode.INVENTORY_NOT_FOUND));
+	}
+}
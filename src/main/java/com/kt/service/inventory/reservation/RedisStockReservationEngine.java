@@ -0,0 +1,392 @@
+package com.kt.service.inventory.reservation;
+
+import static com.kt.service.inventory.reservation.InventoryRedisKeys.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.kt.common.Preconditions;
+import com.kt.common.api.CustomException;
+import com.kt.common.api.ErrorCode;
+import com.kt.common.api.InsufficientStockException;
+import com.kt.domain.inventory.InventoryCounter;
+import com.kt.domain.inventory.StockLine;
+import com.kt.domain.inventory.ledger.MovementType;
+import com.kt.repository.inventory.InventoryBulkRepository;
+import com.kt.service.inventory.ledger.InventoryLedger;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 기반 예약 엔진
+ * - 상품별 카운터(inventory:{productId})를 Lua 스크립트로 원자적으로 변경하므로 분산 락이 필요 없다
+ * - 변경된 상품은 같은 스크립트 안에서 Redis 의 dirty 집합(inventory:{dirty})에 남고 {@link RedisStockSynchronizer} 가 모아서 DB 에 반영(write-behind)
+ *   (노드가 죽어도 반영할 대상이 사라지지 않고, 어느 노드의 synchronizer 든 이어서 반영한다)
+ * - 호출한 DB 트랜잭션이 롤백되면 반대 방향 이동으로 보상한다
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.inventory.reservation.engine", havingValue = "redis")
+@RequiredArgsConstructor
+public class RedisStockReservationEngine implements StockReservationEngine {
+
+	private static final long SUCCESS = 1L;
+	private static final long MISSING = -1L;
+
+	private static final RedisScript<Long> MOVE_SCRIPT = loadScript("move");
+	private static final RedisScript<Long> SEED_SCRIPT = loadScript("seed");
+	private static final RedisScript<Long> SYNC_PHYSICAL_SCRIPT = loadScript("sync_physical");
+	private static final RedisScript<Long> SETTLE_OUTBOUND_SCRIPT = loadScript("settle_outbound");
+	private static final RedisScript<Long> MARK_DIRTY_SCRIPT = loadScript("mark_dirty");
+	private static final RedisScript<Long> FLUSHED_SCRIPT = loadScript("flushed");
+
+	private static final byte[][] COUNTER_FIELDS = {
+		FIELD_PHYSICAL.getBytes(StandardCharsets.UTF_8),
+		FIELD_RESERVED.getBytes(StandardCharsets.UTF_8),
+		FIELD_OUTBOUND.getBytes(StandardCharsets.UTF_8),
+		FIELD_VERSION.getBytes(StandardCharsets.UTF_8)
+	};
+
+	// Redis 카운터 한 벌 (버전 = 해시의 _v)
+	record CounterSnapshot(InventoryCounter counter, long version) {
+	}
+
+	private final StringRedisTemplate redisTemplate;
+	private final InventoryBulkRepository inventoryBulkRepository;
+	private final InventoryLedger inventoryLedger;
+
+	@Override
+	public void reserve(Long productId, long quantity) {
+		move(productId, FIELD_AVAILABLE, FIELD_RESERVED, quantity, ErrorCode.PRODUCT_STOCK_NOT_ENOUGH);
+		inventoryLedger.record(productId, MovementType.RESERVE, quantity);
+	}
+
+	@Override
+	public void release(Long productId, long quantity) {
+		move(productId, FIELD_RESERVED, FIELD_AVAILABLE, quantity, ErrorCode.INVENTORY_RESERVATION_NOT_FOUND);
+		inventoryLedger.record(productId, MovementType.RELEASE, quantity);
+	}
+
+	@Override
+	public void commit(Long productId, long quantity) {
+		move(productId, FIELD_RESERVED, FIELD_OUTBOUND, quantity, ErrorCode.INVENTORY_RESERVATION_NOT_FOUND);
+		inventoryLedger.record(productId, MovementType.COMMIT, quantity);
+	}
+
+	@Override
+	public void reserveAll(List<StockLine> lines) {
+		moveAll(lines, FIELD_AVAILABLE, FIELD_RESERVED, ErrorCode.PRODUCT_STOCK_NOT_ENOUGH);
+		inventoryLedger.recordAll(lines, MovementType.RESERVE);
+	}
+
+	@Override
+	public List<Long> releaseAll(List<StockLine> lines) {
+		List<StockLine> applied = new ArrayList<>(lines.size());
+		List<Long> rejected = new ArrayList<>();
+		for (StockLine line : lines) {
+			if (tryMove(line.productId(), FIELD_RESERVED, FIELD_AVAILABLE, line.quantity())) {
+				applied.add(line);
+			} else {
+				rejected.add(line.productId());
+			}
+		}
+
+		compensateOnRollback(applied, FIELD_AVAILABLE, FIELD_RESERVED);
+		inventoryLedger.recordAll(applied, MovementType.RELEASE);
+		return rejected;
+	}
+
+	@Override
+	public void commitAll(List<StockLine> lines) {
+		moveAll(lines, FIELD_RESERVED, FIELD_OUTBOUND, ErrorCode.INVENTORY_RESERVATION_NOT_FOUND);
+		inventoryLedger.recordAll(lines, MovementType.COMMIT);
+	}
+
+	@Override
+	public void deduct(List<StockLine> lines) {
+		moveAll(lines, FIELD_AVAILABLE, FIELD_OUTBOUND, ErrorCode.PRODUCT_STOCK_NOT_ENOUGH);
+		inventoryLedger.recordAll(lines, MovementType.DEDUCT);
+	}
+
+	@Override
+	public void restore(List<StockLine> lines) {
+		moveAll(lines, FIELD_OUTBOUND, FIELD_AVAILABLE, ErrorCode.INVENTORY_OUTBOUND_NOT_RESERVED);
+		inventoryLedger.recordAll(lines, MovementType.RESTORE);
+	}
+
+	@Override
+	public void onPhysicalStockChanged(Long productId) {
+		runAfterCommit(() -> inventoryBulkRepository.findCountersByProductIds(List.of(productId))
+			.forEach(this::syncPhysical));
+	}
+
+	/**
+	 * 커밋 후 Redis 카운터에도 출고 확정/취소를 반영한다
+	 * - 캐시에 없는 상품은 다음 적재 때 DB 값을 읽으므로 무시
+	 * - 수량이 맞지 않으면 정합성 검증(RedisStockSynchronizer)이 맞출 때까지 경고만 남긴다
+	 */
+	@Override
+	public void onOutboundSettled(Long productId, long confirmed, long canceled) {
+		runAfterCommit(() -> {
+			Long result = redisTemplate.execute(
+				SETTLE_OUTBOUND_SCRIPT,
+				List.of(counter(productId), DIRTY_PRODUCTS),
+				String.valueOf(confirmed),
+				String.valueOf(canceled),
+				productId.toString()
+			);
+			if (result != null && result != SUCCESS && result != MISSING) {
+				log.warn("[INVENTORY_OUTBOUND_SETTLE_MISMATCH] productId={}, confirmed={}, canceled={}",
+					productId, confirmed, canceled);
+			}
+		});
+	}
+
+	/**
+	 * DB 의 물리 재고를 Redis 카운터에 덮어쓴다 (캐시에 없는 상품은 무시)
+	 */
+	void syncPhysical(InventoryCounter counter) {
+		redisTemplate.execute(
+			SYNC_PHYSICAL_SCRIPT,
+			List.of(counter(counter.productId())),
+			String.valueOf(counter.physicalStockTotal())
+		);
+	}
+
+	// Redis 서버 시각(ms) - dirty 집합의 score 와 같은 시계
+	long currentTimeMillis() {
+		Long now = redisTemplate.execute((RedisCallback<Long>) connection -> connection.serverCommands().time());
+		return now == null ? System.currentTimeMillis() : now;
+	}
+
+	/**
+	 * changedUntil(ms) 까지 바뀐 flush 대상 상품을 오래된 순으로 최대 limit 개까지 (꺼내지 않고 읽기만 한다)
+	 */
+	List<Long> findDirtyProductIds(long changedUntil, int limit) {
+		Set<String> members = redisTemplate.opsForZSet()
+			.rangeByScore(DIRTY_PRODUCTS, Double.NEGATIVE_INFINITY, changedUntil, 0, limit);
+		if (members == null) {
+			return List.of();
+		}
+		return members.stream().map(Long::valueOf).toList();
+	}
+
+	void markDirty(Collection<Long> productIds) {
+		if (productIds.isEmpty()) {
+			return;
+		}
+		redisTemplate.execute(MARK_DIRTY_SCRIPT, List.of(DIRTY_PRODUCTS),
+			productIds.stream().map(String::valueOf).toArray());
+	}
+
+	/**
+	 * DB 반영이 끝난 상품을 dirty 집합에서 뺀다 - 읽은 뒤 다시 바뀐 카운터는 남긴다 (스크립트 한 번)
+	 */
+	void markFlushed(List<Long> productIds, List<CounterSnapshot> snapshots) {
+		Map<Long, Long> versions = snapshots.stream()
+			.collect(Collectors.toMap(snapshot -> snapshot.counter().productId(), CounterSnapshot::version));
+
+		List<String> keys = new ArrayList<>(1 + productIds.size());
+		List<String> args = new ArrayList<>(productIds.size() * 2);
+		keys.add(DIRTY_PRODUCTS);
+		for (Long productId : productIds) {
+			keys.add(counter(productId));
+			args.add(productId.toString());
+			args.add(String.valueOf(versions.getOrDefault(productId, 0L)));
+		}
+		redisTemplate.execute(FLUSHED_SCRIPT, keys, args.toArray());
+	}
+
+	/**
+	 * 여러 상품의 Redis 카운터를 파이프라인 한 번으로 읽는다 (캐시에 없는 상품은 결과에서 제외)
+	 */
+	List<CounterSnapshot> readCounters(List<Long> productIds) {
+		List<Object> rows = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			for (Long productId : productIds) {
+				connection.hashCommands().hMGet(
+					counter(productId).getBytes(StandardCharsets.UTF_8),
+					COUNTER_FIELDS
+				);
+			}
+			return null;
+		});
+
+		List<CounterSnapshot> counters = new ArrayList<>(productIds.size());
+		for (int i = 0; i < productIds.size(); i++) {
+			List<?> values = (List<?>) rows.get(i);
+			if (values == null || values.subList(0, 3).contains(null)) {
+				continue;
+			}
+			// 적재 뒤 한 번도 바뀌지 않은 카운터는 _v 가 없다
+			Object version = values.get(3);
+			counters.add(new CounterSnapshot(
+				InventoryCounter.of(
+					productIds.get(i),
+					Long.parseLong(values.get(0).toString()),
+					Long.parseLong(values.get(1).toString()),
+					Long.parseLong(values.get(2).toString())
+				),
+				version == null ? 0L : Long.parseLong(version.toString())
+			));
+		}
+		return counters;
+	}
+
+	/**
+	 * 엔진이 적재한 상품 ID 를 batchSize 단위로 순회한다 (SSCAN, 전체 키 스캔 없음)
+	 */
+	void scanTrackedProductIds(int batchSize, Consumer<List<Long>> consumer) {
+		ScanOptions options = ScanOptions.scanOptions().count(batchSize).build();
+		List<Long> chunk = new ArrayList<>(batchSize);
+
+		try (Cursor<String> cursor = redisTemplate.opsForSet().scan(TRACKED_PRODUCTS, options)) {
+			while (cursor.hasNext()) {
+				chunk.add(Long.valueOf(cursor.next()));
+				if (chunk.size() == batchSize) {
+					consumer.accept(List.copyOf(chunk));
+					chunk.clear();
+				}
+			}
+		}
+
+		if (!chunk.isEmpty()) {
+			consumer.accept(List.copyOf(chunk));
+		}
+	}
+
+	private void move(Long productId, String from, String to, long quantity, ErrorCode shortageCode) {
+		Preconditions.validate(quantity > 0, ErrorCode.INVENTORY_EVENT_QUANTITY_INVALID);
+		Preconditions.validate(tryMove(productId, from, to, quantity), shortageCode);
+
+		compensateOnRollback(List.of(StockLine.of(productId, quantity)), to, from);
+	}
+
+	/**
+	 * 줄마다 스크립트를 실행하고, 하나라도 실패하면 이미 반영한 줄을 되돌린 뒤 실패 목록과 함께 예외
+	 */
+	private void moveAll(List<StockLine> lines, String from, String to, ErrorCode shortageCode) {
+		lines.forEach(line -> Preconditions.validate(line.quantity() > 0, ErrorCode.INVENTORY_EVENT_QUANTITY_INVALID));
+
+		List<StockLine> applied = new ArrayList<>(lines.size());
+		List<Long> rejected = new ArrayList<>();
+		for (StockLine line : lines) {
+			if (tryMove(line.productId(), from, to, line.quantity())) {
+				applied.add(line);
+			} else {
+				rejected.add(line.productId());
+			}
+		}
+
+		if (!rejected.isEmpty()) {
+			revert(applied, to, from);
+			throw new InsufficientStockException(shortageCode, rejected);
+		}
+
+		compensateOnRollback(applied, to, from);
+	}
+
+	private boolean tryMove(Long productId, String from, String to, long quantity) {
+		long result = runMove(productId, from, to, quantity);
+		if (result == MISSING) {
+			seed(productId);
+			result = runMove(productId, from, to, quantity);
+		}
+		return result == SUCCESS;
+	}
+
+	private void revert(List<StockLine> lines, String from, String to) {
+		for (StockLine line : lines) {
+			if (!tryMove(line.productId(), from, to, line.quantity())) {
+				log.error("[INVENTORY_COMPENSATE_FAILED] productId={}, {}->{}, quantity={}",
+					line.productId(), from, to, line.quantity());
+			}
+		}
+	}
+
+	private long runMove(Long productId, String from, String to, long quantity) {
+		Long result = redisTemplate.execute(
+			MOVE_SCRIPT,
+			List.of(counter(productId), DIRTY_PRODUCTS),
+			from,
+			to,
+			String.valueOf(quantity),
+			productId.toString()
+		);
+		return result == null ? MISSING : result;
+	}
+
+	/**
+	 * 캐시 미적재 상품을 DB 값으로 적재 (이미 다른 노드가 적재했다면 스크립트가 무시)
+	 */
+	void seed(Long productId) {
+		InventoryCounter counter = inventoryBulkRepository.findCountersByProductIds(List.of(productId)).stream()
+			.findFirst()
+			.orElseThrow(() -> new CustomException(ErrorCode.INVENTORY_NOT_FOUND));
+
+		redisTemplate.execute(
+			SEED_SCRIPT,
+			List.of(counter(productId)),
+			String.valueOf(counter.physicalStockTotal()),
+			String.valueOf(counter.reserved()),
+			String.valueOf(counter.outboundProcessing())
+		);
+		redisTemplate.opsForSet().add(TRACKED_PRODUCTS, productId.toString());
+	}
+
+	// 호출한 트랜잭션이 롤백되면 Redis 에 먼저 반영된 이동을 되돌린다
+	private void compensateOnRollback(List<StockLine> lines, String from, String to) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				if (status == STATUS_ROLLED_BACK) {
+					revert(lines, from, to);
+				}
+			}
+		});
+	}
+
+	private void runAfterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+
+	private static RedisScript<Long> loadScript(String name) {
+		DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+		script.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/inventory/" + name + ".lua")));
+		script.setResultType(Long.class);
+		return script;
+	}
+}
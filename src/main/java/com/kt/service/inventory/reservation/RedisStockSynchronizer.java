@@ -0,0 +1,96 @@
+package com.kt.service.inventory.reservation;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.kt.config.InventoryReservationProperties;
+import com.kt.domain.inventory.InventoryCounter;
+import com.kt.repository.inventory.InventoryBulkRepository;
+import com.kt.service.inventory.cache.InventorySnapshotCache;
+import com.kt.service.inventory.reservation.RedisStockReservationEngine.CounterSnapshot;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 예약 카운터 ↔ inventories 테이블 동기화
+ * - flush     : Redis dirty 집합의 상품 OMS 카운터를 배치 UPDATE 로 DB 에 반영 (write-behind)
+ *   반영이 끝나야 dirty 집합에서 빼므로 반영 도중 노드가 죽어도 다른 노드가 다음 주기에 다시 반영하고,
+ *   읽은 뒤 다시 바뀐 상품은 버전(_v)을 비교해 남긴다
+ * - reconcile : 주기적으로 Redis 와 DB 를 비교해 물리 재고는 DB → Redis, OMS 카운터는 Redis → DB 로 맞춘다
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.inventory.reservation.engine", havingValue = "redis")
+@RequiredArgsConstructor
+public class RedisStockSynchronizer {
+
+	private final RedisStockReservationEngine reservationEngine;
+	private final InventoryBulkRepository inventoryBulkRepository;
+	private final InventoryReservationProperties properties;
+	private final InventorySnapshotCache inventorySnapshotCache;
+
+	@Scheduled(fixedDelayString = "${app.inventory.reservation.flush-interval-ms:200}")
+	public void flush() {
+		try {
+			// 이번 주기가 시작된 뒤 바뀐 상품은 다음 주기로 넘긴다 (계속 바뀌는 상품이 한 주기를 붙잡지 않게)
+			long changedUntil = reservationEngine.currentTimeMillis();
+			List<Long> productIds = reservationEngine.findDirtyProductIds(changedUntil, properties.flushBatchSize());
+			while (!productIds.isEmpty()) {
+				List<CounterSnapshot> snapshots = reservationEngine.readCounters(productIds);
+				inventoryBulkRepository.overwriteOmsCounters(
+					snapshots.stream().map(CounterSnapshot::counter).toList());
+				inventorySnapshotCache.evictAfterCommit(productIds);
+				reservationEngine.markFlushed(productIds, snapshots);
+				productIds = reservationEngine.findDirtyProductIds(changedUntil, properties.flushBatchSize());
+			}
+		} catch (RuntimeException e) {
+			// 반영하지 못한 상품은 dirty 집합에 남아 다음 주기에 다시 반영 (절대값 쓰기라 재시도해도 안전)
+			log.error("[INVENTORY_FLUSH_FAILED]", e);
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${app.inventory.reservation.reconcile-interval-ms:60000}")
+	public void reconcile() {
+		AtomicInteger drifted = new AtomicInteger();
+
+		reservationEngine.scanTrackedProductIds(properties.reconcileBatchSize(), productIds -> {
+			Map<Long, InventoryCounter> dbCounters = inventoryBulkRepository.findCountersByProductIds(productIds)
+				.stream()
+				.collect(Collectors.toMap(InventoryCounter::productId, Function.identity()));
+
+			for (CounterSnapshot snapshot : reservationEngine.readCounters(productIds)) {
+				InventoryCounter cached = snapshot.counter();
+				InventoryCounter stored = dbCounters.get(cached.productId());
+				if (stored == null) {
+					continue;
+				}
+				if (cached.physicalStockTotal() != stored.physicalStockTotal()) {
+					reservationEngine.syncPhysical(stored);
+					drifted.incrementAndGet();
+				}
+				if (!cached.sameOmsCounters(stored)) {
+					reservationEngine.markDirty(List.of(cached.productId()));
+					drifted.incrementAndGet();
+				}
+			}
+		});
+
+		if (drifted.get() > 0) {
+			log.warn("[INVENTORY_RECONCILE] drifted={}", drifted.get());
+		}
+	}
+
+	@PreDestroy
+	public void flushOnShutdown() {
+		flush();
+	}
+}
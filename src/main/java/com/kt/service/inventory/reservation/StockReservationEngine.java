@@ -0,0 +1,68 @@
+package com.kt.service.inventory.reservation;
+
+import java.util.List;
+
+import com.kt.domain.inventory.StockLine;
+
+/**
+ * OMS 재고 예약 엔진
+ * - reserve : available → reserved (주문 생성)
+ * - release : reserved → available (주문 취소 / 결제 만료)
+ * - commit  : reserved → outboundProcessing (결제 완료, 출고 요청)
+ * - deduct  : available → outboundProcessing (예약 없이 여러 상품을 한 번에 차감)
+ * - restore : outboundProcessing → available (여러 상품을 한 번에 복구)
+ * - *All   : 여러 상품 줄을 한 번에 처리하는 예약/해제/확정
+ *
+ * 구현체는 app.inventory.reservation.engine 설정으로 선택한다
+ * - jpa   : {@link JpaStockReservationEngine} (기본값)
+ * - redis : {@link RedisStockReservationEngine}
+ */
+public interface StockReservationEngine {
+
+	void reserve(Long productId, long quantity);
+
+	void release(Long productId, long quantity);
+
+	void commit(Long productId, long quantity);
+
+	/**
+	 * 여러 상품을 한 번에 예약한다 (실패 처리는 deduct 와 동일)
+	 */
+	void reserveAll(List<StockLine> lines);
+
+	/**
+	 * 여러 상품의 예약을 한 번에 해제한다
+	 * 보상 처리이므로 실패한 줄이 있어도 예외 없이 나머지를 반영하고, 실패한 상품 ID 를 반환한다
+	 */
+	List<Long> releaseAll(List<StockLine> lines);
+
+	/**
+	 * 여러 상품의 예약을 한 번에 확정한다 (실패 처리는 deduct 와 동일)
+	 */
+	void commitAll(List<StockLine> lines);
+
+	/**
+	 * 여러 상품을 한 번에 차감한다 (productId 오름차순으로 정렬된 줄을 받는다)
+	 * 한 줄이라도 실패하면 전체를 반영하지 않고 실패한 상품 ID 와 함께 예외를 던진다
+	 */
+	void deduct(List<StockLine> lines);
+
+	/**
+	 * 여러 상품을 한 번에 복구한다 (실패 처리는 deduct 와 동일)
+	 */
+	void restore(List<StockLine> lines);
+
+	/**
+	 * WMS 등으로 DB 의 물리 재고가 바뀐 뒤 호출 (DB 가 원천인 엔진은 아무것도 하지 않음)
+	 */
+	default void onPhysicalStockChanged(Long productId) {
+	}
+
+	/**
+	 * WMS 출고 확정/취소가 DB 에 반영된 뒤 호출 (DB 가 원천인 엔진은 아무것도 하지 않음)
+	 * - confirmed : 출고 확정 수량 (출고 처리 중, 물리 재고 감소)
+	 * - canceled  : 출고 취소 수량 (출고 처리 중 → available)
+	 */
+	default void onOutboundSettled(Long productId, long confirmed, long canceled) {
+	}
+}
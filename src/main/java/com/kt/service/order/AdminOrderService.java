@@ -1,15 +1,30 @@
 package com.kt.service.order;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.OutputStream;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kt.common.api.CustomException;
 import com.kt.common.api.ErrorCode;
+import com.kt.common.export.ExportFormat;
+import com.kt.common.export.RecordExportWriter;
 import com.kt.domain.order.Order;
+import com.kt.domain.order.OrderSummary;
+import com.kt.domain.order.event.OrderChangedEvent;
+import com.kt.dto.order.AdminOrderSearchCondition;
 import com.kt.dto.order.OrderRequest;
+import com.kt.dto.order.OrderResponse;
+import com.kt.repository.order.OrderExportRepository;
 import com.kt.repository.order.OrderRepository;
+import com.kt.repository.order.OrderSummaryRepository;
+import com.kt.service.order.hold.OrderHoldService;
+import com.kt.service.payment.PaymentService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -19,9 +34,30 @@ import lombok.RequiredArgsConstructor;
 public class AdminOrderService {
 
 	private final OrderRepository orderRepository;
+	private final OrderSummaryRepository orderSummaryRepository;
+	private final OrderExportRepository orderExportRepository;
+	private final ObjectMapper objectMapper;
+	private final OrderHoldService orderHoldService;
+	private final OrderStockService orderStockService;
+	private final PaymentService paymentService;
+	private final ApplicationEventPublisher eventPublisher;
 
-	public List<Order> allOrders() {
-		return orderRepository.findAll();
+	// 주문 목록 (조건 + 페이지) - 주문/결제/배송을 합쳐 둔 order_summary 만 읽는다 (원본 변경보다 조금 늦을 수 있음)
+	@Transactional(readOnly = true)
+	public Page<OrderSummary> searchOrders(AdminOrderSearchCondition condition, Pageable pageable) {
+		return orderSummaryRepository.searchAdmin(condition, pageable);
+	}
+
+	/**
+	 * 주문 내보내기 - 조회 커서에서 한 행씩 읽어 바로 출력 스트림에 쓴다 (전체를 메모리에 올리지 않음)
+	 */
+	@Transactional(readOnly = true)
+	public void exportOrders(AdminOrderSearchCondition condition, ExportFormat format, OutputStream out)
+		throws IOException {
+		try (RecordExportWriter<OrderResponse.AdminList> writer =
+				 RecordExportWriter.open(format, OrderResponse.AdminList.class, out, objectMapper)) {
+			orderExportRepository.forEach(condition, writer::write);
+		}
 	}
 
 	public Order orderInfo(Long id) {
@@ -29,12 +65,21 @@ public class AdminOrderService {
 			.orElseThrow(() -> new CustomException(ErrorCode.ORDER_NOT_FOUND));
 	}
 
-	// 주문 취소
+	// 주문 취소 - 결제 전 주문이면 사용자 취소와 같이 결제 대기 결제를 실패 처리하고 예약을 해제한다
 	public Order cancelOrderAdmin(Long id) {
 		Order order = orderRepository.findById(id)
 			.orElseThrow(() -> new CustomException(ErrorCode.ORDER_NOT_FOUND));
+
+		boolean held = orderHoldService.release(order.getId());
+		paymentService.failReadyPaymentsForCancel(order);
 		order.cancelAdmin();
 
+		// 보류가 남아 있던 주문 = 예약만 잡힌 상태 → 예약 해제 (완료된 주문은 보류가 이미 지워져 있음)
+		if (held) {
+			orderStockService.releaseStock(order.getOrderProducts());
+		}
+		eventPublisher.publishEvent(OrderChangedEvent.of(order.getId()));
+
 		return order;
 	}
 
@@ -43,6 +88,7 @@ public class AdminOrderService {
 		Order order = orderRepository.findById(id)
 			.orElseThrow(() -> new CustomException(ErrorCode.ORDER_NOT_FOUND));
 		order.changeOrderStatus(request.status());
+		eventPublisher.publishEvent(OrderChangedEvent.of(order.getId()));
 		return order;
 	}
 }
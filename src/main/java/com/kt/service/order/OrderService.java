@@ -1,33 +1,38 @@
 package com.kt.service.order;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
-import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.kt.common.api.CustomException;
 import com.kt.common.api.ErrorCode;
-import com.kt.domain.cart.Cart;
-import com.kt.domain.cartproduct.CartProduct;
 import com.kt.domain.order.Order;
 import com.kt.domain.order.OrderType;
 import com.kt.domain.order.Receiver;
+import com.kt.domain.order.event.OrderChangedEvent;
 import com.kt.domain.orderproduct.OrderProduct;
 import com.kt.domain.payment.Payment;
 import com.kt.domain.product.Product;
 import com.kt.dto.delivery.DeliveryRequest;
+import com.kt.dto.order.CheckoutLine;
+import com.kt.dto.order.OrderCursor;
 import com.kt.dto.order.OrderRequest;
-import com.kt.repository.cart.CartProductRepository;
-import com.kt.repository.cart.CartRepository;
+import com.kt.dto.order.OrderResponse;
 import com.kt.repository.order.OrderRepository;
 import com.kt.repository.orderproduct.OrderProductRepository;
 import com.kt.repository.payment.PaymentRepository;
 import com.kt.repository.product.ProductRepository;
+import com.kt.service.cart.store.CartStore;
 import com.kt.service.delivery.DeliveryService;
+import com.kt.service.order.hold.OrderHoldService;
+import com.kt.service.order.number.OrderNumberGenerator;
 import com.kt.service.payment.PaymentService;
 
 import lombok.RequiredArgsConstructor;
@@ -37,28 +42,21 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class OrderService {
 
+	// 주문 이력 한 페이지 최대 건수
+	private static final int MAX_HISTORY_PAGE_SIZE = 100;
+
 	private final OrderRepository orderRepository;
 	private final ProductRepository productRepository;
 	private final OrderProductRepository orderProductRepository;
 	private final DeliveryService deliveryService;
 	private final PaymentService paymentService;
-	private final CartRepository cartRepository;
-	private final CartProductRepository cartProductRepository;
+	private final CartStore cartStore;
 	private final PaymentRepository paymentRepository;
 	private final OrderValidator orderValidator;
 	private final OrderStockService orderStockService;
-
-	// 주문번호 생성
-	private String generateOrderNumber() {
-		String date = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-		String chars = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
-		Random random = new Random();
-		StringBuilder randomNumber = new StringBuilder(5);
-		for (int i = 0; i < 5; i++) {
-			randomNumber.append(chars.charAt(random.nextInt(chars.length())));
-		}
-		return "ORD-" + date + randomNumber;
-	}
+	private final OrderHoldService orderHoldService;
+	private final OrderNumberGenerator orderNumberGenerator;
+	private final ApplicationEventPublisher eventPublisher;
 
 	/** 주문 종류
 	 * 1. 장바구니에서 주문하기 클릭 = 여러 상품들 주문
@@ -68,15 +66,11 @@ public class OrderService {
 	//1.  장바구니 주문 생성
 	public Order createCartOrder(Long userId, OrderRequest.CartOrder request) {
 
-		// 사용자의 장바구니 조회(한 사람 당 하나의 장바구니를 가지므로 userId로 조회)
-		Cart cart = cartRepository.findByUserId(userId)
-			.orElseThrow(() -> new CustomException(ErrorCode.CART_NOT_FOUND));
-
-		// 장바구니에 담긴 상품들 조회
-		List<CartProduct> cartProducts = cartProductRepository.findAllByCartId(cart.getId());
+		// 사용자의 장바구니 스냅샷을 상품 가격/상태, 실재고와 함께 한 번에 조회 (한 사람 당 하나의 장바구니)
+		List<CheckoutLine> lines = cartStore.checkoutLines(userId);
 
-		// 주문 검증 (장바구니 비어있는지, 재고 검증)
-		orderValidator.validateCartOrder(cartProducts);
+		// 주문 검증 (장바구니 비어있는지, 판매 중인지, 재고 검증) - 조회한 값으로 메모리에서 검증
+		orderValidator.validateCartOrder(lines);
 
 		Receiver receiver = new Receiver(
 			request.receiverName(),
@@ -85,35 +79,28 @@ public class OrderService {
 		);
 
 
-		String orderNumber = generateOrderNumber();
-
-		// 중복 조회
-		orderRepository.findByOrderNumber(orderNumber)
-			.ifPresent(o -> { throw new CustomException(ErrorCode.DUPLICATE_ORDER_NUMBER); });
+		// 주문번호는 노드 번호 + 시각 + 노드 내 순번으로 만들어 겹치지 않으므로 중복 조회 없이 저장
+		String orderNumber = orderNumberGenerator.next();
 
 		//주문 생성 (장바구니 주문)
 		Order order = Order.create(userId, receiver, orderNumber, OrderType.CART);
-
-		//주문 저장 전 동시성 제어(따닥 요청 방지, 동일한 주문번호의 주문이 저장되면 에러)
-		try {
-			orderRepository.save(order);
-		}catch(DataIntegrityViolationException e){
-			throw new CustomException(ErrorCode.DUPLICATE_ORDER_NUMBER);
-		}
+		orderRepository.save(order);
 
 
-		// 주문 상품 생성
-		for (CartProduct cartProduct : cartProducts) {
-			Product product = cartProduct.getProduct();
-			int quantity = cartProduct.getCount();
-
-			OrderProduct orderProduct = OrderProduct.create(product, quantity, order);
-			orderProductRepository.save(orderProduct);
+		// 주문 상품 생성 (장바구니 크기와 상관없이 flush 시 INSERT 배치 한 번으로 저장)
+		List<OrderProduct> orderProducts = new ArrayList<>(lines.size());
+		for (CheckoutLine line : lines) {
+			OrderProduct orderProduct = OrderProduct.create(line.productId(), line.price(), line.quantity(), order);
+			orderProducts.add(orderProduct);
 			order.mapToOrder(orderProduct);
 		}
+		orderProductRepository.saveAll(orderProducts);
 		//총 금액 계산
 		order.calculateTotalAmount();
 
+		// 재고 예약 + 결제 대기 보류 등록 (결제하지 않으면 만료 시 예약 해제)
+		reserveStockAndHold(order);
+
 		// 배송 정보 생성
 		createDeliveryForOrder(order.getId(), request.deliveryAddressId(), request.deliveryFee());
 
@@ -125,6 +112,9 @@ public class OrderService {
 			request.paymentType()
 		);
 
+		// 관리자 주문 요약 갱신 알림 (같은 트랜잭션에서 아웃박스에 기록)
+		eventPublisher.publishEvent(OrderChangedEvent.of(order.getId()));
+
 		return order;
 	}
 
@@ -135,7 +125,7 @@ public class OrderService {
 			.orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
 
 		// 주문 검증 (재고 검증)
-		orderValidator.validateDirectOrder(product.getId(), request.quantity());
+		orderValidator.validateDirectOrder(product, request.quantity());
 
 		Receiver receiver = new Receiver(
 			request.receiverName(),
@@ -143,21 +133,12 @@ public class OrderService {
 			request.receiverMobile()
 		);
 
-		String orderNumber = generateOrderNumber();
-
-		// 중복 조회
-		orderRepository.findByOrderNumber(orderNumber)
-			.ifPresent(o -> { throw new CustomException(ErrorCode.DUPLICATE_ORDER_NUMBER); });
+		// 주문번호는 노드 번호 + 시각 + 노드 내 순번으로 만들어 겹치지 않으므로 중복 조회 없이 저장
+		String orderNumber = orderNumberGenerator.next();
 
 		//주문 생성 (바로 주문)
 		Order order = Order.create(userId, receiver, orderNumber, OrderType.DIRECT);
-
-		//주문 저장 전 동시성 제어(따닥 요청 방지, 동일한 주문번호의 주문이 저장되면 에러)
-		try {
-			orderRepository.save(order);
-		}catch(DataIntegrityViolationException e){
-			throw new CustomException(ErrorCode.DUPLICATE_ORDER_NUMBER);
-		}
+		orderRepository.save(order);
 
 		// 주문 상품 생성
 		OrderProduct orderProduct = OrderProduct.create(product, request.quantity(), order);
@@ -167,6 +148,9 @@ public class OrderService {
 		// 총 금액 계산
 		order.calculateTotalAmount();
 
+		// 재고 예약 + 결제 대기 보류 등록 (결제하지 않으면 만료 시 예약 해제)
+		reserveStockAndHold(order);
+
 		// 배송 정보 생성
 		createDeliveryForOrder(order.getId(), request.deliveryAddressId(), request.deliveryFee());
 
@@ -178,17 +162,21 @@ public class OrderService {
 			request.paymentType()
 		);
 
+		// 관리자 주문 요약 갱신 알림 (같은 트랜잭션에서 아웃박스에 기록)
+		eventPublisher.publishEvent(OrderChangedEvent.of(order.getId()));
+
 		return order;
 	}
 
 	/**
 	 * 주문 완료 처리
 	 * 1) 결제가 완료된 후 호출
-	 * 2) 결제 상태(DONE) 확인 후 -> 주문 상태 변경 + 재고 차감
+	 * 2) 결제 상태(DONE) 확인 후 -> 주문 상태 변경 + 예약 재고 확정
+	 * 3) 주문 행을 잠그고 시작하므로 같은 주문이 두 번 들어와도 두 번째는 ORDER_ALREADY_COMPLETED 로 끝난다
 	 */
 	public Order completeOrder(Long userId, String orderNumber) {
-		// 1. 주문 조회
-		Order order = orderRepository.findByOrderNumberAndUserId(orderNumber, userId)
+		// 1. 주문 조회 (행 잠금)
+		Order order = orderRepository.findByOrderNumberAndUserIdForUpdate(orderNumber, userId)
 			.orElseThrow(() -> new CustomException(ErrorCode.ORDER_NOT_FOUND));
 
 		// 2. 주문 상태 확인
@@ -199,8 +187,12 @@ public class OrderService {
 			.orElseThrow(() -> new CustomException(ErrorCode.PAYMENT_NOT_FOUND));
 		orderValidator.validatePaymentCompleted(payment);
 
-		// 4. 재고 차감
-		orderStockService.deductStock(order.getOrderProducts());
+		// 4. 예약 재고 확정 (보류가 없는 주문은 예약 없이 생성된 주문이므로 바로 차감)
+		if (orderHoldService.release(order.getId())) {
+			orderStockService.commitStock(order.getOrderProducts());
+		} else {
+			orderStockService.deductStock(order.getOrderProducts());
+		}
 
 		// 5. 주문 완료 처리
 		order.complete();
@@ -208,6 +200,8 @@ public class OrderService {
 		// 6. 장바구니 비우기 (장바구니 주문의 경우)
 		clearCartIfCartOrder(userId, order);
 
+		eventPublisher.publishEvent(OrderChangedEvent.of(order.getId()));
+
 		return order;
 	}
 
@@ -216,6 +210,49 @@ public class OrderService {
 		return orderRepository.findByUserId(userId);
 	}
 
+	/**
+	 * 내 주문 이력 (키셋 페이지)
+	 * - 주문 한 페이지 + 그 주문들의 주문 상품 + 최신 결제를 IN 조회로 한 번씩 (주문 수와 상관없이 쿼리 3번)
+	 * - size + 1 건을 읽어 다음 페이지 여부를 판단한다
+	 */
+	@Transactional(readOnly = true)
+	public OrderResponse.HistoryPage myOrderHistory(Long userId, String cursor, int size) {
+		int pageSize = Math.clamp(size, 1, MAX_HISTORY_PAGE_SIZE);
+		PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+		List<Order> orders;
+		if (cursor == null || cursor.isBlank()) {
+			orders = orderRepository.findHistoryFirstPage(userId, limit);
+		} else {
+			OrderCursor after = OrderCursor.decode(cursor);
+			orders = orderRepository.findHistoryAfter(userId, after.createdAt(), after.id(), limit);
+		}
+
+		boolean hasNext = orders.size() > pageSize;
+		if (hasNext) {
+			orders = orders.subList(0, pageSize);
+		}
+		if (orders.isEmpty()) {
+			return new OrderResponse.HistoryPage(List.of(), null, false);
+		}
+
+		List<Long> orderIds = orders.stream().map(Order::getId).toList();
+		Map<Long, List<OrderProduct>> orderProducts = orderProductRepository.findAllByOrderIds(orderIds).stream()
+			.collect(Collectors.groupingBy(orderProduct -> orderProduct.getOrder().getId()));
+		Map<Long, Payment> payments = paymentRepository.findLatestByOrderIds(orderIds).stream()
+			.collect(Collectors.toMap(payment -> payment.getOrder().getId(), Function.identity()));
+
+		List<OrderResponse.History> histories = orders.stream()
+			.map(order -> OrderResponse.History.of(
+				order,
+				orderProducts.getOrDefault(order.getId(), List.of()),
+				payments.get(order.getId())
+			))
+			.toList();
+		String nextCursor = hasNext ? OrderCursor.from(orders.get(orders.size() - 1)).encode() : null;
+		return new OrderResponse.HistoryPage(histories, nextCursor, hasNext);
+	}
+
 	//내 주문 상세 조회
 	public Order myOrderInfo(String orderNumber, Long userId) {
 		return orderRepository.findByOrderNumberAndUserId(orderNumber, userId)
@@ -227,10 +264,19 @@ public class OrderService {
 		Order order = orderRepository.findByOrderNumberAndUserId(orderNumber, userId)
 			.orElseThrow(() -> new CustomException(ErrorCode.ORDER_NOT_FOUND));
 
+		// 보류 → 결제 순으로 잠근다 (보류 만료와 같은 순서) - 결제가 진행 중이면 거절되고 보류 삭제도 롤백된다
+		boolean held = orderHoldService.release(order.getId());
+		paymentService.failReadyPaymentsForCancel(order);
+
 		// 사용자는 PENDING 상태에서만 취소 가능
 		order.cancel();
 
-		// PENDING 상태 취소 = 결제 전 = 재고 차감 안 됨 = 재고복구x
+		// PENDING 상태 취소 = 결제 전 = 예약만 잡힌 상태 → 예약 해제
+		if (held) {
+			orderStockService.releaseStock(order.getOrderProducts());
+		}
+
+		eventPublisher.publishEvent(OrderChangedEvent.of(order.getId()));
 
 		return order;
 	}
@@ -255,6 +301,11 @@ public class OrderService {
 
 	//order-product 연관관계
 
+	private void reserveStockAndHold(Order order) {
+		orderStockService.reserveStock(order.getOrderProducts());
+		orderHoldService.hold(order);
+	}
+
 	private void createDeliveryForOrder(Long orderId, Long deliveryAddressId, Integer deliveryFee) {
 		var deliveryRequest = new DeliveryRequest.Create(
 			orderId,
@@ -271,8 +322,6 @@ public class OrderService {
 		if (!order.isCartOrder()) {
 			return;
 		}
-		cartRepository.findByUserId(userId).ifPresent(cart -> {
-			cartProductRepository.deleteAllByCartId(cart.getId());
-		});
+		cartStore.clearOrdered(userId, order.getOrderProducts());
 	}
 }
\ No newline at end of file
@@ -1,30 +1,65 @@
 package com.kt.service.order;
 
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.kt.domain.inventory.StockLine;
 import com.kt.domain.orderproduct.OrderProduct;
+import com.kt.service.inventory.reservation.StockReservationEngine;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class OrderStockService {
 
-	//결제 완료되면 재고 차감
-	public void deductStock(List<OrderProduct> orderProducts) {
-		for (OrderProduct orderProduct : orderProducts) {
-			//재고차감 //동시성 제어
+	private final StockReservationEngine stockReservationEngine;
+
+	//주문 생성 시 재고 예약 (한 상품이라도 부족하면 전체 롤백 + 실패 상품 ID 반환)
+	public void reserveStock(List<OrderProduct> orderProducts) {
+		stockReservationEngine.reserveAll(toStockLines(orderProducts));
+	}
+
+	//결제 완료되면 예약 재고를 출고 처리 중으로 확정
+	public void commitStock(List<OrderProduct> orderProducts) {
+		stockReservationEngine.commitAll(toStockLines(orderProducts));
+	}
+
+	//결제 전 취소 시 예약 해제 (보상 처리라 실패 상품은 기록만 남김)
+	public void releaseStock(List<OrderProduct> orderProducts) {
+		List<Long> rejected = stockReservationEngine.releaseAll(toStockLines(orderProducts));
+		if (!rejected.isEmpty()) {
+			log.warn("[ORDER_STOCK_RELEASE_REJECTED] productIds={}", rejected);
 		}
 	}
 
+	//보류 도입 전에 생성된(예약 없는) 주문의 결제 완료 시 재고 차감
+	//주문 상품 전체를 한 번에 조건부 차감 (한 상품이라도 부족하면 전체 롤백 + 실패 상품 ID 반환)
+	public void deductStock(List<OrderProduct> orderProducts) {
+		stockReservationEngine.deduct(toStockLines(orderProducts));
+	}
+
 	//재고복구
 	public void restoreStock(List<OrderProduct> orderProducts) {
+		stockReservationEngine.restore(toStockLines(orderProducts));
+	}
+
+	//같은 상품은 합치고 productId 오름차순으로 정렬 (여러 주문이 동시에 차감해도 같은 순서로 행을 잠가 데드락 방지)
+	private List<StockLine> toStockLines(List<OrderProduct> orderProducts) {
+		Map<Long, Long> quantityByProduct = new TreeMap<>();
 		for (OrderProduct orderProduct : orderProducts) {
+			quantityByProduct.merge(orderProduct.getProductId(), (long) orderProduct.getQuantity(), Long::sum);
 		}
+
+		return quantityByProduct.entrySet().stream()
+			.map(entry -> StockLine.of(entry.getKey(), entry.getValue()))
+			.toList();
 	}
 }
-
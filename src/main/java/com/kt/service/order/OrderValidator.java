@@ -1,19 +1,22 @@
 package com.kt.service.order;
 
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.stereotype.Component;
 
 import com.kt.common.api.CustomException;
 import com.kt.common.api.ErrorCode;
-import com.kt.domain.cartproduct.CartProduct;
-import com.kt.domain.inventory.Inventory;
+import com.kt.domain.inventory.InventorySnapshot;
 import com.kt.domain.order.Order;
 import com.kt.domain.order.OrderStatus;
 import com.kt.domain.orderproduct.OrderProduct;
 import com.kt.domain.payment.Payment;
 import com.kt.domain.payment.PaymentStatus;
-import com.kt.repository.inventory.InventoryRepository;
+import com.kt.domain.product.Product;
+import com.kt.domain.product.ProductStatus;
+import com.kt.dto.order.CheckoutLine;
+import com.kt.service.inventory.cache.InventorySnapshotCache;
 
 import lombok.RequiredArgsConstructor;
 
@@ -21,48 +24,66 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class OrderValidator {
 
-	private final InventoryRepository inventoryRepository;
+	private final InventorySnapshotCache inventorySnapshotCache;
 
 	// 장바구니 주문 검증 (장바구니에 담긴 여러 상품들이 주문 가능한지 검증)
-	public void validateCartOrder(List<CartProduct> cartProducts) {
-		validateCartNotEmpty(cartProducts);
-
-		for (CartProduct cartProduct : cartProducts) {
-			validateStock(cartProduct.getProduct().getId(), cartProduct.getCount());
+	// 주문 조회 쿼리에서 함께 읽어 온 상품 상태/실재고로 메모리에서 검증한다 (줄마다 DB 를 다시 읽지 않음)
+	public void validateCartOrder(List<CheckoutLine> lines) {
+		validateCartNotEmpty(lines);
+
+		for (CheckoutLine line : lines) {
+			validateOrderable(line.isOrderable());
+			if (line.physicalStockTotal() == null) {
+				throw new CustomException(ErrorCode.INVENTORY_NOT_FOUND);
+			}
+			validateStock(line.physicalStockTotal(), line.quantity());
 		}
 	}
 
 	// 바로 주문 검증 (단일 상품에 대해서 주문 가능한지 검증)
-	public void validateDirectOrder(Long productId, int quantity) {
-		validateStock(productId, quantity);
+	public void validateDirectOrder(Product product, int quantity) {
+		validateOrderable(!product.isDeleted() && product.getStatus() == ProductStatus.ACTIVE);
+
+		InventorySnapshot inventory = inventorySnapshotCache.get(product.getId())
+			.orElseThrow(() -> new CustomException(ErrorCode.INVENTORY_NOT_FOUND));
+		validateStock(inventory.physicalStockTotal(), quantity);
 	}
 
 	// 장바구니 비어있는지 검증
-	private void validateCartNotEmpty(List<CartProduct> cartProducts) {
-		if (cartProducts.isEmpty()) {
+	private void validateCartNotEmpty(List<CheckoutLine> lines) {
+		if (lines.isEmpty()) {
 			throw new CustomException(ErrorCode.CART_EMPTY);
 		}
 	}
 
-	// 재고 검증 (품절이 됐는지, 잔여재고가 충분한지 검증)
-	private void validateStock(Long productId, int requestedQuantity) {
-		Inventory inventory = getInventory(productId);
+	// 판매 중(ACTIVE)이고 삭제되지 않은 상품만 주문 가능
+	private void validateOrderable(boolean orderable) {
+		if (!orderable) {
+			throw new CustomException(ErrorCode.ORDER_PRODUCT_NOT_ORDERABLE);
+		}
+	}
 
+	// 재고 검증 (품절이 됐는지, 잔여재고가 충분한지 검증)
+	// 조회 시점 실재고 기준의 사전 검증 - 실제 차감 가능 여부는 예약 엔진의 조건부 UPDATE 가 판단한다
+	private void validateStock(long physicalStockTotal, int requestedQuantity) {
 		// 실제 재고가 1 미만이면 주문 불가 = 품절인 경우
-		if (inventory.getPhysicalStockTotal() < 1) {
+		if (physicalStockTotal < 1) {
 			throw new CustomException(ErrorCode.PRODUCT_STOCK_NOT_ENOUGH);
 		}
 
 		// 요청 수량이 실제 재고보다 많으면 주문 불가 = 재고가 적은 경우
-		if (requestedQuantity > inventory.getPhysicalStockTotal()) {
+		if (requestedQuantity > physicalStockTotal) {
 			throw new CustomException(ErrorCode.PRODUCT_STOCK_NOT_ENOUGH);
 		}
 	}
 
 	// 주문 상품 재검증 (이미 생성된 주문에 대해서 재고를 검증)
 	public void validateOrderProducts(List<OrderProduct> orderProducts) {
+		Map<Long, InventorySnapshot> inventories = inventorySnapshotCache.getAll(
+			orderProducts.stream().map(OrderProduct::getProductId).toList()
+		);
 		for (OrderProduct orderProduct : orderProducts) {
-			validateStock(orderProduct.getProductId(), orderProduct.getQuantity());
+			validateStock(getInventory(inventories, orderProduct.getProductId()).physicalStockTotal(), orderProduct.getQuantity());
 		}
 	}
 
@@ -91,9 +112,12 @@ public class OrderValidator {
 		}
 	}
 
-	private Inventory getInventory(Long productId) {
-		return inventoryRepository.findByProductId(productId)
-			.orElseThrow(() -> new CustomException(ErrorCode.INVENTORY_NOT_FOUND));
+	private InventorySnapshot getInventory(Map<Long, InventorySnapshot> inventories, Long productId) {
+		InventorySnapshot inventory = inventories.get(productId);
+		if (inventory == null) {
+			throw new CustomException(ErrorCode.INVENTORY_NOT_FOUND);
+		}
+		return inventory;
 	}
 }
 
@@ -0,0 +1,26 @@
+package com.kt.service.order.completion;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.kt.domain.order.OrderCompletionDeadLetter;
+import com.kt.domain.payment.event.PaymentConfirmedEvent;
+import com.kt.repository.order.OrderCompletionDeadLetterRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class OrderCompletionDeadLetterService {
+
+	private final OrderCompletionDeadLetterRepository orderCompletionDeadLetterRepository;
+
+	@Transactional
+	public void record(PaymentConfirmedEvent event, int attempts, String error) {
+		OrderCompletionDeadLetter deadLetter = orderCompletionDeadLetterRepository.findByOrderNumber(event.orderNumber())
+			.orElseGet(() -> orderCompletionDeadLetterRepository.save(
+				OrderCompletionDeadLetter.create(event.orderNumber(), event.userId())
+			));
+		deadLetter.recordFailure(attempts, error);
+	}
+}
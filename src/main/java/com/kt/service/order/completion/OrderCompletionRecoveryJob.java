@@ -0,0 +1,44 @@
+package com.kt.service.order.completion;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.kt.config.OrderCompletionProperties;
+import com.kt.domain.payment.event.PaymentConfirmedEvent;
+import com.kt.repository.payment.PaymentRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 결제 완료 후 recoveryDelay 가 지나도 완료되지 않은 주문을 완료 처리 대기열에 다시 넣는다
+ * - 메모리 대기열이라 노드가 내려가면 작업을 잃지만, 결제 행은 커밋돼 있으므로 여기서 찾아 복구된다
+ * - 여러 노드가 같은 주문을 넣어도 주문 행 잠금으로 한 번만 완료된다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderCompletionRecoveryJob {
+
+	private final PaymentRepository paymentRepository;
+	private final OrderCompletionWorker orderCompletionWorker;
+	private final OrderCompletionProperties properties;
+
+	@Scheduled(fixedDelayString = "${app.order.completion.recovery-interval-ms:60000}")
+	public void recover() {
+		List<PaymentConfirmedEvent> stalled = paymentRepository.findStalledCompletions(
+			LocalDateTime.now().minus(properties.recoveryDelay()),
+			PageRequest.of(0, properties.recoveryBatchSize())
+		);
+		if (stalled.isEmpty()) {
+			return;
+		}
+
+		long submitted = stalled.stream().filter(orderCompletionWorker::submit).count();
+		log.info("[ORDER_COMPLETION_RECOVERED] found={}, submitted={}", stalled.size(), submitted);
+	}
+}
@@ -0,0 +1,151 @@
+package com.kt.service.order.completion;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.kt.common.api.CustomException;
+import com.kt.common.api.ErrorCode;
+import com.kt.config.OrderCompletionProperties;
+import com.kt.domain.payment.event.PaymentConfirmedEvent;
+import com.kt.service.order.OrderService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 결제 완료된 주문의 완료 처리(예약 재고 확정, 주문 완료, 장바구니 비우기)를 결제 요청 스레드 밖에서 실행한다
+ * - 주문번호로 레인을 고르므로 같은 주문의 작업은 한 레인에서 순서대로 처리된다
+ * - 레인마다 가상 스레드 하나가 대기열을 비우고, 작업마다 새 트랜잭션으로 OrderService.completeOrder 를 호출한다
+ * - 일시적 실패(DB 충돌, 연결 오류 등)는 무작위 대기 후 재시도하고, 다 쓰면 dead letter 로 남긴다
+ * - 업무 규칙 실패(CustomException)는 다시 해도 같으므로 바로 dead letter 로 남긴다 (이미 완료된 주문은 성공으로 본다)
+ * - 대기열이 가득 찼거나 노드가 내려가 잃은 작업은 {@link OrderCompletionRecoveryJob} 이 결제 상태로 다시 찾아 넣는다
+ */
+@Slf4j
+@Component
+public class OrderCompletionWorker {
+
+	private final OrderService orderService;
+	private final OrderCompletionDeadLetterService orderCompletionDeadLetterService;
+	private final OrderCompletionProperties properties;
+	private final List<BlockingQueue<PaymentConfirmedEvent>> lanes = new ArrayList<>();
+	private final List<Thread> workers = new ArrayList<>();
+	private volatile boolean running;
+
+	public OrderCompletionWorker(
+		OrderService orderService,
+		OrderCompletionDeadLetterService orderCompletionDeadLetterService,
+		OrderCompletionProperties properties
+	) {
+		this.orderService = orderService;
+		this.orderCompletionDeadLetterService = orderCompletionDeadLetterService;
+		this.properties = properties;
+		for (int i = 0; i < properties.lanes(); i++) {
+			lanes.add(new ArrayBlockingQueue<>(properties.queueCapacity()));
+		}
+	}
+
+	/**
+	 * @return 대기열에 넣었으면 true, 받지 못했으면 false (복구 스윕이 나중에 다시 넣는다)
+	 */
+	public boolean submit(PaymentConfirmedEvent event) {
+		BlockingQueue<PaymentConfirmedEvent> lane = lanes.get(Math.floorMod(event.orderNumber().hashCode(), lanes.size()));
+		if (running && lane.offer(event)) {
+			return true;
+		}
+		log.warn("[ORDER_COMPLETION_REJECTED] orderNumber={}, running={}", event.orderNumber(), running);
+		return false;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void start() {
+		running = true;
+		for (int i = 0; i < lanes.size(); i++) {
+			BlockingQueue<PaymentConfirmedEvent> lane = lanes.get(i);
+			workers.add(Thread.ofVirtual()
+				.name("order-completion-" + i)
+				.start(() -> work(lane)));
+		}
+	}
+
+	/**
+	 * 새 작업을 더 받지 않고, 이미 받은 작업은 처리한 뒤 종료
+	 */
+	@EventListener(ContextClosedEvent.class)
+	public void stop() throws InterruptedException {
+		running = false;
+		long deadline = System.nanoTime() + properties.shutdownTimeout().toNanos();
+		for (Thread worker : workers) {
+			worker.join(Duration.ofNanos(Math.max(0, deadline - System.nanoTime())));
+		}
+	}
+
+	private void work(BlockingQueue<PaymentConfirmedEvent> lane) {
+		while (running || !lane.isEmpty()) {
+			try {
+				PaymentConfirmedEvent event = lane.poll(100, TimeUnit.MILLISECONDS);
+				if (event != null) {
+					complete(event);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (RuntimeException e) {
+				log.error("[ORDER_COMPLETION_WORKER_ERROR]", e);
+			}
+		}
+	}
+
+	private void complete(PaymentConfirmedEvent event) {
+		RuntimeException last = null;
+		int attempt = 1;
+		for (; attempt <= properties.maxAttempts(); attempt++) {
+			try {
+				orderService.completeOrder(event.userId(), event.orderNumber());
+				return;
+			} catch (CustomException e) {
+				if (e.getErrorCode() == ErrorCode.ORDER_ALREADY_COMPLETED) {
+					return;
+				}
+				last = e;
+				break;
+			} catch (RuntimeException e) {
+				last = e;
+				log.warn("[ORDER_COMPLETION_RETRY] orderNumber={}, attempt={}", event.orderNumber(), attempt, e);
+				if (attempt == properties.maxAttempts() || !backoff(attempt)) {
+					break;
+				}
+			}
+		}
+
+		log.error("[ORDER_COMPLETION_DEAD_LETTER] orderNumber={}, attempts={}", event.orderNumber(), attempt, last);
+		orderCompletionDeadLetterService.record(event, attempt, describe(last));
+	}
+
+	// 대기 상한은 시도마다 두 배 (maxBackoff 까지), 실제 대기는 0 ~ 상한 사이 임의 값
+	private boolean backoff(int attempt) {
+		long capMs = Math.min(properties.maxBackoff().toMillis(), properties.baseBackoff().toMillis() << (attempt - 1));
+		try {
+			Thread.sleep(ThreadLocalRandom.current().nextLong(capMs + 1));
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private static String describe(RuntimeException e) {
+		if (e instanceof CustomException custom) {
+			return custom.getErrorCode().name();
+		}
+		return e.getClass().getSimpleName() + ": " + e.getMessage();
+	}
+}
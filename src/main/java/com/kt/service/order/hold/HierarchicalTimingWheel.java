@@ -0,0 +1,132 @@
+package com.kt.service.order.hold;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 계층형 타이밍 휠
+ * - 0 단계 한 칸 = tickMs, k 단계 한 칸 = tickMs * wheelSize^k
+ * - 등록은 마감 시각이 들어가는 가장 낮은 단계의 칸에 O(1) 로 넣고,
+ *   상위 단계 칸은 시간이 그 칸에 도달했을 때 한 번만 아래 단계로 내려보낸다
+ * - 마감 시각이 지난 칸은 통째로 꺼내므로 만료 건수와 무관하게 칸 단위로 처리된다
+ * - 취소는 지원하지 않는다 (꺼낸 뒤 DB 보류 행이 없으면 건너뛰는 지연 삭제)
+ *
+ * 스레드 안전을 위해 모든 공개 메서드는 synchronized
+ */
+public class HierarchicalTimingWheel {
+
+	private static final int MAX_LEVELS = 16;
+
+	private record Entry(long id, long deadlineMs) {
+	}
+
+	private final long tickMs;
+	private final int wheelSize;
+	private final List<List<Entry>[]> levels = new ArrayList<>();
+	private long currentMs;
+	private int size;
+
+	public HierarchicalTimingWheel(long tickMs, int wheelSize, long startMs) {
+		if (tickMs <= 0 || wheelSize < 2) {
+			throw new IllegalArgumentException("tickMs must be positive and wheelSize at least 2");
+		}
+		this.tickMs = tickMs;
+		this.wheelSize = wheelSize;
+		this.currentMs = startMs - Math.floorMod(startMs, tickMs);
+		addLevel();
+	}
+
+	/**
+	 * 등록 - 이미 마감 시각이 지났으면 false (호출 측이 바로 처리)
+	 */
+	public synchronized boolean add(long id, long deadlineMs) {
+		if (deadlineMs < currentMs) {
+			return false;
+		}
+		place(new Entry(id, deadlineMs));
+		size++;
+		return true;
+	}
+
+	/**
+	 * 현재 시각까지 휠을 돌리고 마감된 id 를 반환
+	 */
+	public synchronized List<Long> advance(long nowMs) {
+		List<Long> expired = new ArrayList<>();
+		while (currentMs + tickMs <= nowMs) {
+			// 방금 지나간 0 단계 칸은 마감 시각이 모두 currentMs + tickMs 이전
+			drain(levels.get(0), index(currentMs, 0)).forEach(entry -> expired.add(entry.id()));
+			currentMs += tickMs;
+			cascade();
+		}
+		size -= expired.size();
+		return expired;
+	}
+
+	public synchronized int size() {
+		return size;
+	}
+
+	// 시간이 상위 단계 칸의 시작에 도달하면 그 칸을 아래 단계로 재배치
+	private void cascade() {
+		for (int level = 1; level < levels.size(); level++) {
+			long levelTick = levelTickMs(level);
+			if (currentMs % levelTick != 0) {
+				return;
+			}
+			drain(levels.get(level), index(currentMs, level)).forEach(this::place);
+		}
+	}
+
+	/**
+	 * 마감 시각이 들어가는 가장 낮은 단계에 배치
+	 * - 0 단계는 현재 칸부터, 상위 단계는 다음 칸부터 wheelSize - 1 칸 앞까지만 받는다
+	 *   (상위 단계의 현재 칸은 이미 내려보낸 뒤라 다시 넣으면 한 바퀴를 더 돌게 된다)
+	 */
+	private void place(Entry entry) {
+		for (int level = 0; ; level++) {
+			if (level == levels.size()) {
+				if (levels.size() == MAX_LEVELS) {
+					throw new IllegalArgumentException("deadline too far: " + entry.deadlineMs());
+				}
+				addLevel();
+			}
+			long levelTick = levelTickMs(level);
+			long distance = Math.floorDiv(entry.deadlineMs(), levelTick) - Math.floorDiv(currentMs, levelTick);
+			if (distance < wheelSize && (level == 0 || distance >= 1)) {
+				levels.get(level)[index(entry.deadlineMs(), level)].add(entry);
+				return;
+			}
+		}
+	}
+
+	private List<Entry> drain(List<Entry>[] buckets, int index) {
+		List<Entry> bucket = buckets[index];
+		if (bucket.isEmpty()) {
+			return List.of();
+		}
+		buckets[index] = new ArrayList<>();
+		return bucket;
+	}
+
+	private int index(long timeMs, int level) {
+		return (int)Math.floorMod(Math.floorDiv(timeMs, levelTickMs(level)), (long)wheelSize);
+	}
+
+	private long levelTickMs(int level) {
+		long levelTick = tickMs;
+		for (int i = 0; i < level; i++) {
+			levelTick *= wheelSize;
+		}
+		return levelTick;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void addLevel() {
+		List<Entry>[] buckets = new List[wheelSize];
+		for (int i = 0; i < wheelSize; i++) {
+			buckets[i] = new ArrayList<>();
+		}
+		levels.add(buckets);
+	}
+}
@@ -0,0 +1,106 @@
+package com.kt.service.order.hold;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.kt.config.OrderHoldProperties;
+import com.kt.domain.order.OrderHold;
+import com.kt.domain.order.event.OrderChangedEvent;
+import com.kt.domain.payment.Payment;
+import com.kt.domain.payment.PaymentStatus;
+import com.kt.repository.order.OrderHoldRepository;
+import com.kt.repository.order.OrderRepository;
+import com.kt.repository.orderproduct.OrderProductRepository;
+import com.kt.repository.payment.PaymentRepository;
+import com.kt.service.inventory.reservation.StockReservationEngine;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 만료된 재고 보류 일괄 처리
+ * - 주문 묶음 하나를 한 트랜잭션에서: 결제 READY → FAILED, 주문 PENDING → CANCELLED,
+ *   상품별로 합친 예약 수량 해제, 보류 행 삭제를 모두 벌크 쿼리로 처리한다
+ * - 결제가 이미 진행 중/완료된 주문은 건드리지 않고 보류 만료만 뒤로 미룬다 (완료 처리가 보류를 지움)
+ * - 결제 상태는 결제 행을 잠그고 읽으므로 만료 처리와 승인 선점 중 먼저 잠근 쪽만 진행된다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderHoldExpiryService {
+
+	// 결제가 PG 로 넘어갔거나 끝난 상태 - 이 주문은 만료하지 않는다
+	private static final Set<PaymentStatus> PAYING_STATUSES = EnumSet.of(PaymentStatus.IN_PROGRESS, PaymentStatus.DONE);
+
+	private final OrderHoldRepository orderHoldRepository;
+	private final OrderRepository orderRepository;
+	private final OrderProductRepository orderProductRepository;
+	private final PaymentRepository paymentRepository;
+	private final StockReservationEngine stockReservationEngine;
+	private final OrderHoldProperties properties;
+	private final ApplicationEventPublisher eventPublisher;
+
+	/**
+	 * @return 결제가 진행 중이라 만료를 미룬 주문 ID
+	 */
+	@Transactional
+	public List<Long> expire(List<Long> orderIds) {
+		LocalDateTime now = LocalDateTime.now();
+		List<OrderHold> holds = orderHoldRepository.findExpiredForUpdate(orderIds, now);
+		if (holds.isEmpty()) {
+			return List.of();
+		}
+
+		// 결제 행을 잠근 뒤 상태를 본다 - 잠그지 않으면 읽은 뒤 승인 선점이 끼어들어 결제 중인 주문을 취소할 수 있다
+		Set<String> paying = new HashSet<>();
+		for (Payment payment : paymentRepository.findAllByOrderNumberInForUpdate(
+			holds.stream().map(OrderHold::getOrderNumber).toList()
+		)) {
+			if (PAYING_STATUSES.contains(payment.getStatus())) {
+				paying.add(payment.getOrderNumber());
+			}
+		}
+
+		List<Long> expiredOrderIds = new ArrayList<>();
+		List<String> expiredOrderNumbers = new ArrayList<>();
+		List<Long> payingOrderIds = new ArrayList<>();
+		for (OrderHold hold : holds) {
+			if (paying.contains(hold.getOrderNumber())) {
+				payingOrderIds.add(hold.getOrderId());
+			} else {
+				expiredOrderIds.add(hold.getOrderId());
+				expiredOrderNumbers.add(hold.getOrderNumber());
+			}
+		}
+
+		if (!payingOrderIds.isEmpty()) {
+			orderHoldRepository.extendAll(payingOrderIds, now.plus(properties.ttl()));
+		}
+		if (expiredOrderIds.isEmpty()) {
+			return payingOrderIds;
+		}
+
+		paymentRepository.failReadyPayments(expiredOrderNumbers, now);
+		orderRepository.cancelPendingOrders(expiredOrderIds, now);
+
+		List<Long> rejected = stockReservationEngine.releaseAll(
+			orderProductRepository.sumQuantitiesByOrderIds(expiredOrderIds)
+		);
+		if (!rejected.isEmpty()) {
+			log.warn("[ORDER_HOLD_RELEASE_REJECTED] productIds={}", rejected);
+		}
+
+		orderHoldRepository.deleteAllByOrderIds(expiredOrderIds);
+		expiredOrderIds.forEach(orderId -> eventPublisher.publishEvent(OrderChangedEvent.of(orderId)));
+		log.info("[ORDER_HOLD_EXPIRED] expired={}, deferred={}", expiredOrderIds.size(), payingOrderIds.size());
+		return payingOrderIds;
+	}
+}
@@ -0,0 +1,39 @@
+package com.kt.service.order.hold;
+
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.kt.config.OrderHoldProperties;
+import com.kt.domain.order.Order;
+import com.kt.domain.order.OrderHold;
+import com.kt.repository.order.OrderHoldRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class OrderHoldService {
+
+	private final OrderHoldRepository orderHoldRepository;
+	private final OrderHoldTimer orderHoldTimer;
+	private final OrderHoldProperties properties;
+
+	// 주문 생성 트랜잭션에서 보류 저장 → 커밋 후 타이밍 휠 등록
+	public void hold(Order order) {
+		LocalDateTime expiresAt = LocalDateTime.now().plus(properties.ttl());
+		orderHoldRepository.save(OrderHold.create(order.getId(), order.getOrderNumber(), expiresAt));
+		orderHoldTimer.scheduleAfterCommit(order.getId(), expiresAt);
+	}
+
+	/**
+	 * 결제 완료/사용자 취소 시 보류 해제
+	 * - 삭제한 행이 있으면 true (재고가 예약된 주문), 없으면 false (보류 도입 전 주문)
+	 * - 휠에 남은 항목은 만료 시 보류 행이 없어 건너뛴다
+	 */
+	public boolean release(Long orderId) {
+		return orderHoldRepository.deleteByOrderId(orderId) > 0;
+	}
+}
@@ -0,0 +1,138 @@
+package com.kt.service.order.hold;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.kt.config.OrderHoldProperties;
+import com.kt.domain.order.OrderHold;
+import com.kt.repository.order.OrderHoldRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문 재고 보류 만료 타이머
+ * - 메모리 타이밍 휠이 만료 시각에 맞춰 주문 ID 를 꺼내고, 배치 단위로 만료 처리한다
+ * - 재시작 시 order_holds 를 키셋 페이지로 읽어 휠을 복구한다
+ * - 다른 노드에서 등록된 보류나 놓친 보류는 만료 시각 인덱스를 쓰는 주기 점검이 처리한다
+ */
+@Slf4j
+@Component
+public class OrderHoldTimer {
+
+	private final OrderHoldRepository orderHoldRepository;
+	private final OrderHoldExpiryService orderHoldExpiryService;
+	private final OrderHoldProperties properties;
+	private final HierarchicalTimingWheel wheel;
+
+	public OrderHoldTimer(
+		OrderHoldRepository orderHoldRepository,
+		OrderHoldExpiryService orderHoldExpiryService,
+		OrderHoldProperties properties
+	) {
+		this.orderHoldRepository = orderHoldRepository;
+		this.orderHoldExpiryService = orderHoldExpiryService;
+		this.properties = properties;
+		this.wheel = new HierarchicalTimingWheel(properties.tickMs(), properties.wheelSize(), System.currentTimeMillis());
+	}
+
+	/**
+	 * 보류 행이 커밋된 뒤에 휠에 등록 (롤백된 주문은 등록되지 않음)
+	 */
+	public void scheduleAfterCommit(Long orderId, LocalDateTime expiresAt) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			schedule(orderId, expiresAt);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				schedule(orderId, expiresAt);
+			}
+		});
+	}
+
+	@Scheduled(fixedDelayString = "${app.order.hold.tick-ms:1000}")
+	public void tick() {
+		expireInBatches(wheel.advance(System.currentTimeMillis()));
+	}
+
+	/**
+	 * 휠에 없는 만료 보류 점검 (다른 노드 장애, 만료 처리 실패 등)
+	 */
+	@Scheduled(fixedDelayString = "${app.order.hold.sweep-interval-ms:60000}")
+	public void sweep() {
+		int batchSize = properties.expireBatchSize();
+		while (true) {
+			List<Long> orderIds = orderHoldRepository.findExpiredOrderIds(LocalDateTime.now(), PageRequest.of(0, batchSize));
+			if (orderIds.isEmpty()) {
+				return;
+			}
+			expire(orderIds);
+			if (orderIds.size() < batchSize) {
+				return;
+			}
+		}
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void recover() {
+		int batchSize = properties.expireBatchSize();
+		long lastId = 0L;
+		int recovered = 0;
+		List<Long> overdue = new ArrayList<>();
+
+		while (true) {
+			List<OrderHold> holds = orderHoldRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, batchSize));
+			for (OrderHold hold : holds) {
+				if (!wheel.add(hold.getOrderId(), toEpochMilli(hold.getExpiresAt()))) {
+					overdue.add(hold.getOrderId());
+				}
+			}
+			recovered += holds.size();
+			if (holds.size() < batchSize) {
+				break;
+			}
+			lastId = holds.getLast().getId();
+		}
+
+		log.info("[ORDER_HOLD_RECOVERED] scheduled={}, overdue={}", recovered - overdue.size(), overdue.size());
+		expireInBatches(overdue);
+	}
+
+	// 이미 만료 시각이 지난 보류는 주기 점검이 처리
+	private void schedule(Long orderId, LocalDateTime expiresAt) {
+		wheel.add(orderId, toEpochMilli(expiresAt));
+	}
+
+	private void expireInBatches(List<Long> orderIds) {
+		int batchSize = properties.expireBatchSize();
+		for (int from = 0; from < orderIds.size(); from += batchSize) {
+			expire(orderIds.subList(from, Math.min(from + batchSize, orderIds.size())));
+		}
+	}
+
+	private void expire(List<Long> orderIds) {
+		try {
+			List<Long> extended = orderHoldExpiryService.expire(orderIds);
+			LocalDateTime retryAt = LocalDateTime.now().plus(properties.ttl());
+			extended.forEach(orderId -> wheel.add(orderId, toEpochMilli(retryAt)));
+		} catch (Exception e) {
+			// 실패한 배치는 보류 행이 남아 있으므로 다음 주기 점검에서 다시 처리된다
+			log.error("[ORDER_HOLD_EXPIRE_FAILED] size={}", orderIds.size(), e);
+		}
+	}
+
+	private static long toEpochMilli(LocalDateTime dateTime) {
+		return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+}
@@ -0,0 +1,112 @@
+package com.kt.service.order.number;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+
+import com.kt.config.OrderNumberProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문번호용 노드 번호
+ * - app.order.number.node-id 가 있으면 그 값을 쓴다 (배포 시 인스턴스마다 다른 값을 주입)
+ * - 없으면 Redis 에서 비어 있는 번호를 SET NX 로 임대하고 주기적으로 갱신한다 (주문 생성 경로에서는 Redis 를 쓰지 않음)
+ * - Redis 를 쓰지 않는 단일 인스턴스 환경(로컬/테스트)은 0
+ */
+@Slf4j
+@Component
+public class OrderNodeIdLease {
+
+	private static final String KEY_PREFIX = "order:number:node:";
+	private static final RedisScript<Long> RENEW_SCRIPT = loadRenewScript();
+
+	private final OrderNumberProperties properties;
+	private final StringRedisTemplate redisTemplate;
+	private final String token = UUID.randomUUID().toString();
+	private volatile int nodeId;
+
+	public OrderNodeIdLease(
+		OrderNumberProperties properties,
+		@Value("${app.redis.enabled:true}") boolean redisEnabled,
+		ObjectProvider<StringRedisTemplate> redisTemplateProvider
+	) {
+		this.properties = properties;
+		if (properties.nodeId() != null) {
+			this.redisTemplate = null;
+			this.nodeId = validate(properties.nodeId());
+		} else if (redisEnabled) {
+			this.redisTemplate = redisTemplateProvider.getObject();
+			this.nodeId = acquire();
+		} else {
+			this.redisTemplate = null;
+			this.nodeId = 0;
+		}
+		log.info("[ORDER_NODE_ID] nodeId={}", nodeId);
+	}
+
+	public int nodeId() {
+		return nodeId;
+	}
+
+	/**
+	 * 임대 갱신 - 잃었으면 새 번호를 임대한다 (이후 주문번호는 새 번호로 만들어짐)
+	 */
+	@Scheduled(fixedDelayString = "${app.order.number.lease-renew-interval-ms:60000}")
+	public void renew() {
+		if (redisTemplate == null) {
+			return;
+		}
+
+		Long renewed = redisTemplate.execute(
+			RENEW_SCRIPT,
+			List.of(KEY_PREFIX + nodeId),
+			token,
+			String.valueOf(properties.leaseTtl().toMillis())
+		);
+		if (renewed == null || renewed != 1L) {
+			log.error("[ORDER_NODE_ID_LEASE_LOST] nodeId={}", nodeId);
+			nodeId = acquire();
+			log.info("[ORDER_NODE_ID] nodeId={}", nodeId);
+		}
+	}
+
+	// 임의의 번호부터 한 바퀴 돌며 비어 있는 번호를 찾는다 (인스턴스가 동시에 떠도 서로 다른 번호부터 시도)
+	private int acquire() {
+		int nodeCount = OrderNumberGenerator.MAX_NODE_ID + 1;
+		int start = ThreadLocalRandom.current().nextInt(nodeCount);
+		for (int i = 0; i < nodeCount; i++) {
+			int candidate = (start + i) % nodeCount;
+			Boolean acquired = redisTemplate.opsForValue()
+				.setIfAbsent(KEY_PREFIX + candidate, token, properties.leaseTtl());
+			if (Boolean.TRUE.equals(acquired)) {
+				return candidate;
+			}
+		}
+		throw new IllegalStateException("no free order node id");
+	}
+
+	private static int validate(int nodeId) {
+		if (nodeId < 0 || nodeId > OrderNumberGenerator.MAX_NODE_ID) {
+			throw new IllegalArgumentException("order node id must be between 0 and " + OrderNumberGenerator.MAX_NODE_ID);
+		}
+		return nodeId;
+	}
+
+	private static RedisScript<Long> loadRenewScript() {
+		DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+		script.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/order/renew_node_lease.lua")));
+		script.setResultType(Long.class);
+		return script;
+	}
+}
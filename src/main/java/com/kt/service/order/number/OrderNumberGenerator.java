@@ -0,0 +1,88 @@
+package com.kt.service.order.number;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문번호 생성기 - ORD-yyyyMMdd + 36진수 10자리
+ * - 10자리 = (그날 0시부터 지난 ms 27비트 | 노드 번호 10비트 | 같은 ms 안의 순번 12비트)
+ * - 노드마다 번호가 다르고 노드 안에서는 (ms, 순번)이 단조 증가하므로 DB 조회나 잠금 없이 겹치지 않는다
+ * - (ms, 순번)은 AtomicLong 하나를 CAS 로 올린다: 순번이 넘치면 다음 ms 를 당겨 쓰고, 시계가 뒤로 가도 마지막 값부터 이어간다
+ */
+@Component
+public class OrderNumberGenerator {
+
+	static final int MAX_NODE_ID = (1 << 10) - 1;
+
+	private static final int NODE_BITS = 10;
+	private static final int SEQUENCE_BITS = 12;
+	private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+	private static final int SUFFIX_LENGTH = 10;
+	private static final char[] DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+	private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+	private record Day(long startMs, long endMs, String prefix) {
+	}
+
+	private final IntSupplier nodeId;
+	private final LongSupplier clock;
+	private final ZoneId zone;
+
+	// (epochMs << SEQUENCE_BITS) | 순번
+	private final AtomicLong lastStamp = new AtomicLong();
+	private volatile Day day;
+
+	@Autowired
+	public OrderNumberGenerator(OrderNodeIdLease orderNodeIdLease) {
+		this(orderNodeIdLease::nodeId, System::currentTimeMillis, ZoneId.systemDefault());
+	}
+
+	OrderNumberGenerator(IntSupplier nodeId, LongSupplier clock, ZoneId zone) {
+		this.nodeId = nodeId;
+		this.clock = clock;
+		this.zone = zone;
+		this.day = dayOf(clock.getAsLong());
+	}
+
+	public String next() {
+		long now = clock.getAsLong() << SEQUENCE_BITS;
+		long stamp = lastStamp.accumulateAndGet(now, (last, candidate) -> Math.max(candidate, last + 1));
+
+		long epochMs = stamp >>> SEQUENCE_BITS;
+		Day current = day;
+		if (epochMs < current.startMs() || epochMs >= current.endMs()) {
+			current = dayOf(epochMs);
+			day = current;
+		}
+
+		long suffix = (((epochMs - current.startMs()) << NODE_BITS | nodeId.getAsInt()) << SEQUENCE_BITS)
+			| (stamp & SEQUENCE_MASK);
+		return current.prefix() + encode(suffix);
+	}
+
+	private Day dayOf(long epochMs) {
+		LocalDate date = Instant.ofEpochMilli(epochMs).atZone(zone).toLocalDate();
+		return new Day(
+			date.atStartOfDay(zone).toInstant().toEpochMilli(),
+			date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli(),
+			"ORD-" + date.format(DATE_FORMAT)
+		);
+	}
+
+	private static String encode(long value) {
+		char[] chars = new char[SUFFIX_LENGTH];
+		for (int i = SUFFIX_LENGTH - 1; i >= 0; i--) {
+			chars[i] = DIGITS[(int)(value % DIGITS.length)];
+			value /= DIGITS.length;
+		}
+		return new String(chars);
+	}
+}
@@ -0,0 +1,86 @@
+package com.kt.service.order.summary;
+
+import java.util.List;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.kt.config.OrderSummaryProperties;
+import com.kt.repository.order.OrderSummaryProjectionRepository;
+import com.kt.repository.order.OrderSummaryProjectionRepository.SummaryCheck;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요약 행이 없는 주문을 채우고, 원본보다 낡은 요약 행을 다시 만든다
+ * - 읽기 모델을 처음 배포했을 때의 기존 주문과, 알림 없이 바뀐(또는 알림을 잃은) 주문을 보정한다
+ * - 낡은 행은 요약 테이블을 order_id 순서로 실행마다 조금씩 훑어 찾고(원본 updated_at > projected_at), 끝에 닿으면 처음부터 다시 훑는다
+ * - 다른 노드나 알림 처리와 같은 주문을 동시에 쓰다 충돌한 묶음은 건너뛰고 다음 실행에서 다시 찾는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderSummaryBackfillJob {
+
+	private final OrderSummaryProjectionRepository projectionRepository;
+	private final OrderSummaryProjector orderSummaryProjector;
+	private final OrderSummaryProperties properties;
+
+	// 낡은 요약 행을 훑는 위치 (노드마다 따로 돌며, 재기동하면 처음부터 다시 훑는다)
+	private long staleCursor;
+
+	@Scheduled(fixedDelayString = "${app.order.summary.backfill-interval-ms:60000}")
+	public void backfill() {
+		long afterId = 0;
+		int filled = 0;
+		for (int batch = 0; batch < properties.backfillMaxBatches(); batch++) {
+			List<Long> missing = projectionRepository.findOrderIdsMissingSummary(afterId, properties.backfillBatchSize());
+			if (missing.isEmpty()) {
+				break;
+			}
+			try {
+				filled += orderSummaryProjector.refresh(missing);
+			} catch (DataAccessException e) {
+				log.warn("[ORDER_SUMMARY_BACKFILL_SKIPPED] from={}, size={}", missing.getFirst(), missing.size(), e);
+			}
+			afterId = missing.getLast();
+			if (missing.size() < properties.backfillBatchSize()) {
+				break;
+			}
+		}
+
+		if (filled > 0) {
+			log.info("[ORDER_SUMMARY_BACKFILL] filled={}", filled);
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${app.order.summary.backfill-interval-ms:60000}")
+	public void reprojectStale() {
+		int reprojected = 0;
+		for (int batch = 0; batch < properties.backfillMaxBatches(); batch++) {
+			List<SummaryCheck> checked = projectionRepository.checkProjections(staleCursor, properties.backfillBatchSize());
+			List<Long> stale = checked.stream()
+				.filter(SummaryCheck::stale)
+				.map(SummaryCheck::orderId)
+				.toList();
+			if (!stale.isEmpty()) {
+				try {
+					reprojected += orderSummaryProjector.refresh(stale);
+				} catch (DataAccessException e) {
+					log.warn("[ORDER_SUMMARY_REPROJECT_SKIPPED] from={}, size={}", stale.getFirst(), stale.size(), e);
+				}
+			}
+			if (checked.size() < properties.backfillBatchSize()) {
+				staleCursor = 0;
+				break;
+			}
+			staleCursor = checked.getLast().orderId();
+		}
+
+		if (reprojected > 0) {
+			log.info("[ORDER_SUMMARY_REPROJECT] reprojected={}", reprojected);
+		}
+	}
+}
@@ -0,0 +1,41 @@
+package com.kt.service.order.summary;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.kt.domain.order.event.OrderChangedEvent;
+import com.kt.domain.outbox.OutboxEventType;
+import com.kt.repository.order.OrderSummaryProjectionRepository;
+import com.kt.service.outbox.OutboxEventHandler;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문/결제/배송 변경 알림을 받아 order_summary 행을 다시 만든다 (아웃박스 전달 - 같은 알림이 다시 와도 결과는 같다)
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderSummaryProjector implements OutboxEventHandler<OrderChangedEvent> {
+
+	private final OrderSummaryProjectionRepository projectionRepository;
+
+	@Override
+	public OutboxEventType type() {
+		return OutboxEventType.ORDER_CHANGED;
+	}
+
+	@Override
+	@Transactional
+	public void handle(OrderChangedEvent event) {
+		refresh(List.of(event.orderId()));
+	}
+
+	@Transactional
+	public int refresh(Collection<Long> orderIds) {
+		return projectionRepository.refresh(orderIds, LocalDateTime.now());
+	}
+}
@@ -0,0 +1,51 @@
+package com.kt.service.outbox;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kt.domain.outbox.OutboxEventType;
+import com.kt.domain.outbox.OutboxPayload;
+
+/**
+ * 직렬화된 이벤트를 종류별 핸들러에 넘긴다 (아웃박스 릴레이, 이벤트 버스 소비자가 같이 쓴다)
+ * - 한 종류에 핸들러가 여럿이면 차례로 부르고, 하나라도 실패하면 이벤트 전체가 다시 전달된다
+ *   (앞서 성공한 핸들러도 다시 불리므로 모든 핸들러는 같은 이벤트를 여러 번 받아도 결과가 같아야 한다)
+ */
+@Component
+public class OutboxEventDispatcher {
+
+	private final ObjectMapper objectMapper;
+	private final Map<OutboxEventType, List<OutboxEventHandler<OutboxPayload>>> handlers =
+		new EnumMap<>(OutboxEventType.class);
+
+	@SuppressWarnings("unchecked")
+	public OutboxEventDispatcher(ObjectMapper objectMapper, List<OutboxEventHandler<?>> handlers) {
+		this.objectMapper = objectMapper;
+		for (OutboxEventHandler<?> handler : handlers) {
+			this.handlers.computeIfAbsent(handler.type(), type -> new ArrayList<>())
+				.add((OutboxEventHandler<OutboxPayload>)handler);
+		}
+	}
+
+	public void dispatch(OutboxEventType type, String payload) {
+		List<OutboxEventHandler<OutboxPayload>> typeHandlers = handlers.get(type);
+		if (typeHandlers == null) {
+			throw new IllegalStateException("no outbox handler: " + type);
+		}
+		OutboxPayload event;
+		try {
+			event = objectMapper.readValue(payload, type.getPayloadType());
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("invalid outbox payload: " + type, e);
+		}
+		for (OutboxEventHandler<OutboxPayload> handler : typeHandlers) {
+			handler.handle(event);
+		}
+	}
+}
@@ -0,0 +1,16 @@
+package com.kt.service.outbox;
+
+import com.kt.domain.outbox.OutboxEventType;
+import com.kt.domain.outbox.OutboxPayload;
+
+/**
+ * 아웃박스 이벤트 처리기 - 종류마다 하나
+ * - 최소 한 번 전달이므로 같은 이벤트를 두 번 받아도 결과가 같아야 한다
+ * - 예외를 던지면 릴레이가 재시도 간격 뒤에 다시 전달한다
+ */
+public interface OutboxEventHandler<T extends OutboxPayload> {
+
+	OutboxEventType type();
+
+	void handle(T event);
+}
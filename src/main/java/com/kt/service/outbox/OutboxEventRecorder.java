@@ -0,0 +1,44 @@
+package com.kt.service.outbox;
+
+import java.time.LocalDateTime;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kt.domain.outbox.OutboxPayload;
+import com.kt.repository.outbox.OutboxRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ApplicationEventPublisher 로 발행한 아웃박스 이벤트를 발행 트랜잭션 안에서 outbox_events 에 기록한다
+ * - 동기 리스너라 발행한 스레드/트랜잭션에서 실행되고, 상태 변경이 롤백되면 이벤트 행도 함께 롤백된다
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventRecorder {
+
+	private final OutboxRepository outboxRepository;
+	private final ObjectMapper objectMapper;
+
+	@EventListener
+	public void record(OutboxPayload event) {
+		if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+			throw new IllegalStateException("outbox event must be published inside a transaction: " + event.outboxType());
+		}
+
+		try {
+			outboxRepository.insert(
+				event.outboxType(),
+				event.outboxKey(),
+				objectMapper.writeValueAsString(event),
+				LocalDateTime.now()
+			);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("cannot serialize outbox event: " + event.outboxType(), e);
+		}
+	}
+}
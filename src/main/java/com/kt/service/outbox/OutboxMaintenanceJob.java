@@ -0,0 +1,62 @@
+package com.kt.service.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.kt.config.OutboxProperties;
+import com.kt.repository.outbox.OutboxRepository;
+import com.kt.repository.outbox.OutboxRepository.Pending;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 아웃박스 관리
+ * - 보관 기간이 지난 전달 완료 행을 pruneBatchSize 단위로 삭제 (여러 노드가 동시에 돌아도 같은 범위를 지울 뿐)
+ * - 미전달 행 수와 가장 오래된 미전달 행의 나이를 게이지로 노출 (outbox.pending, outbox.pending.oldest.age)
+ */
+@Slf4j
+@Component
+public class OutboxMaintenanceJob {
+
+	private final OutboxRepository outboxRepository;
+	private final OutboxProperties properties;
+	private final AtomicLong pending = new AtomicLong();
+	private final AtomicLong oldestAgeSeconds = new AtomicLong();
+
+	public OutboxMaintenanceJob(OutboxRepository outboxRepository, OutboxProperties properties,
+		MeterRegistry meterRegistry) {
+		this.outboxRepository = outboxRepository;
+		this.properties = properties;
+		meterRegistry.gauge("outbox.pending", pending);
+		meterRegistry.gauge("outbox.pending.oldest.age", oldestAgeSeconds);
+	}
+
+	@Scheduled(fixedDelayString = "${app.outbox.metrics-interval-ms:15000}")
+	public void refreshMetrics() {
+		Pending current = outboxRepository.findPending();
+		pending.set(current.count());
+		oldestAgeSeconds.set(current.oldestCreatedAt() == null
+			? 0
+			: Duration.between(current.oldestCreatedAt(), LocalDateTime.now()).toSeconds());
+	}
+
+	@Scheduled(fixedDelayString = "${app.outbox.prune-interval-ms:600000}")
+	public void prune() {
+		LocalDateTime cutoff = LocalDateTime.now().minus(properties.retention());
+		long deleted = 0;
+		int batch;
+		do {
+			batch = outboxRepository.deleteDeliveredBefore(cutoff, properties.pruneBatchSize());
+			deleted += batch;
+		} while (batch >= properties.pruneBatchSize());
+
+		if (deleted > 0) {
+			log.info("[OUTBOX_PRUNE] cutoff={}, deleted={}", cutoff, deleted);
+		}
+	}
+}
@@ -0,0 +1,153 @@
+package com.kt.service.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kt.config.OutboxProperties;
+import com.kt.repository.outbox.OutboxRepository;
+import com.kt.repository.outbox.OutboxRepository.Claimed;
+import com.kt.repository.outbox.OutboxRepository.Failure;
+import com.kt.service.eventbus.EventBus;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 아웃박스 릴레이 - 커밋된 outbox_events 행을 읽어 이벤트 버스로 넘긴다
+ * - 가져오기는 짧은 트랜잭션에서 SKIP LOCKED 로 잠그고 임대 시각만 기록한다 (노드마다 릴레이가 돌아도 행을 나눠 가짐)
+ * - 이벤트 버스(로컬 핸들러 호출 또는 Redis Stream 추가)는 트랜잭션 밖에서 호출하고,
+ *   결과(전달 완료 / 재시도 시각)는 묶음 단위로 한 번에 기록한다
+ * - 전달 후 결과를 기록하기 전에 노드가 죽으면 임대가 끝난 뒤 다시 전달된다 (최소 한 번)
+ *
+ * 메트릭 (type 태그)
+ * - outbox.delivery.lag : 기록부터 전달 완료까지 걸린 시간
+ * - outbox.delivery.failures : 전달 실패 횟수
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+	private final OutboxRepository outboxRepository;
+	private final OutboxProperties properties;
+	private final EventBus eventBus;
+	private final MeterRegistry meterRegistry;
+	private final TransactionTemplate transactionTemplate;
+	private volatile boolean running;
+	private Thread worker;
+
+	public OutboxRelay(
+		OutboxRepository outboxRepository,
+		OutboxProperties properties,
+		EventBus eventBus,
+		MeterRegistry meterRegistry,
+		PlatformTransactionManager transactionManager
+	) {
+		this.outboxRepository = outboxRepository;
+		this.properties = properties;
+		this.eventBus = eventBus;
+		this.meterRegistry = meterRegistry;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void start() {
+		running = true;
+		worker = Thread.ofVirtual().name("outbox-relay").start(this::work);
+	}
+
+	@EventListener(ContextClosedEvent.class)
+	public void stop() throws InterruptedException {
+		running = false;
+		if (worker != null) {
+			worker.interrupt();
+			worker.join(properties.lease());
+		}
+	}
+
+	/**
+	 * 한 묶음을 가져와 전달한다
+	 * @return 가져온 행 수
+	 */
+	public int relayOnce() {
+		LocalDateTime now = LocalDateTime.now();
+		List<Claimed> claimed = transactionTemplate.execute(status ->
+			outboxRepository.claim(now, now.plus(properties.lease()), properties.batchSize()));
+		if (claimed == null || claimed.isEmpty()) {
+			return 0;
+		}
+
+		List<Claimed> delivered = new ArrayList<>(claimed.size());
+		List<Failure> failures = new ArrayList<>();
+		for (Claimed message : claimed) {
+			try {
+				eventBus.publish(message.type(), message.aggregateKey(), message.payload());
+				delivered.add(message);
+			} catch (RuntimeException e) {
+				log.warn("[OUTBOX_DELIVERY_FAILED] id={}, type={}, attempts={}", message.id(), message.type(),
+					message.attempts() + 1, e);
+				meterRegistry.counter("outbox.delivery.failures", "type", message.type().name()).increment();
+				failures.add(new Failure(message.id(), LocalDateTime.now().plus(backoff(message.attempts())),
+					describe(e)));
+			}
+		}
+
+		LocalDateTime deliveredAt = LocalDateTime.now();
+		outboxRepository.markDelivered(delivered.stream().map(Claimed::id).toList(), deliveredAt);
+		outboxRepository.markFailed(failures);
+		for (Claimed message : delivered) {
+			meterRegistry.timer("outbox.delivery.lag", "type", message.type().name())
+				.record(Duration.between(message.createdAt(), deliveredAt));
+		}
+		return claimed.size();
+	}
+
+	private void work() {
+		while (running) {
+			try {
+				if (relayOnce() < properties.batchSize()) {
+					Thread.sleep(properties.pollInterval());
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (RuntimeException e) {
+				log.error("[OUTBOX_RELAY_ERROR]", e);
+				if (!pause(properties.baseBackoff())) {
+					return;
+				}
+			}
+		}
+	}
+
+	// 시도마다 두 배 (maxBackoff 까지), 0.5 ~ 1 배 사이로 흩뜨린다
+	private Duration backoff(int attempts) {
+		long capMs = Math.min(properties.maxBackoff().toMillis(),
+			properties.baseBackoff().toMillis() << Math.min(attempts, 20));
+		return Duration.ofMillis(capMs / 2 + ThreadLocalRandom.current().nextLong(capMs / 2 + 1));
+	}
+
+	private boolean pause(Duration duration) {
+		try {
+			Thread.sleep(duration);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private static String describe(RuntimeException e) {
+		String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+		return error.length() <= 1000 ? error : error.substring(0, 1000);
+	}
+}
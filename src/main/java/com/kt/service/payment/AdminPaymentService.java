@@ -1,14 +1,25 @@
 package com.kt.service.payment;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.OutputStream;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kt.common.api.CustomException;
 import com.kt.common.api.ErrorCode;
+import com.kt.common.export.ExportFormat;
+import com.kt.common.export.RecordExportWriter;
+import com.kt.domain.order.event.OrderChangedEvent;
 import com.kt.domain.payment.Payment;
+import com.kt.dto.payment.AdminPaymentSearchCondition;
 import com.kt.dto.payment.PaymentRequest;
+import com.kt.dto.payment.PaymentResponse;
+import com.kt.repository.payment.PaymentExportRepository;
 import com.kt.repository.payment.PaymentRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -19,10 +30,24 @@ import lombok.RequiredArgsConstructor;
 public class AdminPaymentService {
 
 	private final PaymentRepository paymentRepository;
+	private final PaymentExportRepository paymentExportRepository;
+	private final ObjectMapper objectMapper;
+	private final ApplicationEventPublisher eventPublisher;
+
+	//결제 내역 조회 (조건 + 페이지)
+	@Transactional(readOnly = true)
+	public Page<Payment> searchPayments(AdminPaymentSearchCondition condition, Pageable pageable) {
+		return paymentRepository.searchAdmin(condition, pageable);
+	}
 
-	//결제 내역 전체 조회
-	public List<Payment> allPayments() {
-		return paymentRepository.findAll();
+	//결제 내역 내보내기 - 조회 커서에서 한 행씩 읽어 바로 출력 스트림에 쓴다
+	@Transactional(readOnly = true)
+	public void exportPayments(AdminPaymentSearchCondition condition, ExportFormat format, OutputStream out)
+		throws IOException {
+		try (RecordExportWriter<PaymentResponse.AdminList> writer =
+				 RecordExportWriter.open(format, PaymentResponse.AdminList.class, out, objectMapper)) {
+			paymentExportRepository.forEach(condition, writer::write);
+		}
 	}
 
 	//결제 상태 변경
@@ -30,6 +55,7 @@ public class AdminPaymentService {
 		Payment payment = paymentRepository.findById(paymentId)
 			.orElseThrow(() -> new CustomException(ErrorCode.PAYMENT_NOT_FOUND));
 		payment.changeStatus(request.status());
+		eventPublisher.publishEvent(OrderChangedEvent.of(payment.getOrder().getId()));
 		return payment;
 	}
 }
@@ -0,0 +1,55 @@
+package com.kt.service.payment;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.kt.common.api.CustomException;
+import com.kt.config.PaymentResolutionProperties;
+import com.kt.repository.payment.PaymentRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PG 결과를 모르는 채 남은 승인(IN_PROGRESS)을 PG 조회로 확정한다
+ * - 승인 요청이 타임아웃/5xx/회로 차단으로 끝나면 결제는 IN_PROGRESS 로 남고, 그동안 보류 만료는 주문을 취소하지 않는다
+ * - PG 가 계속 응답하지 않으면 다음 주기에 다시 조회한다 (하루가 지나도 남으면 정산 대사가 불일치로 잡는다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentResolutionJob {
+
+	private final PaymentRepository paymentRepository;
+	private final PaymentService paymentService;
+	private final PaymentResolutionProperties properties;
+
+	@Scheduled(fixedDelayString = "${app.payment.resolution.interval-ms:30000}")
+	public void resolve() {
+		List<Long> paymentIds = paymentRepository.findStalledInProgressIds(
+			LocalDateTime.now().minus(properties.after()),
+			PageRequest.of(0, properties.batchSize())
+		);
+
+		int resolved = 0;
+		for (Long paymentId : paymentIds) {
+			try {
+				if (paymentService.resolve(paymentId)) {
+					resolved++;
+				}
+			} catch (CustomException e) {
+				// PG 조회 실패 - 결과를 여전히 모르므로 남겨 두고, 남은 결제도 같은 PG 라 이번 주기는 멈춘다
+				log.warn("[PAYMENT_RESOLVE_FAILED] paymentId={}, reason={}", paymentId, e.getErrorCode());
+				break;
+			}
+		}
+
+		if (!paymentIds.isEmpty()) {
+			log.info("[PAYMENT_RESOLUTION] found={}, resolved={}", paymentIds.size(), resolved);
+		}
+	}
+}
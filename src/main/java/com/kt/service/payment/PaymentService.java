@@ -1,29 +1,74 @@
 package com.kt.service.payment;
 
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.kt.common.Preconditions;
 import com.kt.common.api.CustomException;
 import com.kt.common.api.ErrorCode;
 import com.kt.domain.order.Order;
+import com.kt.domain.order.OrderStatus;
+import com.kt.domain.order.event.OrderChangedEvent;
 import com.kt.domain.payment.Payment;
+import com.kt.domain.payment.PaymentStatus;
 import com.kt.domain.payment.PaymentType;
 import com.kt.domain.payment.event.PaymentConfirmedEvent;
 import com.kt.dto.payment.PaymentRequest;
+import com.kt.integration.pg.PaymentGatewayClient;
+import com.kt.integration.pg.PaymentGatewayResult;
 import com.kt.repository.payment.PaymentRepository;
+import com.kt.service.order.OrderStockService;
 
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 결제 생성/승인/조회/취소
+ * - 승인/취소의 상태 변경은 조건부 UPDATE(PaymentRepository#transition 등)로 하고 바뀐 행 수로 경쟁을 가른다
+ *   (행을 잠그거나 읽은 값을 덮어쓰지 않으므로 같은 결제에 대한 동시 요청은 하나만 진행되고 나머지는 바로 실패)
+ * - PG 호출은 트랜잭션 밖에서 한다: 선점(READY -> IN_PROGRESS)과 결과 반영을 각각 짧은 트랜잭션으로 나눠
+ *   PG 가 느려도 DB 커넥션을 붙잡지 않는다 (이미 시작된 트랜잭션 안에서 호출되면 거기에 참여)
+ * - PG 결과를 모르면(타임아웃/5xx/회로 차단) IN_PROGRESS 로 남겨 둔다 - READY 로 되돌리면 이미 승인된 돈을 미결제로 보고
+ *   보류 만료가 주문을 취소할 수 있다. 남은 결제는 PaymentResolutionJob 이 PG 조회로 확정한다 (resolve)
+ * - 결제 상태가 바뀌는 트랜잭션마다 OrderChangedEvent 를 함께 남긴다 (주문 요약 갱신)
+ * - 출고 전 주문의 결제를 취소하면 출고 중 재고를 가용으로 되돌린다 (restoreStock)
+ */
+@Slf4j
 @Service
-@Transactional
-@RequiredArgsConstructor
 public class PaymentService {
 
+	// 재고가 출고 중(outbound_processing)에 머물러 있는 주문 상태 - 결제 취소 시 가용으로 되돌린다
+	// (CANCELLED 는 완료 후 관리자 취소 - 완료 전 취소는 DONE 결제가 있으면 거절되므로 여기서는 완료된 주문뿐)
+	private static final Set<OrderStatus> RESTORABLE_STATUSES = EnumSet.of(OrderStatus.COMPLETED, OrderStatus.CANCELLED);
+
 	private final PaymentRepository paymentRepository;
 	private final ApplicationEventPublisher eventPublisher;
-	// 실제 연동 시 RestTemplate 등이 필요
+	private final PaymentGatewayClient paymentGatewayClient;
+	private final OrderStockService orderStockService;
+	private final TransactionTemplate transactionTemplate;
+
+	public PaymentService(
+		PaymentRepository paymentRepository,
+		ApplicationEventPublisher eventPublisher,
+		PaymentGatewayClient paymentGatewayClient,
+		OrderStockService orderStockService,
+		PlatformTransactionManager transactionManager
+	) {
+		this.paymentRepository = paymentRepository;
+		this.eventPublisher = eventPublisher;
+		this.paymentGatewayClient = paymentGatewayClient;
+		this.orderStockService = orderStockService;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
 
+	@Transactional
 	public Payment createReadyPayment(Long userId, Order order, Long amount, String paymentTypeStr) {
 
 		PaymentType type = PaymentType.valueOf(paymentTypeStr);
@@ -42,47 +87,93 @@ public class PaymentService {
 
 	public Payment confirmPayment(Long userId, PaymentRequest.Confirm request) {
 
-		//orderNumber로 DB에 저장된 결제 대기(READY) 데이터 조회
-		Payment payment = paymentRepository.findByOrderNumber(request.orderNumber())
-			.orElseThrow(() -> new CustomException(ErrorCode.PAYMENT_NOT_FOUND));
+		// 검증 후 READY -> IN_PROGRESS 선점 (0 행이면 다른 승인 요청이 먼저 가져감)
+		Long paymentId = transactionTemplate.execute(status -> {
+			//orderNumber로 DB에 저장된 결제 대기(READY) 데이터 조회
+			Payment payment = paymentRepository.findByOrderNumber(request.orderNumber())
+				.orElseThrow(() -> new CustomException(ErrorCode.PAYMENT_NOT_FOUND));
 
-		//중복 결제 승인 방지 (READY 상태만 승인 가능)
-		if (!payment.isReady()) {
-			throw new CustomException(ErrorCode.PAYMENT_ALREADY_PROCESSED);
+			//결제 금액 검증 (요청 금액과 DB 저장 금액 비교)
+			if (!payment.getPaymentAmount().equals(request.amount())) {
+				throw new CustomException(ErrorCode.PAYMENT_AMOUNT_MISMATCH);
+			}
+
+			//중복 결제 승인 방지 (READY 상태만 승인 가능) - 결과를 모를 때 PG 조회에 쓰도록 결제 키를 함께 남긴다
+			int claimed = paymentRepository.claim(payment.getId(), request.paymentKey(), LocalDateTime.now());
+			if (claimed == 0) {
+				throw new CustomException(ErrorCode.PAYMENT_ALREADY_PROCESSED);
+			}
+			return payment.getId();
+		});
+
+		// PG 승인 요청 (트랜잭션 밖)
+		PaymentGatewayResult result;
+		try {
+			result = paymentGatewayClient.confirm(request.paymentKey(), request.orderNumber(), request.amount());
+		} catch (CustomException e) {
+			// 연결 실패/지연/차단은 PG 가 이미 승인했을 수도 있으므로 IN_PROGRESS 로 남긴다 (PG 조회로 확정)
+			log.warn("[PAYMENT_CONFIRM_UNKNOWN] orderNumber={}, reason={}", request.orderNumber(), e.getErrorCode());
+			throw e;
 		}
 
-		//결제 금액 검증 (요청 금액과 DB 저장 금액 비교)
-		if (!payment.getPaymentAmount().equals(request.amount())) {
-			throw new CustomException(ErrorCode.PAYMENT_AMOUNT_MISMATCH);
+		if (!result.approved()) {
+			log.info("[PAYMENT_DECLINED] orderNumber={}, code={}", request.orderNumber(), result.code());
+			transactionTemplate.executeWithoutResult(status ->
+				apply(paymentId, PaymentStatus.IN_PROGRESS, PaymentStatus.FAILED)
+			);
+			throw new CustomException(ErrorCode.PAYMENT_CONFIRM_FAILED);
 		}
 
-		try {
-			/**
-			 * [외부 API 호출 모방]
-			 * 실제로는 여기서 RestTemplate을 이용해 토스 서버로 승인 요청을 보냄
-			 * 성공했다는 가정하에 진행
-			 */
-			boolean isExternalApiSuccess = true;
-
-			if (!isExternalApiSuccess) {
-				//결제 실패 = api 호출 실패 or 금액 불일치 등의 이유로
-				payment.failPayment();
-				throw new CustomException(ErrorCode.PAYMENT_CONFIRM_FAILED);
+		// 상태 변경 (IN_PROGRESS -> DONE) 과 이벤트 기록을 한 트랜잭션으로
+		return transactionTemplate.execute(status -> {
+			Payment payment = markDone(paymentId, request.paymentKey());
+			if (payment == null) {
+				throw new CustomException(ErrorCode.PAYMENT_ALREADY_PROCESSED);
 			}
+			return payment;
+		});
+	}
 
-			// 상태 변경 (READY -> DONE)
-			payment.confirmPayment(request.paymentKey());
+	/**
+	 * 결과를 모르는 채 남은 승인(IN_PROGRESS)을 PG 조회로 확정한다
+	 * - 승인됐으면 DONE (승인 요청이 성공한 것과 같게 처리), 승인되지 않았으면 READY 로 되돌려 다시 결제를 받는다
+	 * - PG 조회도 실패하면 예외를 그대로 던지고 IN_PROGRESS 로 남긴다 (다음 주기에 다시 조회)
+	 *
+	 * @return 확정했으면 true (그 사이 다른 경로가 먼저 바꿨으면 false)
+	 */
+	public boolean resolve(Long paymentId) {
+		Payment found = transactionTemplate.execute(status -> paymentRepository.findById(paymentId)
+			.filter(payment -> payment.getStatus() == PaymentStatus.IN_PROGRESS)
+			.orElse(null));
+		if (found == null) {
+			return false;
+		}
 
-			// 결제 완료 이벤트 발행 -> 주문 완료 + 재고 차감
-			eventPublisher.publishEvent(PaymentConfirmedEvent.of(userId, payment.getOrderNumber()));
+		PaymentGatewayResult result = paymentGatewayClient.lookup(found.getOrderNumber());
+		log.info("[PAYMENT_RESOLVED] orderNumber={}, approved={}, code={}", found.getOrderNumber(), result.approved(),
+			result.code());
 
-			return payment;
+		return Boolean.TRUE.equals(transactionTemplate.execute(status -> result.approved()
+			? markDone(paymentId, found.getPaymentKey()) != null
+			: apply(paymentId, PaymentStatus.IN_PROGRESS, PaymentStatus.READY)
+		));
+	}
 
-		} catch (Exception e) {
-			//결제 실패
-			payment.failPayment();
-			throw new CustomException(ErrorCode.PAYMENT_CONFIRM_FAILED);
-		}
+	/**
+	 * 주문 취소 - 결제 행을 잠근 뒤 결제 대기(READY) 결제를 실패 처리한다 (보류 만료와 같은 방식)
+	 * - 잠금을 쥔 동안 승인 선점(READY -> IN_PROGRESS)은 기다리므로 취소한 주문의 결제가 나중에 승인되지 않는다
+	 * - PG 로 넘어간(IN_PROGRESS) 결제나 승인은 됐지만 아직 주문 완료 처리 전(주문 PENDING + DONE)인 결제가 있으면 취소를 거절한다
+	 * 주문 취소 트랜잭션 안에서 보류 행을 지운 뒤 호출한다 (보류 → 결제 순으로 잠가 보류 만료와 잠금 순서를 맞춤)
+	 */
+	@Transactional
+	public void failReadyPaymentsForCancel(Order order) {
+		List<Payment> payments = paymentRepository.findAllByOrderNumberInForUpdate(List.of(order.getOrderNumber()));
+		boolean paying = payments.stream().anyMatch(payment ->
+			payment.getStatus() == PaymentStatus.IN_PROGRESS
+				|| (payment.getStatus() == PaymentStatus.DONE && order.getOrderStatus() == OrderStatus.PENDING));
+		Preconditions.validate(!paying, ErrorCode.ORDER_PAYMENT_IN_PROGRESS);
+
+		paymentRepository.failReadyPayments(List.of(order.getOrderNumber()), LocalDateTime.now());
 	}
 
 	//결제 조회
@@ -97,27 +188,77 @@ public class PaymentService {
 	//결제 취소
 	public Payment cancelPayment(Long userId, Long paymentId, String cancelReason) {
 
-		Payment payment = paymentRepository.findByIdAndUserId(paymentId, userId)
-			.orElseThrow(() -> new CustomException(ErrorCode.PAYMENT_NOT_FOUND));
+		// PG 에 요청하기 전에 취소 가능한 상태인지 확인
+		Payment found = transactionTemplate.execute(status -> {
+			Payment payment = paymentRepository.findByIdAndUserId(paymentId, userId)
+				.orElseThrow(() -> new CustomException(ErrorCode.PAYMENT_NOT_FOUND));
+			payment.validateCancelable();
+			return payment;
+		});
 
-		try {
-			//토스 취소 api 호출
-			boolean isExternalApiSuccess = true;
+		// PG 취소 요청 (트랜잭션 밖, 동시에 두 번 보내도 Idempotency-Key 로 한 번만 취소됨)
+		PaymentGatewayResult result = paymentGatewayClient.cancel(found.getPaymentKey(), cancelReason);
+		if (!result.approved()) {
+			log.info("[PAYMENT_CANCEL_DECLINED] paymentId={}, code={}", paymentId, result.code());
+			throw new CustomException(ErrorCode.PAYMENT_CANCEL_FAILED);
+		}
 
-			if (!isExternalApiSuccess) {
-				throw new CustomException(ErrorCode.PAYMENT_CANCEL_FAILED);
+		//상태 변경 (DONE -> CANCELED) 및 취소 사유 저장 - 0 행이면 다른 취소 요청이 먼저 반영함
+		Payment canceled = transactionTemplate.execute(status -> {
+			if (paymentRepository.markCanceled(paymentId, cancelReason, LocalDateTime.now()) == 0) {
+				throw new CustomException(ErrorCode.PAYMENT_ALREADY_CANCELLED);
 			}
-
-			//상태 변경 (DONE -> CANCELED) 및 취소 사유 저장
-			// cancel() 내부에서 취소 가능 여부 확인
-			payment.cancel(cancelReason);
-
+			Payment payment = paymentRepository.findById(paymentId)
+				.orElseThrow(() -> new CustomException(ErrorCode.PAYMENT_NOT_FOUND));
+			eventPublisher.publishEvent(OrderChangedEvent.of(payment.getOrder().getId()));
 			return payment;
+		});
+
+		restoreStock(paymentId);
+		return canceled;
+	}
 
+	/**
+	 * 취소한 결제의 주문이 출고 전이면 출고 중 재고를 가용으로 되돌린다 (DONE -> CANCELED 를 반영한 요청 하나만 호출)
+	 * - PG 취소와 결제 상태 반영이 이미 끝났으므로 별도 트랜잭션에서 하고, 거절되면(출고가 먼저 확정된 경우 등) 기록만 남긴다
+	 * - 배송이 시작된 주문은 재고가 이미 나갔으므로 되돌리지 않는다 (반품 입고로 처리)
+	 */
+	private void restoreStock(Long paymentId) {
+		try {
+			transactionTemplate.executeWithoutResult(status -> {
+				Order order = paymentRepository.findById(paymentId)
+					.orElseThrow(() -> new CustomException(ErrorCode.PAYMENT_NOT_FOUND))
+					.getOrder();
+				if (RESTORABLE_STATUSES.contains(order.getOrderStatus())) {
+					orderStockService.restoreStock(order.getOrderProducts());
+				}
+			});
 		} catch (CustomException e) {
-			throw e;
-		} catch (Exception e) {
-			throw new CustomException(ErrorCode.PAYMENT_CANCEL_FAILED);
+			log.warn("[PAYMENT_CANCEL_RESTORE_REJECTED] paymentId={}, reason={}", paymentId, e.getErrorCode());
+		}
+	}
+
+	// IN_PROGRESS -> DONE 후 결제 완료 이벤트 발행 -> 같은 트랜잭션에서 아웃박스에 기록, 릴레이가 주문 완료 처리로 전달
+	// (0 행이면 null - 다른 경로가 먼저 확정함)
+	private Payment markDone(Long paymentId, String paymentKey) {
+		if (paymentRepository.markDone(paymentId, paymentKey, LocalDateTime.now()) == 0) {
+			return null;
+		}
+		Payment payment = paymentRepository.findById(paymentId)
+			.orElseThrow(() -> new CustomException(ErrorCode.PAYMENT_NOT_FOUND));
+
+		eventPublisher.publishEvent(PaymentConfirmedEvent.of(payment.getUserId(), payment.getOrderNumber()));
+		eventPublisher.publishEvent(OrderChangedEvent.of(payment.getOrder().getId()));
+		return payment;
+	}
+
+	// 상태 전이와 주문 요약 갱신 이벤트를 같은 트랜잭션에 (0 행이면 false)
+	private boolean apply(Long paymentId, PaymentStatus expected, PaymentStatus next) {
+		if (paymentRepository.transition(paymentId, expected, next, LocalDateTime.now()) == 0) {
+			return false;
 		}
+		paymentRepository.findById(paymentId)
+			.ifPresent(payment -> eventPublisher.publishEvent(OrderChangedEvent.of(payment.getOrder().getId())));
+		return true;
 	}
-}
\ No newline at end of file
+}
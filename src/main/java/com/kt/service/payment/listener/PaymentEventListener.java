@@ -1,23 +1,33 @@
 package com.kt.service.payment.listener;
 
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 
+import com.kt.domain.outbox.OutboxEventType;
 import com.kt.domain.payment.event.PaymentConfirmedEvent;
-import com.kt.service.order.OrderService;
+import com.kt.service.order.completion.OrderCompletionWorker;
+import com.kt.service.outbox.OutboxEventHandler;
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 결제 완료 이벤트 (아웃박스 전달) - 주문 완료 처리 대기열에 넣기만 하고 돌아간다
+ * - 대기열이 받지 못하면 예외로 알려 아웃박스가 나중에 다시 전달하게 한다
+ */
 @Component
 @RequiredArgsConstructor
-public class PaymentEventListener {
+public class PaymentEventListener implements OutboxEventHandler<PaymentConfirmedEvent> {
 
-	private final OrderService orderService;
+	private final OrderCompletionWorker orderCompletionWorker;
 
-	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-	public void handlePaymentConfirmed(PaymentConfirmedEvent event) {
-		orderService.completeOrder(event.userId(), event.orderNumber());
+	@Override
+	public OutboxEventType type() {
+		return OutboxEventType.PAYMENT_CONFIRMED;
 	}
-}
 
+	@Override
+	public void handle(PaymentConfirmedEvent event) {
+		if (!orderCompletionWorker.submit(event)) {
+			throw new IllegalStateException("order completion queue rejected " + event.orderNumber());
+		}
+	}
+}
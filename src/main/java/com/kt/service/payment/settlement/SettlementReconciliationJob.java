@@ -0,0 +1,60 @@
+package com.kt.service.payment.settlement;
+
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.kt.common.api.CustomException;
+import com.kt.config.SettlementReconciliationProperties;
+import com.kt.domain.payment.settlement.SettlementRunStatus;
+import com.kt.repository.payment.settlement.SettlementRunRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 도착한 정산 파일 자동 대사
+ * - 어제부터 lookbackDays 일 전까지, 파일이 있는데 아직 대사하지 않았거나 실패한(또는 실행하던 노드가 죽은) 정산일을
+ *   오래된 날부터 대사한다
+ * - 여러 노드가 같은 날을 집어도 실행 행(정산일 유니크)을 만든 노드 하나만 진행한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SettlementReconciliationJob {
+
+	private final SettlementReconciliationService settlementReconciliationService;
+	private final SettlementRunRepository settlementRunRepository;
+	private final SettlementReconciliationProperties properties;
+
+	@Scheduled(fixedDelayString = "${app.payment.settlement.poll-interval-ms:600000}")
+	public void reconcileArrived() {
+		if (properties.directory().isBlank()) {
+			return;
+		}
+
+		LocalDate today = LocalDate.now();
+		LocalDateTime staleBefore = LocalDateTime.now().minus(properties.leaseTimeout());
+		for (int days = properties.lookbackDays(); days >= 1; days--) {
+			LocalDate settlementDate = today.minusDays(days);
+			if (!Files.isRegularFile(settlementReconciliationService.settlementFile(settlementDate))) {
+				continue;
+			}
+			boolean pending = settlementRunRepository.findBySettlementDate(settlementDate)
+				.map(run -> run.getStatus() == SettlementRunStatus.FAILED || run.isAbandoned(staleBefore))
+				.orElse(true);
+			if (!pending) {
+				continue;
+			}
+
+			try {
+				settlementReconciliationService.reconcile(settlementDate);
+			} catch (CustomException e) {
+				log.warn("[SETTLEMENT_RECONCILE_SKIPPED] date={}, reason={}", settlementDate, e.getErrorCode());
+			}
+		}
+	}
+}
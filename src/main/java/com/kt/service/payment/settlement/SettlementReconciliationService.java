@@ -0,0 +1,300 @@
+package com.kt.service.payment.settlement;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kt.common.Preconditions;
+import com.kt.common.api.CustomException;
+import com.kt.common.api.ErrorCode;
+import com.kt.config.SettlementReconciliationProperties;
+import com.kt.domain.payment.PaymentStatus;
+import com.kt.domain.payment.settlement.SettlementMismatch;
+import com.kt.domain.payment.settlement.SettlementMismatchType;
+import com.kt.domain.payment.settlement.SettlementRun;
+import com.kt.domain.payment.settlement.SettlementRunStatus;
+import com.kt.integration.pg.settlement.SettlementFileReader;
+import com.kt.integration.pg.settlement.SettlementLine;
+import com.kt.repository.payment.settlement.SettlementMismatchRepository;
+import com.kt.repository.payment.settlement.SettlementReconciliationRepository;
+import com.kt.repository.payment.settlement.SettlementReconciliationRepository.Mismatch;
+import com.kt.repository.payment.settlement.SettlementReconciliationRepository.PaymentRow;
+import com.kt.repository.payment.settlement.SettlementRunRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PG 정산 파일과 결제 테이블 대사
+ * - 파일을 {@link SettlementFileReader} 로 흘려 읽으며 chunkSize 줄씩 묶어, 묶음을 paymentKey 로 정렬한 뒤
+ *   키 목록 한 번으로 결제를 조회해 금액/상태를 비교한다 → 힙에는 묶음 하나만 올라간다
+ * - 묶음마다 (불일치 INSERT + 파일 키 기록) 을 트랜잭션 하나로 커밋한다
+ * - 파일을 다 읽으면 정산일에 승인/취소된(변경 시각 기준) 결제 중 파일에 없는 건을 DB 안에서 anti-join 으로 찾는다
+ * - 결과는 settlement_mismatches 에 남기고 관리자 API 로 조회한다
+ * - 실행 행에 토큰(lease)을 걸고 묶음마다 진행 시각을 갱신한다. 노드가 죽어 leaseTimeout 동안 갱신이 없으면 다음 요청이 이어받고,
+ *   늦게 깨어난 이전 노드는 다음 묶음에서 토큰이 바뀐 것을 보고 그 묶음을 롤백한 채 멈춘다
+ */
+@Slf4j
+@Service
+public class SettlementReconciliationService {
+
+	private static final DateTimeFormatter FILE_DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+	// 정산 파일에 나와야 하는 결제 상태
+	private static final List<PaymentStatus> SETTLED_STATUSES = List.of(PaymentStatus.DONE, PaymentStatus.CANCELED);
+	private static final int KEY_DELETE_BATCH = 10_000;
+	// 형식이 잘못된 줄(키 없음)은 뒤로
+	private static final Comparator<SettlementLine> BY_KEY =
+		Comparator.comparing(SettlementLine::getPaymentKey, Comparator.nullsLast(Comparator.naturalOrder()));
+
+	private final SettlementReconciliationProperties properties;
+	private final SettlementRunRepository settlementRunRepository;
+	private final SettlementMismatchRepository settlementMismatchRepository;
+	private final SettlementReconciliationRepository reconciliationRepository;
+	private final TransactionTemplate transactionTemplate;
+
+	private record Lease(Long runId, String token) {
+	}
+
+	// 실행 하나의 집계
+	private static final class Tally {
+		long lines;
+		long matched;
+		long mismatched;
+	}
+
+	public SettlementReconciliationService(
+		SettlementReconciliationProperties properties,
+		SettlementRunRepository settlementRunRepository,
+		SettlementMismatchRepository settlementMismatchRepository,
+		SettlementReconciliationRepository reconciliationRepository,
+		PlatformTransactionManager transactionManager
+	) {
+		this.properties = properties;
+		this.settlementRunRepository = settlementRunRepository;
+		this.settlementMismatchRepository = settlementMismatchRepository;
+		this.reconciliationRepository = reconciliationRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	public Path settlementFile(LocalDate settlementDate) {
+		return Path.of(properties.directory())
+			.resolve(properties.filePrefix() + settlementDate.format(FILE_DATE) + ".csv");
+	}
+
+	/**
+	 * 정산일 하루를 대사한다 (이미 대사한 날이면 이전 결과를 지우고 다시)
+	 */
+	public SettlementRun reconcile(LocalDate settlementDate) {
+		Path file = settlementFile(settlementDate);
+		Preconditions.validate(Files.isRegularFile(file), ErrorCode.SETTLEMENT_FILE_NOT_FOUND);
+
+		long started = System.nanoTime();
+		Lease lease = claim(settlementDate, file.getFileName().toString());
+		Long runId = lease.runId();
+		Tally tally = new Tally();
+		boolean leaseLost = false;
+		try {
+			readAndCompare(lease, file, tally);
+			tally.mismatched += transactionTemplate.execute(status -> {
+				renew(lease);
+				return reconciliationRepository.insertMissingSettlements(
+					runId,
+					SETTLED_STATUSES,
+					settlementDate.atStartOfDay(),
+					settlementDate.plusDays(1).atStartOfDay()
+				);
+			});
+		} catch (IOException e) {
+			log.warn("[SETTLEMENT_RECONCILE_FAILED] date={}, line={}", settlementDate, tally.lines, e);
+			finish(lease, SettlementRunStatus.FAILED, tally);
+			throw new CustomException(ErrorCode.SETTLEMENT_FILE_READ_FAILED);
+		} catch (CustomException e) {
+			// 다른 쪽이 이어받았으면 그 실행의 파일 키와 결과를 건드리지 않고 멈춘다
+			leaseLost = e.getErrorCode() == ErrorCode.SETTLEMENT_RUN_LEASE_LOST;
+			log.warn("[SETTLEMENT_RECONCILE_FAILED] date={}, line={}", settlementDate, tally.lines, e);
+			if (!leaseLost) {
+				finish(lease, SettlementRunStatus.FAILED, tally);
+			}
+			throw e;
+		} catch (RuntimeException e) {
+			log.warn("[SETTLEMENT_RECONCILE_FAILED] date={}, line={}", settlementDate, tally.lines, e);
+			finish(lease, SettlementRunStatus.FAILED, tally);
+			throw e;
+		} finally {
+			if (!leaseLost) {
+				clearFileKeys(runId);
+			}
+		}
+
+		finish(lease, SettlementRunStatus.COMPLETED, tally);
+		log.info("[SETTLEMENT_RECONCILED] date={}, lines={}, matched={}, mismatched={}, elapsedMs={}",
+			settlementDate, tally.lines, tally.matched, tally.mismatched, (System.nanoTime() - started) / 1_000_000);
+
+		return settlementRunRepository.findById(runId)
+			.orElseThrow(() -> new CustomException(ErrorCode.SETTLEMENT_RUN_NOT_FOUND));
+	}
+
+	@Transactional(readOnly = true)
+	public Page<SettlementRun> getRuns(Pageable pageable) {
+		return settlementRunRepository.findAll(pageable);
+	}
+
+	@Transactional(readOnly = true)
+	public Page<SettlementMismatch> getMismatches(Long runId, SettlementMismatchType type, Pageable pageable) {
+		Preconditions.validate(settlementRunRepository.existsById(runId), ErrorCode.SETTLEMENT_RUN_NOT_FOUND);
+		if (type == null) {
+			return settlementMismatchRepository.findByRunIdOrderById(runId, pageable);
+		}
+		return settlementMismatchRepository.findByRunIdAndTypeOrderById(runId, type, pageable);
+	}
+
+	/**
+	 * 정산일의 실행 행을 만들거나, 끝났거나 실행하던 노드가 죽은 실행을 새 토큰으로 가져간다
+	 * - 다른 노드/요청이 대사 중이면 SETTLEMENT_RUN_IN_PROGRESS
+	 * - 가져간 실행의 이전 불일치와 (죽은 노드가 남긴) 파일 키를 지우고 처음부터 다시 읽는다
+	 */
+	private Lease claim(LocalDate settlementDate, String fileName) {
+		String token = UUID.randomUUID().toString();
+		Long runId;
+		try {
+			runId = transactionTemplate.execute(status -> {
+				LocalDateTime now = LocalDateTime.now();
+				SettlementRun existing = settlementRunRepository.findBySettlementDate(settlementDate).orElse(null);
+				if (existing == null) {
+					return settlementRunRepository.saveAndFlush(SettlementRun.start(settlementDate, fileName, token, now))
+						.getId();
+				}
+				Preconditions.validate(
+					settlementRunRepository.restart(existing.getId(), fileName, token, now,
+						now.minus(properties.leaseTimeout())) == 1,
+					ErrorCode.SETTLEMENT_RUN_IN_PROGRESS
+				);
+				reconciliationRepository.deleteMismatches(existing.getId());
+				return existing.getId();
+			});
+		} catch (DataIntegrityViolationException e) {
+			throw new CustomException(ErrorCode.SETTLEMENT_RUN_IN_PROGRESS);
+		}
+		clearFileKeys(runId);
+		return new Lease(runId, token);
+	}
+
+	// 묶음 트랜잭션 안에서 진행 시각 갱신 - 이어받혔으면 예외로 그 묶음을 롤백한다
+	private void renew(Lease lease) {
+		Preconditions.validate(
+			settlementRunRepository.heartbeat(lease.runId(), lease.token(), LocalDateTime.now()) == 1,
+			ErrorCode.SETTLEMENT_RUN_LEASE_LOST
+		);
+	}
+
+	private void readAndCompare(Lease lease, Path file, Tally tally) throws IOException {
+		SettlementLine[] chunk = new SettlementLine[properties.chunkSize()];
+		for (int i = 0; i < chunk.length; i++) {
+			chunk[i] = new SettlementLine();
+		}
+
+		try (SettlementFileReader reader = SettlementFileReader.open(file, (int)properties.mapWindow().toBytes())) {
+			int size = 0;
+			while (reader.next(chunk[size])) {
+				if (++size == chunk.length) {
+					compareChunk(lease, chunk, size, tally);
+					size = 0;
+				}
+			}
+			if (size > 0) {
+				compareChunk(lease, chunk, size, tally);
+			}
+		}
+	}
+
+	private void compareChunk(Lease lease, SettlementLine[] chunk, int size, Tally tally) {
+		Arrays.sort(chunk, 0, size, BY_KEY);
+
+		List<String> keys = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			if (chunk[i].isValid()) {
+				keys.add(chunk[i].getPaymentKey());
+			}
+		}
+
+		transactionTemplate.executeWithoutResult(status -> {
+			renew(lease);
+			Map<String, PaymentRow> payments = new HashMap<>(keys.size() * 2);
+			for (PaymentRow row : reconciliationRepository.findPayments(keys)) {
+				payments.put(row.paymentKey(), row);
+			}
+
+			List<Mismatch> mismatches = new ArrayList<>();
+			for (int i = 0; i < size; i++) {
+				if (compareLine(chunk[i], payments.get(chunk[i].getPaymentKey()), mismatches)) {
+					tally.matched++;
+				}
+			}
+
+			reconciliationRepository.insertFileKeys(lease.runId(), keys);
+			reconciliationRepository.insertMismatches(lease.runId(), mismatches);
+			tally.mismatched += mismatches.size();
+		});
+		tally.lines += size;
+	}
+
+	// 일치하면 true, 아니면 불일치를 mismatches 에 더한다 (금액과 상태가 모두 다르면 두 건)
+	private boolean compareLine(SettlementLine line, PaymentRow payment, List<Mismatch> mismatches) {
+		if (!line.isValid()) {
+			mismatches.add(new Mismatch(SettlementMismatchType.MALFORMED_LINE, null, line.getLineNumber(),
+				null, null, null, null, null));
+			return false;
+		}
+		if (payment == null) {
+			mismatches.add(new Mismatch(SettlementMismatchType.MISSING_PAYMENT, line.getPaymentKey(),
+				line.getLineNumber(), null, line.getAmount(), null, line.getStatus(), null));
+			return false;
+		}
+
+		boolean matched = true;
+		if (payment.amount() != line.getAmount()) {
+			mismatches.add(mismatch(SettlementMismatchType.AMOUNT, line, payment));
+			matched = false;
+		}
+		if (payment.status() != line.getStatus()) {
+			mismatches.add(mismatch(SettlementMismatchType.STATUS, line, payment));
+			matched = false;
+		}
+		return matched;
+	}
+
+	private Mismatch mismatch(SettlementMismatchType type, SettlementLine line, PaymentRow payment) {
+		return new Mismatch(type, line.getPaymentKey(), line.getLineNumber(), payment.id(), line.getAmount(),
+			payment.amount(), line.getStatus(), payment.status());
+	}
+
+	private void finish(Lease lease, SettlementRunStatus status, Tally tally) {
+		transactionTemplate.executeWithoutResult(tx -> settlementRunRepository.finish(
+			lease.runId(), lease.token(), status, tally.lines, tally.matched, tally.mismatched, LocalDateTime.now()
+		));
+	}
+
+	private void clearFileKeys(Long runId) {
+		int deleted;
+		do {
+			deleted = transactionTemplate.execute(status -> reconciliationRepository.deleteFileKeys(runId, KEY_DELETE_BATCH));
+		} while (deleted == KEY_DELETE_BATCH);
+	}
+}
@@ -127,6 +127,19 @@ public class AdminProductService {
 		return ProductResponse.CommandResult.from(product);
 	}
 
+	/**
+	 * 핫 상품 재고 버킷 모드 (주문이 몰리는 상품의 재고 행 경합 분산)
+	 */
+	public void enableInventoryHotMode(Long id, ProductRequest.HotMode request) {
+		getProductOrThrow(id);
+		inventoryService.enableHotMode(id, request.bucketCount());
+	}
+
+	public void disableInventoryHotMode(Long id) {
+		getProductOrThrow(id);
+		inventoryService.disableHotMode(id);
+	}
+
 	private Product getProductOrThrow(Long id) {
 		return productRepository.findByIdAndDeletedFalse(id)
 			.orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
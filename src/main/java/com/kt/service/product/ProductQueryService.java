@@ -2,11 +2,12 @@ package com.kt.service.product;
 
 import com.kt.common.api.CustomException;
 import com.kt.common.api.ErrorCode;
+import com.kt.domain.inventory.InventorySnapshot;
 import com.kt.domain.product.Product;
 import com.kt.domain.product.ProductStatus;
 import com.kt.dto.product.ProductResponse;
 import com.kt.repository.category.ProductCategoryRepository;
-import com.kt.service.inventory.InventoryService;
+import com.kt.service.inventory.cache.InventorySnapshotCache;
 import com.kt.repository.product.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -25,17 +26,17 @@ public class ProductQueryService {
 
 	private final ProductRepository productRepository;
 	private final ProductCategoryRepository productCategoryRepository;
-	private final InventoryService inventoryService;
+	private final InventorySnapshotCache inventorySnapshotCache;
 
 	public Page<ProductResponse.Summary> getPublicProducts(Pageable pageable) {
 		var products = productRepository.findNonDeletedByStatuses(activeStatuses(), pageable);
-		var categoriesByProduct = loadCategorySummaries(
-			products.map(Product::getId).toList()
-		);
+		var productIds = products.map(Product::getId).toList();
+		var categoriesByProduct = loadCategorySummaries(productIds);
+		var inventoriesByProduct = inventorySnapshotCache.getAll(productIds);
 
 		return products.map(product -> ProductResponse.Summary.from(
 			product,
-			inventoryService.getInventoryOrThrow(product.getId()),
+			getInventoryOrThrow(inventoriesByProduct, product.getId()),
 			categoriesByProduct.getOrDefault(product.getId(), List.of())
 		));
 	}
@@ -43,11 +44,20 @@ public class ProductQueryService {
 	public ProductResponse.Detail getPublicProduct(Long id) {
 		var product = productRepository.findNonDeletedByIdAndStatuses(id, activeStatuses())
 			.orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
-		var inventory = inventoryService.getInventoryOrThrow(id);
+		var inventory = inventorySnapshotCache.get(id)
+			.orElseThrow(() -> new CustomException(ErrorCode.INVENTORY_NOT_FOUND));
 		var categories = loadCategorySummaries(List.of(id)).getOrDefault(id, List.of());
 		return ProductResponse.Detail.from(product, inventory, categories);
 	}
 
+	private InventorySnapshot getInventoryOrThrow(Map<Long, InventorySnapshot> inventoriesByProduct, Long productId) {
+		var inventory = inventoriesByProduct.get(productId);
+		if (inventory == null) {
+			throw new CustomException(ErrorCode.INVENTORY_NOT_FOUND);
+		}
+		return inventory;
+	}
+
 	private List<ProductStatus> activeStatuses() {
 		return List.of(ProductStatus.ACTIVE, ProductStatus.SOLD_OUT);
 	}
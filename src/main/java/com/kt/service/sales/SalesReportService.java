@@ -0,0 +1,108 @@
+package com.kt.service.sales;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.kt.common.Preconditions;
+import com.kt.common.api.ErrorCode;
+import com.kt.config.SalesRollupProperties;
+import com.kt.domain.category.Category;
+import com.kt.domain.pet.PetType;
+import com.kt.domain.product.Product;
+import com.kt.domain.sales.SalesDimension;
+import com.kt.domain.sales.SalesGranularity;
+import com.kt.domain.sales.SalesMetric;
+import com.kt.dto.sales.SalesResponse;
+import com.kt.repository.category.CategoryRepository;
+import com.kt.repository.product.ProductRepository;
+import com.kt.repository.sales.SalesRollupRepository;
+import com.kt.repository.sales.SalesRollupRepository.Total;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 매출 집계 조회 - 주문 테이블은 읽지 않고 sales_rollups 만 읽는다
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class SalesReportService {
+
+	private final SalesRollupRepository salesRollupRepository;
+	private final ProductRepository productRepository;
+	private final CategoryRepository categoryRepository;
+	private final SalesRollupProperties properties;
+
+	/**
+	 * 최근 days 일(오늘 포함) 매출 순위
+	 */
+	public List<SalesResponse.TopSeller> topSellers(SalesDimension dimension, SalesMetric metric, int days, int limit) {
+		Preconditions.validate(days >= 1 && days <= properties.maxDays(), ErrorCode.SALES_PERIOD_INVALID);
+		Preconditions.validate(limit >= 1 && limit <= properties.maxLimit(), ErrorCode.SALES_LIMIT_INVALID);
+
+		LocalDateTime from = LocalDate.now().minusDays(days - 1L).atStartOfDay();
+		List<Total> totals = salesRollupRepository.findTop(dimension, from, metric, limit);
+		Map<String, String> names = namesOf(dimension, totals.stream().map(Total::dimensionKey).toList());
+
+		return IntStream.range(0, totals.size())
+			.mapToObj(i -> {
+				Total total = totals.get(i);
+				return new SalesResponse.TopSeller(
+					i + 1,
+					dimension,
+					total.dimensionKey(),
+					names.get(total.dimensionKey()),
+					total.units(),
+					total.revenue(),
+					total.orderCount()
+				);
+			})
+			.toList();
+	}
+
+	/**
+	 * 키 하나의 [from, to] 일자 구간 매출 추이 (시간 단위는 maxHourlyDays 일까지)
+	 */
+	public List<SalesResponse.TrendPoint> trend(SalesGranularity granularity, SalesDimension dimension, String key,
+		LocalDate from, LocalDate to) {
+		Preconditions.validate(from != null && to != null && !from.isAfter(to), ErrorCode.SALES_PERIOD_INVALID);
+		long days = ChronoUnit.DAYS.between(from, to) + 1;
+		int maxDays = granularity == SalesGranularity.HOUR ? properties.maxHourlyDays() : properties.maxDays();
+		Preconditions.validate(days <= maxDays, ErrorCode.SALES_PERIOD_INVALID);
+
+		return salesRollupRepository.findSeries(
+				granularity, dimension, key, from.atStartOfDay(), to.plusDays(1).atStartOfDay()
+			).stream()
+			.map(point -> new SalesResponse.TrendPoint(
+				point.bucketStart(),
+				point.units(),
+				point.revenue(),
+				point.orderCount()
+			))
+			.toList();
+	}
+
+	private Map<String, String> namesOf(SalesDimension dimension, List<String> keys) {
+		return switch (dimension) {
+			case PRODUCT -> productRepository.findAllById(toIds(keys)).stream()
+				.collect(Collectors.toMap(product -> String.valueOf(product.getId()), Product::getName));
+			case CATEGORY -> categoryRepository.findAllById(toIds(keys)).stream()
+				.collect(Collectors.toMap(category -> String.valueOf(category.getId()), Category::getName));
+			case PET_TYPE -> keys.stream()
+				.collect(Collectors.toMap(Function.identity(), key -> PetType.valueOf(key).getDescription()));
+		};
+	}
+
+	private List<Long> toIds(List<String> keys) {
+		return keys.stream().map(Long::valueOf).toList();
+	}
+}
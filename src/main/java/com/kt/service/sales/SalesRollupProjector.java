@@ -0,0 +1,114 @@
+package com.kt.service.sales;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.kt.domain.order.OrderStatus;
+import com.kt.domain.order.event.OrderChangedEvent;
+import com.kt.domain.outbox.OutboxEventType;
+import com.kt.domain.sales.SalesContribution;
+import com.kt.domain.sales.SalesDimension;
+import com.kt.repository.sales.SalesRollupRepository;
+import com.kt.repository.sales.SalesRollupRepository.Line;
+import com.kt.repository.sales.SalesRollupRepository.OrderState;
+import com.kt.repository.sales.SalesRollupRepository.ProductCategory;
+import com.kt.service.outbox.OutboxEventHandler;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문 변경 알림을 받아 매출 집계를 증분 반영한다
+ * - 판매 상태(완료/배송중/배송완료)가 됐는데 원장이 없으면: 주문 상품에서 몫을 계산해 원장에 남기고 집계에 더한다
+ * - 판매 상태가 아닌데(취소 등) 원장이 있으면: 원장에 남긴 몫을 같은 구간에서 빼고 원장을 지운다
+ * - 주문 행을 잠그고 원장 유무로 판단하므로 같은 알림이 여러 번 와도 한 번만 더하고 한 번만 뺀다
+ */
+@Component
+@RequiredArgsConstructor
+public class SalesRollupProjector implements OutboxEventHandler<OrderChangedEvent> {
+
+	static final Set<OrderStatus> SALE_STATUSES =
+		EnumSet.of(OrderStatus.COMPLETED, OrderStatus.SHIPPED, OrderStatus.DELIVERED);
+
+	private final SalesRollupRepository salesRollupRepository;
+
+	@Override
+	public OutboxEventType type() {
+		return OutboxEventType.ORDER_CHANGED;
+	}
+
+	@Override
+	@Transactional
+	public void handle(OrderChangedEvent event) {
+		apply(event.orderId());
+	}
+
+	/**
+	 * @return 집계가 바뀌었으면 true
+	 */
+	@Transactional
+	public boolean apply(Long orderId) {
+		Optional<OrderState> state = salesRollupRepository.lockOrder(orderId);
+		boolean sold = state.map(current -> SALE_STATUSES.contains(current.status())).orElse(false);
+		List<SalesContribution> counted = salesRollupRepository.findLedger(orderId);
+		LocalDateTime now = LocalDateTime.now();
+
+		if (sold && counted.isEmpty()) {
+			List<SalesContribution> contributions = contributionsOf(orderId);
+			if (contributions.isEmpty()) {
+				return false;
+			}
+			LocalDateTime orderedAt = state.get().orderedAt();
+			salesRollupRepository.insertLedger(orderId, orderedAt, contributions);
+			salesRollupRepository.applyToRollups(contributions, orderedAt, 1, now);
+			return true;
+		}
+
+		if (!sold && !counted.isEmpty()) {
+			LocalDateTime orderedAt = salesRollupRepository.findLedgerOrderedAt(orderId).orElseThrow();
+			salesRollupRepository.applyToRollups(counted, orderedAt, -1, now);
+			salesRollupRepository.deleteLedger(orderId);
+			return true;
+		}
+		return false;
+	}
+
+	private List<SalesContribution> contributionsOf(Long orderId) {
+		List<Line> lines = salesRollupRepository.findLines(orderId);
+		List<SalesContribution> contributions = new ArrayList<>();
+
+		for (Line line : lines) {
+			contributions.add(new SalesContribution(
+				SalesDimension.PRODUCT, String.valueOf(line.productId()), line.units(), line.revenue()));
+		}
+
+		Map<Long, Line> linesByProduct = lines.stream().collect(Collectors.toMap(Line::productId, line -> line));
+		salesRollupRepository.findCategories(linesByProduct.keySet()).stream()
+			.collect(Collectors.groupingBy(ProductCategory::categoryId))
+			.forEach((categoryId, products) -> contributions.add(new SalesContribution(
+				SalesDimension.CATEGORY,
+				String.valueOf(categoryId),
+				products.stream().mapToLong(product -> linesByProduct.get(product.productId()).units()).sum(),
+				products.stream().mapToLong(product -> linesByProduct.get(product.productId()).revenue()).sum()
+			)));
+
+		lines.stream()
+			.collect(Collectors.groupingBy(Line::petType))
+			.forEach((petType, petLines) -> contributions.add(new SalesContribution(
+				SalesDimension.PET_TYPE,
+				petType,
+				petLines.stream().mapToLong(Line::units).sum(),
+				petLines.stream().mapToLong(Line::revenue).sum()
+			)));
+
+		return contributions;
+	}
+}
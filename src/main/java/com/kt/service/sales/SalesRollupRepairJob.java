@@ -0,0 +1,57 @@
+package com.kt.service.sales;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.kt.config.SalesRollupProperties;
+import com.kt.repository.sales.SalesRollupRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 최근 repairWindow 안의 주문 중 원장과 상태가 어긋난 주문을 다시 반영한다
+ * - 알림 없이 상태가 바뀐 주문(벌크 만료 등)이나 알림을 잃은 주문을 늦게라도 원래 구간에 고친다
+ * - 반영은 주문 행을 잠그고 원장 유무로 판단하므로 알림 처리와 겹쳐도 두 번 더해지지 않는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SalesRollupRepairJob {
+
+	private final SalesRollupRepository salesRollupRepository;
+	private final SalesRollupProjector salesRollupProjector;
+	private final SalesRollupProperties properties;
+
+	@Scheduled(fixedDelayString = "${app.sales.rollup.repair-interval-ms:300000}")
+	public void repair() {
+		LocalDateTime since = LocalDateTime.now().minus(properties.repairWindow());
+		long afterId = 0;
+		int repaired = 0;
+		for (int batch = 0; batch < properties.repairMaxBatches(); batch++) {
+			List<Long> orderIds = salesRollupRepository.findOrderIdsOutOfSync(
+				since, SalesRollupProjector.SALE_STATUSES, afterId, properties.repairBatchSize());
+			for (Long orderId : orderIds) {
+				try {
+					if (salesRollupProjector.apply(orderId)) {
+						repaired++;
+					}
+				} catch (DataAccessException e) {
+					log.warn("[SALES_ROLLUP_REPAIR_FAILED] orderId={}", orderId, e);
+				}
+			}
+			if (orderIds.size() < properties.repairBatchSize()) {
+				break;
+			}
+			afterId = orderIds.getLast();
+		}
+
+		if (repaired > 0) {
+			log.info("[SALES_ROLLUP_REPAIRED] since={}, repaired={}", since, repaired);
+		}
+	}
+}
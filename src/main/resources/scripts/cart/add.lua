@@ -0,0 +1,28 @@
+-- KEYS[1] = cart:{userId}, KEYS[2] = cart:dirty
+-- ARGV[1] = productId, ARGV[2] = 더할 수량, ARGV[3] = 담을 수 있는 최대 수량, ARGV[4] = 현재 시각(ms), ARGV[5] = ttl(초)
+-- ARGV[6] = userId
+-- 값 = "count:createdMs:updatedMs"
+-- return 새 수량, -1 = 최대 수량 초과, -2 = 캐시 미적재
+if redis.call('EXISTS', KEYS[1]) == 0 then
+	return -2
+end
+
+local count = tonumber(ARGV[2])
+local created = ARGV[4]
+local current = redis.call('HGET', KEYS[1], ARGV[1])
+if current then
+	local previous, createdAt = string.match(current, '^(%d+):(%d+):')
+	count = count + tonumber(previous)
+	created = createdAt
+end
+if count > tonumber(ARGV[3]) then
+	return -1
+end
+
+redis.call('HSET', KEYS[1], ARGV[1], count .. ':' .. created .. ':' .. ARGV[4])
+redis.call('HINCRBY', KEYS[1], '_v', 1)
+redis.call('EXPIRE', KEYS[1], tonumber(ARGV[5]))
+-- write-behind 대상으로 남긴다 (score = Redis 시각 ms)
+local now = redis.call('TIME')
+redis.call('ZADD', KEYS[2], now[1] * 1000 + math.floor(now[2] / 1000), ARGV[6])
+return count
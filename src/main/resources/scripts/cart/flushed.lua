@@ -0,0 +1,13 @@
+-- KEYS[1] = cart:dirty, KEYS[2..] = DB 에 반영한 사용자의 cart:{userId}
+-- ARGV = KEYS[2..] 순서대로 userId, 반영한 버전 쌍 (장바구니가 만료돼 반영하지 않았으면 버전 0)
+-- 반영한 뒤 다시 바뀐 장바구니(버전이 더 높음)는 남겨 다음 flush 가 반영한다
+-- return write-behind 대상에서 뺀 사용자 수
+local removed = 0
+for i = 2, #KEYS do
+	local userId = ARGV[2 * i - 3]
+	local current = redis.call('HGET', KEYS[i], '_v')
+	if not current or tonumber(current) <= tonumber(ARGV[2 * i - 2]) then
+		removed = removed + redis.call('ZREM', KEYS[1], userId)
+	end
+end
+return removed
@@ -0,0 +1,16 @@
+-- KEYS[1] = cart:{userId}
+-- ARGV[1] = ttl(초), ARGV[2] = DB 에 마지막으로 반영된 버전
+-- ARGV[3..] = productId, "count:createdMs:updatedMs" 쌍 (DB 에서 읽은 장바구니)
+-- 버전은 DB 값부터 이어가야 다시 적재한 뒤의 변경이 오래된 것으로 취급되지 않는다
+-- 이미 적재된 키는 덮어쓰지 않는다 (다른 요청/노드가 먼저 적재했거나 그 뒤에 바뀌었을 수 있음)
+-- return 1 = 적재, 0 = 이미 있음
+if redis.call('EXISTS', KEYS[1]) == 1 then
+	return 0
+end
+
+redis.call('HSET', KEYS[1], '_v', ARGV[2])
+for i = 3, #ARGV, 2 do
+	redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+end
+redis.call('EXPIRE', KEYS[1], tonumber(ARGV[1]))
+return 1
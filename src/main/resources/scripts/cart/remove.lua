@@ -0,0 +1,26 @@
+-- KEYS[1] = cart:{userId}, KEYS[2] = cart:dirty
+-- ARGV[1] = ttl(초), ARGV[2] = 빼는 방식 (all = 그대로 삭제 | ordered = 수량이 같을 때만 삭제), ARGV[3] = userId
+-- ARGV[4..] = productId, 주문 수량 쌍 (all 이면 수량은 무시)
+-- ordered : 주문 스냅샷 뒤에 수량을 바꾼 상품은 남긴다
+-- return 지운 상품 수, -2 = 캐시 미적재
+if redis.call('EXISTS', KEYS[1]) == 0 then
+	return -2
+end
+
+local removed = 0
+for i = 4, #ARGV, 2 do
+	local current = redis.call('HGET', KEYS[1], ARGV[i])
+	if current and (ARGV[2] == 'all' or string.match(current, '^(%d+):') == ARGV[i + 1]) then
+		redis.call('HDEL', KEYS[1], ARGV[i])
+		removed = removed + 1
+	end
+end
+
+if removed > 0 then
+	redis.call('HINCRBY', KEYS[1], '_v', 1)
+	redis.call('EXPIRE', KEYS[1], tonumber(ARGV[1]))
+	-- write-behind 대상으로 남긴다 (score = Redis 시각 ms)
+	local now = redis.call('TIME')
+	redis.call('ZADD', KEYS[2], now[1] * 1000 + math.floor(now[2] / 1000), ARGV[3])
+end
+return removed
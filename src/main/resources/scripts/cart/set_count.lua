@@ -0,0 +1,20 @@
+-- KEYS[1] = cart:{userId}, KEYS[2] = cart:dirty
+-- ARGV[1] = productId, ARGV[2] = 바꿀 수량, ARGV[3] = 현재 시각(ms), ARGV[4] = ttl(초), ARGV[5] = userId
+-- return 이전 수량, -2 = 캐시 미적재, -3 = 담기지 않은 상품
+if redis.call('EXISTS', KEYS[1]) == 0 then
+	return -2
+end
+
+local current = redis.call('HGET', KEYS[1], ARGV[1])
+if not current then
+	return -3
+end
+
+local previous, createdAt = string.match(current, '^(%d+):(%d+):')
+redis.call('HSET', KEYS[1], ARGV[1], ARGV[2] .. ':' .. createdAt .. ':' .. ARGV[3])
+redis.call('HINCRBY', KEYS[1], '_v', 1)
+redis.call('EXPIRE', KEYS[1], tonumber(ARGV[4]))
+-- write-behind 대상으로 남긴다 (score = Redis 시각 ms)
+local now = redis.call('TIME')
+redis.call('ZADD', KEYS[2], now[1] * 1000 + math.floor(now[2] / 1000), ARGV[5])
+return tonumber(previous)
@@ -0,0 +1,15 @@
+-- KEYS[1] = idempotency:{userId}:{key}
+-- ARGV[1] = 선점한 요청의 owner 토큰
+-- ARGV[2] = 완료 레코드(JSON)
+-- ARGV[3] = 보관 시간(ms)
+-- return 1 = 저장, 0 = 선점을 잃음 (만료되었거나 다른 요청이 다시 선점)
+local current = redis.call('GET', KEYS[1])
+if not current then
+	return 0
+end
+local record = cjson.decode(current)
+if record.completed or record.owner ~= ARGV[1] then
+	return 0
+end
+redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+return 1
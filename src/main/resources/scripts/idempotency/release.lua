@@ -0,0 +1,12 @@
+-- KEYS[1] = idempotency:{userId}:{key}
+-- ARGV[1] = 선점한 요청의 owner 토큰
+-- return 1 = 해제, 0 = 선점을 잃음 (다른 요청의 처리 중 표시나 완료 레코드는 지우지 않는다)
+local current = redis.call('GET', KEYS[1])
+if not current then
+	return 0
+end
+local record = cjson.decode(current)
+if record.completed or record.owner ~= ARGV[1] then
+	return 0
+end
+return redis.call('DEL', KEYS[1])
@@ -0,0 +1,13 @@
+-- KEYS[1] = idempotency:{userId}:{key}
+-- ARGV[1] = 선점한 요청의 owner 토큰
+-- ARGV[2] = 처리 중 표시 만료 시간(ms)
+-- return 1 = 갱신, 0 = 선점을 잃음
+local current = redis.call('GET', KEYS[1])
+if not current then
+	return 0
+end
+local record = cjson.decode(current)
+if record.completed or record.owner ~= ARGV[1] then
+	return 0
+end
+return redis.call('PEXPIRE', KEYS[1], ARGV[2])
@@ -0,0 +1,13 @@
+-- KEYS[1] = inventory:{dirty}, KEYS[2..] = DB 에 반영한 상품의 inventory:{productId}
+-- ARGV = KEYS[2..] 순서대로 productId, 반영한 버전 쌍 (캐시에 없어 반영하지 않았으면 버전 0)
+-- 반영한 뒤 다시 바뀐 카운터(버전이 더 높음)는 남겨 다음 flush 가 반영한다
+-- return write-behind 대상에서 뺀 상품 수
+local removed = 0
+for i = 2, #KEYS do
+	local productId = ARGV[2 * i - 3]
+	local current = redis.call('HGET', KEYS[i], '_v')
+	if not current or tonumber(current) <= tonumber(ARGV[2 * i - 2]) then
+		removed = removed + redis.call('ZREM', KEYS[1], productId)
+	end
+end
+return removed
@@ -0,0 +1,9 @@
+-- KEYS[1] = inventory:{dirty}
+-- ARGV = write-behind 대상으로 남길 productId 목록
+-- 정합성 검증이 찾은 어긋난 상품을 Redis 시각으로 남긴다 (move / settle_outbound 와 같은 시계)
+local now = redis.call('TIME')
+local score = now[1] * 1000 + math.floor(now[2] / 1000)
+for i = 1, #ARGV do
+	redis.call('ZADD', KEYS[1], score, ARGV[i])
+end
+return #ARGV
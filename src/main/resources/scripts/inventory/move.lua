@@ -0,0 +1,23 @@
+-- KEYS[1] = inventory:{productId}, KEYS[2] = inventory:{dirty}
+-- ARGV[1] = 차감할 필드 (available | reserved | outbound)
+-- ARGV[2] = 증가할 필드 (available | reserved | outbound)
+-- ARGV[3] = quantity
+-- ARGV[4] = productId
+-- return 1 = 성공, 0 = 차감할 필드의 수량 부족, -1 = 캐시 미적재
+if redis.call('EXISTS', KEYS[1]) == 0 then
+	return -1
+end
+
+local quantity = tonumber(ARGV[3])
+local current = tonumber(redis.call('HGET', KEYS[1], ARGV[1]))
+if current < quantity then
+	return 0
+end
+
+redis.call('HINCRBY', KEYS[1], ARGV[1], -quantity)
+redis.call('HINCRBY', KEYS[1], ARGV[2], quantity)
+redis.call('HINCRBY', KEYS[1], '_v', 1)
+-- write-behind 대상으로 남긴다 (score = Redis 시각 ms)
+local now = redis.call('TIME')
+redis.call('ZADD', KEYS[2], now[1] * 1000 + math.floor(now[2] / 1000), ARGV[4])
+return 1
@@ -0,0 +1,17 @@
+-- KEYS[1] = inventory:{productId}
+-- ARGV = physical, reserved, outbound
+-- 이미 적재된 키는 덮어쓰지 않는다 (다른 노드가 먼저 적재했을 수 있음)
+if redis.call('EXISTS', KEYS[1]) == 1 then
+	return 0
+end
+
+local physical = tonumber(ARGV[1])
+local reserved = tonumber(ARGV[2])
+local outbound = tonumber(ARGV[3])
+
+redis.call('HSET', KEYS[1],
+	'physical', physical,
+	'reserved', reserved,
+	'outbound', outbound,
+	'available', physical - reserved - outbound)
+return 1
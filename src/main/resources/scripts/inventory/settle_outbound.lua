@@ -0,0 +1,29 @@
+-- KEYS[1] = inventory:{productId}, KEYS[2] = inventory:{dirty}
+-- ARGV[1] = 출고 확정 수량 (outbound, physical 감소)
+-- ARGV[2] = 출고 취소 수량 (outbound 감소, available 복귀)
+-- ARGV[3] = productId
+-- return 1 = 성공, 0 = outbound 부족, -1 = 캐시 미적재
+if redis.call('EXISTS', KEYS[1]) == 0 then
+	return -1
+end
+
+local confirmed = tonumber(ARGV[1])
+local canceled = tonumber(ARGV[2])
+local outbound = tonumber(redis.call('HGET', KEYS[1], 'outbound'))
+if outbound < confirmed + canceled then
+	return 0
+end
+
+local physical = tonumber(redis.call('HGET', KEYS[1], 'physical')) - confirmed
+local reserved = tonumber(redis.call('HGET', KEYS[1], 'reserved'))
+outbound = outbound - confirmed - canceled
+
+redis.call('HSET', KEYS[1],
+	'physical', physical,
+	'outbound', outbound,
+	'available', physical - reserved - outbound)
+redis.call('HINCRBY', KEYS[1], '_v', 1)
+-- write-behind 대상으로 남긴다 (score = Redis 시각 ms)
+local now = redis.call('TIME')
+redis.call('ZADD', KEYS[2], now[1] * 1000 + math.floor(now[2] / 1000), ARGV[3])
+return 1
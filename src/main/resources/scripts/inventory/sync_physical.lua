@@ -0,0 +1,15 @@
+-- KEYS[1] = inventory:{productId}
+-- ARGV[1] = DB 기준 physical_stock_total
+-- 물리 재고는 WMS(DB)가 원천이므로 절대값으로 덮어쓰고 available 만 다시 계산한다
+if redis.call('EXISTS', KEYS[1]) == 0 then
+	return -1
+end
+
+local physical = tonumber(ARGV[1])
+local reserved = tonumber(redis.call('HGET', KEYS[1], 'reserved'))
+local outbound = tonumber(redis.call('HGET', KEYS[1], 'outbound'))
+
+redis.call('HSET', KEYS[1],
+	'physical', physical,
+	'available', physical - reserved - outbound)
+return 1
@@ -0,0 +1,8 @@
+-- KEYS[1] = order:number:node:{nodeId}
+-- ARGV[1] = 임대한 인스턴스 토큰
+-- ARGV[2] = 만료 시간(ms)
+-- return 1 = 갱신, 0 = 임대를 잃음 (만료되었거나 다른 인스턴스가 가져감)
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+	return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+end
+return 0
@@ -0,0 +1,43 @@
+package com.kt.common.idempotency;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+
+class CachedBodyRequestTest {
+
+	@Test
+	@DisplayName("비동기 읽기 리스너에는 미리 읽어 둔 본문을 바로 알리고 다 읽으면 완료를 알린다")
+	void setReadListener_notifiesImmediately() throws IOException {
+		// given
+		MockHttpServletRequest original = new MockHttpServletRequest("POST", "/orders/cart");
+		original.setContent("{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+		CachedBodyRequest request = new CachedBodyRequest(original);
+		ServletInputStream in = request.getInputStream();
+		ReadListener listener = mock(ReadListener.class);
+		byte[][] read = new byte[1][];
+		willAnswer(invocation -> {
+			read[0] = in.readAllBytes();
+			return null;
+		}).given(listener).onDataAvailable();
+
+		// when
+		in.setReadListener(listener);
+
+		// then
+		InOrder order = inOrder(listener);
+		order.verify(listener).onDataAvailable();
+		order.verify(listener).onAllDataRead();
+		assertThat(new String(read[0], StandardCharsets.UTF_8)).isEqualTo("{\"id\":1}");
+	}
+}
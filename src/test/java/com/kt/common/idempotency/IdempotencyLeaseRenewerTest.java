@@ -0,0 +1,84 @@
+package com.kt.common.idempotency;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.kt.config.IdempotencyProperties;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyLeaseRenewerTest {
+
+	private static final IdempotencyProperties PROPERTIES = new IdempotencyProperties(
+		List.of("/orders/cart"), Duration.ofHours(24), Duration.ofSeconds(30), Duration.ofSeconds(10),
+		Duration.ofMillis(50)
+	);
+
+	@Mock
+	private IdempotencyStore idempotencyStore;
+
+	private IdempotencyLeaseRenewer renewer;
+
+	@BeforeEach
+	void setUp() {
+		renewer = new IdempotencyLeaseRenewer(idempotencyStore, PROPERTIES);
+	}
+
+	@Test
+	@DisplayName("처리 중인 키는 갱신 주기마다 inFlightTtl 로 연장하고 끝난 키는 연장하지 않는다")
+	void renew_trackedKeys() {
+		// given
+		given(idempotencyStore.renew(anyString(), anyString(), any())).willReturn(true);
+		renewer.track("k1", "a");
+		renewer.track("k2", "b");
+		renewer.untrack("k2", "b");
+
+		// when
+		renewer.renew();
+
+		// then
+		then(idempotencyStore).should().renew("k1", "a", PROPERTIES.inFlightTtl());
+		then(idempotencyStore).should(never()).renew(eq("k2"), anyString(), any());
+	}
+
+	@Test
+	@DisplayName("선점을 잃은 키는 더 이상 연장하지 않는다")
+	void renew_leaseLost() {
+		// given
+		given(idempotencyStore.renew("k1", "a", PROPERTIES.inFlightTtl())).willReturn(false);
+		renewer.track("k1", "a");
+
+		// when
+		renewer.renew();
+		renewer.renew();
+
+		// then
+		then(idempotencyStore).should(times(1)).renew("k1", "a", PROPERTIES.inFlightTtl());
+	}
+
+	@Test
+	@DisplayName("저장소 장애로 갱신하지 못하면 다음 주기에 다시 시도한다")
+	void renew_storeFailure() {
+		// given
+		given(idempotencyStore.renew("k1", "a", PROPERTIES.inFlightTtl()))
+			.willThrow(new IllegalStateException("redis down"))
+			.willReturn(true);
+		renewer.track("k1", "a");
+
+		// when
+		renewer.renew();
+		renewer.renew();
+
+		// then
+		then(idempotencyStore).should(times(2)).renew("k1", "a", PROPERTIES.inFlightTtl());
+	}
+}
@@ -0,0 +1,97 @@
+package com.kt.common.idempotency;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kt.common.AbstractRedisContainerTest;
+
+class RedisIdempotencyStoreTest extends AbstractRedisContainerTest {
+
+	private static final String KEY = "idempotency:1:key";
+	private static final String FINGERPRINT = "fp";
+	private static final Duration IN_FLIGHT_TTL = Duration.ofSeconds(30);
+	private static final Duration TTL = Duration.ofHours(24);
+
+	private RedisIdempotencyStore store;
+
+	@BeforeEach
+	void setUp() {
+		store = new RedisIdempotencyStore(redisTemplate, new ObjectMapper());
+	}
+
+	@Test
+	@DisplayName("선점한 요청은 응답을 저장하고 보관 시간으로 바꾼다")
+	void complete_owner() {
+		// given
+		store.tryBegin(KEY, IdempotencyRecord.inFlight(FINGERPRINT, "a"), IN_FLIGHT_TTL);
+
+		// when
+		boolean stored = store.complete(KEY, "a", completed("a"), TTL);
+
+		// then
+		assertThat(stored).isTrue();
+		assertThat(store.find(KEY)).get().extracting(IdempotencyRecord::completed, IdempotencyRecord::body)
+			.containsExactly(true, "{\"id\":1}");
+		assertThat(redisTemplate.getExpire(KEY)).isGreaterThan(IN_FLIGHT_TTL.toSeconds());
+	}
+
+	@Test
+	@DisplayName("처리 중 표시가 만료되어 다른 요청이 다시 선점했으면 늦게 끝난 요청은 완료도 해제도 하지 못한다")
+	void complete_afterLeaseLost() {
+		// given
+		store.tryBegin(KEY, IdempotencyRecord.inFlight(FINGERPRINT, "a"), IN_FLIGHT_TTL);
+		redisTemplate.delete(KEY);
+		store.tryBegin(KEY, IdempotencyRecord.inFlight(FINGERPRINT, "b"), IN_FLIGHT_TTL);
+
+		// when
+		boolean stored = store.complete(KEY, "a", completed("a"), TTL);
+		boolean released = store.release(KEY, "a");
+
+		// then
+		assertThat(stored).isFalse();
+		assertThat(released).isFalse();
+		assertThat(store.find(KEY)).get().extracting(IdempotencyRecord::owner, IdempotencyRecord::completed)
+			.containsExactly("b", false);
+	}
+
+	@Test
+	@DisplayName("완료된 응답은 해제로 지우지 않는다")
+	void release_keepsCompleted() {
+		// given
+		store.tryBegin(KEY, IdempotencyRecord.inFlight(FINGERPRINT, "a"), IN_FLIGHT_TTL);
+		store.complete(KEY, "a", completed("a"), TTL);
+
+		// when
+		boolean released = store.release(KEY, "a");
+
+		// then
+		assertThat(released).isFalse();
+		assertThat(store.find(KEY)).isPresent();
+	}
+
+	@Test
+	@DisplayName("선점한 요청만 처리 중 표시를 연장한다")
+	void renew_onlyOwner() {
+		// given
+		store.tryBegin(KEY, IdempotencyRecord.inFlight(FINGERPRINT, "a"), Duration.ofSeconds(5));
+
+		// when
+		boolean other = store.renew(KEY, "b", IN_FLIGHT_TTL);
+		boolean owner = store.renew(KEY, "a", IN_FLIGHT_TTL);
+
+		// then
+		assertThat(other).isFalse();
+		assertThat(owner).isTrue();
+		assertThat(redisTemplate.getExpire(KEY)).isGreaterThan(5);
+	}
+
+	private IdempotencyRecord completed(String owner) {
+		return IdempotencyRecord.completed(FINGERPRINT, owner, 201, "application/json", "{\"id\":1}");
+	}
+}
@@ -0,0 +1,50 @@
+package com.kt.controller.admin;
+
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.kt.common.AbstractRestDocsTest;
+import com.kt.common.RestDocsFactory;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpMethod;
+
+class ActuatorAccessTest extends AbstractRestDocsTest {
+
+	private static final String METRICS_URL = "/actuator/metrics";
+
+	@Autowired
+	private RestDocsFactory restDocsFactory;
+
+	@Nested
+	class 운영_지표_조회 {
+
+		@Test
+		void 관리자는_조회할_수_있다() throws Exception {
+			mockMvc.perform(
+					restDocsFactory.createRequest(METRICS_URL, null, HttpMethod.GET, objectMapper)
+						.with(jwtAdmin())
+				)
+				.andExpect(status().isOk());
+		}
+
+		@Test
+		void 일반_사용자는_조회할_수_없다() throws Exception {
+			mockMvc.perform(
+					restDocsFactory.createRequest(METRICS_URL, null, HttpMethod.GET, objectMapper)
+						.with(jwtUser())
+				)
+				.andExpect(status().isForbidden());
+		}
+
+		@Test
+		void 상태_확인도_관리자만_조회할_수_있다() throws Exception {
+			mockMvc.perform(
+					restDocsFactory.createRequest("/actuator/health", null, HttpMethod.GET, objectMapper)
+						.with(jwtUser())
+				)
+				.andExpect(status().isForbidden());
+		}
+	}
+}
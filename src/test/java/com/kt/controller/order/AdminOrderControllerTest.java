@@ -1,22 +1,48 @@
 package com.kt.controller.order;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.util.List;
+
 import com.kt.common.AbstractRestDocsTest;
 import com.kt.common.RestDocsFactory;
+import com.kt.domain.inventory.Inventory;
 import com.kt.domain.order.Order;
 import com.kt.domain.order.OrderStatus;
 import com.kt.domain.order.OrderType;
 import com.kt.domain.order.Receiver;
+import com.kt.domain.orderproduct.OrderProduct;
+import com.kt.domain.pet.PetType;
+import com.kt.domain.product.Product;
 import com.kt.dto.order.OrderRequest;
+import com.kt.repository.inventory.InventoryRepository;
+import com.kt.repository.order.OrderHoldRepository;
 import com.kt.repository.order.OrderRepository;
+import com.kt.repository.orderproduct.OrderProductRepository;
+import com.kt.repository.product.ProductRepository;
+import com.kt.service.order.OrderStockService;
+import com.kt.service.order.hold.OrderHoldService;
+import com.kt.service.order.summary.OrderSummaryProjector;
+
+import jakarta.persistence.EntityManager;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.transaction.annotation.Transactional;
 
 @Transactional
@@ -30,6 +56,30 @@ class AdminOrderControllerTest extends AbstractRestDocsTest {
 	@Autowired
 	private OrderRepository orderRepository;
 
+	@Autowired
+	private OrderSummaryProjector orderSummaryProjector;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private InventoryRepository inventoryRepository;
+
+	@Autowired
+	private OrderProductRepository orderProductRepository;
+
+	@Autowired
+	private OrderHoldRepository orderHoldRepository;
+
+	@Autowired
+	private OrderStockService orderStockService;
+
+	@Autowired
+	private OrderHoldService orderHoldService;
+
+	@Autowired
+	private EntityManager entityManager;
+
 	@Nested
 	class 관리자_주문_전체_조회_API {
 
@@ -58,6 +108,33 @@ class AdminOrderControllerTest extends AbstractRestDocsTest {
 					)
 				);
 		}
+
+		@Test
+		void 주문_요약에서_상태_조건에_맞는_주문만_조회한다() throws Exception {
+			// given: 요약 행은 아웃박스 전달로 만들어지므로 테스트에서는 직접 갱신
+			Order pending = createTestOrder(DEFAULT_USER_ID);
+			Order canceled = Order.create(DEFAULT_USER_ID, new Receiver("abc", "서울", "010-0000-0000"),
+				"ORD-20251202-TESTC", OrderType.DIRECT);
+			canceled.cancelAdmin();
+			orderRepository.save(canceled);
+			orderRepository.flush();
+			orderSummaryProjector.refresh(List.of(pending.getId(), canceled.getId()));
+
+			mockMvc.perform(
+					restDocsFactory.createRequest(
+							BASE_URL + "?status=PENDING",
+							null,
+							HttpMethod.GET,
+							objectMapper
+						)
+						.with(jwtAdmin())
+				)
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data[*].orderNumber", hasItem(pending.getOrderNumber())))
+				.andExpect(jsonPath("$.data[*].orderNumber", not(hasItem(canceled.getOrderNumber()))))
+				.andExpect(jsonPath("$.data[?(@.id == %d)].itemCount", pending.getId()).value(0))
+				.andExpect(jsonPath("$.data[?(@.id == %d)].orderStatus", pending.getId()).value("PENDING"));
+		}
 	}
 
 	@Nested
@@ -121,6 +198,43 @@ class AdminOrderControllerTest extends AbstractRestDocsTest {
 					)
 				);
 		}
+
+		@Test
+		void 결제_전_주문이면_보류를_지우고_예약을_해제한다() throws Exception {
+			// given: 재고 10 중 3 을 예약하고 보류를 잡은 결제 전 주문
+			Product product = productRepository.save(Product.create("강아지 사료", "맛있는 사료", 15000, PetType.DOG));
+			Inventory inventory = Inventory.initialize(product);
+			inventory.applyWmsInbound(10);
+			inventoryRepository.save(inventory);
+
+			Order order = orderRepository.save(Order.create(DEFAULT_USER_ID, new Receiver("abc", "서울", "010-0000-0000"),
+				"ORD-20251202-HOLD", OrderType.DIRECT));
+			OrderProduct orderProduct = orderProductRepository.save(OrderProduct.create(product, 3, order));
+			order.mapToOrder(orderProduct);
+			orderStockService.reserveStock(order.getOrderProducts());
+			orderHoldService.hold(order);
+
+			// when
+			mockMvc.perform(
+					restDocsFactory.createRequest(
+							BASE_URL + "/{id}/cancel",
+							null,
+							HttpMethod.DELETE,
+							objectMapper,
+							order.getId()
+						)
+						.with(jwtAdmin())
+				)
+				.andExpect(status().isOk());
+
+			// then: 재고 변경은 벌크 UPDATE 라 영속성 컨텍스트를 비우고 다시 읽는다
+			entityManager.flush();
+			entityManager.clear();
+			Inventory released = inventoryRepository.findByProductId(product.getId()).orElseThrow();
+			assertThat(released.getReserved()).isZero();
+			assertThat(released.getAvailable()).isEqualTo(10);
+			assertThat(orderHoldRepository.findAll()).noneMatch(hold -> hold.getOrderId().equals(order.getId()));
+		}
 	}
 
 	@Nested
@@ -156,6 +270,57 @@ class AdminOrderControllerTest extends AbstractRestDocsTest {
 		}
 	}
 
+	@Nested
+	class 관리자_주문_내보내기_API {
+
+		@Test
+		void CSV로_조건에_맞는_주문만_내보낸다() throws Exception {
+			// given: 내보내기는 JDBC 로 읽으므로 저장한 주문을 flush
+			Order pending = createTestOrder(DEFAULT_USER_ID);
+			Order canceled = Order.create(DEFAULT_USER_ID, new Receiver("abc", "서울", "010-0000-0000"),
+				"ORD-20251202-TESTB", OrderType.DIRECT);
+			canceled.cancelAdmin();
+			orderRepository.save(canceled);
+			orderRepository.flush();
+
+			mockMvc.perform(
+					restDocsFactory.createRequest(
+							BASE_URL + "/export?format=CSV&status=PENDING",
+							null,
+							HttpMethod.GET,
+							objectMapper
+						)
+						.with(jwtAdmin())
+				)
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString("orders.csv")))
+				.andExpect(content().string(startsWith("id,userId,orderNumber,orderStatus,orderAmount,createdAt\r\n")))
+				.andExpect(content().string(containsString(pending.getOrderNumber())))
+				.andExpect(content().string(not(containsString(canceled.getOrderNumber()))));
+		}
+
+		@Test
+		void NDJSON은_한_줄에_주문_하나씩_내보낸다() throws Exception {
+			// given
+			Order order = createTestOrder(DEFAULT_USER_ID);
+			orderRepository.flush();
+
+			mockMvc.perform(
+					restDocsFactory.createRequest(
+							BASE_URL + "/export",
+							null,
+							HttpMethod.GET,
+							objectMapper
+						)
+						.with(jwtAdmin())
+				)
+				.andExpect(status().isOk())
+				.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+				.andExpect(content().string(containsString("\"orderNumber\":\"" + order.getOrderNumber() + "\"")))
+				.andExpect(content().string(endsWith("}\n")));
+		}
+	}
+
 	private Order createTestOrder(Long userId) {
 		Receiver receiver = new Receiver("abc", "서울", "010-0000-0000");
 		Order order = Order.create(userId, receiver, "ORD-20251202-TESTA", OrderType.DIRECT);
@@ -1,10 +1,14 @@
 package com.kt.controller.order;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.kt.common.AbstractRestDocsTest;
 import com.kt.common.RestDocsFactory;
+import com.kt.common.api.ErrorCode;
+import com.kt.common.idempotency.IdempotencyFilter;
 import com.kt.domain.cart.Cart;
 import com.kt.domain.cartproduct.CartProduct;
 import com.kt.domain.delivery.DeliveryAddress;
@@ -13,6 +17,7 @@ import com.kt.domain.order.Order;
 import com.kt.domain.order.OrderType;
 import com.kt.domain.order.Receiver;
 import com.kt.domain.payment.Payment;
+import com.kt.domain.payment.PaymentStatus;
 import com.kt.domain.payment.PaymentType;
 import com.kt.domain.pet.PetType;
 import com.kt.domain.product.Product;
@@ -25,6 +30,12 @@ import com.kt.repository.order.OrderRepository;
 import com.kt.repository.payment.PaymentRepository;
 import com.kt.repository.product.ProductRepository;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.EntityManager;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -73,6 +84,9 @@ class OrderControllerTest extends AbstractRestDocsTest {
 	@Autowired
 	private CartProductRepository cartProductRepository;
 
+	@Autowired
+	private EntityManager entityManager;
+
 	// ==================== 바로 주문 ====================
 
 	@Nested
@@ -122,6 +136,66 @@ class OrderControllerTest extends AbstractRestDocsTest {
 					)
 				);
 		}
+
+		@Test
+		@DisplayName("같은 Idempotency-Key 로 재전송하면 주문을 다시 만들지 않고 처음 응답을 돌려준다")
+		void 같은_멱등키_재전송() throws Exception {
+			Product product = createProduct("강아지 사료", "맛있는 사료", 15000, PetType.DOG);
+			DeliveryAddress address = createDeliveryAddress(DEFAULT_USER_ID);
+			OrderRequest.DirectOrder request = new OrderRequest.DirectOrder(
+				product.getId(), 1, "홍길동", "서울시 강남구 테헤란로 123", "010-1234-5678", address.getId(), 3000, "CARD"
+			);
+			String idempotencyKey = UUID.randomUUID().toString();
+			long before = orderRepository.count();
+
+			String first = mockMvc.perform(
+					restDocsFactory.createRequest(BASE_URL + "/direct", request, HttpMethod.POST, objectMapper)
+						.header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+						.with(jwtUser())
+				)
+				.andExpect(status().isCreated())
+				.andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER))
+				.andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+			String replayed = mockMvc.perform(
+					restDocsFactory.createRequest(BASE_URL + "/direct", request, HttpMethod.POST, objectMapper)
+						.header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+						.with(jwtUser())
+				)
+				.andExpect(status().isCreated())
+				.andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+				.andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+			assertThat(replayed).isEqualTo(first);
+			assertThat(orderRepository.count()).isEqualTo(before + 1);
+		}
+
+		@Test
+		@DisplayName("실패: 같은 Idempotency-Key 로 다른 요청을 보내면 422")
+		void 실패_다른_요청에_멱등키_재사용() throws Exception {
+			Product product = createProduct("강아지 사료", "맛있는 사료", 15000, PetType.DOG);
+			DeliveryAddress address = createDeliveryAddress(DEFAULT_USER_ID);
+			String idempotencyKey = UUID.randomUUID().toString();
+
+			mockMvc.perform(
+					restDocsFactory.createRequest(BASE_URL + "/direct", new OrderRequest.DirectOrder(
+							product.getId(), 1, "홍길동", "서울시 강남구 테헤란로 123", "010-1234-5678", address.getId(), 3000, "CARD"
+						), HttpMethod.POST, objectMapper)
+						.header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+						.with(jwtUser())
+				)
+				.andExpect(status().isCreated());
+
+			mockMvc.perform(
+					restDocsFactory.createRequest(BASE_URL + "/direct", new OrderRequest.DirectOrder(
+							product.getId(), 2, "홍길동", "서울시 강남구 테헤란로 123", "010-1234-5678", address.getId(), 3000, "CARD"
+						), HttpMethod.POST, objectMapper)
+						.header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+						.with(jwtUser())
+				)
+				.andExpect(status().isUnprocessableEntity())
+				.andExpect(jsonPath("$.title").value(ErrorCode.IDEMPOTENCY_KEY_REUSED.name()));
+		}
 	}
 
 	// ==================== 장바구니 주문 ====================
@@ -174,6 +248,43 @@ class OrderControllerTest extends AbstractRestDocsTest {
 					)
 				);
 		}
+
+		@Test
+		@DisplayName("실패: 판매 중이 아닌 상품이 담겨 있으면 주문할 수 없다")
+		void 실패_판매_중이_아닌_상품() throws Exception {
+			// given: 활성화하지 않은(임시 저장) 상품을 장바구니에 담기
+			Product draft = productRepository.save(Product.create("임시 상품", "판매 전 상품", 5000, PetType.DOG));
+			Inventory inventory = Inventory.initialize(draft);
+			inventory.applyWmsInbound(10);
+			inventoryRepository.save(inventory);
+
+			Cart cart = createCart(DEFAULT_USER_ID);
+			createCartProduct(cart, createProduct("강아지 사료", "사료", 20000, PetType.DOG), 1);
+			createCartProduct(cart, draft, 1);
+
+			DeliveryAddress address = createDeliveryAddress(DEFAULT_USER_ID);
+			OrderRequest.CartOrder request = new OrderRequest.CartOrder(
+				"김철수",
+				"서울시 서초구 반포대로 456",
+				"010-9876-5432",
+				address.getId(),
+				2500,
+				"CARD"
+			);
+
+			// when & then
+			mockMvc.perform(
+					restDocsFactory.createRequest(
+							BASE_URL + "/cart",
+							request,
+							HttpMethod.POST,
+							objectMapper
+						)
+						.with(jwtUser())
+				)
+				.andExpect(status().isConflict())
+				.andExpect(jsonPath("$.title").value(ErrorCode.ORDER_PRODUCT_NOT_ORDERABLE.name()));
+		}
 	}
 
 	// ==================== 주문 조회 ====================
@@ -286,6 +397,54 @@ class OrderControllerTest extends AbstractRestDocsTest {
 					)
 				);
 		}
+
+		@Test
+		@DisplayName("성공: 결제 대기 결제를 실패 처리해 취소한 주문의 결제가 나중에 승인되지 않는다")
+		void 결제_대기_결제를_실패_처리한다() throws Exception {
+			// given
+			Order order = createTestOrderWithPayment(DEFAULT_USER_ID, "ORD-CANCEL-002");
+
+			// when
+			mockMvc.perform(
+					restDocsFactory.createRequest(
+							BASE_URL + "/{orderNumber}/cancel",
+							null,
+							HttpMethod.PATCH,
+							objectMapper,
+							order.getOrderNumber()
+						)
+						.with(jwtUser())
+				)
+				.andExpect(status().isOk());
+
+			// then: 결제 실패 처리는 벌크 UPDATE 라 영속성 컨텍스트를 비우고 다시 읽는다
+			entityManager.clear();
+			assertThat(paymentRepository.findByOrderNumber(order.getOrderNumber()).orElseThrow().getStatus())
+				.isEqualTo(PaymentStatus.FAILED);
+		}
+
+		@Test
+		@DisplayName("실패: 결제가 PG 로 넘어가 진행 중이면 409")
+		void 실패_결제_진행_중() throws Exception {
+			// given: 승인 선점(READY -> IN_PROGRESS)된 결제
+			Order order = createTestOrderWithPayment(DEFAULT_USER_ID, "ORD-CANCEL-003");
+			Payment payment = paymentRepository.findByOrderNumber(order.getOrderNumber()).orElseThrow();
+			paymentRepository.claim(payment.getId(), "payment-key", LocalDateTime.now());
+
+			// when & then
+			mockMvc.perform(
+					restDocsFactory.createRequest(
+							BASE_URL + "/{orderNumber}/cancel",
+							null,
+							HttpMethod.PATCH,
+							objectMapper,
+							order.getOrderNumber()
+						)
+						.with(jwtUser())
+				)
+				.andExpect(status().isConflict())
+				.andExpect(jsonPath("$.title").value(ErrorCode.ORDER_PAYMENT_IN_PROGRESS.name()));
+		}
 	}
 
 	// ==================== 주문 수정 ====================
@@ -331,6 +490,79 @@ class OrderControllerTest extends AbstractRestDocsTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("주문 이력 조회 API")
+	class 주문_이력_조회_API {
+
+		@Test
+		@DisplayName("성공: 최신순으로 커서를 따라 다음 페이지를 조회")
+		void 성공() throws Exception {
+			// given
+			createTestOrderWithPayment(DEFAULT_USER_ID, "ORD-HISTORY-001");
+			createTestOrderWithPayment(DEFAULT_USER_ID, "ORD-HISTORY-002");
+			createTestOrderWithPayment(DEFAULT_USER_ID, "ORD-HISTORY-003");
+
+			// when & then: 첫 페이지
+			String body = mockMvc.perform(
+					restDocsFactory.createRequest(
+							BASE_URL + "/history?size=2",
+							null,
+							HttpMethod.GET,
+							objectMapper
+						)
+						.with(jwtUser())
+				)
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.orders.length()").value(2))
+				.andExpect(jsonPath("$.data.orders[0].orderNumber").value("ORD-HISTORY-003"))
+				.andExpect(jsonPath("$.data.orders[0].payment.status").value("READY"))
+				.andExpect(jsonPath("$.data.hasNext").value(true))
+				.andDo(
+					restDocsFactory.success(
+						"order-history",
+						"내 주문 이력 조회",
+						"내 주문을 최신순 키셋 페이지로 조회하는 API (nextCursor 를 cursor 로 넘기면 다음 페이지)",
+						"Order",
+						null,
+						null
+					)
+				)
+				.andReturn().getResponse().getContentAsString();
+			String nextCursor = objectMapper.readTree(body).at("/data/nextCursor").asText();
+
+			// 다음 페이지
+			mockMvc.perform(
+					restDocsFactory.createRequest(
+							BASE_URL + "/history?size=2&cursor=" + nextCursor,
+							null,
+							HttpMethod.GET,
+							objectMapper
+						)
+						.with(jwtUser())
+				)
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.orders.length()").value(1))
+				.andExpect(jsonPath("$.data.orders[0].orderNumber").value("ORD-HISTORY-001"))
+				.andExpect(jsonPath("$.data.hasNext").value(false));
+		}
+
+		@Test
+		@DisplayName("실패: 커서 형식이 올바르지 않으면 400")
+		void 실패_잘못된_커서() throws Exception {
+			mockMvc.perform(
+					restDocsFactory.createRequest(
+							BASE_URL + "/history?cursor=invalid",
+							null,
+							HttpMethod.GET,
+							objectMapper
+						)
+						.with(jwtUser())
+				)
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.title").value(ErrorCode.ORDER_CURSOR_INVALID.name()));
+		}
+	}
+
 	// ==================== 헬퍼 메서드 ====================
 
 	private Product createProduct(String name, String description, int price, PetType petType) {
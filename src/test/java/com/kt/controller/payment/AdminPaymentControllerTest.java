@@ -0,0 +1,98 @@
+package com.kt.controller.payment;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.kt.common.AbstractRestDocsTest;
+import com.kt.common.RestDocsFactory;
+import com.kt.domain.order.Order;
+import com.kt.domain.order.OrderType;
+import com.kt.domain.order.Receiver;
+import com.kt.domain.payment.Payment;
+import com.kt.domain.payment.PaymentType;
+import com.kt.repository.order.OrderRepository;
+import com.kt.repository.payment.PaymentRepository;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+class AdminPaymentControllerTest extends AbstractRestDocsTest {
+
+	private static final String BASE_URL = "/admin/payments";
+
+	@Autowired
+	private RestDocsFactory restDocsFactory;
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Autowired
+	private PaymentRepository paymentRepository;
+
+	@Nested
+	class 관리자_결제_내보내기_API {
+
+		@Test
+		void CSV로_조건에_맞는_결제만_내보낸다() throws Exception {
+			// given: 내보내기는 JDBC 로 읽으므로 저장한 결제를 flush
+			Payment done = createPayment("ORD-20251202-PAYA");
+			done.confirmPayment("pay-key-export-a");
+			Payment pending = createPayment("ORD-20251202-PAYB");
+			paymentRepository.flush();
+
+			mockMvc.perform(
+					restDocsFactory.createRequest(
+							BASE_URL + "/export?format=CSV&status=DONE",
+							null,
+							HttpMethod.GET,
+							objectMapper
+						)
+						.with(jwtAdmin())
+				)
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString("payments.csv")))
+				.andExpect(content().string(
+					startsWith("paymentId,userId,orderNumber,paymentAmount,type,status,createdAt\r\n")))
+				.andExpect(content().string(containsString(done.getOrderNumber())))
+				.andExpect(content().string(not(containsString(pending.getOrderNumber()))));
+		}
+
+		@Test
+		void NDJSON은_한_줄에_결제_하나씩_내보낸다() throws Exception {
+			// given
+			Payment payment = createPayment("ORD-20251202-PAYC");
+			paymentRepository.flush();
+
+			mockMvc.perform(
+					restDocsFactory.createRequest(
+							BASE_URL + "/export",
+							null,
+							HttpMethod.GET,
+							objectMapper
+						)
+						.with(jwtAdmin())
+				)
+				.andExpect(status().isOk())
+				.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+				.andExpect(content().string(containsString("\"paymentId\":" + payment.getId())))
+				.andExpect(content().string(endsWith("}\n")));
+		}
+	}
+
+	private Payment createPayment(String orderNumber) {
+		Receiver receiver = new Receiver("테스트수령인", "서울시 강남구", "010-1234-5678");
+		Order order = orderRepository.save(Order.create(DEFAULT_USER_ID, receiver, orderNumber, OrderType.DIRECT));
+		return paymentRepository.save(Payment.create(DEFAULT_USER_ID, order, 3000L, PaymentType.CARD));
+	}
+}
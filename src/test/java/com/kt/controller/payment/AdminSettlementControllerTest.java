@@ -0,0 +1,220 @@
+package com.kt.controller.payment;
+
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.kt.common.AbstractRestDocsTest;
+import com.kt.common.RestDocsFactory;
+import com.kt.common.api.ErrorCode;
+import com.kt.domain.order.Order;
+import com.kt.domain.order.OrderType;
+import com.kt.domain.order.Receiver;
+import com.kt.domain.payment.Payment;
+import com.kt.domain.payment.PaymentType;
+import com.kt.domain.payment.settlement.SettlementRun;
+import com.kt.repository.order.OrderRepository;
+import com.kt.repository.payment.PaymentRepository;
+import com.kt.repository.payment.settlement.SettlementRunRepository;
+import com.kt.service.payment.settlement.SettlementReconciliationService;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpMethod;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+class AdminSettlementControllerTest extends AbstractRestDocsTest {
+
+	private static final String BASE_URL = "/admin/payments/settlements";
+
+	// 자동 대사(어제부터 지난 며칠)가 건드리지 않도록 오늘 정산일을 쓴다
+	private final LocalDate settlementDate = LocalDate.now();
+
+	@Autowired
+	private RestDocsFactory restDocsFactory;
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Autowired
+	private PaymentRepository paymentRepository;
+
+	@Autowired
+	private SettlementRunRepository settlementRunRepository;
+
+	@Autowired
+	private SettlementReconciliationService settlementReconciliationService;
+
+	@AfterEach
+	void deleteSettlementFile() throws IOException {
+		Files.deleteIfExists(settlementReconciliationService.settlementFile(settlementDate));
+	}
+
+	@Nested
+	class 정산_대사_실행_API {
+
+		@Test
+		void 성공_문서화() throws Exception {
+			// given: 일치 1건, 금액 불일치 1건, 파일에 없는 결제 1건 + 결제 없는 줄 1건, 깨진 줄 1건
+			Payment matched = createDonePayment("ORD-SETTLE-001", "pay-settle-match");
+			Payment amountDiff = createDonePayment("ORD-SETTLE-002", "pay-settle-amount");
+			createDonePayment("ORD-SETTLE-003", "pay-settle-not-in-file");
+			writeSettlementFile(
+				"paymentKey,orderNumber,status,amount,approvedAt",
+				"pay-settle-match,ORD-SETTLE-001,DONE," + matched.getPaymentAmount() + ",2025-12-02T10:00:00",
+				"pay-settle-amount,ORD-SETTLE-002,DONE," + (amountDiff.getPaymentAmount() + 100) + ",2025-12-02T10:01:00",
+				"pay-settle-unknown,ORD-SETTLE-999,DONE,5000,2025-12-02T10:02:00",
+				"broken-line-without-amount"
+			);
+
+			mockMvc.perform(
+					restDocsFactory.createRequest(
+							BASE_URL + "/" + settlementDate + "/reconcile",
+							null,
+							HttpMethod.POST,
+							objectMapper
+						)
+						.with(jwtAdmin())
+				)
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.status").value("COMPLETED"))
+				.andExpect(jsonPath("$.data.totalLines").value(4))
+				.andExpect(jsonPath("$.data.matchedCount").value(1))
+				.andExpect(jsonPath("$.data.mismatchCount").value(4))
+				.andDo(
+					restDocsFactory.success(
+						"admin-settlement-reconcile",
+						"정산 대사 실행",
+						"PG 정산 파일과 결제를 대사해 금액/상태/누락 불일치를 남깁니다.",
+						"Admin-Settlement",
+						null,
+						null
+					)
+				);
+		}
+
+		@Test
+		void 정산_파일이_없으면_실패한다() throws Exception {
+			mockMvc.perform(
+					restDocsFactory.createRequest(
+							BASE_URL + "/" + settlementDate + "/reconcile",
+							null,
+							HttpMethod.POST,
+							objectMapper
+						)
+						.with(jwtAdmin())
+				)
+				.andExpect(status().isNotFound())
+				.andExpect(jsonPath("$.title").value(ErrorCode.SETTLEMENT_FILE_NOT_FOUND.name()));
+		}
+
+		@Test
+		void 실행하던_노드가_죽어_진행이_멈춘_실행은_이어받는다() throws Exception {
+			// given: lease 시간(5분)보다 오래 진행 기록이 없는 RUNNING 실행
+			settlementRunRepository.saveAndFlush(
+				SettlementRun.start(settlementDate, "old.csv", "dead-node-token", LocalDateTime.now().minusMinutes(30))
+			);
+			Payment matched = createDonePayment("ORD-SETTLE-021", "pay-settle-takeover");
+			writeSettlementFile(
+				"pay-settle-takeover,ORD-SETTLE-021,DONE," + matched.getPaymentAmount()
+			);
+
+			mockMvc.perform(
+					restDocsFactory.createRequest(
+							BASE_URL + "/" + settlementDate + "/reconcile",
+							null,
+							HttpMethod.POST,
+							objectMapper
+						)
+						.with(jwtAdmin())
+				)
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.status").value("COMPLETED"))
+				.andExpect(jsonPath("$.data.matchedCount").value(1));
+		}
+
+		@Test
+		void 다른_노드가_진행_중인_실행은_이어받지_않는다() throws Exception {
+			// given: 방금 진행 기록을 남긴 RUNNING 실행
+			settlementRunRepository.saveAndFlush(
+				SettlementRun.start(settlementDate, "running.csv", "live-node-token", LocalDateTime.now())
+			);
+			writeSettlementFile("paymentKey,orderNumber,status,amount,approvedAt");
+
+			mockMvc.perform(
+					restDocsFactory.createRequest(
+							BASE_URL + "/" + settlementDate + "/reconcile",
+							null,
+							HttpMethod.POST,
+							objectMapper
+						)
+						.with(jwtAdmin())
+				)
+				.andExpect(status().isConflict())
+				.andExpect(jsonPath("$.title").value(ErrorCode.SETTLEMENT_RUN_IN_PROGRESS.name()));
+		}
+	}
+
+	@Nested
+	class 대사_불일치_조회_API {
+
+		@Test
+		void 종류로_골라_조회한다() throws Exception {
+			// given
+			Payment amountDiff = createDonePayment("ORD-SETTLE-011", "pay-settle-amount-2");
+			Payment notInFile = createDonePayment("ORD-SETTLE-012", "pay-settle-not-in-file-2");
+			writeSettlementFile(
+				"pay-settle-amount-2,ORD-SETTLE-011,DONE," + (amountDiff.getPaymentAmount() + 1)
+			);
+			Long runId = settlementReconciliationService.reconcile(settlementDate).getId();
+
+			mockMvc.perform(
+					restDocsFactory.createRequest(
+							BASE_URL + "/" + runId + "/mismatches?type=AMOUNT",
+							null,
+							HttpMethod.GET,
+							objectMapper
+						)
+						.with(jwtAdmin())
+				)
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.length()").value(1))
+				.andExpect(jsonPath("$.data[0].paymentKey").value("pay-settle-amount-2"))
+				.andExpect(jsonPath("$.data[0].settledAmount").value(amountDiff.getPaymentAmount() + 1));
+
+			mockMvc.perform(
+					restDocsFactory.createRequest(
+							BASE_URL + "/" + runId + "/mismatches?type=MISSING_SETTLEMENT",
+							null,
+							HttpMethod.GET,
+							objectMapper
+						)
+						.with(jwtAdmin())
+				)
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data[0].paymentId").value(notInFile.getId()));
+		}
+	}
+
+	private Payment createDonePayment(String orderNumber, String paymentKey) {
+		Receiver receiver = new Receiver("테스트수령인", "서울시 강남구", "010-1234-5678");
+		Order order = orderRepository.save(Order.create(DEFAULT_USER_ID, receiver, orderNumber, OrderType.DIRECT));
+		Payment payment = Payment.create(DEFAULT_USER_ID, order, 3000L, PaymentType.CARD);
+		payment.confirmPayment(paymentKey);
+		return paymentRepository.saveAndFlush(payment);
+	}
+
+	private void writeSettlementFile(String... lines) throws IOException {
+		Path file = settlementReconciliationService.settlementFile(settlementDate);
+		Files.createDirectories(file.getParent());
+		Files.write(file, String.join("\n", lines).getBytes());
+	}
+}
@@ -1,14 +1,17 @@
 package com.kt.controller.payment;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.kt.common.AbstractRestDocsTest;
 import com.kt.common.RestDocsFactory;
+import com.kt.common.api.ErrorCode;
 import com.kt.domain.order.Order;
 import com.kt.domain.order.OrderType;
 import com.kt.domain.order.Receiver;
 import com.kt.domain.payment.Payment;
+import com.kt.domain.payment.PaymentStatus;
 import com.kt.domain.payment.PaymentType;
 import com.kt.dto.payment.PaymentRequest;
 import com.kt.repository.order.OrderRepository;
@@ -112,6 +115,67 @@ class PaymentControllerTest extends AbstractRestDocsTest {
 				)
 				.andExpect(status().isBadRequest());
 		}
+
+		@Test
+		@DisplayName("실패: 다른 승인 요청이 진행 중(IN_PROGRESS)인 결제")
+		void 진행_중인_결제_승인_실패() throws Exception {
+			// given: 먼저 들어온 승인 요청이 선점한 결제
+			Order order = createOrderWithReadyPayment(DEFAULT_USER_ID, "ORD-PAY-006");
+			Payment payment = order.getLatestPayment();
+			payment.changeStatus(PaymentStatus.IN_PROGRESS);
+			paymentRepository.saveAndFlush(payment);
+
+			PaymentRequest.Confirm request = new PaymentRequest.Confirm(
+				"toss_payment_key_second",
+				order.getOrderNumber(),
+				payment.getPaymentAmount()
+			);
+
+			// when & then
+			mockMvc.perform(
+					restDocsFactory.createRequest(
+							BASE_URL + "/confirm",
+							request,
+							HttpMethod.POST,
+							objectMapper
+						)
+						.with(jwtUser())
+				)
+				.andExpect(status().isConflict())
+				.andExpect(jsonPath("$.title").value(ErrorCode.PAYMENT_ALREADY_PROCESSED.name()));
+
+			assertThat(paymentRepository.findById(payment.getId()).orElseThrow().getPaymentKey()).isNull();
+		}
+
+		@Test
+		@DisplayName("실패: 이미 승인된 결제를 다시 승인")
+		void 이미_승인된_결제_재승인_실패() throws Exception {
+			// given
+			Order order = createOrderWithDonePayment(DEFAULT_USER_ID, "ORD-PAY-007");
+			Payment payment = order.getLatestPayment();
+
+			PaymentRequest.Confirm request = new PaymentRequest.Confirm(
+				"toss_payment_key_again",
+				order.getOrderNumber(),
+				payment.getPaymentAmount()
+			);
+
+			// when & then
+			mockMvc.perform(
+					restDocsFactory.createRequest(
+							BASE_URL + "/confirm",
+							request,
+							HttpMethod.POST,
+							objectMapper
+						)
+						.with(jwtUser())
+				)
+				.andExpect(status().isConflict())
+				.andExpect(jsonPath("$.title").value(ErrorCode.PAYMENT_ALREADY_PROCESSED.name()));
+
+			assertThat(paymentRepository.findById(payment.getId()).orElseThrow().getPaymentKey())
+				.isEqualTo("test_payment_key_done");
+		}
 	}
 
 	// ==================== 결제 조회 ====================
@@ -0,0 +1,207 @@
+package com.kt.controller.sales;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+
+import com.kt.common.AbstractRestDocsTest;
+import com.kt.common.RestDocsFactory;
+import com.kt.common.api.ErrorCode;
+import com.kt.domain.category.Category;
+import com.kt.domain.category.CategoryStatus;
+import com.kt.domain.category.ProductCategory;
+import com.kt.domain.order.Order;
+import com.kt.domain.order.OrderType;
+import com.kt.domain.order.Receiver;
+import com.kt.domain.orderproduct.OrderProduct;
+import com.kt.domain.pet.PetType;
+import com.kt.domain.product.Product;
+import com.kt.repository.category.CategoryRepository;
+import com.kt.repository.category.ProductCategoryRepository;
+import com.kt.repository.order.OrderRepository;
+import com.kt.repository.orderproduct.OrderProductRepository;
+import com.kt.repository.product.ProductRepository;
+import com.kt.service.sales.SalesRollupProjector;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpMethod;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+class AdminSalesControllerTest extends AbstractRestDocsTest {
+
+	private static final String TOP_SELLERS_URL = "/admin/sales/top-sellers";
+	private static final String TREND_URL = "/admin/sales/trend";
+
+	@Autowired
+	private RestDocsFactory restDocsFactory;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private ProductCategoryRepository productCategoryRepository;
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Autowired
+	private OrderProductRepository orderProductRepository;
+
+	@Autowired
+	private SalesRollupProjector salesRollupProjector;
+
+	@Nested
+	class 매출_순위_API {
+
+		@Test
+		void 성공_문서화() throws Exception {
+			// given: 많이 팔린 상품 3개 주문, 적게 팔린 상품 1개 주문 완료
+			Product best = createProduct("베스트 사료", 10_000);
+			Product other = createProduct("간식", 3_000);
+			completeOrder("ORD-20251202-SALE1", best, 3);
+			completeOrder("ORD-20251202-SALE2", other, 1);
+
+			mockMvc.perform(
+					restDocsFactory.createRequest(
+							TOP_SELLERS_URL + "?dimension=PRODUCT&metric=REVENUE&days=30&limit=10",
+							null,
+							HttpMethod.GET,
+							objectMapper
+						)
+						.with(jwtAdmin())
+				)
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data[0].key").value(String.valueOf(best.getId())))
+				.andExpect(jsonPath("$.data[0].name").value("베스트 사료"))
+				.andExpect(jsonPath("$.data[0].units").value(3))
+				.andExpect(jsonPath("$.data[0].revenue").value(30_000))
+				.andExpect(jsonPath("$.data[1].key").value(String.valueOf(other.getId())))
+				.andDo(
+					restDocsFactory.success(
+						"admin-sales-top-sellers",
+						"매출 순위 조회",
+						"최근 N일 매출 집계에서 상품/카테고리/반려동물 종류별 순위를 조회합니다.",
+						"Admin-Sales",
+						null,
+						null
+					)
+				);
+		}
+
+		@Test
+		void 카테고리별로_집계된다() throws Exception {
+			Product product = createProduct("카테고리 상품", 5_000);
+			Category category = categoryRepository.save(
+				Category.createRoot("사료", 1, CategoryStatus.ACTIVE, PetType.DOG));
+			productCategoryRepository.save(ProductCategory.create(product, category));
+			completeOrder("ORD-20251202-SALE3", product, 2);
+
+			mockMvc.perform(
+					restDocsFactory.createRequest(
+							TOP_SELLERS_URL + "?dimension=CATEGORY",
+							null,
+							HttpMethod.GET,
+							objectMapper
+						)
+						.with(jwtAdmin())
+				)
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data[0].key").value(String.valueOf(category.getId())))
+				.andExpect(jsonPath("$.data[0].name").value("사료"))
+				.andExpect(jsonPath("$.data[0].units").value(2))
+				.andExpect(jsonPath("$.data[0].orderCount").value(1));
+		}
+
+		@Test
+		void 완료_후_취소된_주문은_원래_구간에서_빠진다() throws Exception {
+			Product product = createProduct("취소 상품", 10_000);
+			Order order = completeOrder("ORD-20251202-SALE4", product, 2);
+
+			// 같은 알림이 다시 와도 한 번만 더해진다
+			assertThat(salesRollupProjector.apply(order.getId())).isFalse();
+
+			order.cancelAdmin();
+			orderRepository.flush();
+			assertThat(salesRollupProjector.apply(order.getId())).isTrue();
+
+			mockMvc.perform(
+					restDocsFactory.createRequest(TOP_SELLERS_URL, null, HttpMethod.GET, objectMapper)
+						.with(jwtAdmin())
+				)
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data").isEmpty());
+		}
+
+		@Test
+		void 조회_기간이_범위를_벗어나면_실패한다() throws Exception {
+			mockMvc.perform(
+					restDocsFactory.createRequest(TOP_SELLERS_URL + "?days=0", null, HttpMethod.GET, objectMapper)
+						.with(jwtAdmin())
+				)
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.title").value(ErrorCode.SALES_PERIOD_INVALID.name()));
+		}
+	}
+
+	@Nested
+	class 매출_추이_API {
+
+		@Test
+		void 성공_문서화() throws Exception {
+			Product product = createProduct("추이 상품", 2_000);
+			completeOrder("ORD-20251202-SALE5", product, 4);
+			String today = LocalDate.now().toString();
+
+			mockMvc.perform(
+					restDocsFactory.createRequest(
+							TREND_URL + "?granularity=DAY&dimension=PRODUCT&key=" + product.getId()
+								+ "&from=" + today + "&to=" + today,
+							null,
+							HttpMethod.GET,
+							objectMapper
+						)
+						.with(jwtAdmin())
+				)
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data[0].units").value(4))
+				.andExpect(jsonPath("$.data[0].revenue").value(8_000))
+				.andDo(
+					restDocsFactory.success(
+						"admin-sales-trend",
+						"매출 추이 조회",
+						"상품/카테고리/반려동물 종류 하나의 시간/일 단위 매출 추이를 조회합니다.",
+						"Admin-Sales",
+						null,
+						null
+					)
+				);
+		}
+	}
+
+	private Product createProduct(String name, int price) {
+		return productRepository.save(Product.create(name, name + " 설명", price, PetType.DOG));
+	}
+
+	// 주문 완료 후 집계 반영 (알림은 커밋 뒤 아웃박스로 전달되므로 테스트에서는 직접 반영)
+	private Order completeOrder(String orderNumber, Product product, int quantity) {
+		Order order = Order.create(DEFAULT_USER_ID, new Receiver("abc", "서울", "010-0000-0000"),
+			orderNumber, OrderType.DIRECT);
+		orderRepository.save(order);
+		OrderProduct orderProduct = OrderProduct.create(product, quantity, order);
+		orderProductRepository.save(orderProduct);
+		order.mapToOrder(orderProduct);
+		order.calculateTotalAmount();
+		order.complete();
+		orderRepository.flush();
+		assertThat(salesRollupProjector.apply(order.getId())).isTrue();
+		return order;
+	}
+}
@@ -9,6 +9,7 @@ import static org.springframework.restdocs.operation.preprocess.Preprocessors.pr
 import static org.springframework.restdocs.operation.preprocess.Preprocessors.preprocessResponse;
 import static org.springframework.restdocs.operation.preprocess.Preprocessors.prettyPrint;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -37,6 +38,7 @@ import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.restdocs.mockmvc.RestDocumentationResultHandler;
 import org.springframework.restdocs.payload.FieldDescriptor;
 import org.springframework.restdocs.payload.JsonFieldType;
@@ -244,6 +246,85 @@ class WmsInboundControllerTest extends AbstractRestDocsTest {
 		}
 	}
 
+	@Nested
+	class 입고_배치_API {
+
+		private static final String BATCH_URL = "/wms/inbounds/confirmed/batch";
+
+		@Test
+		void 성공_문서화() throws Exception {
+			Product first = createProductWithInventory();
+			Product second = createProductWithInventory();
+			String body = String.join("\n",
+				line("batch-1", first.getId(), 3L),
+				line("batch-2", first.getId(), 4L),
+				line("batch-3", second.getId(), 5L),
+				line("batch-1", first.getId(), 3L),
+				line("batch-4", 999999L, 1L),
+				"{broken"
+			);
+
+			mockMvc.perform(
+					post(BATCH_URL)
+						.contentType(MediaType.APPLICATION_NDJSON)
+						.content(body)
+						.with(jwtUser())
+				)
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.accepted").value(3))
+				.andExpect(jsonPath("$.data.duplicated").value(1))
+				.andExpect(jsonPath("$.data.rejected").value(2))
+				.andExpect(jsonPath("$.data.results[3].status").value("DUPLICATE"))
+				.andExpect(jsonPath("$.data.results[5].line").value(6))
+				.andDo(
+					MockMvcRestDocumentationWrapper.document(
+						"wms-inbounds-confirmed-batch",
+						preprocessResponse(prettyPrint()),
+						resource(ResourceSnippetParameters.builder()
+							.tag("WMS-Inbound")
+							.summary("입고 확정 배치 수신")
+							.description("NDJSON(한 줄에 이벤트 하나)으로 입고 확정 이벤트를 한 번에 수신하고 이벤트별 처리 결과를 반환합니다.")
+							.build())
+					)
+				);
+
+			assertThat(inventoryRepository.findByProductId(first.getId()).orElseThrow().getPhysicalStockTotal())
+				.isEqualTo(7L);
+			assertThat(inventoryRepository.findByProductId(second.getId()).orElseThrow().getPhysicalStockTotal())
+				.isEqualTo(5L);
+			assertThat(processedInboundEventRepository.count()).isEqualTo(3L);
+		}
+
+		@Test
+		void 이미_처리된_eventId는_DUPLICATE로_응답하고_재고는_그대로다() throws Exception {
+			Product product = createProductWithInventory();
+			String body = line("batch-dup", product.getId(), 2L);
+
+			mockMvc.perform(
+					post(BATCH_URL)
+						.contentType(MediaType.APPLICATION_NDJSON)
+						.content(body)
+						.with(jwtUser())
+				)
+				.andExpect(jsonPath("$.data.results[0].status").value("ACCEPTED"));
+
+			mockMvc.perform(
+					post(BATCH_URL)
+						.contentType(MediaType.APPLICATION_NDJSON)
+						.content(body)
+						.with(jwtUser())
+				)
+				.andExpect(jsonPath("$.data.results[0].status").value("DUPLICATE"));
+
+			assertThat(inventoryRepository.findByProductId(product.getId()).orElseThrow().getPhysicalStockTotal())
+				.isEqualTo(2L);
+		}
+
+		private String line(String eventId, Long productId, Long quantity) throws Exception {
+			return objectMapper.writeValueAsString(new InboundConfirmedRequest(eventId, productId, quantity));
+		}
+	}
+
 	private void stubLockSuccess() throws Exception {
 		RLock lock = mock(RLock.class);
 		when(redissonClient.getLock(anyString())).thenReturn(lock);
@@ -0,0 +1,238 @@
+package com.kt.controller.wms;
+
+import static com.epages.restdocs.apispec.ResourceDocumentation.resource;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.restdocs.operation.preprocess.Preprocessors.preprocessResponse;
+import static org.springframework.restdocs.operation.preprocess.Preprocessors.prettyPrint;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.epages.restdocs.apispec.MockMvcRestDocumentationWrapper;
+import com.epages.restdocs.apispec.ResourceSnippetParameters;
+import com.kt.common.AbstractRestDocsTest;
+import com.kt.common.RestDocsFactory;
+import com.kt.common.api.ApiResponse;
+import com.kt.common.api.ErrorCode;
+import com.kt.domain.inventory.Inventory;
+import com.kt.domain.inventory.event.OutboundEventType;
+import com.kt.domain.pet.PetType;
+import com.kt.domain.product.Product;
+import com.kt.dto.wms.OutboundBatchResponse.Status;
+import com.kt.dto.wms.OutboundRequest;
+import com.kt.dto.wms.OutboundResponse;
+import com.kt.repository.inventory.InventoryRepository;
+import com.kt.repository.inventory.ProcessedOutboundEventRepository;
+import com.kt.repository.product.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+class WmsOutboundControllerTest extends AbstractRestDocsTest {
+
+	private static final String CONFIRM_URL = "/wms/outbounds/confirmed";
+	private static final String CANCEL_URL = "/wms/outbounds/canceled";
+
+	@Autowired
+	private RestDocsFactory restDocsFactory;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private InventoryRepository inventoryRepository;
+
+	@Autowired
+	private ProcessedOutboundEventRepository processedOutboundEventRepository;
+
+	@BeforeEach
+	void clearProcessedEvents() {
+		processedOutboundEventRepository.deleteAll();
+	}
+
+	@Nested
+	class 출고_확정_API {
+
+		@Test
+		void 성공_문서화() throws Exception {
+			Product product = createProductWithOutbound(10L, 4L);
+
+			OutboundRequest request = new OutboundRequest("outbound-1001", product.getId(), 3L);
+			var docsResponse = ApiResponse.of(OutboundResponse.of(
+				request.eventId(),
+				request.productId(),
+				request.quantity(),
+				OutboundEventType.CONFIRMED,
+				Status.ACCEPTED
+			));
+
+			mockMvc.perform(
+					restDocsFactory.createRequest(
+						CONFIRM_URL,
+						request,
+						HttpMethod.POST,
+						objectMapper
+					).with(jwtUser())
+				)
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.status").value("ACCEPTED"))
+				.andDo(
+					restDocsFactory.success(
+						"wms-outbounds-confirmed",
+						"출고 확정 수신",
+						"WMS 출고 확정 이벤트를 수신해 출고 처리 중 수량과 물리 재고를 줄입니다.",
+						"WMS-Outbound",
+						request,
+						docsResponse
+					)
+				);
+
+			Inventory inventory = inventoryRepository.findByProductId(product.getId()).orElseThrow();
+			assertThat(inventory.getPhysicalStockTotal()).isEqualTo(7L);
+			assertThat(inventory.getOutboundProcessing()).isEqualTo(1L);
+		}
+
+		@Test
+		void 동일_eventId_재요청시_DUPLICATE로_응답하고_한번만_반영된다() throws Exception {
+			Product product = createProductWithOutbound(10L, 4L);
+			OutboundRequest request = new OutboundRequest("outbound-dup", product.getId(), 2L);
+
+			mockMvc.perform(
+					restDocsFactory.createRequest(CONFIRM_URL, request, HttpMethod.POST, objectMapper).with(jwtUser())
+				)
+				.andExpect(jsonPath("$.data.status").value("ACCEPTED"));
+
+			mockMvc.perform(
+					restDocsFactory.createRequest(CONFIRM_URL, request, HttpMethod.POST, objectMapper).with(jwtUser())
+				)
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.status").value("DUPLICATE"));
+
+			Inventory inventory = inventoryRepository.findByProductId(product.getId()).orElseThrow();
+			assertThat(inventory.getPhysicalStockTotal()).isEqualTo(8L);
+			assertThat(inventory.getOutboundProcessing()).isEqualTo(2L);
+		}
+
+		@Test
+		void 출고_처리_중_수량보다_많으면_실패하고_기록되지_않는다() throws Exception {
+			Product product = createProductWithOutbound(10L, 1L);
+			OutboundRequest request = new OutboundRequest("outbound-over", product.getId(), 2L);
+
+			mockMvc.perform(
+					restDocsFactory.createRequest(CONFIRM_URL, request, HttpMethod.POST, objectMapper).with(jwtUser())
+				)
+				.andExpect(status().isConflict())
+				.andExpect(jsonPath("$.title").value(ErrorCode.WMS_OUTBOUND_REJECTED.name()));
+
+			assertThat(processedOutboundEventRepository.count()).isZero();
+		}
+
+		@Test
+		void 수량이_0이하면_실패한다() throws Exception {
+			OutboundRequest request = new OutboundRequest("outbound-invalid-quantity", 1L, 0L);
+
+			mockMvc.perform(
+					restDocsFactory.createRequest(CONFIRM_URL, request, HttpMethod.POST, objectMapper).with(jwtUser())
+				)
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.title").value(ErrorCode.WMS_OUTBOUND_EVENT_QUANTITY_INVALID.name()));
+		}
+	}
+
+	@Nested
+	class 출고_취소_API {
+
+		@Test
+		void 성공시_출고_처리_중_수량이_판매_가능_재고로_돌아간다() throws Exception {
+			Product product = createProductWithOutbound(10L, 4L);
+			OutboundRequest request = new OutboundRequest("outbound-cancel-1", product.getId(), 3L);
+
+			mockMvc.perform(
+					restDocsFactory.createRequest(CANCEL_URL, request, HttpMethod.POST, objectMapper).with(jwtUser())
+				)
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.type").value("CANCELED"));
+
+			Inventory inventory = inventoryRepository.findByProductId(product.getId()).orElseThrow();
+			assertThat(inventory.getPhysicalStockTotal()).isEqualTo(10L);
+			assertThat(inventory.getOutboundProcessing()).isEqualTo(1L);
+			assertThat(inventory.getAvailable()).isEqualTo(9L);
+		}
+	}
+
+	@Nested
+	class 출고_확정_배치_API {
+
+		private static final String BATCH_URL = "/wms/outbounds/confirmed/batch";
+
+		@Test
+		void 성공_문서화() throws Exception {
+			Product first = createProductWithOutbound(10L, 5L);
+			Product second = createProductWithOutbound(10L, 1L);
+			String body = String.join("\n",
+				line("batch-out-1", first.getId(), 2L),
+				line("batch-out-2", first.getId(), 3L),
+				line("batch-out-3", second.getId(), 2L),
+				line("batch-out-1", first.getId(), 2L),
+				line("batch-out-4", 999999L, 1L),
+				"{broken"
+			);
+
+			mockMvc.perform(
+					post(BATCH_URL)
+						.contentType(MediaType.APPLICATION_NDJSON)
+						.content(body)
+						.with(jwtUser())
+				)
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.accepted").value(2))
+				.andExpect(jsonPath("$.data.duplicated").value(1))
+				.andExpect(jsonPath("$.data.rejected").value(3))
+				.andExpect(jsonPath("$.data.results[2].status").value("REJECTED"))
+				.andExpect(jsonPath("$.data.results[3].status").value("DUPLICATE"))
+				.andDo(
+					MockMvcRestDocumentationWrapper.document(
+						"wms-outbounds-confirmed-batch",
+						preprocessResponse(prettyPrint()),
+						resource(ResourceSnippetParameters.builder()
+							.tag("WMS-Outbound")
+							.summary("출고 확정 배치 수신")
+							.description("NDJSON(한 줄에 이벤트 하나)으로 출고 확정 이벤트를 한 번에 수신하고 이벤트별 처리 결과를 반환합니다.")
+							.build())
+					)
+				);
+
+			Inventory firstInventory = inventoryRepository.findByProductId(first.getId()).orElseThrow();
+			assertThat(firstInventory.getPhysicalStockTotal()).isEqualTo(5L);
+			assertThat(firstInventory.getOutboundProcessing()).isZero();
+			assertThat(inventoryRepository.findByProductId(second.getId()).orElseThrow().getOutboundProcessing())
+				.isEqualTo(1L);
+			assertThat(processedOutboundEventRepository.count()).isEqualTo(2L);
+		}
+
+		private String line(String eventId, Long productId, Long quantity) throws Exception {
+			return objectMapper.writeValueAsString(new OutboundRequest(eventId, productId, quantity));
+		}
+	}
+
+	// 입고 후 예약, 결제 확정까지 마쳐 출고 처리 중 수량이 있는 재고
+	private Product createProductWithOutbound(long physical, long outbound) {
+		Product product = productRepository.save(Product.create(
+			"출고 테스트 상품",
+			"출고 테스트 설명",
+			10_000,
+			PetType.DOG
+		));
+		Inventory inventory = Inventory.initialize(product);
+		inventory.applyWmsInbound(physical);
+		inventory.applyOmsReserve(outbound);
+		inventory.applyOmsCommit(outbound);
+		inventoryRepository.save(inventory);
+		return product;
+	}
+}
@@ -56,6 +56,99 @@ class InventoryTest {
 			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVENTORY_RESERVATION_NOT_FOUND);
 	}
 
+	@Test
+	void 핫_모드로_전환하면_가용재고가_버킷으로_이동한다() {
+		Inventory inventory = newInventoryWithProduct();
+		inventory.applyWmsInbound(10);
+		inventory.applyOmsReserve(2);
+
+		long moved = inventory.enableHotMode(4);
+
+		assertThat(moved).isEqualTo(8);
+		assertThat(inventory.getSharded()).isEqualTo(8);
+		assertThat(inventory.getAvailable()).isZero();
+		assertThat(inventory.getReserved()).isEqualTo(2);
+	}
+
+	@Test
+	void 핫_모드에서_입고분은_행에_남고_재분배시_버킷으로_넘어간다() {
+		Inventory inventory = newInventoryWithProduct();
+		inventory.applyWmsInbound(10);
+		inventory.enableHotMode(2);
+
+		inventory.applyWmsInbound(5);
+
+		assertThat(inventory.getAvailable()).isEqualTo(5);
+		assertThat(inventory.absorbIntoBuckets()).isEqualTo(5);
+		assertThat(inventory.getSharded()).isEqualTo(15);
+		assertThat(inventory.getAvailable()).isZero();
+	}
+
+	@Test
+	void 버킷에서_차감한_수량은_출고준비로_이동한다() {
+		Inventory inventory = newInventoryWithProduct();
+		inventory.applyWmsInbound(10);
+		inventory.enableHotMode(2);
+
+		inventory.shipFromBuckets(3);
+
+		assertThat(inventory.getSharded()).isEqualTo(7);
+		assertThat(inventory.getOutboundProcessing()).isEqualTo(3);
+		assertThat(inventory.getAvailable()).isZero();
+	}
+
+	@Test
+	void 핫_모드를_해제하면_버킷_예약분은_행의_예약으로_합쳐진다() {
+		Inventory inventory = newInventoryWithProduct();
+		inventory.applyWmsInbound(10);
+		inventory.enableHotMode(2);
+
+		inventory.disableHotMode(6, 4);
+
+		assertThat(inventory.isHot()).isFalse();
+		assertThat(inventory.getSharded()).isZero();
+		assertThat(inventory.getReserved()).isEqualTo(4);
+		assertThat(inventory.getAvailable()).isEqualTo(6);
+	}
+
+	@Test
+	void 조회용_사본은_버킷_합계를_합친_재고를_보여준다() {
+		Inventory inventory = newInventoryWithProduct();
+		inventory.applyWmsInbound(10);
+		inventory.applyOmsReserve(1);
+		inventory.enableHotMode(2);
+
+		Inventory view = inventory.withBucketTotals(6, 3, 0);
+
+		assertThat(view.getReserved()).isEqualTo(4);
+		assertThat(view.getAvailable()).isEqualTo(6);
+		assertThat(view.getSharded()).isZero();
+		assertThat(inventory.getSharded()).isEqualTo(9);
+	}
+
+	@Test
+	void 행으로_옮기기_전의_버킷_출고분도_출고_처리_중으로_보인다() {
+		Inventory inventory = newInventoryWithProduct();
+		inventory.applyWmsInbound(10);
+		inventory.enableHotMode(2);
+
+		Inventory view = inventory.withBucketTotals(5, 3, 2);
+
+		assertThat(view.getOutboundProcessing()).isEqualTo(2);
+		assertThat(view.getReserved()).isEqualTo(3);
+		assertThat(view.getAvailable()).isEqualTo(5);
+	}
+
+	@Test
+	void 이미_핫_모드면_다시_전환할_수_없다() {
+		Inventory inventory = newInventoryWithProduct();
+		inventory.enableHotMode(2);
+
+		assertThatThrownBy(() -> inventory.enableHotMode(4))
+			.isInstanceOf(CustomException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVENTORY_HOT_MODE_ALREADY_ENABLED);
+	}
+
 	private Inventory newInventoryWithProduct() {
 		Product product = Product.create("테스트", "설명", 10_000, PetType.DOG);
 		return Inventory.initialize(product);
@@ -0,0 +1,134 @@
+package com.kt.integration.pg;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.kt.config.PaymentGatewayProperties;
+import com.kt.integration.pg.PaymentGatewayCircuitBreaker.State;
+
+class PaymentGatewayCircuitBreakerTest {
+
+	private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+	private final AtomicLong clock = new AtomicLong();
+
+	// 창 10건, 최소 4건, 실패율 50%, 시험 호출 2건
+	private PaymentGatewayCircuitBreaker breaker() {
+		PaymentGatewayProperties properties = new PaymentGatewayProperties(
+			"stub", "http://localhost", "",
+			Duration.ofSeconds(1), Duration.ofSeconds(10),
+			10, Duration.ofMillis(100),
+			10, 4, 50, OPEN_DURATION, 2,
+			Duration.ZERO, Duration.ZERO, 0, 0
+		);
+		return new PaymentGatewayCircuitBreaker(properties, clock::get);
+	}
+
+	private void call(PaymentGatewayCircuitBreaker breaker, boolean failure) {
+		assertThat(breaker.tryAcquire()).isTrue();
+		if (failure) {
+			breaker.onFailure();
+		} else {
+			breaker.onSuccess();
+		}
+	}
+
+	@Test
+	@DisplayName("성공: 최소 호출 수 전에는 모두 실패해도 회로를 열지 않는다")
+	void staysClosedBelowMinimumCalls() {
+		// given
+		PaymentGatewayCircuitBreaker breaker = breaker();
+
+		// when
+		for (int i = 0; i < 3; i++) {
+			call(breaker, true);
+		}
+
+		// then
+		assertThat(breaker.state()).isEqualTo(State.CLOSED);
+	}
+
+	@Test
+	@DisplayName("성공: 실패율이 기준 이상이면 회로를 열고 openDuration 동안 호출을 거절한다")
+	void opensWhenFailureRateReachesThreshold() {
+		// given
+		PaymentGatewayCircuitBreaker breaker = breaker();
+
+		// when
+		call(breaker, false);
+		call(breaker, false);
+		call(breaker, true);
+		call(breaker, true);
+
+		// then
+		assertThat(breaker.state()).isEqualTo(State.OPEN);
+		clock.addAndGet(OPEN_DURATION.toNanos() - 1);
+		assertThat(breaker.tryAcquire()).isFalse();
+	}
+
+	@Test
+	@DisplayName("성공: 창을 벗어난 오래된 실패는 실패율에서 빠진다")
+	void oldFailuresSlideOutOfWindow() {
+		// given
+		PaymentGatewayCircuitBreaker breaker = breaker();
+		for (int i = 0; i < 4; i++) {
+			call(breaker, i == 0);
+		}
+
+		// when - 창 10건을 성공으로 채운 뒤 실패 4건 → 4/10 = 40%
+		for (int i = 0; i < 10; i++) {
+			call(breaker, false);
+		}
+		for (int i = 0; i < 4; i++) {
+			call(breaker, true);
+		}
+
+		// then
+		assertThat(breaker.state()).isEqualTo(State.CLOSED);
+	}
+
+	@Test
+	@DisplayName("성공: openDuration 이 지나면 시험 호출만 허용하고 모두 성공하면 닫힌다")
+	void halfOpenClosesAfterSuccessfulTrials() {
+		// given
+		PaymentGatewayCircuitBreaker breaker = breaker();
+		for (int i = 0; i < 4; i++) {
+			call(breaker, true);
+		}
+		clock.addAndGet(OPEN_DURATION.toNanos());
+
+		// when
+		assertThat(breaker.tryAcquire()).isTrue();
+		assertThat(breaker.tryAcquire()).isTrue();
+		boolean third = breaker.tryAcquire();
+		breaker.onSuccess();
+		breaker.onSuccess();
+
+		// then
+		assertThat(third).isFalse();
+		assertThat(breaker.state()).isEqualTo(State.CLOSED);
+	}
+
+	@Test
+	@DisplayName("성공: 시험 호출이 하나라도 실패하면 다시 열린다")
+	void halfOpenReopensOnFailure() {
+		// given
+		PaymentGatewayCircuitBreaker breaker = breaker();
+		for (int i = 0; i < 4; i++) {
+			call(breaker, true);
+		}
+		clock.addAndGet(OPEN_DURATION.toNanos());
+
+		// when
+		call(breaker, true);
+
+		// then
+		assertThat(breaker.state()).isEqualTo(State.OPEN);
+		assertThat(breaker.tryAcquire()).isFalse();
+	}
+}
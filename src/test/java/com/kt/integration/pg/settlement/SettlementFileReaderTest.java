@@ -0,0 +1,102 @@
+package com.kt.integration.pg.settlement;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.kt.domain.payment.PaymentStatus;
+
+class SettlementFileReaderTest {
+
+	@TempDir
+	Path directory;
+
+	private record Read(long lineNumber, boolean valid, String paymentKey, PaymentStatus status, long amount) {
+	}
+
+	private List<Read> readAll(String content, int windowBytes) throws IOException {
+		Path file = directory.resolve("settlement.csv");
+		Files.writeString(file, content, StandardCharsets.US_ASCII);
+
+		List<Read> reads = new ArrayList<>();
+		SettlementLine line = new SettlementLine();
+		try (SettlementFileReader reader = SettlementFileReader.open(file, windowBytes)) {
+			while (reader.next(line)) {
+				reads.add(new Read(line.getLineNumber(), line.isValid(), line.getPaymentKey(), line.getStatus(),
+					line.getAmount()));
+			}
+		}
+		return reads;
+	}
+
+	@Test
+	@DisplayName("성공: 헤더와 빈 줄을 건너뛰고 키/상태/금액을 읽는다 (CRLF, 마지막 줄 개행 없음)")
+	void next_parsesLines() throws IOException {
+		// when
+		List<Read> reads = readAll(
+			"paymentKey,orderNumber,status,amount\r\n"
+				+ "pay-1,ORD-1,DONE,12000,2025-12-02\r\n"
+				+ "\r\n"
+				+ "pay-2,ORD-2,CANCELED,3000",
+			1024
+		);
+
+		// then
+		assertThat(reads).containsExactly(
+			new Read(2, true, "pay-1", PaymentStatus.DONE, 12000),
+			new Read(4, true, "pay-2", PaymentStatus.CANCELED, 3000)
+		);
+	}
+
+	@Test
+	@DisplayName("성공: 창 경계에 걸친 줄도 다시 매핑해 그대로 읽는다")
+	void next_remapsAcrossWindows() throws IOException {
+		// given
+		StringBuilder content = new StringBuilder();
+		for (int i = 0; i < 100; i++) {
+			content.append("pay-").append(i).append(",ORD-").append(i).append(",DONE,").append(i * 10).append('\n');
+		}
+
+		// when - 창이 한 줄보다 조금 커서 거의 모든 줄이 경계에 걸린다
+		List<Read> reads = readAll(content.toString(), 32);
+
+		// then
+		assertThat(reads).hasSize(100);
+		assertThat(reads.get(57)).isEqualTo(new Read(58, true, "pay-57", PaymentStatus.DONE, 570));
+		assertThat(reads.getLast()).isEqualTo(new Read(100, true, "pay-99", PaymentStatus.DONE, 990));
+	}
+
+	@Test
+	@DisplayName("성공: 열이 모자라거나 상태/금액이 잘못된 줄은 형식 오류로 알리고 계속 읽는다")
+	void next_marksMalformedLines() throws IOException {
+		// when
+		List<Read> reads = readAll(
+			"pay-1,ORD-1,DONE\n"
+				+ "pay-2,ORD-2,PAID,1000\n"
+				+ "pay-3,ORD-3,DONE,-500\n"
+				+ ",ORD-4,DONE,1000\n"
+				+ "pay-5,ORD-5,DONE,1000\n",
+			1024
+		);
+
+		// then
+		assertThat(reads).extracting(Read::valid).containsExactly(false, false, false, false, true);
+		assertThat(reads.getLast().paymentKey()).isEqualTo("pay-5");
+	}
+
+	@Test
+	@DisplayName("실패: 창보다 긴 줄은 읽지 못한다")
+	void next_failsWhenLineExceedsWindow() throws IOException {
+		assertThatThrownBy(() -> readAll("pay-1,ORD-1,DONE,1000\npay-2,ORD-2,DONE,1000\n", 8))
+			.isInstanceOf(IOException.class);
+	}
+}
@@ -0,0 +1,96 @@
+package com.kt.repository.cart;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.kt.config.TestRedisConfig;
+import com.kt.domain.cart.CartItem;
+import com.kt.domain.pet.PetType;
+import com.kt.domain.product.Product;
+import com.kt.repository.cart.CartSyncRepository.StoredCart;
+import com.kt.repository.product.ProductRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestRedisConfig.class)
+@Transactional
+class CartSyncRepositoryTest {
+
+	private static final Long USER_ID = 1L;
+
+	@Autowired
+	private CartSyncRepository cartSyncRepository;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	private Long productId;
+	private Long otherProductId;
+
+	@BeforeEach
+	void setUp() {
+		productId = productRepository.save(Product.create("상품", "설명", 1000, PetType.DOG)).getId();
+		otherProductId = productRepository.save(Product.create("다른 상품", "설명", 2000, PetType.CAT)).getId();
+	}
+
+	@Test
+	@DisplayName("장바구니 행이 없으면 만들고 버전과 상품 행을 덮어쓴다")
+	void overwrite_createsCart() {
+		// given
+		LocalDateTime now = LocalDateTime.now().withNano(0);
+
+		// when
+		boolean written = cartSyncRepository.overwrite(USER_ID, 2, List.of(item(productId, 3, now)), now);
+
+		// then
+		StoredCart stored = cartSyncRepository.findCart(USER_ID);
+		assertThat(written).isTrue();
+		assertThat(stored.version()).isEqualTo(2);
+		assertThat(stored.items()).extracting(CartItem::productId, CartItem::count)
+			.containsExactly(tuple(productId, 3));
+	}
+
+	@Test
+	@DisplayName("이미 반영한 버전 이하의 늦게 도착한 스냅샷은 아무것도 쓰지 않는다")
+	void overwrite_rejectsStaleSnapshot() {
+		// given
+		LocalDateTime now = LocalDateTime.now().withNano(0);
+		cartSyncRepository.overwrite(USER_ID, 5, List.of(item(productId, 1, now), item(otherProductId, 2, now)), now);
+
+		// when
+		boolean older = cartSyncRepository.overwrite(USER_ID, 4, List.of(), now);
+		boolean same = cartSyncRepository.overwrite(USER_ID, 5, List.of(item(productId, 9, now)), now);
+
+		// then
+		StoredCart stored = cartSyncRepository.findCart(USER_ID);
+		assertThat(older).isFalse();
+		assertThat(same).isFalse();
+		assertThat(stored.version()).isEqualTo(5);
+		assertThat(stored.items()).extracting(CartItem::productId, CartItem::count)
+			.containsExactlyInAnyOrder(tuple(productId, 1), tuple(otherProductId, 2));
+	}
+
+	@Test
+	@DisplayName("장바구니가 없으면 버전 0 의 빈 장바구니로 적재한다")
+	void findCart_missing() {
+		StoredCart stored = cartSyncRepository.findCart(USER_ID);
+
+		assertThat(stored.version()).isZero();
+		assertThat(stored.items()).isEmpty();
+	}
+
+	private CartItem item(Long productId, int count, LocalDateTime at) {
+		return new CartItem(productId, count, at, at);
+	}
+}
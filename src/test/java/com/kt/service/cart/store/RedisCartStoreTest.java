@@ -0,0 +1,175 @@
+package com.kt.service.cart.store;
+
+import static com.kt.service.cart.store.CartRedisKeys.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.kt.common.AbstractRedisContainerTest;
+import com.kt.common.api.CustomException;
+import com.kt.common.api.ErrorCode;
+import com.kt.config.CartProperties;
+import com.kt.domain.cart.CartItem;
+import com.kt.domain.orderproduct.OrderProduct;
+import com.kt.domain.pet.PetType;
+import com.kt.domain.product.Product;
+import com.kt.repository.cart.CartSyncRepository;
+import com.kt.repository.cart.CartSyncRepository.StoredCart;
+import com.kt.repository.product.ProductRepository;
+
+@ExtendWith(MockitoExtension.class)
+class RedisCartStoreTest extends AbstractRedisContainerTest {
+
+	private static final Long USER_ID = 1L;
+	private static final Long PRODUCT_ID = 10L;
+	private static final Long OTHER_PRODUCT_ID = 20L;
+	private static final CartStore.StockLimit NO_LIMIT = productId -> 100;
+
+	@Mock
+	private CartSyncRepository cartSyncRepository;
+	@Mock
+	private ProductRepository productRepository;
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private RedisCartStore cartStore;
+	private RedisCartSynchronizer synchronizer;
+
+	@BeforeEach
+	void setUp() {
+		// flush 배치 크기 2 - 세 명이면 배치 두 번
+		CartProperties properties = new CartProperties("redis", Duration.ofDays(1), 2);
+		cartStore = new RedisCartStore(redisTemplate, cartSyncRepository, productRepository, properties);
+		synchronizer = new RedisCartSynchronizer(cartStore, cartSyncRepository, properties, transactionManager);
+
+		lenient().when(productRepository.findById(anyLong()))
+			.thenReturn(Optional.of(Product.create("상품", "설명", 1000, PetType.DOG)));
+		lenient().when(cartSyncRepository.findCart(anyLong())).thenReturn(new StoredCart(0, List.of()));
+	}
+
+	@Test
+	@DisplayName("Redis 에 없는 장바구니는 DB 버전과 함께 한 번만 적재한 뒤 이어서 담는다")
+	void add_coldLoad() {
+		// given
+		LocalDateTime createdAt = LocalDateTime.now().minusDays(1).withNano(0);
+		given(cartSyncRepository.findCart(USER_ID))
+			.willReturn(new StoredCart(3, List.of(new CartItem(PRODUCT_ID, 2, createdAt, createdAt))));
+
+		// when
+		int count = cartStore.add(USER_ID, PRODUCT_ID, 3, NO_LIMIT).count();
+		cartStore.add(USER_ID, OTHER_PRODUCT_ID, 1, NO_LIMIT);
+
+		// then
+		assertThat(count).isEqualTo(5);
+		assertThat(redisTemplate.opsForHash().get(cart(USER_ID), FIELD_VERSION)).isEqualTo("5");
+		assertThat(redisTemplate.opsForZSet().score(DIRTY_USERS, USER_ID.toString())).isNotNull();
+		then(cartSyncRepository).should(times(1)).findCart(USER_ID);
+	}
+
+	@Test
+	@DisplayName("동시에 담아도 스크립트 안에서 한도를 비교해 최대 수량을 넘지 않는다")
+	void add_overLimit() {
+		// given
+		CartStore.StockLimit limit = productId -> 3;
+		cartStore.add(USER_ID, PRODUCT_ID, 2, limit);
+
+		// when & then
+		assertThatThrownBy(() -> cartStore.add(USER_ID, PRODUCT_ID, 2, limit))
+			.isInstanceOf(CustomException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.PRODUCT_STOCK_NOT_ENOUGH);
+		assertThat(countOf(USER_ID, PRODUCT_ID)).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("주문한 상품은 주문 수량과 같을 때만 빼고 그 뒤에 수량을 바꾼 상품은 남긴다")
+	void clearOrdered_keepsChangedQuantity() {
+		// given
+		cartStore.add(USER_ID, PRODUCT_ID, 2, NO_LIMIT);
+		cartStore.add(USER_ID, OTHER_PRODUCT_ID, 1, NO_LIMIT);
+		cartStore.updateCount(USER_ID, OTHER_PRODUCT_ID, 3, NO_LIMIT);
+
+		// when (트랜잭션 밖이라 바로 실행)
+		cartStore.clearOrdered(USER_ID, List.of(
+			OrderProduct.create(PRODUCT_ID, 1000, 2, null),
+			OrderProduct.create(OTHER_PRODUCT_ID, 1000, 1, null)
+		));
+
+		// then
+		assertThat(redisTemplate.opsForHash().hasKey(cart(USER_ID), PRODUCT_ID.toString())).isFalse();
+		assertThat(countOf(USER_ID, OTHER_PRODUCT_ID)).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("dirty 사용자를 배치로 나눠 반영하고 반영이 끝난 사용자만 dirty 집합에서 뺀다")
+	void flush_batches() {
+		// given
+		for (long userId = 1; userId <= 3; userId++) {
+			cartStore.add(userId, PRODUCT_ID, 1, NO_LIMIT);
+		}
+		given(cartSyncRepository.overwrite(anyLong(), anyLong(), anyList(), any())).willReturn(true);
+
+		// when
+		synchronizer.flush();
+
+		// then
+		then(cartSyncRepository).should().overwrite(eq(1L), eq(1L), anyList(), any());
+		then(cartSyncRepository).should().overwrite(eq(2L), eq(1L), anyList(), any());
+		then(cartSyncRepository).should().overwrite(eq(3L), eq(1L), anyList(), any());
+		then(transactionManager).should(times(2)).commit(any());
+		assertThat(redisTemplate.opsForZSet().size(DIRTY_USERS)).isZero();
+	}
+
+	@Test
+	@DisplayName("읽은 뒤 다시 바뀐 장바구니는 dirty 에서 빠지지 않고 다음 반영에서 새 버전으로 덮어쓴다")
+	void flush_keepsChangedDuringFlush() {
+		// given: 버전 1 을 반영하는 도중에 한 번 더 담는다
+		cartStore.add(USER_ID, PRODUCT_ID, 1, NO_LIMIT);
+		given(cartSyncRepository.overwrite(eq(USER_ID), anyLong(), anyList(), any())).willAnswer(invocation -> {
+			if (invocation.<Long>getArgument(1) == 1L) {
+				cartStore.add(USER_ID, PRODUCT_ID, 1, NO_LIMIT);
+			}
+			return true;
+		});
+
+		// when
+		synchronizer.flush();
+		synchronizer.flush();
+
+		// then
+		then(cartSyncRepository).should().overwrite(eq(USER_ID), eq(2L), anyList(), any());
+		assertThat(redisTemplate.opsForZSet().size(DIRTY_USERS)).isZero();
+	}
+
+	@Test
+	@DisplayName("DB 반영이 실패하면 dirty 집합에 남긴다")
+	void flush_failureKeepsDirty() {
+		// given
+		cartStore.add(USER_ID, PRODUCT_ID, 1, NO_LIMIT);
+		given(cartSyncRepository.overwrite(anyLong(), anyLong(), anyList(), any()))
+			.willThrow(new IllegalStateException("db down"));
+
+		// when
+		synchronizer.flush();
+
+		// then
+		assertThat(redisTemplate.opsForZSet().score(DIRTY_USERS, USER_ID.toString())).isNotNull();
+	}
+
+	private int countOf(Long userId, Long productId) {
+		Object value = redisTemplate.opsForHash().get(cart(userId), productId.toString());
+		return Integer.parseInt(value.toString().split(":")[0]);
+	}
+}
@@ -0,0 +1,108 @@
+package com.kt.service.dedupe;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.kt.config.EventDedupeProperties;
+import com.kt.domain.dedupe.DedupeChannel;
+import com.kt.repository.dedupe.ProcessedEventRepository;
+
+@ExtendWith(MockitoExtension.class)
+class EventDeduplicatorTest {
+
+	private static final DedupeChannel CHANNEL = DedupeChannel.WMS_INBOUND;
+
+	@Mock
+	private ProcessedEventRepository processedEventRepository;
+
+	@Mock
+	private ProcessedEventFilter processedEventFilter;
+
+	private EventDeduplicator eventDeduplicator;
+
+	@BeforeEach
+	void setUp() {
+		eventDeduplicator = new EventDeduplicator(
+			processedEventRepository,
+			processedEventFilter,
+			new EventDedupeProperties("local", 14, 1000, 0.01, 100, 5000)
+		);
+	}
+
+	@Test
+	@DisplayName("성공: 필터가 처음 본다고 답하면 조회 없이 기록만 한다")
+	void tryAcquire_definitelyNew() {
+		// given
+		given(processedEventFilter.mightContain(CHANNEL, "evt-1")).willReturn(false);
+		given(processedEventRepository.insertIgnore(eq(CHANNEL), eq(List.of("evt-1")), any())).willReturn(1);
+
+		// when
+		boolean acquired = eventDeduplicator.tryAcquire(CHANNEL, "evt-1");
+
+		// then
+		assertThat(acquired).isTrue();
+		then(processedEventRepository).should(never()).findExistingEventIds(any(), argThat(ids -> !ids.isEmpty()));
+		then(processedEventFilter).should().put(CHANNEL, "evt-1");
+	}
+
+	@Test
+	@DisplayName("성공: 기록이 확인된 이벤트의 재시도는 DB 에 가지 않는다")
+	void tryAcquire_retryServedFromRecent() {
+		// given
+		given(processedEventFilter.mightContain(CHANNEL, "evt-1")).willReturn(false);
+		given(processedEventRepository.insertIgnore(eq(CHANNEL), eq(List.of("evt-1")), any())).willReturn(1);
+		eventDeduplicator.tryAcquire(CHANNEL, "evt-1");
+
+		// when
+		boolean first = eventDeduplicator.tryAcquire(CHANNEL, "evt-1");
+		boolean second = eventDeduplicator.tryAcquire(CHANNEL, "evt-1");
+
+		// then
+		assertThat(first).isFalse();
+		assertThat(second).isFalse();
+		then(processedEventRepository).should(times(1)).insertIgnore(any(), anyList(), any());
+	}
+
+	@Test
+	@DisplayName("성공: 필터가 있을 수도 있다고 답하면 DB 유니크 키로 확인한다")
+	void findProcessed_uncertainGoesToDb() {
+		// given
+		given(processedEventFilter.mightContain(CHANNEL, "evt-1")).willReturn(true);
+		given(processedEventFilter.mightContain(CHANNEL, "evt-2")).willReturn(true);
+		given(processedEventFilter.mightContain(CHANNEL, "evt-3")).willReturn(false);
+		given(processedEventRepository.findExistingEventIds(CHANNEL, List.of("evt-1", "evt-2")))
+			.willReturn(Set.of("evt-1"));
+
+		// when
+		Set<String> processed = eventDeduplicator.findProcessed(CHANNEL, List.of("evt-1", "evt-2", "evt-3"));
+
+		// then
+		assertThat(processed).containsExactly("evt-1");
+	}
+
+	@Test
+	@DisplayName("실패: 다른 요청이 먼저 기록한 이벤트가 섞이면 false 를 반환한다")
+	void recordAll_conflict() {
+		// given
+		given(processedEventRepository.insertIgnore(eq(CHANNEL), eq(List.of("evt-1", "evt-2")), any())).willReturn(1);
+
+		// when
+		boolean recorded = eventDeduplicator.recordAll(CHANNEL, List.of("evt-1", "evt-2"));
+
+		// then
+		assertThat(recorded).isFalse();
+		then(processedEventFilter).should().put(CHANNEL, "evt-1");
+		then(processedEventFilter).should().put(CHANNEL, "evt-2");
+	}
+}
@@ -0,0 +1,66 @@
+package com.kt.service.dedupe;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.kt.config.EventDedupeProperties;
+import com.kt.domain.dedupe.DedupeChannel;
+import com.kt.repository.dedupe.ProcessedEventRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ProcessedEventPartitionBackfillTest {
+
+	@Mock
+	private ProcessedEventRepository processedEventRepository;
+
+	private ProcessedEventPartitionBackfill backfill;
+
+	@BeforeEach
+	void setUp() {
+		backfill = new ProcessedEventPartitionBackfill(
+			processedEventRepository,
+			new EventDedupeProperties("local", 14, 1000, 0.01, 100, 2)
+		);
+	}
+
+	@Test
+	@DisplayName("partition_date 가 비어 있을 수 있는 테이블은 남은 행이 없을 때까지 채운 뒤 NOT NULL 로 바꾼다")
+	void migrate_backfillsThenRequires() {
+		// given
+		given(processedEventRepository.isPartitionDateNullable(any())).willReturn(false);
+		given(processedEventRepository.isPartitionDateNullable(DedupeChannel.WMS_INBOUND)).willReturn(true);
+		given(processedEventRepository.backfillPartitionDates(DedupeChannel.WMS_INBOUND, 2)).willReturn(2, 2, 1);
+
+		// when
+		backfill.migrate();
+
+		// then
+		then(processedEventRepository).should(times(3)).backfillPartitionDates(DedupeChannel.WMS_INBOUND, 2);
+		then(processedEventRepository).should().requirePartitionDate(DedupeChannel.WMS_INBOUND);
+		then(processedEventRepository).should(never()).requirePartitionDate(DedupeChannel.WMS_OUTBOUND);
+		then(processedEventRepository).should(never()).backfillPartitionDates(eq(DedupeChannel.DELIVERY_WEBHOOK), anyInt());
+	}
+
+	@Test
+	@DisplayName("채우다 실패하면 NOT NULL 로 바꾸지 않는다")
+	void migrate_failureKeepsNullable() {
+		// given
+		given(processedEventRepository.isPartitionDateNullable(any())).willReturn(false);
+		given(processedEventRepository.isPartitionDateNullable(DedupeChannel.WMS_INBOUND)).willReturn(true);
+		given(processedEventRepository.backfillPartitionDates(DedupeChannel.WMS_INBOUND, 2))
+			.willThrow(new IllegalStateException("lock wait timeout"));
+
+		// when
+		backfill.migrate();
+
+		// then
+		then(processedEventRepository).should(never()).requirePartitionDate(any());
+	}
+}
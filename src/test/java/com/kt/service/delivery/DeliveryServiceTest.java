@@ -23,6 +23,7 @@ import com.kt.domain.delivery.DeliveryAddress;
 import com.kt.domain.delivery.DeliveryStatus;
 import com.kt.domain.delivery.DeliveryStatusHistory;
 import com.kt.domain.delivery.event.DeliveryStatusEvent;
+import com.kt.domain.order.event.OrderChangedEvent;
 import com.kt.dto.delivery.DeliveryRequest;
 import com.kt.repository.delivery.CourierRepository;
 import com.kt.repository.delivery.DeliveryAddressRepository;
@@ -92,6 +93,7 @@ class DeliveryServiceTest {
 
 			// ✅ 핵심 검증: 생성 시점에도 이력이 저장되었는가?
 			verify(deliveryStatusHistoryRepository, times(1)).save(any(DeliveryStatusHistory.class));
+			verify(eventPublisher, times(1)).publishEvent(OrderChangedEvent.of(1L));
 		}
 	}
 
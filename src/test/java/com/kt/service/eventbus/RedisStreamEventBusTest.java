@@ -0,0 +1,184 @@
+package com.kt.service.eventbus;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+
+import com.kt.common.AbstractRedisContainerTest;
+import com.kt.config.EventBusProperties;
+import com.kt.domain.outbox.OutboxEventType;
+import com.kt.service.outbox.OutboxEventDispatcher;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class RedisStreamEventBusTest extends AbstractRedisContainerTest {
+
+	private static final OutboxEventType TYPE = OutboxEventType.ORDER_CHANGED;
+	private static final String GROUP = "test-workers";
+	private static final String STREAM = EventStreams.key(TYPE, 0);
+	private static final String PAYLOAD = "{\"orderId\":1}";
+	private static final Duration WAIT = Duration.ofSeconds(10);
+
+	@Mock
+	private OutboxEventDispatcher outboxEventDispatcher;
+
+	private RedisStreamEventConsumer consumer;
+
+	@AfterEach
+	void stopConsumer() throws InterruptedException {
+		if (consumer != null) {
+			consumer.stop();
+		}
+	}
+
+	@Test
+	@DisplayName("스트림 종류는 파티션 스트림에 쌓고 소비자 그룹으로 읽어 처리한 뒤 ACK 한다")
+	void publishAndConsume() {
+		// given
+		EventBusProperties properties = properties(Duration.ofMinutes(1), 10, 1000);
+		RedisStreamEventBus eventBus = new RedisStreamEventBus(redisTemplate, outboxEventDispatcher, properties);
+
+		// when
+		eventBus.publish(TYPE, "ORD-1", PAYLOAD);
+		startConsumer(properties);
+
+		// then
+		then(outboxEventDispatcher).should(timeout(WAIT.toMillis())).dispatch(TYPE, PAYLOAD);
+		awaitUntil(() -> pendingCount() == 0);
+		assertThat(redisTemplate.opsForStream().size(STREAM)).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("스트림 종류가 아니면 스트림에 쌓지 않고 릴레이한 노드에서 바로 처리한다")
+	void publish_notStreamType() {
+		// given
+		EventBusProperties properties = properties(Duration.ofMinutes(1), 10, 1000);
+		RedisStreamEventBus eventBus = new RedisStreamEventBus(redisTemplate, outboxEventDispatcher, properties);
+
+		// when
+		eventBus.publish(OutboxEventType.PAYMENT_CONFIRMED, "ORD-1", PAYLOAD);
+
+		// then
+		then(outboxEventDispatcher).should().dispatch(OutboxEventType.PAYMENT_CONFIRMED, PAYLOAD);
+		assertThat(redisTemplate.hasKey(EventStreams.key(OutboxEventType.PAYMENT_CONFIRMED, 0))).isFalse();
+	}
+
+	@Test
+	@DisplayName("다른 소비자가 가져가고 ACK 하지 않은 메시지는 reclaimIdle 뒤에 XCLAIM 해 다시 처리한다")
+	void reclaimIdleMessage() {
+		// given: 죽은 노드가 읽고 처리하지 못한 메시지
+		EventBusProperties properties = properties(Duration.ofMillis(200), 10, 1000);
+		new RedisStreamEventBus(redisTemplate, outboxEventDispatcher, properties).publish(TYPE, "ORD-1", PAYLOAD);
+		redisTemplate.opsForStream().createGroup(STREAM, ReadOffset.from("0-0"), GROUP);
+		List<MapRecord<String, Object, Object>> taken = redisTemplate.opsForStream().read(
+			Consumer.from(GROUP, "dead-node"),
+			StreamReadOptions.empty().count(10),
+			StreamOffset.create(STREAM, ReadOffset.lastConsumed())
+		);
+		assertThat(taken).hasSize(1);
+
+		// when
+		startConsumer(properties);
+
+		// then
+		then(outboxEventDispatcher).should(timeout(WAIT.toMillis())).dispatch(TYPE, PAYLOAD);
+		awaitUntil(() -> pendingCount() == 0);
+	}
+
+	@Test
+	@DisplayName("maxDeliveries 번 전달해도 처리하지 못한 메시지는 dead letter 스트림으로 옮기고 ACK 한다")
+	void deadLetterAfterMaxDeliveries() {
+		// given
+		EventBusProperties properties = properties(Duration.ofMillis(200), 2, 1000);
+		willThrow(new IllegalStateException("handler down")).given(outboxEventDispatcher).dispatch(any(), any());
+		new RedisStreamEventBus(redisTemplate, outboxEventDispatcher, properties).publish(TYPE, "ORD-1", PAYLOAD);
+
+		// when
+		startConsumer(properties);
+
+		// then
+		awaitUntil(() -> redisTemplate.opsForStream().size(EventStreams.DEAD_LETTER_KEY) == 1);
+		awaitUntil(() -> pendingCount() == 0);
+		MapRecord<String, Object, Object> deadLetter = redisTemplate.opsForStream()
+			.range(EventStreams.DEAD_LETTER_KEY, Range.unbounded())
+			.getFirst();
+		assertThat(deadLetter.getValue())
+			.containsEntry("stream", STREAM)
+			.containsEntry(EventStreams.FIELD_PAYLOAD, PAYLOAD)
+			.containsEntry("deliveries", "2");
+	}
+
+	@Test
+	@DisplayName("reclaim 주기마다 스트림을 maxLength 근처로 잘라 낸다")
+	void trim() {
+		// given: 근사 trim 은 노드(기본 100개) 단위로 지우므로 maxLength 를 넘게 여러 노드를 채운다
+		EventBusProperties properties = properties(Duration.ofMinutes(1), 10, 10);
+		RedisStreamEventBus eventBus = new RedisStreamEventBus(redisTemplate, outboxEventDispatcher, properties);
+		for (int i = 0; i < 300; i++) {
+			eventBus.publish(TYPE, "ORD-1", PAYLOAD);
+		}
+
+		// when
+		startConsumer(properties);
+
+		// then
+		awaitUntil(() -> redisTemplate.opsForStream().size(STREAM) <= 100);
+	}
+
+	private void startConsumer(EventBusProperties properties) {
+		consumer = new RedisStreamEventConsumer(redisTemplate, outboxEventDispatcher, properties,
+			new SimpleMeterRegistry());
+		consumer.start();
+	}
+
+	private long pendingCount() {
+		return redisTemplate.opsForStream().pending(STREAM, GROUP).getTotalPendingMessages();
+	}
+
+	private EventBusProperties properties(Duration reclaimIdle, int maxDeliveries, long maxLength) {
+		return new EventBusProperties(
+			Set.of(TYPE),
+			1,
+			GROUP,
+			true,
+			10,
+			Duration.ofMillis(20),
+			Duration.ofMillis(100),
+			reclaimIdle,
+			maxDeliveries,
+			maxLength
+		);
+	}
+
+	private static void awaitUntil(BooleanSupplier condition) {
+		long deadline = System.nanoTime() + WAIT.toNanos();
+		while (!condition.getAsBoolean()) {
+			assertThat(System.nanoTime()).as("조건을 기다리다 시간 초과").isLessThan(deadline);
+			try {
+				Thread.sleep(20);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+}
@@ -0,0 +1,146 @@
+package com.kt.service.inventory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kt.config.TestRedisConfig;
+import com.kt.domain.inventory.Inventory;
+import com.kt.domain.inventory.StockLine;
+import com.kt.domain.pet.PetType;
+import com.kt.domain.product.Product;
+import com.kt.repository.inventory.InventoryRepository;
+import com.kt.repository.product.ProductRepository;
+import com.kt.service.inventory.reservation.StockReservationEngine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 핫 상품 버킷 수(N)에 따른 동시 예약 처리량 측정
+ * - 기본 빌드에서는 건너뛰고 BENCHMARK=true ./gradlew test --tests '*InventoryBucketBenchmarkTest' 로 실행
+ * - 실제 수치는 MySQL(spring.datasource.* 재정의)에서 확인하고, 여기서는 버킷 합계 정합성과
+ *   확정이 상품 행을 건드리지 않고 버킷에 쌓였다가 한 번에 옮겨지는지를 함께 검증한다
+ */
+@Slf4j
+// 주기 모으기가 끼어들지 않게 두고 직접 호출한다
+@SpringBootTest(properties = "app.inventory.reservation.bucket-fold-interval-ms=3600000")
+@ActiveProfiles("test")
+@Import(TestRedisConfig.class)
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class InventoryBucketBenchmarkTest {
+
+	private static final int THREADS = 16;
+	private static final int RESERVES_PER_THREAD = 200;
+	private static final int[] BUCKET_COUNTS = {1, 2, 4, 8, 16};
+	private static final int COMMITS = 10;
+
+	@Autowired
+	private StockReservationEngine stockReservationEngine;
+	@Autowired
+	private InventoryService inventoryService;
+	@Autowired
+	private ProductRepository productRepository;
+	@Autowired
+	private InventoryRepository inventoryRepository;
+	@Autowired
+	private InventoryBucketService inventoryBucketService;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Test
+	@DisplayName("버킷 수별 동시 예약 처리량")
+	void 버킷_수별_예약_처리량() throws Exception {
+		for (int bucketCount : BUCKET_COUNTS) {
+			Long productId = newProductWithStock(THREADS * RESERVES_PER_THREAD);
+			if (bucketCount > 1) {
+				inventoryService.enableHotMode(productId, bucketCount);
+			}
+
+			long startedAt = System.nanoTime();
+			int succeeded = reserveConcurrently(productId);
+			double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+			log.info("[BENCHMARK] buckets={} reserves={} elapsed={}s throughput={} ops/s",
+				bucketCount, succeeded, String.format("%.3f", seconds), String.format("%.0f", succeeded / seconds));
+
+			Inventory inventory = inventoryService.getInventoryOrThrow(productId);
+			assertThat(inventory.getReserved()).isEqualTo(succeeded);
+			assertThat(inventory.getAvailable()).isEqualTo((long)THREADS * RESERVES_PER_THREAD - succeeded);
+
+			if (bucketCount > 1) {
+				assertCommitFoldsOnce(productId);
+			}
+		}
+	}
+
+	// 확정은 버킷에만 쌓이고(상품 행 version 그대로), 모으기 한 번에 행으로 옮겨진다
+	private void assertCommitFoldsOnce(Long productId) {
+		long versionBefore = inventoryRepository.findByProductId(productId).orElseThrow().getVersion();
+		List<StockLine> lines = IntStream.range(0, COMMITS).mapToObj(i -> StockLine.of(productId, 1)).toList();
+		transactionTemplate.executeWithoutResult(status -> stockReservationEngine.commitAll(lines));
+		assertThat(inventoryRepository.findByProductId(productId).orElseThrow().getVersion()).isEqualTo(versionBefore);
+
+		inventoryBucketService.foldOutbound(productId);
+
+		assertThat(inventoryRepository.findByProductId(productId).orElseThrow().getOutboundProcessing())
+			.isEqualTo(COMMITS);
+		assertThat(inventoryService.getInventoryOrThrow(productId).getOutboundProcessing()).isEqualTo(COMMITS);
+	}
+
+	private int reserveConcurrently(Long productId) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Integer>> results = new ArrayList<>();
+
+		for (int t = 0; t < THREADS; t++) {
+			results.add(executor.submit(() -> {
+				start.await();
+				int succeeded = 0;
+				for (int i = 0; i < RESERVES_PER_THREAD; i++) {
+					try {
+						stockReservationEngine.reserve(productId, 1);
+						succeeded++;
+					} catch (RuntimeException ignored) {
+						// 잠금 대기 시간 초과 등은 실패 건수로만 반영
+					}
+				}
+				return succeeded;
+			}));
+		}
+
+		start.countDown();
+		int total = 0;
+		for (Future<Integer> result : results) {
+			total += result.get();
+		}
+		executor.shutdown();
+		executor.awaitTermination(1, TimeUnit.MINUTES);
+		return total;
+	}
+
+	private Long newProductWithStock(long quantity) {
+		return transactionTemplate.execute(status -> {
+			Product product = productRepository.save(Product.create("벤치마크 상품", "설명", 10_000, PetType.DOG));
+			Inventory inventory = Inventory.initialize(product);
+			inventory.applyWmsInbound(quantity);
+			inventoryRepository.save(inventory);
+			return product.getId();
+		});
+	}
+}
@@ -0,0 +1,118 @@
+package com.kt.service.inventory.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.kt.config.InventorySnapshotCacheProperties;
+import com.kt.domain.inventory.Inventory;
+import com.kt.domain.inventory.InventorySnapshot;
+import com.kt.domain.pet.PetType;
+import com.kt.domain.product.Product;
+import com.kt.repository.inventory.InventoryRepository;
+import com.kt.service.inventory.InventoryBucketService;
+
+@ExtendWith(MockitoExtension.class)
+class InventorySnapshotCacheTest {
+
+	@Mock
+	private InventoryRepository inventoryRepository;
+
+	@Mock
+	private InventoryBucketService inventoryBucketService;
+
+	@Mock
+	private InventorySnapshotStore inventorySnapshotStore;
+
+	private InventorySnapshotCache inventorySnapshotCache;
+
+	@BeforeEach
+	void setUp() {
+		inventorySnapshotCache = new InventorySnapshotCache(
+			inventoryRepository,
+			inventoryBucketService,
+			inventorySnapshotStore,
+			new InventorySnapshotCacheProperties(Duration.ofMinutes(1), Duration.ofMinutes(1), 100)
+		);
+		given(inventoryBucketService.aggregateAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+	}
+
+	@Test
+	@DisplayName("성공: L1, L2 에 없는 상품만 DB 에서 한 번에 읽고 두 번째 조회는 L1 에서 답한다")
+	void getAll_loadsMissesOnce() {
+		// given
+		given(inventorySnapshotStore.getAll(List.of(10L, 20L)))
+			.willReturn(Map.of(20L, new InventorySnapshot(20L, 5, 0, 0, 5)));
+		given(inventoryRepository.findAllByProductIdIn(List.of(10L))).willReturn(List.of(inventory(10L, 7)));
+
+		// when
+		Map<Long, InventorySnapshot> first = inventorySnapshotCache.getAll(List.of(10L, 20L));
+		Map<Long, InventorySnapshot> second = inventorySnapshotCache.getAll(List.of(10L, 20L));
+
+		// then
+		assertThat(first).isEqualTo(second);
+		assertThat(first.get(10L).physicalStockTotal()).isEqualTo(7);
+		assertThat(first.get(20L).available()).isEqualTo(5);
+		then(inventoryRepository).should(times(1)).findAllByProductIdIn(anyCollection());
+		then(inventorySnapshotStore).should(times(1)).putAll(List.of(new InventorySnapshot(10L, 7, 0, 0, 7)));
+	}
+
+	@Test
+	@DisplayName("성공: 트랜잭션 밖에서 무효화하면 L1 을 지우고 다른 노드에 알린다")
+	void evictAfterCommit_outsideTransaction() {
+		// given
+		given(inventoryRepository.findAllByProductIdIn(List.of(10L)))
+			.willReturn(List.of(inventory(10L, 7)))
+			.willReturn(List.of(inventory(10L, 3)));
+		inventorySnapshotCache.get(10L);
+
+		// when
+		inventorySnapshotCache.evictAfterCommit(10L);
+		InventorySnapshot reloaded = inventorySnapshotCache.get(10L).orElseThrow();
+
+		// then
+		assertThat(reloaded.physicalStockTotal()).isEqualTo(3);
+		then(inventorySnapshotStore).should().evictAndBroadcast(List.of(10L));
+	}
+
+	@Test
+	@DisplayName("성공: 다른 노드의 무효화 메시지를 받으면 L1 에서 지운다")
+	void subscribe_evictsLocal() {
+		// given
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<Consumer<List<Long>>> listener = ArgumentCaptor.forClass(Consumer.class);
+		then(inventorySnapshotStore).should().subscribe(listener.capture());
+		given(inventoryRepository.findAllByProductIdIn(List.of(10L)))
+			.willReturn(List.of(inventory(10L, 7)))
+			.willReturn(List.of(inventory(10L, 1)));
+		inventorySnapshotCache.get(10L);
+
+		// when
+		listener.getValue().accept(List.of(10L));
+
+		// then
+		assertThat(inventorySnapshotCache.get(10L).orElseThrow().physicalStockTotal()).isEqualTo(1);
+	}
+
+	private Inventory inventory(Long productId, long physicalStock) {
+		Product product = Product.create("상품" + productId, "설명", 1_000, PetType.DOG);
+		ReflectionTestUtils.setField(product, "id", productId);
+		Inventory inventory = Inventory.initialize(product);
+		inventory.applyWmsInbound(physicalStock);
+		return inventory;
+	}
+}
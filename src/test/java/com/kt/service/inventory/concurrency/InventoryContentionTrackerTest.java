@@ -0,0 +1,57 @@
+package com.kt.service.inventory.concurrency;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.kt.config.InventoryConcurrencyProperties;
+
+class InventoryContentionTrackerTest {
+
+	private InventoryContentionTracker tracker;
+
+	@BeforeEach
+	void setUp() {
+		tracker = new InventoryContentionTracker(new InventoryConcurrencyProperties(
+			3,
+			Duration.ofMillis(10),
+			Duration.ofMillis(200),
+			0.2,
+			10,
+			Duration.ofMinutes(1),
+			Duration.ofMinutes(5),
+			500
+		));
+	}
+
+	@Test
+	@DisplayName("성공: 충돌 비율이 임계치 이상이면 해당 상품만 행 잠금으로 전환한다")
+	void record_switchesToPessimistic() {
+		// when
+		for (int i = 0; i < 10; i++) {
+			tracker.record(1L, i % 3 == 0);
+			tracker.record(2L, false);
+		}
+
+		// then
+		assertThat(tracker.isContended(1L)).isTrue();
+		assertThat(tracker.isContended(2L)).isFalse();
+		assertThat(tracker.contendedCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("성공: 표본이 minSamples 보다 적으면 모두 충돌해도 전환하지 않는다")
+	void record_requiresMinSamples() {
+		// when
+		for (int i = 0; i < 9; i++) {
+			tracker.record(1L, true);
+		}
+
+		// then
+		assertThat(tracker.isContended(1L)).isFalse();
+	}
+}
@@ -0,0 +1,157 @@
+package com.kt.service.inventory.concurrency;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.kt.common.api.ErrorCode;
+import com.kt.config.InventoryConcurrencyProperties;
+import com.kt.domain.inventory.Inventory;
+import com.kt.domain.pet.PetType;
+import com.kt.domain.product.Product;
+import com.kt.repository.inventory.InventoryRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryWriteExecutorTest {
+
+	private static final Long PRODUCT_ID = 1L;
+	private static final InventoryConcurrencyProperties PROPERTIES = new InventoryConcurrencyProperties(
+		3,
+		Duration.ofMillis(1),
+		Duration.ofMillis(2),
+		0.2,
+		100,
+		Duration.ofMinutes(1),
+		Duration.ofMinutes(5),
+		500
+	);
+
+	@Mock
+	private InventoryRepository inventoryRepository;
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private final Inventory inventory = Inventory.initialize(Product.create("상품", "설명", 1000, PetType.DOG));
+	private SimpleMeterRegistry meterRegistry;
+	private InventoryContentionTracker contentionTracker;
+	private InventoryWriteExecutor executor;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		contentionTracker = new InventoryContentionTracker(PROPERTIES);
+		executor = new InventoryWriteExecutor(inventoryRepository, contentionTracker, PROPERTIES, meterRegistry,
+			transactionManager);
+	}
+
+	@AfterEach
+	void tearDown() {
+		TransactionSynchronizationManager.setActualTransactionActive(false);
+	}
+
+	@Test
+	@DisplayName("낙관적 쓰기가 충돌하면 트랜잭션을 다시 시작해 재시도하고, 성공하면 행 잠금을 쓰지 않는다")
+	void execute_retriesThenSucceeds() {
+		// given
+		given(inventoryRepository.findByProductId(PRODUCT_ID)).willReturn(Optional.of(inventory));
+		AtomicInteger calls = new AtomicInteger();
+
+		// when
+		executor.execute(PRODUCT_ID, ErrorCode.INVENTORY_NOT_FOUND, conflictingFor(1, calls));
+
+		// then
+		assertThat(calls).hasValue(2);
+		then(inventoryRepository).should(times(2)).findByProductId(PRODUCT_ID);
+		then(inventoryRepository).should(never()).findByProductIdForUpdate(any());
+		then(transactionManager).should(times(1)).commit(any());
+		assertThat(count("inventory.write.conflicts")).isEqualTo(1);
+		assertThat(count("inventory.write.retries")).isEqualTo(1);
+		assertThat(count("inventory.write.fallbacks")).isZero();
+	}
+
+	@Test
+	@DisplayName("maxAttempts 번 모두 충돌하면 행 잠금(findByProductIdForUpdate)으로 한 번 더 처리한다")
+	void execute_exhaustsThenLocks() {
+		// given
+		given(inventoryRepository.findByProductId(PRODUCT_ID)).willReturn(Optional.of(inventory));
+		given(inventoryRepository.findByProductIdForUpdate(PRODUCT_ID)).willReturn(Optional.of(inventory));
+		AtomicInteger calls = new AtomicInteger();
+
+		// when
+		executor.execute(PRODUCT_ID, ErrorCode.INVENTORY_NOT_FOUND, conflictingFor(PROPERTIES.maxAttempts(), calls));
+
+		// then
+		assertThat(calls).hasValue(PROPERTIES.maxAttempts() + 1);
+		then(inventoryRepository).should(times(PROPERTIES.maxAttempts())).findByProductId(PRODUCT_ID);
+		then(inventoryRepository).should().findByProductIdForUpdate(PRODUCT_ID);
+		assertThat(count("inventory.write.conflicts")).isEqualTo(PROPERTIES.maxAttempts());
+		assertThat(count("inventory.write.retries")).isEqualTo(PROPERTIES.maxAttempts() - 1);
+		assertThat(count("inventory.write.fallbacks")).isEqualTo(1);
+		assertThat(meterRegistry.get("inventory.write.lock.wait").timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("충돌이 잦은 상품은 낙관적 쓰기를 건너뛰고 바로 행 잠금으로 처리한다")
+	void execute_contendedProductLocksDirectly() {
+		// given
+		InventoryContentionTracker tracker = mock(InventoryContentionTracker.class);
+		given(tracker.isContended(PRODUCT_ID)).willReturn(true);
+		executor = new InventoryWriteExecutor(inventoryRepository, tracker, PROPERTIES, meterRegistry,
+			transactionManager);
+		given(inventoryRepository.findByProductIdForUpdate(PRODUCT_ID)).willReturn(Optional.of(inventory));
+
+		// when
+		executor.execute(PRODUCT_ID, ErrorCode.INVENTORY_NOT_FOUND, target -> {
+		});
+
+		// then
+		then(inventoryRepository).should(never()).findByProductId(any());
+		then(inventoryRepository).should().findByProductIdForUpdate(PRODUCT_ID);
+	}
+
+	@Test
+	@DisplayName("이미 시작된 트랜잭션에 참여하면 재시도하지 않고 충돌을 그대로 던진다")
+	void execute_insideTransactionRethrows() {
+		// given
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		given(inventoryRepository.findByProductId(PRODUCT_ID)).willReturn(Optional.of(inventory));
+		AtomicInteger calls = new AtomicInteger();
+
+		// when & then
+		assertThatThrownBy(() -> executor.execute(PRODUCT_ID, ErrorCode.INVENTORY_NOT_FOUND,
+			conflictingFor(1, calls)))
+			.isInstanceOf(ObjectOptimisticLockingFailureException.class);
+		assertThat(calls).hasValue(1);
+		then(inventoryRepository).should(never()).findByProductIdForUpdate(any());
+	}
+
+	// 처음 conflicts 번은 커밋 시 버전 충돌이 난 것처럼 던진다
+	private Consumer<Inventory> conflictingFor(int conflicts, AtomicInteger calls) {
+		return target -> {
+			if (calls.incrementAndGet() <= conflicts) {
+				throw new ObjectOptimisticLockingFailureException(Inventory.class, PRODUCT_ID);
+			}
+		};
+	}
+
+	private double count(String name) {
+		return meterRegistry.find(name).counters().stream().mapToDouble(counter -> counter.count()).sum();
+	}
+}
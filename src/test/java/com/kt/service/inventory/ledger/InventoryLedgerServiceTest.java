@@ -0,0 +1,144 @@
+package com.kt.service.inventory.ledger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.kt.config.InventoryLedgerProperties;
+import com.kt.domain.inventory.Inventory;
+import com.kt.domain.inventory.InventoryCounter;
+import com.kt.domain.inventory.ledger.MovementType;
+import com.kt.domain.inventory.ledger.StockMovement;
+import com.kt.domain.pet.PetType;
+import com.kt.domain.product.Product;
+import com.kt.repository.inventory.InventoryBucketRepository;
+import com.kt.repository.inventory.InventoryLedgerRepository;
+import com.kt.repository.inventory.InventoryRepository;
+import com.kt.service.inventory.ledger.InventoryLedgerService.ReconcilePage;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryLedgerServiceTest {
+
+	@Mock
+	private InventoryLedgerRepository inventoryLedgerRepository;
+
+	@Mock
+	private InventoryRepository inventoryRepository;
+
+	@Mock
+	private InventoryBucketRepository inventoryBucketRepository;
+
+	@Mock
+	private InventoryLedger inventoryLedger;
+
+	private InventoryLedgerService inventoryLedgerService;
+
+	@BeforeEach
+	void setUp() {
+		inventoryLedgerService = new InventoryLedgerService(
+			inventoryLedgerRepository,
+			inventoryRepository,
+			inventoryBucketRepository,
+			inventoryLedger,
+			new InventoryLedgerProperties(Duration.ofMinutes(1), 100, 2)
+		);
+	}
+
+	@Test
+	@DisplayName("성공: 이동 유형별 부호대로 카운터 변화량이 계산된다")
+	void stockMovement_deltas() {
+		// when
+		StockMovement commit = StockMovement.of(1L, MovementType.COMMIT, 3);
+		StockMovement confirmed = StockMovement.of(1L, MovementType.OUTBOUND_CONFIRMED, 3);
+
+		// then
+		assertThat(List.of(commit.physicalDelta(), commit.reservedDelta(), commit.outboundDelta()))
+			.containsExactly(0L, -3L, 3L);
+		assertThat(List.of(confirmed.physicalDelta(), confirmed.reservedDelta(), confirmed.outboundDelta()))
+			.containsExactly(-3L, 0L, -3L);
+	}
+
+	@Test
+	@DisplayName("성공: 테이블 카운터와 원장이 다른 상품만 차이로 반환하고 다음 페이지 위치를 알려준다")
+	void reconcile_returnsDrifts() {
+		// given
+		given(inventoryLedgerRepository.findStoredCountersAfter(0L, 2)).willReturn(List.of(
+			InventoryCounter.of(1L, 10, 2, 1),
+			InventoryCounter.of(2L, 5, 0, 0)
+		));
+		given(inventoryLedgerRepository.findLedgerCounters(List.of(1L, 2L))).willReturn(List.of(
+			InventoryCounter.of(1L, 10, 2, 1),
+			InventoryCounter.of(2L, 5, 1, 0)
+		));
+
+		// when
+		ReconcilePage page = inventoryLedgerService.reconcile(0L);
+
+		// then
+		assertThat(page.nextProductId()).isEqualTo(2L);
+		assertThat(page.drifts()).hasSize(1);
+		assertThat(page.drifts().getFirst().difference()).isEqualTo(InventoryCounter.of(2L, 0, -1, 0));
+	}
+
+	@Test
+	@DisplayName("성공: 스냅샷 이후 합칠 이동이 없으면 스냅샷을 갱신하지 않는다")
+	void foldSnapshots_nothingToFold() {
+		// given
+		given(inventoryLedgerRepository.lockCursor("snapshot")).willReturn(50L);
+		given(inventoryLedgerRepository.findLastIdBefore(any())).willReturn(50L);
+
+		// when
+		boolean more = inventoryLedgerService.foldSnapshots();
+
+		// then
+		assertThat(more).isFalse();
+		then(inventoryLedgerRepository).should(never()).foldIntoSnapshots(anyLong(), anyLong());
+	}
+
+	@Test
+	@DisplayName("성공: 기초 잔액보다 이동이 먼저 쌓인 상품은 현재 카운터에서 쌓인 이동을 뺀 값을 기초 잔액으로 남긴다")
+	void openBaselines_subtractsRecordedMovements() {
+		// given: 도입 전 재고 10 에 도입 뒤 예약 2 가 먼저 원장에 들어온 상품(1), 도입 뒤 생긴 상품(2), 이미 연 상품(3)
+		given(inventoryLedgerRepository.findProductIdsWithoutOpening(0L, 2)).willReturn(List.of(1L, 2L, 3L));
+		Inventory legacy = inventory(1L, 10);
+		legacy.applyOmsReserve(2);
+		given(inventoryRepository.findAllByProductIdInForUpdate(List.of(1L, 2L, 3L)))
+			.willReturn(List.of(legacy, inventory(2L, 5), inventory(3L, 4)));
+		given(inventoryBucketRepository.findAllForUpdate(anyLong())).willReturn(List.of());
+		given(inventoryLedgerRepository.findOpenedProductIds(anyCollection())).willReturn(List.of(3L));
+		given(inventoryLedgerRepository.findLedgerCounters(anyCollection())).willReturn(List.of(
+			InventoryCounter.of(1L, 0, 2, 0),
+			InventoryCounter.of(2L, 5, 0, 0)
+		));
+
+		// when
+		Long next = inventoryLedgerService.openBaselines(0L);
+
+		// then
+		assertThat(next).isEqualTo(3L);
+		then(inventoryLedger).should().append(argThat(openings -> openings.size() == 2
+			&& openings.containsAll(List.of(
+				StockMovement.opening(InventoryCounter.of(1L, 10, 0, 0)),
+				StockMovement.opening(InventoryCounter.of(2L, 0, 0, 0))
+			))));
+	}
+
+	private Inventory inventory(Long productId, long physicalStock) {
+		Product product = Product.create("상품" + productId, "설명", 1_000, PetType.DOG);
+		ReflectionTestUtils.setField(product, "id", productId);
+		Inventory inventory = Inventory.initialize(product);
+		inventory.applyWmsInbound(physicalStock);
+		return inventory;
+	}
+}
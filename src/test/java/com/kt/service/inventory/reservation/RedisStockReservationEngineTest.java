@@ -0,0 +1,289 @@
+package com.kt.service.inventory.reservation;
+
+import static com.kt.service.inventory.reservation.InventoryRedisKeys.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.kt.common.AbstractRedisContainerTest;
+import com.kt.common.api.CustomException;
+import com.kt.common.api.ErrorCode;
+import com.kt.common.api.InsufficientStockException;
+import com.kt.config.InventoryReservationProperties;
+import com.kt.domain.inventory.InventoryCounter;
+import com.kt.domain.inventory.StockLine;
+import com.kt.repository.inventory.InventoryBulkRepository;
+import com.kt.service.inventory.cache.InventorySnapshotCache;
+import com.kt.service.inventory.ledger.InventoryLedger;
+
+@ExtendWith(MockitoExtension.class)
+class RedisStockReservationEngineTest extends AbstractRedisContainerTest {
+
+	private static final Long PRODUCT_ID = 10L;
+	private static final Long OTHER_PRODUCT_ID = 20L;
+	private static final Long SHORT_PRODUCT_ID = 30L;
+
+	@Mock
+	private InventoryBulkRepository inventoryBulkRepository;
+	@Mock
+	private InventoryLedger inventoryLedger;
+	@Mock
+	private InventorySnapshotCache inventorySnapshotCache;
+
+	@Captor
+	private ArgumentCaptor<List<InventoryCounter>> written;
+
+	// inventories 테이블 대신 (productId → DB 카운터)
+	private final Map<Long, InventoryCounter> db = new ConcurrentHashMap<>();
+
+	private RedisStockReservationEngine engine;
+	private RedisStockSynchronizer synchronizer;
+
+	@BeforeEach
+	void setUp() {
+		// flush / reconcile 배치 크기 2 - 상품 세 개면 배치 두 번
+		InventoryReservationProperties properties = new InventoryReservationProperties("redis", 2, 2);
+		engine = new RedisStockReservationEngine(redisTemplate, inventoryBulkRepository, inventoryLedger);
+		synchronizer = new RedisStockSynchronizer(engine, inventoryBulkRepository, properties, inventorySnapshotCache);
+
+		db.put(PRODUCT_ID, InventoryCounter.of(PRODUCT_ID, 10, 0, 0));
+		db.put(OTHER_PRODUCT_ID, InventoryCounter.of(OTHER_PRODUCT_ID, 10, 0, 0));
+		db.put(SHORT_PRODUCT_ID, InventoryCounter.of(SHORT_PRODUCT_ID, 1, 0, 0));
+		lenient().when(inventoryBulkRepository.findCountersByProductIds(anyCollection())).thenAnswer(invocation ->
+			invocation.<Collection<Long>>getArgument(0).stream().map(db::get).filter(counter -> counter != null).toList());
+	}
+
+	@Test
+	@DisplayName("여러 상품을 한 번에 예약하다 한 상품이 부족하면 먼저 예약한 상품을 되돌리고 부족한 상품을 알려 준다")
+	void reserveAll_rejectedLineRevertsOthers() {
+		// when
+		assertThatThrownBy(() -> engine.reserveAll(List.of(
+			StockLine.of(PRODUCT_ID, 3),
+			StockLine.of(SHORT_PRODUCT_ID, 2),
+			StockLine.of(OTHER_PRODUCT_ID, 4)
+		)))
+			.isInstanceOf(InsufficientStockException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.PRODUCT_STOCK_NOT_ENOUGH)
+			.hasFieldOrPropertyWithValue("rejectedProductIds", List.of(SHORT_PRODUCT_ID));
+
+		// then
+		assertThat(field(PRODUCT_ID, FIELD_AVAILABLE)).isEqualTo(10);
+		assertThat(field(PRODUCT_ID, FIELD_RESERVED)).isZero();
+		assertThat(field(OTHER_PRODUCT_ID, FIELD_AVAILABLE)).isEqualTo(10);
+		assertThat(field(OTHER_PRODUCT_ID, FIELD_RESERVED)).isZero();
+		assertThat(field(SHORT_PRODUCT_ID, FIELD_AVAILABLE)).isEqualTo(1);
+		then(inventoryLedger).should(never()).recordAll(any(), any());
+	}
+
+	@Test
+	@DisplayName("호출한 트랜잭션이 롤백되면 Redis 에 먼저 반영한 예약을 되돌린다")
+	void reserve_compensatesOnRollback() {
+		// given
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			engine.reserve(PRODUCT_ID, 3);
+			assertThat(field(PRODUCT_ID, FIELD_RESERVED)).isEqualTo(3);
+
+			// when
+			TransactionSynchronizationManager.getSynchronizations()
+				.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		// then
+		assertThat(field(PRODUCT_ID, FIELD_RESERVED)).isZero();
+		assertThat(field(PRODUCT_ID, FIELD_AVAILABLE)).isEqualTo(10);
+	}
+
+	@Test
+	@DisplayName("한 상품을 동시에 예약해도 가용 재고보다 많이 예약되지 않는다")
+	void reserve_concurrentNeverOversells() throws InterruptedException {
+		// given
+		int requests = 50;
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicInteger succeeded = new AtomicInteger();
+		AtomicInteger rejected = new AtomicInteger();
+
+		// when
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < requests; i++) {
+				executor.submit(() -> {
+					start.await();
+					try {
+						engine.reserve(PRODUCT_ID, 1);
+						succeeded.incrementAndGet();
+					} catch (CustomException e) {
+						rejected.incrementAndGet();
+					}
+					return null;
+				});
+			}
+			start.countDown();
+			executor.shutdown();
+			assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+		}
+
+		// then
+		assertThat(succeeded.get()).isEqualTo(10);
+		assertThat(rejected.get()).isEqualTo(requests - 10);
+		assertThat(field(PRODUCT_ID, FIELD_AVAILABLE)).isZero();
+		assertThat(field(PRODUCT_ID, FIELD_RESERVED)).isEqualTo(10);
+	}
+
+	@Test
+	@DisplayName("DB 값으로 적재한 카운터는 다시 적재해도 덮어쓰지 않는다")
+	void seed_idempotent() {
+		// given: 적재 후 예약까지 반영된 상태 (DB 는 아직 flush 전이라 예약 0)
+		engine.reserve(PRODUCT_ID, 3);
+
+		// when
+		engine.seed(PRODUCT_ID);
+
+		// then
+		assertThat(field(PRODUCT_ID, FIELD_PHYSICAL)).isEqualTo(10);
+		assertThat(field(PRODUCT_ID, FIELD_RESERVED)).isEqualTo(3);
+		assertThat(field(PRODUCT_ID, FIELD_AVAILABLE)).isEqualTo(7);
+		assertThat(redisTemplate.opsForSet().isMember(TRACKED_PRODUCTS, PRODUCT_ID.toString())).isTrue();
+	}
+
+	@Test
+	@DisplayName("출고 확정/취소는 물리 재고와 출고 중 수량을 함께 바꾸고 write-behind 대상으로 남긴다")
+	void onOutboundSettled() {
+		// given
+		engine.reserve(PRODUCT_ID, 5);
+		engine.commit(PRODUCT_ID, 5);
+		redisTemplate.delete(DIRTY_PRODUCTS);
+
+		// when (트랜잭션 밖이라 바로 실행)
+		engine.onOutboundSettled(PRODUCT_ID, 3, 2);
+
+		// then
+		assertThat(field(PRODUCT_ID, FIELD_PHYSICAL)).isEqualTo(7);
+		assertThat(field(PRODUCT_ID, FIELD_OUTBOUND)).isZero();
+		assertThat(field(PRODUCT_ID, FIELD_AVAILABLE)).isEqualTo(7);
+		assertThat(redisTemplate.opsForZSet().score(DIRTY_PRODUCTS, PRODUCT_ID.toString())).isNotNull();
+	}
+
+	@Test
+	@DisplayName("물리 재고 변경은 DB 값으로 덮어쓰고 가용 재고만 다시 계산한다")
+	void onPhysicalStockChanged() {
+		// given
+		engine.reserve(PRODUCT_ID, 3);
+		db.put(PRODUCT_ID, InventoryCounter.of(PRODUCT_ID, 15, 0, 0));
+
+		// when
+		engine.onPhysicalStockChanged(PRODUCT_ID);
+
+		// then
+		assertThat(field(PRODUCT_ID, FIELD_PHYSICAL)).isEqualTo(15);
+		assertThat(field(PRODUCT_ID, FIELD_RESERVED)).isEqualTo(3);
+		assertThat(field(PRODUCT_ID, FIELD_AVAILABLE)).isEqualTo(12);
+	}
+
+	@Test
+	@DisplayName("dirty 상품의 Redis 카운터를 배치로 나눠 DB 에 덮어쓰고 반영이 끝난 상품만 dirty 집합에서 뺀다")
+	void flush_writesRedisCounters() {
+		// given
+		engine.reserve(PRODUCT_ID, 3);
+		engine.reserve(OTHER_PRODUCT_ID, 2);
+		engine.reserve(SHORT_PRODUCT_ID, 1);
+		List<InventoryCounter> flushed = new ArrayList<>();
+		given(inventoryBulkRepository.overwriteOmsCounters(anyList())).willAnswer(invocation -> {
+			flushed.addAll(invocation.getArgument(0));
+			return new int[0];
+		});
+
+		// when
+		synchronizer.flush();
+
+		// then
+		then(inventoryBulkRepository).should(times(2)).overwriteOmsCounters(anyList());
+		assertThat(flushed).extracting(InventoryCounter::productId, InventoryCounter::reserved)
+			.containsExactlyInAnyOrder(tuple(PRODUCT_ID, 3L), tuple(OTHER_PRODUCT_ID, 2L), tuple(SHORT_PRODUCT_ID, 1L));
+		assertThat(redisTemplate.opsForZSet().size(DIRTY_PRODUCTS)).isZero();
+	}
+
+	@Test
+	@DisplayName("읽은 뒤 다시 바뀐 카운터는 dirty 에서 빠지지 않고 다음 반영에서 새 값으로 덮어쓴다")
+	void flush_keepsChangedDuringFlush() {
+		// given: 첫 반영 도중에 한 번 더 예약한다
+		engine.reserve(PRODUCT_ID, 1);
+		AtomicInteger calls = new AtomicInteger();
+		given(inventoryBulkRepository.overwriteOmsCounters(anyList())).willAnswer(invocation -> {
+			if (calls.incrementAndGet() == 1) {
+				engine.reserve(PRODUCT_ID, 1);
+			}
+			return new int[0];
+		});
+
+		// when
+		synchronizer.flush();
+		synchronizer.flush();
+
+		// then
+		then(inventoryBulkRepository).should(times(2)).overwriteOmsCounters(written.capture());
+		assertThat(written.getAllValues().get(1)).extracting(InventoryCounter::reserved).containsExactly(2L);
+		assertThat(redisTemplate.opsForZSet().size(DIRTY_PRODUCTS)).isZero();
+	}
+
+	@Test
+	@DisplayName("DB 반영이 실패하면 dirty 집합에 남긴다")
+	void flush_failureKeepsDirty() {
+		// given
+		engine.reserve(PRODUCT_ID, 1);
+		given(inventoryBulkRepository.overwriteOmsCounters(anyList())).willThrow(new IllegalStateException("db down"));
+
+		// when
+		synchronizer.flush();
+
+		// then
+		assertThat(redisTemplate.opsForZSet().score(DIRTY_PRODUCTS, PRODUCT_ID.toString())).isNotNull();
+	}
+
+	@Test
+	@DisplayName("반영되지 않은 채 dirty 표시를 잃은 상품은 정합성 검증이 찾아 다시 반영한다")
+	void reconcile_repairsNeverFlushed() {
+		// given: Redis 에만 예약 3 이 남고 dirty 표시가 사라진 상태
+		engine.reserve(PRODUCT_ID, 3);
+		engine.reserve(OTHER_PRODUCT_ID, 1);
+		redisTemplate.delete(DIRTY_PRODUCTS);
+		db.put(OTHER_PRODUCT_ID, InventoryCounter.of(OTHER_PRODUCT_ID, 10, 1, 0));
+
+		// when
+		synchronizer.reconcile();
+		synchronizer.flush();
+
+		// then
+		then(inventoryBulkRepository).should().overwriteOmsCounters(written.capture());
+		assertThat(written.getValue()).extracting(InventoryCounter::productId, InventoryCounter::reserved)
+			.containsExactly(tuple(PRODUCT_ID, 3L));
+	}
+
+	private long field(Long productId, String field) {
+		Object value = redisTemplate.opsForHash().get(counter(productId), field);
+		return Long.parseLong(value.toString());
+	}
+}
@@ -0,0 +1,109 @@
+package com.kt.service.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kt.config.TestRedisConfig;
+import com.kt.domain.delivery.Delivery;
+import com.kt.domain.delivery.DeliveryStatus;
+import com.kt.domain.delivery.DeliveryStatusHistory;
+import com.kt.domain.order.Order;
+import com.kt.domain.order.OrderType;
+import com.kt.domain.order.Receiver;
+import com.kt.domain.orderproduct.OrderProduct;
+import com.kt.domain.payment.Payment;
+import com.kt.domain.payment.PaymentType;
+import com.kt.domain.pet.PetType;
+import com.kt.domain.product.Product;
+import com.kt.repository.product.ProductRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문 한 건(주문 상품 30개 + 결제 + 배송 + 배송 이력)을 저장할 때 나가는 JDBC 문 수
+ * - 기본 빌드에서는 건너뛰고 BENCHMARK=true ./gradlew test --tests '*OrderInsertBatchBenchmarkTest' 로 실행
+ * - IDENTITY 였을 때는 행마다 INSERT 를 바로 보내 34번이었고, pooled ID + 배치에서는 테이블마다 한 번씩 묶인다
+ */
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestRedisConfig.class)
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class OrderInsertBatchBenchmarkTest {
+
+	private static final int ORDER_PRODUCTS = 30;
+	private static final int ROUNDS = 200;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+	@Autowired
+	private EntityManager entityManager;
+	@Autowired
+	private ProductRepository productRepository;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Test
+	@DisplayName("주문 한 건 저장 시 JDBC 문 수와 처리 시간")
+	void 주문_저장_JDBC_문_수() {
+		Product product = productRepository.save(Product.create("배치 상품", "배치 설명", 1_000, PetType.DOG));
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+
+		// 시퀀스 구간을 미리 받아 두어 측정에는 INSERT 만 남긴다
+		saveOrder(product);
+		statistics.clear();
+
+		saveOrder(product);
+		long statements = statistics.getPrepareStatementCount();
+		long inserts = statistics.getEntityInsertCount();
+
+		assertThat(inserts).isEqualTo(ORDER_PRODUCTS + 4);
+		// 테이블별 INSERT 5번 + 총액 UPDATE 1번, 구간을 다 쓴 시퀀스가 있으면 구간 요청이 더해진다
+		assertThat(statements).isLessThanOrEqualTo(8);
+
+		statistics.clear();
+		long startedAt = System.nanoTime();
+		for (int i = 0; i < ROUNDS; i++) {
+			saveOrder(product);
+		}
+		double elapsedMs = (System.nanoTime() - startedAt) / 1_000_000.0;
+
+		// 반복해도 주문당 문 수가 늘지 않는다 (시퀀스 구간 요청은 구간 크기마다 한 번이라 평균에 거의 보이지 않는다)
+		assertThat(statistics.getEntityInsertCount()).isEqualTo((long)(ORDER_PRODUCTS + 4) * ROUNDS);
+		assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(8L * ROUNDS);
+		log.info("[BENCHMARK] rows={} statements={} avg={}ms/order",
+			inserts, statements, String.format("%.2f", elapsedMs / ROUNDS));
+	}
+
+	private void saveOrder(Product product) {
+		transactionTemplate.executeWithoutResult(status -> {
+			Order order = Order.create(1L, new Receiver("수령인", "서울시", "010-0000-0000"),
+				"ORD-BENCH-" + System.nanoTime(), OrderType.CART);
+			entityManager.persist(order);
+			for (int i = 0; i < ORDER_PRODUCTS; i++) {
+				OrderProduct orderProduct = OrderProduct.create(product, 1, order);
+				entityManager.persist(orderProduct);
+				order.mapToOrder(orderProduct);
+			}
+			order.calculateTotalAmount();
+
+			Delivery delivery = Delivery.create(order.getId(), 1L, 3_000);
+			entityManager.persist(delivery);
+			entityManager.persist(DeliveryStatusHistory.create(delivery.getId(), DeliveryStatus.PENDING));
+			entityManager.persist(Payment.create(1L, order, 3_000L, PaymentType.CARD));
+		});
+	}
+}
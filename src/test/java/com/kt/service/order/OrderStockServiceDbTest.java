@@ -0,0 +1,210 @@
+package com.kt.service.order;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kt.common.api.ErrorCode;
+import com.kt.common.api.InsufficientStockException;
+import com.kt.config.TestRedisConfig;
+import com.kt.domain.inventory.Inventory;
+import com.kt.domain.order.Order;
+import com.kt.domain.order.OrderType;
+import com.kt.domain.order.Receiver;
+import com.kt.domain.orderproduct.OrderProduct;
+import com.kt.domain.pet.PetType;
+import com.kt.domain.product.Product;
+import com.kt.repository.inventory.InventoryRepository;
+import com.kt.repository.product.ProductRepository;
+import com.kt.service.inventory.InventoryService;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 주문 상품 30줄을 실제 DB 의 조건부 UPDATE 배치(deductAvailable / restoreOutbound)로 차감·복구
+ * - 차감 실패 시 호출 측 트랜잭션 롤백으로 나머지 줄까지 되돌아가는지 보려고 테스트 트랜잭션 없이 실행하고 직접 정리한다
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestRedisConfig.class)
+class OrderStockServiceDbTest {
+
+	private static final int ORDER_PRODUCTS = 30;
+	private static final long STOCK = 5;
+	private static final int QUANTITY = 2;
+
+	@Autowired
+	private OrderStockService orderStockService;
+	@Autowired
+	private ProductRepository productRepository;
+	@Autowired
+	private InventoryRepository inventoryRepository;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+	@Autowired
+	private InventoryService inventoryService;
+	@Autowired
+	private EntityManager entityManager;
+
+	private final List<Product> products = new ArrayList<>();
+	private Product shortProduct;
+
+	@BeforeEach
+	void setUp() {
+		transactionTemplate.executeWithoutResult(status -> {
+			for (int i = 0; i < ORDER_PRODUCTS; i++) {
+				Product product = productRepository.save(Product.create("배치 상품 " + i, "배치 설명", 1_000, PetType.DOG));
+				Inventory inventory = Inventory.initialize(product);
+				// 가운데 한 상품만 주문 수량보다 재고가 적다
+				inventory.applyWmsInbound(i == ORDER_PRODUCTS / 2 ? QUANTITY - 1 : STOCK);
+				inventoryRepository.save(inventory);
+				products.add(product);
+			}
+		});
+		shortProduct = products.get(ORDER_PRODUCTS / 2);
+	}
+
+	@AfterEach
+	void tearDown() {
+		transactionTemplate.executeWithoutResult(status -> {
+			inventoryRepository.deleteAll(inventoryRepository.findAllByProductIdIn(productIds()));
+			productRepository.deleteAll(products);
+		});
+	}
+
+	@Test
+	@DisplayName("한 줄이라도 재고가 모자라면 그 상품만 거절로 알리고 나머지 29줄의 차감까지 모두 되돌린다")
+	void deductStock_oneShortLineRollsBackAll() {
+		// given
+		List<OrderProduct> orderProducts = orderProducts();
+
+		// when
+		Throwable thrown = catchThrowable(() -> transactionTemplate.executeWithoutResult(
+			status -> orderStockService.deductStock(orderProducts)
+		));
+
+		// then
+		assertThat(thrown).isInstanceOf(InsufficientStockException.class);
+		InsufficientStockException exception = (InsufficientStockException) thrown;
+		assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.PRODUCT_STOCK_NOT_ENOUGH);
+		assertThat(exception.getRejectedProductIds()).containsExactly(shortProduct.getId());
+
+		assertThat(inventoryRepository.findAllByProductIdIn(productIds())).hasSize(ORDER_PRODUCTS)
+			.allSatisfy(inventory -> assertThat(inventory.getOutboundProcessing()).isZero())
+			.filteredOn(inventory -> !inventory.getProduct().getId().equals(shortProduct.getId()))
+			.allSatisfy(inventory -> assertThat(inventory.getAvailable()).isEqualTo(STOCK));
+	}
+
+	@Test
+	@DisplayName("30줄을 한 번에 차감하면 가용이 출고 중으로 옮겨지고, 복구하면 그대로 돌아온다")
+	void deductThenRestore_allLines() {
+		// given: 모자란 상품을 빼고 29줄
+		List<OrderProduct> orderProducts = orderProducts().stream()
+			.filter(orderProduct -> !orderProduct.getProductId().equals(shortProduct.getId()))
+			.toList();
+		List<Long> productIds = orderProducts.stream().map(OrderProduct::getProductId).toList();
+
+		transactionTemplate.executeWithoutResult(status -> {
+			// when: 차감
+			orderStockService.deductStock(orderProducts);
+
+			// then: 벌크 UPDATE 라 영속성 컨텍스트를 비우고 다시 읽는다
+			entityManager.clear();
+			assertThat(inventoryRepository.findAllByProductIdIn(productIds)).hasSize(ORDER_PRODUCTS - 1)
+				.allSatisfy(inventory -> {
+					assertThat(inventory.getAvailable()).isEqualTo(STOCK - QUANTITY);
+					assertThat(inventory.getOutboundProcessing()).isEqualTo(QUANTITY);
+				});
+
+			// when: 복구 (출고 중이 수량만큼 있으므로 모든 줄이 통과)
+			orderStockService.restoreStock(orderProducts);
+
+			// then
+			entityManager.clear();
+			assertThat(inventoryRepository.findAllByProductIdIn(productIds))
+				.allSatisfy(inventory -> {
+					assertThat(inventory.getAvailable()).isEqualTo(STOCK);
+					assertThat(inventory.getOutboundProcessing()).isZero();
+				});
+			status.setRollbackOnly();
+		});
+	}
+
+	@Test
+	@DisplayName("핫 상품은 차감분이 버킷에만 쌓여 있어도 결제 취소 복구가 먼저 행으로 모은 뒤 통과한다")
+	void restoreStock_hotProductFoldsBucketOutboundFirst() {
+		// given: 첫 상품을 핫 모드로 바꾸고 모자란 상품을 뺀 29줄을 차감
+		Product hotProduct = products.get(0);
+		List<OrderProduct> orderProducts = orderProducts().stream()
+			.filter(orderProduct -> !orderProduct.getProductId().equals(shortProduct.getId()))
+			.toList();
+
+		transactionTemplate.executeWithoutResult(status -> {
+			inventoryService.enableHotMode(hotProduct.getId(), 2);
+			orderStockService.deductStock(orderProducts);
+
+			// 핫 상품의 차감은 버킷의 outbound 에만 있고 상품 행의 출고 처리 중은 아직 0
+			entityManager.clear();
+			assertThat(inventoryRepository.findByProductId(hotProduct.getId()).orElseThrow().getOutboundProcessing())
+				.isZero();
+
+			// when: 결제 취소 복구 (행 조건 outbound_processing >= 수량 은 모으기가 먼저 돌아야 맞는다)
+			orderStockService.restoreStock(orderProducts);
+
+			// then
+			entityManager.clear();
+			assertThat(inventoryRepository.findAllByProductIdIn(productIds()))
+				.allSatisfy(inventory -> assertThat(inventory.getOutboundProcessing()).isZero());
+			status.setRollbackOnly();
+		});
+	}
+
+	@Test
+	@DisplayName("출고 중 수량이 없는 상품의 복구는 그 상품만 거절로 알리고 전체를 되돌린다")
+	void restoreStock_notDeductedLineRejected() {
+		// given: 모자란 상품을 뺀 29개 상품만 출고 중으로 옮겨 둔다 (원장을 남기지 않도록 엔티티로 직접 반영)
+		List<Long> deducted = productIds().stream().filter(id -> !id.equals(shortProduct.getId())).toList();
+		transactionTemplate.executeWithoutResult(status ->
+			inventoryRepository.findAllByProductIdIn(deducted).forEach(inventory -> {
+				inventory.applyOmsReserve(QUANTITY);
+				inventory.applyOmsCommit(QUANTITY);
+			})
+		);
+
+		// when
+		Throwable thrown = catchThrowable(() -> transactionTemplate.executeWithoutResult(
+			status -> orderStockService.restoreStock(orderProducts())
+		));
+
+		// then
+		assertThat(thrown).isInstanceOf(InsufficientStockException.class);
+		InsufficientStockException exception = (InsufficientStockException) thrown;
+		assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVENTORY_OUTBOUND_NOT_RESERVED);
+		assertThat(exception.getRejectedProductIds()).containsExactly(shortProduct.getId());
+
+		assertThat(inventoryRepository.findAllByProductIdIn(deducted))
+			.allSatisfy(inventory -> assertThat(inventory.getOutboundProcessing()).isEqualTo(QUANTITY));
+	}
+
+	private List<OrderProduct> orderProducts() {
+		Order order = Order.create(1L, new Receiver("수령인", "서울시", "010-0000-0000"), "ORD-STOCK-DB", OrderType.CART);
+		return products.stream()
+			.map(product -> OrderProduct.create(product, QUANTITY, order))
+			.toList();
+	}
+
+	private List<Long> productIds() {
+		return products.stream().map(Product::getId).toList();
+	}
+}
@@ -0,0 +1,95 @@
+package com.kt.service.order;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.kt.common.api.ErrorCode;
+import com.kt.common.api.InsufficientStockException;
+import com.kt.domain.inventory.StockLine;
+import com.kt.domain.order.Order;
+import com.kt.domain.order.OrderType;
+import com.kt.domain.order.Receiver;
+import com.kt.domain.orderproduct.OrderProduct;
+import com.kt.domain.pet.PetType;
+import com.kt.domain.product.Product;
+import com.kt.service.inventory.reservation.StockReservationEngine;
+
+@ExtendWith(MockitoExtension.class)
+class OrderStockServiceTest {
+
+	@InjectMocks
+	private OrderStockService orderStockService;
+
+	@Mock
+	private StockReservationEngine stockReservationEngine;
+
+	@Test
+	@DisplayName("성공: 같은 상품은 합치고 productId 오름차순으로 한 번에 차감한다")
+	void deductStock_coalesceAndSort() {
+		// given
+		Order order = Order.create(1L, new Receiver("수령인", "주소", "010-1234-5678"), "ORD-TEST", OrderType.CART);
+		List<OrderProduct> orderProducts = List.of(
+			OrderProduct.create(product(30L), 2, order),
+			OrderProduct.create(product(10L), 1, order),
+			OrderProduct.create(product(30L), 3, order)
+		);
+
+		// when
+		orderStockService.deductStock(orderProducts);
+
+		// then
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<StockLine>> captor = ArgumentCaptor.forClass(List.class);
+		then(stockReservationEngine).should(times(1)).deduct(captor.capture());
+		assertThat(captor.getValue()).containsExactly(
+			StockLine.of(10L, 1),
+			StockLine.of(30L, 5)
+		);
+	}
+
+	@Test
+	@DisplayName("실패: 재고가 부족한 상품 ID 가 예외로 전달된다")
+	void deductStock_rejected() {
+		// given
+		Order order = Order.create(1L, new Receiver("수령인", "주소", "010-1234-5678"), "ORD-TEST", OrderType.CART);
+		List<OrderProduct> orderProducts = List.of(OrderProduct.create(product(10L), 1, order));
+		willThrow(new InsufficientStockException(ErrorCode.PRODUCT_STOCK_NOT_ENOUGH, List.of(10L)))
+			.given(stockReservationEngine).deduct(anyList());
+
+		// when & then
+		assertThatThrownBy(() -> orderStockService.deductStock(orderProducts))
+			.isInstanceOf(InsufficientStockException.class)
+			.hasFieldOrPropertyWithValue("rejectedProductIds", List.of(10L));
+	}
+
+	@Test
+	@DisplayName("성공: 예약 해제는 실패한 상품이 있어도 예외 없이 끝난다")
+	void releaseStock_rejectedIsTolerated() {
+		// given
+		Order order = Order.create(1L, new Receiver("수령인", "주소", "010-1234-5678"), "ORD-TEST", OrderType.CART);
+		List<OrderProduct> orderProducts = List.of(OrderProduct.create(product(10L), 1, order));
+		given(stockReservationEngine.releaseAll(anyList())).willReturn(List.of(10L));
+
+		// when & then
+		assertThatCode(() -> orderStockService.releaseStock(orderProducts)).doesNotThrowAnyException();
+		then(stockReservationEngine).should(times(1)).releaseAll(List.of(StockLine.of(10L, 1)));
+	}
+
+	private Product product(Long id) {
+		Product product = Product.create("상품" + id, "설명", 1_000, PetType.DOG);
+		ReflectionTestUtils.setField(product, "id", id);
+		return product;
+	}
+}
@@ -0,0 +1,109 @@
+package com.kt.service.order.completion;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+
+import com.kt.common.api.CustomException;
+import com.kt.common.api.ErrorCode;
+import com.kt.config.OrderCompletionProperties;
+import com.kt.domain.payment.event.PaymentConfirmedEvent;
+import com.kt.service.order.OrderService;
+
+@ExtendWith(MockitoExtension.class)
+class OrderCompletionWorkerTest {
+
+	private static final PaymentConfirmedEvent EVENT = PaymentConfirmedEvent.of(1L, "ORD-TEST");
+
+	@Mock
+	private OrderService orderService;
+
+	@Mock
+	private OrderCompletionDeadLetterService orderCompletionDeadLetterService;
+
+	private OrderCompletionWorker worker;
+
+	@BeforeEach
+	void setUp() {
+		worker = new OrderCompletionWorker(orderService, orderCompletionDeadLetterService, new OrderCompletionProperties(
+			2, 10, 3, Duration.ofMillis(1), Duration.ofMillis(5), Duration.ofMinutes(2), 500, Duration.ofSeconds(5)
+		));
+		worker.start();
+	}
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		worker.stop();
+	}
+
+	@Test
+	@DisplayName("일시적 실패는 재시도해서 완료하고 dead letter 를 남기지 않는다")
+	void retryTransientFailure() throws InterruptedException {
+		given(orderService.completeOrder(1L, "ORD-TEST"))
+			.willThrow(new CannotAcquireLockException("lock"))
+			.willReturn(null);
+
+		assertThat(worker.submit(EVENT)).isTrue();
+		worker.stop();
+
+		then(orderService).should(times(2)).completeOrder(1L, "ORD-TEST");
+		then(orderCompletionDeadLetterService).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("재시도를 다 쓰면 시도 횟수와 함께 dead letter 로 남긴다")
+	void deadLetterAfterMaxAttempts() throws InterruptedException {
+		given(orderService.completeOrder(1L, "ORD-TEST")).willThrow(new CannotAcquireLockException("lock"));
+
+		worker.submit(EVENT);
+		worker.stop();
+
+		then(orderService).should(times(3)).completeOrder(1L, "ORD-TEST");
+		then(orderCompletionDeadLetterService).should().record(eq(EVENT), eq(3), startsWith("CannotAcquireLockException"));
+	}
+
+	@Test
+	@DisplayName("업무 규칙 실패는 재시도하지 않고 바로 dead letter 로 남긴다")
+	void deadLetterBusinessFailureImmediately() throws InterruptedException {
+		given(orderService.completeOrder(1L, "ORD-TEST"))
+			.willThrow(new CustomException(ErrorCode.ORDER_ALREADY_CANCELLED));
+
+		worker.submit(EVENT);
+		worker.stop();
+
+		then(orderService).should(times(1)).completeOrder(1L, "ORD-TEST");
+		then(orderCompletionDeadLetterService).should().record(EVENT, 1, ErrorCode.ORDER_ALREADY_CANCELLED.name());
+	}
+
+	@Test
+	@DisplayName("이미 완료된 주문은 성공으로 보고 넘어간다")
+	void alreadyCompletedIsSuccess() throws InterruptedException {
+		given(orderService.completeOrder(1L, "ORD-TEST"))
+			.willThrow(new CustomException(ErrorCode.ORDER_ALREADY_COMPLETED));
+
+		worker.submit(EVENT);
+		worker.stop();
+
+		then(orderCompletionDeadLetterService).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("종료 후에는 작업을 받지 않는다")
+	void rejectAfterStop() throws InterruptedException {
+		worker.stop();
+
+		assertThat(worker.submit(EVENT)).isFalse();
+		then(orderService).shouldHaveNoInteractions();
+	}
+}
@@ -0,0 +1,65 @@
+package com.kt.service.order.hold;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HierarchicalTimingWheelTest {
+
+	private static final long TICK = 1_000L;
+
+	@Test
+	@DisplayName("성공: 마감 시각이 지나기 전에는 꺼내지 않고, 지난 틱에서 꺼낸다")
+	void expireAfterDeadline() {
+		HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(TICK, 60, 0L);
+		wheel.add(1L, 5_500L);
+
+		assertThat(wheel.advance(5_000L)).isEmpty();
+		assertThat(wheel.advance(6_000L)).containsExactly(1L);
+		assertThat(wheel.size()).isZero();
+	}
+
+	@Test
+	@DisplayName("성공: 상위 단계에 들어간 항목도 아래 단계로 내려와 제때 만료된다")
+	void cascadeFromHigherLevels() {
+		HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(TICK, 10, 0L);
+		long[] deadlines = {9_000L, 10_500L, 99_000L, 123_456L, 999_999L};
+		for (int i = 0; i < deadlines.length; i++) {
+			wheel.add(i, deadlines[i]);
+		}
+
+		List<Long> expired = new ArrayList<>();
+		for (long now = TICK; now <= 1_000_000L; now += TICK) {
+			for (Long id : wheel.advance(now)) {
+				assertThat(deadlines[id.intValue()]).isLessThan(now).isGreaterThanOrEqualTo(now - TICK);
+				expired.add(id);
+			}
+		}
+
+		assertThat(expired).containsExactly(0L, 1L, 2L, 3L, 4L);
+	}
+
+	@Test
+	@DisplayName("성공: 오래 멈췄다가 돌려도 지난 항목을 한 번에 모두 꺼낸다")
+	void catchUpAfterPause() {
+		HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(TICK, 60, 0L);
+		for (long id = 0; id < 1_000; id++) {
+			wheel.add(id, 1_000L + id * 37);
+		}
+
+		assertThat(wheel.advance(3_600_000L)).hasSize(1_000);
+	}
+
+	@Test
+	@DisplayName("실패: 이미 지난 마감 시각은 등록하지 않는다")
+	void rejectPastDeadline() {
+		HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(TICK, 60, 10_000L);
+
+		assertThat(wheel.add(1L, 9_999L)).isFalse();
+		assertThat(wheel.size()).isZero();
+	}
+}
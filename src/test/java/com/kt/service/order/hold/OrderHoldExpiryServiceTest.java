@@ -0,0 +1,111 @@
+package com.kt.service.order.hold;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.kt.config.OrderHoldProperties;
+import com.kt.domain.inventory.StockLine;
+import com.kt.domain.order.Order;
+import com.kt.domain.order.OrderHold;
+import com.kt.domain.order.OrderType;
+import com.kt.domain.order.Receiver;
+import com.kt.domain.payment.Payment;
+import com.kt.domain.payment.PaymentStatus;
+import com.kt.domain.payment.PaymentType;
+import com.kt.repository.order.OrderHoldRepository;
+import com.kt.repository.order.OrderRepository;
+import com.kt.repository.orderproduct.OrderProductRepository;
+import com.kt.repository.payment.PaymentRepository;
+import com.kt.service.inventory.reservation.StockReservationEngine;
+
+@ExtendWith(MockitoExtension.class)
+class OrderHoldExpiryServiceTest {
+
+	@Mock
+	private OrderHoldRepository orderHoldRepository;
+	@Mock
+	private OrderRepository orderRepository;
+	@Mock
+	private OrderProductRepository orderProductRepository;
+	@Mock
+	private PaymentRepository paymentRepository;
+	@Mock
+	private StockReservationEngine stockReservationEngine;
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	private OrderHoldExpiryService expiryService;
+
+	@BeforeEach
+	void setUp() {
+		expiryService = new OrderHoldExpiryService(orderHoldRepository, orderRepository, orderProductRepository,
+			paymentRepository, stockReservationEngine, new OrderHoldProperties(Duration.ofMinutes(15), 1000, 60, 500),
+			eventPublisher);
+	}
+
+	@Test
+	@DisplayName("성공: 잠근 결제가 승인 선점된(IN_PROGRESS) 주문은 취소/해제하지 않고 보류만 미룬다")
+	void deferPayingOrder() {
+		// given
+		given(orderHoldRepository.findExpiredForUpdate(eq(List.of(1L, 2L)), any()))
+			.willReturn(List.of(hold(1L, "ORD-1"), hold(2L, "ORD-2")));
+		given(paymentRepository.findAllByOrderNumberInForUpdate(List.of("ORD-1", "ORD-2")))
+			.willReturn(List.of(payment("ORD-1", PaymentStatus.IN_PROGRESS), payment("ORD-2", PaymentStatus.READY)));
+		given(orderProductRepository.sumQuantitiesByOrderIds(List.of(2L))).willReturn(List.of(StockLine.of(10L, 1)));
+		given(stockReservationEngine.releaseAll(anyList())).willReturn(List.of());
+
+		// when
+		List<Long> deferred = expiryService.expire(List.of(1L, 2L));
+
+		// then
+		assertThat(deferred).containsExactly(1L);
+		then(orderHoldRepository).should().extendAll(eq(List.of(1L)), any());
+		then(paymentRepository).should().failReadyPayments(eq(List.of("ORD-2")), any());
+		then(orderRepository).should().cancelPendingOrders(eq(List.of(2L)), any());
+		then(orderHoldRepository).should().deleteAllByOrderIds(List.of(2L));
+	}
+
+	@Test
+	@DisplayName("성공: 모두 결제 중이면 결제/주문/재고를 건드리지 않는다")
+	void allPaying() {
+		// given
+		given(orderHoldRepository.findExpiredForUpdate(eq(List.of(1L)), any()))
+			.willReturn(List.of(hold(1L, "ORD-1")));
+		given(paymentRepository.findAllByOrderNumberInForUpdate(List.of("ORD-1")))
+			.willReturn(List.of(payment("ORD-1", PaymentStatus.DONE)));
+
+		// when
+		List<Long> deferred = expiryService.expire(List.of(1L));
+
+		// then
+		assertThat(deferred).containsExactly(1L);
+		then(paymentRepository).should(never()).failReadyPayments(anyCollection(), any());
+		then(orderRepository).should(never()).cancelPendingOrders(anyCollection(), any());
+		then(stockReservationEngine).shouldHaveNoInteractions();
+	}
+
+	private OrderHold hold(Long orderId, String orderNumber) {
+		return OrderHold.create(orderId, orderNumber, LocalDateTime.now().minusMinutes(1));
+	}
+
+	private Payment payment(String orderNumber, PaymentStatus status) {
+		Order order = Order.create(1L, new Receiver("수령인", "주소", "010-1234-5678"), orderNumber, OrderType.CART);
+		Payment payment = Payment.create(1L, order, 0L, PaymentType.CARD);
+		ReflectionTestUtils.setField(payment, "status", status);
+		return payment;
+	}
+}
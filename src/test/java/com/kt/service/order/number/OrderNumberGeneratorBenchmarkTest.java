@@ -0,0 +1,83 @@
+package com.kt.service.order.number;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문번호 생성 처리량 측정 (이전 방식: 호출마다 Random 생성 + 5자리 임의 문자)
+ * - 기본 빌드에서는 건너뛰고 BENCHMARK=true ./gradlew test --tests '*OrderNumberGeneratorBenchmarkTest' 로 실행
+ * - 이전 방식은 여기에 더해 주문마다 중복 확인 SELECT 가 한 번 있었다
+ * - 두 방식 모두 호출마다 부수 효과(시퀀스 CAS, Random 생성)가 있어 결과를 버려도 호출이 사라지지 않는다
+ *   (JMH 수준의 측정이 아니라 스레드 수에 따른 대략적인 비교용)
+ */
+@Slf4j
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class OrderNumberGeneratorBenchmarkTest {
+
+	private static final int[] THREAD_COUNTS = {1, 4, 16};
+	private static final int WARMUP_PER_THREAD = 200_000;
+	private static final int CALLS_PER_THREAD = 1_000_000;
+
+	@Test
+	@DisplayName("스레드 수별 주문번호 생성 처리량")
+	void 스레드_수별_처리량() throws Exception {
+		OrderNumberGenerator generator = new OrderNumberGenerator(() -> 1, System::currentTimeMillis, ZoneId.systemDefault());
+
+		for (int threads : THREAD_COUNTS) {
+			report("random", threads, OrderNumberGeneratorBenchmarkTest::randomOrderNumber);
+			report("generator", threads, generator::next);
+		}
+	}
+
+	private void report(String name, int threads, Supplier<String> supplier) throws Exception {
+		run(threads, WARMUP_PER_THREAD, supplier);
+		long startedAt = System.nanoTime();
+		run(threads, CALLS_PER_THREAD, supplier);
+		double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+		log.info("[BENCHMARK] {} threads={} elapsed={}s throughput={} ops/s",
+			name, threads, String.format("%.3f", seconds),
+			String.format("%.0f", (double)threads * CALLS_PER_THREAD / seconds));
+	}
+
+	private void run(int threads, int calls, Supplier<String> supplier) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch done = new CountDownLatch(threads);
+		for (int t = 0; t < threads; t++) {
+			executor.submit(() -> {
+				for (int i = 0; i < calls; i++) {
+					supplier.get();
+				}
+				done.countDown();
+			});
+		}
+		assertThat(done.await(5, TimeUnit.MINUTES)).as("모든 스레드가 시간 안에 끝나야 한다").isTrue();
+		executor.shutdown();
+	}
+
+	private static String randomOrderNumber() {
+		String date = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+		String chars = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+		Random random = new Random();
+		StringBuilder randomNumber = new StringBuilder(5);
+		for (int i = 0; i < 5; i++) {
+			randomNumber.append(chars.charAt(random.nextInt(chars.length())));
+		}
+		return "ORD-" + date + randomNumber;
+	}
+}
@@ -0,0 +1,95 @@
+package com.kt.service.order.number;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OrderNumberGeneratorTest {
+
+	private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+	private static final long NOON = LocalDateTime.of(2025, 12, 2, 12, 0).atZone(ZONE).toInstant().toEpochMilli();
+
+	@Test
+	@DisplayName("성공: ORD-yyyyMMdd 뒤에 36진수 10자리가 붙는다")
+	void next_format() {
+		// given
+		OrderNumberGenerator generator = new OrderNumberGenerator(() -> 7, () -> NOON, ZONE);
+
+		// when
+		String orderNumber = generator.next();
+
+		// then
+		assertThat(orderNumber).matches("ORD-20251202[0-9A-Z]{10}");
+	}
+
+	@Test
+	@DisplayName("성공: 같은 ms 에 순번을 넘겨 만들거나 시계가 뒤로 가도 겹치지 않는다")
+	void next_uniqueWhenClockStallsOrGoesBack() {
+		// given
+		AtomicLong clock = new AtomicLong(NOON);
+		OrderNumberGenerator generator = new OrderNumberGenerator(() -> 1, clock::get, ZONE);
+		Set<String> orderNumbers = new HashSet<>();
+
+		// when
+		for (int i = 0; i < 10_000; i++) {
+			orderNumbers.add(generator.next());
+		}
+		clock.set(NOON - 1_000);
+		for (int i = 0; i < 10_000; i++) {
+			orderNumbers.add(generator.next());
+		}
+
+		// then
+		assertThat(orderNumbers).hasSize(20_000);
+	}
+
+	@Test
+	@DisplayName("성공: 노드 번호가 다르면 같은 시각에 만들어도 다르다")
+	void next_differsByNode() {
+		// given
+		OrderNumberGenerator first = new OrderNumberGenerator(() -> 0, () -> NOON, ZONE);
+		OrderNumberGenerator second = new OrderNumberGenerator(() -> 1, () -> NOON, ZONE);
+
+		// when & then
+		assertThat(first.next()).isNotEqualTo(second.next());
+	}
+
+	@Test
+	@DisplayName("성공: 여러 스레드가 동시에 만들어도 겹치지 않는다")
+	void next_uniqueAcrossThreads() throws Exception {
+		// given
+		OrderNumberGenerator generator = new OrderNumberGenerator(() -> 3, System::currentTimeMillis, ZONE);
+		Set<String> orderNumbers = ConcurrentHashMap.newKeySet();
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+
+		// when
+		List<Future<?>> futures = new ArrayList<>();
+		for (int t = 0; t < 8; t++) {
+			futures.add(executor.submit(() -> {
+				for (int i = 0; i < 20_000; i++) {
+					orderNumbers.add(generator.next());
+				}
+			}));
+		}
+		for (Future<?> future : futures) {
+			future.get();
+		}
+		executor.shutdown();
+
+		// then
+		assertThat(orderNumbers).hasSize(8 * 20_000);
+	}
+}
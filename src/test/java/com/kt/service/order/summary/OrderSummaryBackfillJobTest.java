@@ -0,0 +1,73 @@
+package com.kt.service.order.summary;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.kt.config.OrderSummaryProperties;
+import com.kt.repository.order.OrderSummaryProjectionRepository;
+import com.kt.repository.order.OrderSummaryProjectionRepository.SummaryCheck;
+
+@ExtendWith(MockitoExtension.class)
+class OrderSummaryBackfillJobTest {
+
+	@Mock
+	private OrderSummaryProjectionRepository projectionRepository;
+	@Mock
+	private OrderSummaryProjector orderSummaryProjector;
+
+	private OrderSummaryBackfillJob job;
+
+	@BeforeEach
+	void setUp() {
+		// 묶음 2개, 한 번에 최대 2묶음
+		job = new OrderSummaryBackfillJob(projectionRepository, orderSummaryProjector, new OrderSummaryProperties(2, 2));
+	}
+
+	@Test
+	@DisplayName("훑은 요약 행 중 원본보다 낡은 주문만 다시 만든다")
+	void reprojectStale_refreshesOnlyStale() {
+		// given
+		given(projectionRepository.checkProjections(0L, 2))
+			.willReturn(List.of(new SummaryCheck(1L, false), new SummaryCheck(2L, true)));
+		given(projectionRepository.checkProjections(2L, 2))
+			.willReturn(List.of(new SummaryCheck(3L, true)));
+
+		// when
+		job.reprojectStale();
+
+		// then
+		then(orderSummaryProjector).should().refresh(List.of(2L));
+		then(orderSummaryProjector).should().refresh(List.of(3L));
+	}
+
+	@Test
+	@DisplayName("한 번에 다 훑지 못하면 다음 실행은 멈춘 곳에서 이어서, 끝에 닿으면 처음부터 다시 훑는다")
+	void reprojectStale_resumesAndWraps() {
+		// given
+		given(projectionRepository.checkProjections(0L, 2))
+			.willReturn(List.of(new SummaryCheck(1L, false), new SummaryCheck(2L, false)));
+		given(projectionRepository.checkProjections(2L, 2))
+			.willReturn(List.of(new SummaryCheck(3L, false), new SummaryCheck(4L, false)));
+		given(projectionRepository.checkProjections(4L, 2))
+			.willReturn(List.of(new SummaryCheck(5L, false)));
+
+		// when
+		job.reprojectStale();
+		job.reprojectStale();
+		job.reprojectStale();
+
+		// then
+		then(projectionRepository).should(times(2)).checkProjections(0L, 2);
+		then(projectionRepository).should(times(1)).checkProjections(4L, 2);
+		then(orderSummaryProjector).should(never()).refresh(anyCollection());
+	}
+}
@@ -0,0 +1,59 @@
+package com.kt.service.outbox;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kt.domain.order.event.OrderChangedEvent;
+import com.kt.domain.outbox.OutboxEventType;
+import com.kt.repository.outbox.OutboxRepository;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxEventRecorderTest {
+
+	@Mock
+	private OutboxRepository outboxRepository;
+
+	private OutboxEventRecorder recorder;
+
+	@BeforeEach
+	void setUp() {
+		recorder = new OutboxEventRecorder(outboxRepository, new ObjectMapper());
+	}
+
+	@AfterEach
+	void tearDown() {
+		TransactionSynchronizationManager.setActualTransactionActive(false);
+	}
+
+	@Test
+	@DisplayName("발행한 트랜잭션 안에서 이벤트를 직렬화해 한 행으로 기록한다")
+	void record_insideTransaction() {
+		// given
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+
+		// when
+		recorder.record(OrderChangedEvent.of(7L));
+
+		// then
+		then(outboxRepository).should().insert(eq(OutboxEventType.ORDER_CHANGED), eq("7"), eq("{\"orderId\":7}"), any());
+	}
+
+	@Test
+	@DisplayName("트랜잭션 밖에서 발행하면 기록하지 않고 예외를 던진다 (상태 변경과 함께 커밋/롤백되지 않으므로)")
+	void record_outsideTransaction() {
+		assertThatThrownBy(() -> recorder.record(OrderChangedEvent.of(7L)))
+			.isInstanceOf(IllegalStateException.class);
+		then(outboxRepository).shouldHaveNoInteractions();
+	}
+}
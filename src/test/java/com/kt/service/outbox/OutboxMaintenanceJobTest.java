@@ -0,0 +1,76 @@
+package com.kt.service.outbox;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.kt.config.OutboxProperties;
+import com.kt.repository.outbox.OutboxRepository;
+import com.kt.repository.outbox.OutboxRepository.Pending;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxMaintenanceJobTest {
+
+	private static final OutboxProperties PROPERTIES = new OutboxProperties(
+		200, Duration.ofMillis(200), Duration.ofMinutes(1), Duration.ofSeconds(1), Duration.ofMinutes(5),
+		Duration.ofDays(1), 100
+	);
+
+	@Mock
+	private OutboxRepository outboxRepository;
+
+	private MeterRegistry meterRegistry;
+	private OutboxMaintenanceJob job;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		job = new OutboxMaintenanceJob(outboxRepository, PROPERTIES, meterRegistry);
+	}
+
+	@Test
+	@DisplayName("보관 기간이 지난 전달 완료 행을 한 묶음이 가득 차지 않을 때까지 나눠 지운다")
+	void prune_repeatsUntilPartialBatch() {
+		// given
+		given(outboxRepository.deleteDeliveredBefore(any(), eq(100))).willReturn(100, 100, 30);
+		LocalDateTime before = LocalDateTime.now();
+
+		// when
+		job.prune();
+
+		// then
+		ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+		then(outboxRepository).should(times(3)).deleteDeliveredBefore(cutoff.capture(), eq(100));
+		assertThat(cutoff.getValue())
+			.isAfterOrEqualTo(before.minus(PROPERTIES.retention()))
+			.isBeforeOrEqualTo(LocalDateTime.now().minus(PROPERTIES.retention()));
+	}
+
+	@Test
+	@DisplayName("미전달 행 수와 가장 오래된 미전달 행의 나이를 게이지로 노출한다")
+	void refreshMetrics() {
+		// given
+		given(outboxRepository.findPending()).willReturn(new Pending(3, LocalDateTime.now().minusSeconds(90)));
+
+		// when
+		job.refreshMetrics();
+
+		// then
+		assertThat(meterRegistry.get("outbox.pending").gauge().value()).isEqualTo(3);
+		assertThat(meterRegistry.get("outbox.pending.oldest.age").gauge().value()).isBetween(90.0, 91.0);
+	}
+}
@@ -0,0 +1,140 @@
+package com.kt.service.outbox;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.kt.config.OutboxProperties;
+import com.kt.domain.outbox.OutboxEventType;
+import com.kt.repository.outbox.OutboxRepository;
+import com.kt.repository.outbox.OutboxRepository.Claimed;
+import com.kt.repository.outbox.OutboxRepository.Failure;
+import com.kt.service.eventbus.EventBus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+	private static final OutboxProperties PROPERTIES = new OutboxProperties(
+		10, Duration.ofMillis(200), Duration.ofMinutes(1), Duration.ofSeconds(1), Duration.ofMinutes(5),
+		Duration.ofDays(1), 5000
+	);
+
+	@Mock
+	private OutboxRepository outboxRepository;
+	@Mock
+	private EventBus eventBus;
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@Captor
+	private ArgumentCaptor<List<Failure>> failures;
+
+	private OutboxRelay relay;
+
+	@BeforeEach
+	void setUp() {
+		relay = new OutboxRelay(outboxRepository, PROPERTIES, eventBus, new SimpleMeterRegistry(), transactionManager);
+	}
+
+	@Test
+	@DisplayName("임대 기간만큼 next_attempt_at 을 미뤄 가져가고 전달한 행을 한 번에 전달 완료로 기록한다")
+	void relayOnce_claimsWithLeaseAndMarksDelivered() {
+		// given
+		given(outboxRepository.claim(any(), any(), eq(10)))
+			.willReturn(List.of(claimed(1L, 0), claimed(2L, 0)));
+
+		// when
+		int relayed = relay.relayOnce();
+
+		// then
+		ArgumentCaptor<LocalDateTime> now = ArgumentCaptor.forClass(LocalDateTime.class);
+		ArgumentCaptor<LocalDateTime> leaseUntil = ArgumentCaptor.forClass(LocalDateTime.class);
+		then(outboxRepository).should().claim(now.capture(), leaseUntil.capture(), eq(10));
+		assertThat(Duration.between(now.getValue(), leaseUntil.getValue())).isEqualTo(PROPERTIES.lease());
+		assertThat(relayed).isEqualTo(2);
+		then(eventBus).should().publish(OutboxEventType.ORDER_CHANGED, "1", "{\"orderId\":1}");
+		then(eventBus).should().publish(OutboxEventType.ORDER_CHANGED, "2", "{\"orderId\":2}");
+		then(outboxRepository).should().markDelivered(eq(List.of(1L, 2L)), any());
+		then(outboxRepository).should().markFailed(List.of());
+	}
+
+	@Test
+	@DisplayName("전달에 실패한 행은 시도마다 두 배로 늘어난 간격(흩뜨림 0.5 ~ 1 배) 뒤로 재시도를 미룬다")
+	void relayOnce_failureBacksOff() {
+		// given: 이미 두 번 실패한 행 → 1s * 2^2 = 4s 상한
+		given(outboxRepository.claim(any(), any(), anyInt())).willReturn(List.of(claimed(1L, 0), claimed(2L, 2)));
+		willAnswer(invocation -> {
+			if ("2".equals(invocation.getArgument(1))) {
+				throw new IllegalStateException("bus down");
+			}
+			return null;
+		}).given(eventBus).publish(any(), any(), any());
+		LocalDateTime before = LocalDateTime.now();
+
+		// when
+		relay.relayOnce();
+
+		// then
+		then(outboxRepository).should().markDelivered(eq(List.of(1L)), any());
+		then(outboxRepository).should().markFailed(failures.capture());
+		Failure failure = failures.getValue().getFirst();
+		assertThat(failures.getValue()).hasSize(1);
+		assertThat(failure.id()).isEqualTo(2L);
+		assertThat(failure.error()).contains("IllegalStateException", "bus down");
+		assertThat(failure.nextAttemptAt())
+			.isAfterOrEqualTo(before.plusSeconds(2))
+			.isBefore(LocalDateTime.now().plusSeconds(4).plusNanos(1_000_000));
+	}
+
+	@Test
+	@DisplayName("재시도 간격은 maxBackoff 를 넘지 않는다")
+	void relayOnce_backoffCapped() {
+		// given
+		given(outboxRepository.claim(any(), any(), anyInt())).willReturn(List.of(claimed(1L, 30)));
+		willThrow(new IllegalStateException("bus down")).given(eventBus).publish(any(), any(), any());
+
+		// when
+		relay.relayOnce();
+
+		// then
+		then(outboxRepository).should().markFailed(failures.capture());
+		assertThat(failures.getValue().getFirst().nextAttemptAt())
+			.isBefore(LocalDateTime.now().plus(PROPERTIES.maxBackoff()).plusSeconds(1));
+	}
+
+	@Test
+	@DisplayName("가져올 행이 없으면 전달도 기록도 하지 않는다")
+	void relayOnce_nothingToClaim() {
+		// given
+		given(outboxRepository.claim(any(), any(), anyInt())).willReturn(List.of());
+
+		// when
+		int relayed = relay.relayOnce();
+
+		// then
+		assertThat(relayed).isZero();
+		then(eventBus).shouldHaveNoInteractions();
+		then(outboxRepository).should(never()).markDelivered(any(), any());
+	}
+
+	private Claimed claimed(Long id, int attempts) {
+		return new Claimed(id, OutboxEventType.ORDER_CHANGED, String.valueOf(id), "{\"orderId\":" + id + "}",
+			LocalDateTime.now().minusSeconds(1), attempts);
+	}
+}
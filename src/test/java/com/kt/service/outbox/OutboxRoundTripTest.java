@@ -0,0 +1,143 @@
+package com.kt.service.outbox;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kt.config.TestRedisConfig;
+import com.kt.domain.order.event.OrderChangedEvent;
+import com.kt.domain.outbox.OutboxEventType;
+import com.kt.repository.outbox.OutboxRepository;
+import com.kt.service.eventbus.EventBus;
+
+/**
+ * 발행 → outbox_events 기록 → 릴레이 → 이벤트 버스 → 전달 완료 → 정리까지 실제 DB(H2) 로 확인한다
+ * (릴레이는 애플리케이션이 뜨면 백그라운드로 돌고, 이벤트 버스만 가짜로 바꾼다)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestRedisConfig.class)
+class OutboxRoundTripTest {
+
+	private static final Duration WAIT = Duration.ofSeconds(10);
+
+	@MockitoBean
+	private EventBus eventBus;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	@Autowired
+	private OutboxRepository outboxRepository;
+
+	@Autowired
+	private OutboxMaintenanceJob outboxMaintenanceJob;
+
+	@Autowired
+	private NamedParameterJdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private TransactionTemplate transactionTemplate;
+
+	@BeforeEach
+	void setUp() {
+		transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("DELETE FROM outbox_events", Map.of());
+	}
+
+	@Test
+	@DisplayName("커밋된 이벤트는 릴레이가 이벤트 버스로 넘기고 전달 완료로 기록한다")
+	void committedEventIsRelayed() {
+		// when
+		transactionTemplate.executeWithoutResult(status -> eventPublisher.publishEvent(OrderChangedEvent.of(900001L)));
+
+		// then
+		then(eventBus).should(timeout(WAIT.toMillis()))
+			.publish(OutboxEventType.ORDER_CHANGED, "900001", "{\"orderId\":900001}");
+		awaitUntil(() -> !deliveredAt("900001").isEmpty() && deliveredAt("900001").getFirst() != null);
+	}
+
+	@Test
+	@DisplayName("롤백된 트랜잭션에서 발행한 이벤트는 기록되지 않는다")
+	void rolledBackEventIsNotRecorded() {
+		// when
+		transactionTemplate.executeWithoutResult(status -> {
+			eventPublisher.publishEvent(OrderChangedEvent.of(900002L));
+			status.setRollbackOnly();
+		});
+
+		// then
+		assertThat(deliveredAt("900002")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("정리는 보관 기간이 지난 전달 완료 행만 지운다")
+	void pruneDeletesOnlyDeliveredRows() {
+		// given: 릴레이가 고르지 않도록 next_attempt_at 을 미래로 두고 기록
+		LocalDateTime future = LocalDateTime.now().plusHours(1);
+		outboxRepository.insert(OutboxEventType.ORDER_CHANGED, "900003", "{\"orderId\":900003}", future);
+		outboxRepository.insert(OutboxEventType.ORDER_CHANGED, "900004", "{\"orderId\":900004}", future);
+		outboxRepository.markDelivered(idsOf("900003"), LocalDateTime.now().minusDays(2));
+
+		// when
+		outboxMaintenanceJob.prune();
+
+		// then
+		assertThat(idsOf("900003")).isEmpty();
+		assertThat(idsOf("900004")).hasSize(1);
+	}
+
+	private List<Long> idsOf(String aggregateKey) {
+		return jdbcTemplate.queryForList(
+			"SELECT id FROM outbox_events WHERE aggregate_key = :key",
+			Map.of("key", aggregateKey),
+			Long.class
+		);
+	}
+
+	private List<LocalDateTime> deliveredAt(String aggregateKey) {
+		return jdbcTemplate.query(
+			"SELECT delivered_at FROM outbox_events WHERE aggregate_key = :key",
+			Map.of("key", aggregateKey),
+			(rs, rowNum) -> rs.getObject("delivered_at", LocalDateTime.class)
+		);
+	}
+
+	private static void awaitUntil(BooleanSupplier condition) {
+		long deadline = System.nanoTime() + WAIT.toNanos();
+		while (!condition.getAsBoolean()) {
+			assertThat(System.nanoTime()).as("조건을 기다리다 시간 초과").isLessThan(deadline);
+			try {
+				Thread.sleep(50);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+}
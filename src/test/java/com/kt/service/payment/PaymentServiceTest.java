@@ -0,0 +1,221 @@
+package com.kt.service.payment;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.kt.common.api.CustomException;
+import com.kt.common.api.ErrorCode;
+import com.kt.common.api.InsufficientStockException;
+import com.kt.domain.order.Order;
+import com.kt.domain.order.OrderStatus;
+import com.kt.domain.order.OrderType;
+import com.kt.domain.order.Receiver;
+import com.kt.domain.order.event.OrderChangedEvent;
+import com.kt.domain.payment.Payment;
+import com.kt.domain.payment.PaymentStatus;
+import com.kt.domain.payment.PaymentType;
+import com.kt.domain.payment.event.PaymentConfirmedEvent;
+import com.kt.dto.payment.PaymentRequest;
+import com.kt.integration.pg.PaymentGatewayClient;
+import com.kt.integration.pg.PaymentGatewayResult;
+import com.kt.repository.payment.PaymentRepository;
+import com.kt.service.order.OrderStockService;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentServiceTest {
+
+	private static final Long PAYMENT_ID = 1L;
+	private static final Long ORDER_ID = 10L;
+	private static final String ORDER_NUMBER = "ORD-TEST";
+
+	@Mock
+	private PaymentRepository paymentRepository;
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+	@Mock
+	private PaymentGatewayClient paymentGatewayClient;
+	@Mock
+	private OrderStockService orderStockService;
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private PaymentService paymentService;
+	private Order order;
+	private Payment payment;
+
+	@BeforeEach
+	void setUp() {
+		paymentService = new PaymentService(paymentRepository, eventPublisher, paymentGatewayClient, orderStockService,
+			transactionManager);
+
+		order = Order.create(1L, new Receiver("수령인", "주소", "010-1234-5678"), ORDER_NUMBER, OrderType.CART);
+		ReflectionTestUtils.setField(order, "id", ORDER_ID);
+		payment = Payment.create(1L, order, 0L, PaymentType.CARD);
+		ReflectionTestUtils.setField(payment, "id", PAYMENT_ID);
+	}
+
+	@Test
+	@DisplayName("PG 결과를 모르면(타임아웃) 결제를 READY 로 되돌리지 않고 IN_PROGRESS 로 남긴다")
+	void confirm_unknownOutcomeStaysInProgress() {
+		// given
+		givenClaimed();
+		given(paymentGatewayClient.confirm("pk", ORDER_NUMBER, 0L))
+			.willThrow(new CustomException(ErrorCode.PAYMENT_GATEWAY_TIMEOUT));
+
+		// when & then
+		assertThatThrownBy(() -> paymentService.confirmPayment(1L, confirmRequest()))
+			.isInstanceOf(CustomException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.PAYMENT_GATEWAY_TIMEOUT);
+		then(paymentRepository).should(never()).transition(any(), any(), any(), any());
+		then(eventPublisher).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("PG 가 거절하면 FAILED 로 바꾸고 같은 트랜잭션에서 주문 변경 이벤트를 남긴다")
+	void confirm_declinePublishesOrderChanged() {
+		// given
+		givenClaimed();
+		given(paymentGatewayClient.confirm("pk", ORDER_NUMBER, 0L))
+			.willReturn(PaymentGatewayResult.decline("REJECT_CARD_COMPANY", "거절"));
+		given(paymentRepository.transition(eq(PAYMENT_ID), eq(PaymentStatus.IN_PROGRESS), eq(PaymentStatus.FAILED), any()))
+			.willReturn(1);
+		given(paymentRepository.findById(PAYMENT_ID)).willReturn(Optional.of(payment));
+
+		// when & then
+		assertThatThrownBy(() -> paymentService.confirmPayment(1L, confirmRequest()))
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.PAYMENT_CONFIRM_FAILED);
+		then(eventPublisher).should().publishEvent(OrderChangedEvent.of(ORDER_ID));
+	}
+
+	@Test
+	@DisplayName("PG 조회로 승인이 확인되면 DONE 으로 확정하고 결제 완료/주문 변경 이벤트를 남긴다")
+	void resolve_approved() {
+		// given
+		ReflectionTestUtils.setField(payment, "status", PaymentStatus.IN_PROGRESS);
+		ReflectionTestUtils.setField(payment, "paymentKey", "pk");
+		given(paymentRepository.findById(PAYMENT_ID)).willReturn(Optional.of(payment));
+		given(paymentGatewayClient.lookup(ORDER_NUMBER)).willReturn(PaymentGatewayResult.approve());
+		given(paymentRepository.markDone(eq(PAYMENT_ID), eq("pk"), any())).willReturn(1);
+
+		// when
+		boolean resolved = paymentService.resolve(PAYMENT_ID);
+
+		// then
+		assertThat(resolved).isTrue();
+		then(eventPublisher).should().publishEvent(PaymentConfirmedEvent.of(1L, ORDER_NUMBER));
+		then(eventPublisher).should().publishEvent(OrderChangedEvent.of(ORDER_ID));
+	}
+
+	@Test
+	@DisplayName("PG 에 승인된 결제가 없으면 READY 로 되돌려 다시 결제를 받는다")
+	void resolve_notApproved() {
+		// given
+		ReflectionTestUtils.setField(payment, "status", PaymentStatus.IN_PROGRESS);
+		given(paymentRepository.findById(PAYMENT_ID)).willReturn(Optional.of(payment));
+		given(paymentGatewayClient.lookup(ORDER_NUMBER))
+			.willReturn(PaymentGatewayResult.decline("NOT_FOUND_PAYMENT", null));
+		given(paymentRepository.transition(eq(PAYMENT_ID), eq(PaymentStatus.IN_PROGRESS), eq(PaymentStatus.READY), any()))
+			.willReturn(1);
+
+		// when
+		boolean resolved = paymentService.resolve(PAYMENT_ID);
+
+		// then
+		assertThat(resolved).isTrue();
+		then(paymentRepository).should(never()).markDone(any(), any(), any());
+		then(eventPublisher).should().publishEvent(OrderChangedEvent.of(ORDER_ID));
+	}
+
+	@Test
+	@DisplayName("PG 조회가 실패하면 예외를 던지고 결제를 바꾸지 않는다")
+	void resolve_lookupFailed() {
+		// given
+		ReflectionTestUtils.setField(payment, "status", PaymentStatus.IN_PROGRESS);
+		given(paymentRepository.findById(PAYMENT_ID)).willReturn(Optional.of(payment));
+		given(paymentGatewayClient.lookup(ORDER_NUMBER))
+			.willThrow(new CustomException(ErrorCode.PAYMENT_GATEWAY_UNAVAILABLE));
+
+		// when & then
+		assertThatThrownBy(() -> paymentService.resolve(PAYMENT_ID)).isInstanceOf(CustomException.class);
+		then(paymentRepository).should(never()).transition(any(), any(), any(), any());
+		then(paymentRepository).should(never()).markDone(any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("출고 전(주문 완료) 주문의 결제를 취소하면 출고 중 재고를 가용으로 되돌린다")
+	void cancel_completedOrderRestoresStock() {
+		// given
+		order.complete();
+		givenCancelable();
+
+		// when
+		paymentService.cancelPayment(1L, PAYMENT_ID, "단순 변심");
+
+		// then
+		then(orderStockService).should().restoreStock(order.getOrderProducts());
+		then(eventPublisher).should().publishEvent(OrderChangedEvent.of(ORDER_ID));
+	}
+
+	@Test
+	@DisplayName("배송이 시작된 주문의 결제 취소는 재고를 되돌리지 않는다")
+	void cancel_shippedOrderKeepsStock() {
+		// given
+		ReflectionTestUtils.setField(order, "orderStatus", OrderStatus.SHIPPED);
+		givenCancelable();
+
+		// when
+		paymentService.cancelPayment(1L, PAYMENT_ID, "단순 변심");
+
+		// then
+		then(orderStockService).should(never()).restoreStock(any());
+	}
+
+	@Test
+	@DisplayName("재고 복구가 거절돼도 PG 취소가 끝난 결제 취소는 되돌리지 않는다")
+	void cancel_restoreRejectedKeepsCancel() {
+		// given
+		order.complete();
+		givenCancelable();
+		willThrow(new InsufficientStockException(ErrorCode.INVENTORY_OUTBOUND_NOT_RESERVED, List.of(1L)))
+			.given(orderStockService).restoreStock(any());
+
+		// when
+		Payment canceled = paymentService.cancelPayment(1L, PAYMENT_ID, "단순 변심");
+
+		// then
+		assertThat(canceled).isSameAs(payment);
+		then(paymentRepository).should().markCanceled(eq(PAYMENT_ID), eq("단순 변심"), any());
+	}
+
+	private void givenCancelable() {
+		ReflectionTestUtils.setField(payment, "status", PaymentStatus.DONE);
+		ReflectionTestUtils.setField(payment, "paymentKey", "pk");
+		given(paymentRepository.findByIdAndUserId(PAYMENT_ID, 1L)).willReturn(Optional.of(payment));
+		given(paymentGatewayClient.cancel("pk", "단순 변심")).willReturn(PaymentGatewayResult.approve());
+		given(paymentRepository.markCanceled(eq(PAYMENT_ID), eq("단순 변심"), any())).willReturn(1);
+		given(paymentRepository.findById(PAYMENT_ID)).willReturn(Optional.of(payment));
+	}
+
+	private void givenClaimed() {
+		given(paymentRepository.findByOrderNumber(ORDER_NUMBER)).willReturn(Optional.of(payment));
+		given(paymentRepository.claim(eq(PAYMENT_ID), eq("pk"), any())).willReturn(1);
+	}
+
+	private PaymentRequest.Confirm confirmRequest() {
+		return new PaymentRequest.Confirm("pk", ORDER_NUMBER, 0L);
+	}
+}